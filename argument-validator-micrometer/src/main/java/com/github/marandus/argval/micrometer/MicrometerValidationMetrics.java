@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.micrometer;
+
+import com.github.marandus.argval.metrics.ValidationMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of the {@link ValidationMetrics} interface reporting to a Micrometer
+ * {@link MeterRegistry}. Checks are counted by two counters per rule named <tt>argval.checks</tt>,
+ * tagged with <tt>rule</tt>, <tt>name</tt>, and <tt>result</tt>, which is either <tt>passed</tt> or
+ * <tt>failed</tt>.
+ * <p>
+ * By default, the <tt>name</tt> tag is empty, since names are free-form and would create a meter
+ * for every distinct message. Tagging with the name is enabled by a bound on the number of distinct
+ * names. Checks of names beyond the bound, and checks whose name has been passed as Supplier, are
+ * tagged with an empty name. The counters are looked up once and cached afterwards.
+ * <p>
+ * Cache lookups are counted by two counters per cache named <tt>argval.cache.lookups</tt>, tagged
+ * with <tt>cache</tt> and <tt>result</tt>, which is either <tt>hit</tt> or <tt>miss</tt>. The hit
+ * rate of a cache is the number of hits divided by the number of all lookups.
+ * <p>
+ * This class is not registered for the {@link java.util.ServiceLoader}. To make the static
+ * {@link com.github.marandus.argval.ArgumentValidator} report to the global registry, register it
+ * in <tt>META-INF/services/com.github.marandus.argval.metrics.ValidationMetrics</tt> of the
+ * application.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+public class MicrometerValidationMetrics implements ValidationMetrics {
+
+    /**
+     * Name of the counters.
+     */
+    public static final String METER_NAME = "argval.checks";
+
+    /**
+     * Name of the cache lookup counters.
+     */
+    public static final String CACHE_METER_NAME = "argval.cache.lookups";
+
+    private final MeterRegistry registry;
+    private final int maxNames;
+    private final AtomicInteger nameCount = new AtomicInteger();
+    private final ConcurrentMap<String, ConcurrentMap<String, Counter[]>> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter[]> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new instance reporting to the global registry {@link Metrics#globalRegistry}.
+     * Checks are counted per rule only.
+     */
+    public MicrometerValidationMetrics() {
+        this(Metrics.globalRegistry);
+    }
+
+    /**
+     * Create a new instance reporting to the specified registry. Checks are counted per rule only.
+     *
+     * @param registry Registry to create the counters in
+     */
+    public MicrometerValidationMetrics(final MeterRegistry registry) {
+        this(registry, 0);
+    }
+
+    /**
+     * Create a new instance reporting to the specified registry. Checks are counted per rule and
+     * name, for up to {@code maxNames} combinations of rule and name in total. Names are admitted
+     * in the order of their first check.
+     *
+     * @param registry Registry to create the counters in
+     * @param maxNames Maximum number of names counted separately, 0 to count per rule only
+     */
+    public MicrometerValidationMetrics(final MeterRegistry registry, final int maxNames) {
+        if (registry == null) {
+            throw new IllegalArgumentException("NULL: registry parameter");
+        }
+        if (maxNames < 0) {
+            throw new IllegalArgumentException("Negative MicrometerValidationMetrics() maxNames parameter");
+        }
+
+        this.registry = registry;
+        this.maxNames = maxNames;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void record(final String rule, final String name, final boolean passed) {
+        this.counters(rule, name)[passed ? 0 : 1].increment();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void recordCacheLookup(final String cache, final boolean hit) {
+        Counter[] counter = this.caches.get(cache);
+        if (counter == null) {
+            counter = this.caches.computeIfAbsent(cache, key -> new Counter[]{this.cacheCounter(cache, "hit"), this.cacheCounter(cache, "miss")});
+        }
+
+        counter[hit ? 0 : 1].increment();
+    }
+
+    /**
+     * Get the counters of passed and failed checks of {@code rule} and {@code name}, registering
+     * them on first use. The counters of the empty name are returned if names are not counted, or
+     * the bound has been reached.
+     *
+     * @param rule Name of the validator method
+     * @param name Message or name passed to the validator method, may be null
+     * @return Counters of passed and failed checks
+     */
+    private Counter[] counters(final String rule, final String name) {
+        ConcurrentMap<String, Counter[]> names = this.counters.get(rule);
+        if (names == null) {
+            names = this.counters.computeIfAbsent(rule, key -> new ConcurrentHashMap<>());
+        }
+
+        if (this.maxNames > 0 && name != null && !name.isEmpty()) {
+            final Counter[] counter = names.get(name);
+            if (counter != null) {
+                return counter;
+            }
+
+            // The mapping function returns null once the bound has been reached, which adds no entry
+            final Counter[] created = names.computeIfAbsent(name, key -> this.admitName() ? this.register(rule, name) : null);
+            if (created != null) {
+                return created;
+            }
+        }
+
+        final Counter[] counter = names.get("");
+        return (counter != null) ? counter : names.computeIfAbsent("", key -> this.register(rule, ""));
+    }
+
+    /**
+     * Count a new name against the bound.
+     *
+     * @return True, if the name may be counted separately
+     */
+    private boolean admitName() {
+        int count;
+        do {
+            count = this.nameCount.get();
+            if (count >= this.maxNames) {
+                return false;
+            }
+        }
+        while (!this.nameCount.compareAndSet(count, count + 1));
+
+        return true;
+    }
+
+    /**
+     * Register the counters of passed and failed checks of {@code rule} and {@code name}.
+     *
+     * @param rule Name of the validator method
+     * @param name Value of the name tag
+     * @return Counters of passed and failed checks
+     */
+    private Counter[] register(final String rule, final String name) {
+        return new Counter[]{this.counter(rule, name, "passed"), this.counter(rule, name, "failed")};
+    }
+
+    private Counter counter(final String rule, final String name, final String result) {
+        return Counter.builder(METER_NAME)
+            .description("Checks performed by argument validators")
+            .tag("rule", rule)
+            .tag("name", name)
+            .tag("result", result)
+            .register(this.registry);
+    }
+
+    private Counter cacheCounter(final String cache, final String result) {
+        return Counter.builder(CACHE_METER_NAME)
+            .description("Lookups in caches of argument validators")
+            .tag("cache", cache)
+            .tag("result", result)
+            .register(this.registry);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.micrometer;
+
+import com.github.marandus.argval.ArgumentValidatorBean;
+import com.github.marandus.argval.enums.ExceptionMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class MicrometerValidationMetricsTest {
+
+    @Test
+    public void testRecord() {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final ArgumentValidatorBean argVal = new ArgumentValidatorBean(ExceptionMode.STACK_TRACE, null, new MicrometerValidationMetrics(registry, 16));
+
+        argVal.requireNonNull("foo", "param");
+        argVal.requireNonNull("foo", "param");
+        argVal.requireNonNull("foo", () -> "param");
+
+        try {
+            argVal.requireNonNull(null, "param");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: param", ex.getMessage());
+        }
+
+        assertEquals(2.0, registry.get(MicrometerValidationMetrics.METER_NAME).tags("rule", "requireNonNull", "name", "param", "result", "passed").counter().count(), 0.0);
+        assertEquals(1.0, registry.get(MicrometerValidationMetrics.METER_NAME).tags("rule", "requireNonNull", "name", "param", "result", "failed").counter().count(), 0.0);
+        assertEquals(1.0, registry.get(MicrometerValidationMetrics.METER_NAME).tags("rule", "requireNonNull", "name", "", "result", "passed").counter().count(), 0.0);
+    }
+
+    @Test
+    public void testRecord_PerRule() {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final MicrometerValidationMetrics instance = new MicrometerValidationMetrics(registry);
+
+        for (int i = 0; i < 100; i++) {
+            instance.record("requireNonNull", "id " + i, true);
+        }
+
+        assertEquals(2, registry.getMeters().size());
+        assertEquals(100.0, registry.get(MicrometerValidationMetrics.METER_NAME).tags("rule", "requireNonNull", "name", "", "result", "passed").counter().count(), 0.0);
+    }
+
+    @Test
+    public void testRecord_MaxNames() {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final MicrometerValidationMetrics instance = new MicrometerValidationMetrics(registry, 2);
+
+        for (int i = 0; i < 100; i++) {
+            instance.record("requireNonNull", "id " + (i % 10), false);
+        }
+
+        assertEquals(6, registry.getMeters().size());
+        assertEquals(10.0, registry.get(MicrometerValidationMetrics.METER_NAME).tags("rule", "requireNonNull", "name", "id 0", "result", "failed").counter().count(), 0.0);
+        assertEquals(80.0, registry.get(MicrometerValidationMetrics.METER_NAME).tags("rule", "requireNonNull", "name", "", "result", "failed").counter().count(), 0.0);
+    }
+
+    @Test
+    public void testRecordCacheLookup() {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final ArgumentValidatorBean argVal = new ArgumentValidatorBean(ExceptionMode.STACK_TRACE, null, new MicrometerValidationMetrics(registry));
+
+        argVal.requireMatches("order-1", "order-\\d+", "reference");
+        argVal.requireMatches("order-2", "order-\\d+", "reference");
+        argVal.requireMatches("order-3", "order-\\d+", "reference");
+        argVal.requireMatches("abc", "[a-z]+", "reference");
+
+        final double hits = registry.get(MicrometerValidationMetrics.CACHE_METER_NAME).tags("cache", "pattern", "result", "hit").counter().count();
+        final double misses = registry.get(MicrometerValidationMetrics.CACHE_METER_NAME).tags("cache", "pattern", "result", "miss").counter().count();
+        assertEquals(2.0, hits, 0.0);
+        assertEquals(2.0, misses, 0.0);
+        assertEquals(0.5, hits / (hits + misses), 0.0);
+        assertEquals(4.0, registry.get(MicrometerValidationMetrics.METER_NAME).tags("rule", "requireMatches", "result", "passed").counter().count(), 0.0);
+    }
+}
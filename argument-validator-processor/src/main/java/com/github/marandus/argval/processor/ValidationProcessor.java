@@ -0,0 +1,420 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.processor;
+
+import com.github.marandus.argval.annotations.Length;
+import com.github.marandus.argval.annotations.Negative;
+import com.github.marandus.argval.annotations.NonBlank;
+import com.github.marandus.argval.annotations.NonEmpty;
+import com.github.marandus.argval.annotations.NonNull;
+import com.github.marandus.argval.annotations.Positive;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor generating parameter validation code for the annotations in package
+ * <tt>com.github.marandus.argval.annotations</tt>. For every class declaring methods or
+ * constructors with annotated parameters, a package-private class named after the class with the
+ * suffix <tt>Validation</tt> is generated. Nested classes are named after all enclosing classes
+ * joined by <tt>_</tt>, e.g. <tt>Outer_InnerValidation</tt>.
+ * <p>
+ * The generated class contains a static method for each of these methods, taking the same
+ * parameters. Constructors are represented by methods named <tt>constructor</tt>. The generated
+ * methods call {@link com.github.marandus.argval.ArgumentValidator} for every annotated parameter,
+ * so the annotated method only needs to pass on its arguments:
+ * <pre>
+ * public void createUser(&#64;NonBlank String name, &#64;Positive int age) {
+ *     UserServiceValidation.createUser(name, age);
+ *     ...
+ * }
+ * </pre>
+ * Annotations applied to parameters of unsupported types are reported as compile errors.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+public class ValidationProcessor extends AbstractProcessor {
+
+    /**
+     * Suffix appended to the name of generated classes.
+     */
+    public static final String CLASS_SUFFIX = "Validation";
+
+    /**
+     * Name of generated methods validating constructor parameters.
+     */
+    public static final String CONSTRUCTOR_METHOD = "constructor";
+
+    private static final List<Class<? extends Annotation>> ANNOTATIONS = Arrays.asList(
+        NonNull.class, NonBlank.class, NonEmpty.class, Length.class, Positive.class, Negative.class);
+
+    private static final String VALIDATOR = "com.github.marandus.argval.ArgumentValidator";
+    private static final String COMPARE_OPERATOR = "com.github.marandus.argval.enums.NumberCompareOperator";
+
+    private final Set<String> generated = new HashSet<>();
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        final Set<String> names = new LinkedHashSet<>();
+        for (Class<? extends Annotation> type : ANNOTATIONS) {
+            names.add(type.getCanonicalName());
+        }
+
+        return names;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final Map<TypeElement, Set<ExecutableElement>> methods = new LinkedHashMap<>();
+        for (Class<? extends Annotation> type : ANNOTATIONS) {
+            for (Element param : roundEnv.getElementsAnnotatedWith(type)) {
+                if (param.getKind() != ElementKind.PARAMETER) {
+                    continue;
+                }
+
+                final ExecutableElement method = (ExecutableElement) param.getEnclosingElement();
+                final Element owner = method.getEnclosingElement();
+                if (!(owner instanceof TypeElement) || !isAccessible((TypeElement) owner)) {
+                    this.error(param, "Parameter validation is not supported in local or anonymous classes");
+                    continue;
+                }
+
+                methods.computeIfAbsent((TypeElement) owner, key -> new HashSet<>()).add(method);
+            }
+        }
+
+        for (Map.Entry<TypeElement, Set<ExecutableElement>> entry : methods.entrySet()) {
+            this.writeValidationClass(entry.getKey(), entry.getValue());
+        }
+
+        return true;
+    }
+
+    /**
+     * Generate the validation class of {@code owner}. Methods are written in declaration order.
+     * Nothing is written if any annotation has been applied incorrectly.
+     *
+     * @param owner Class declaring the annotated methods
+     * @param methods Methods and constructors of {@code owner} having annotated parameters
+     */
+    private void writeValidationClass(final TypeElement owner, final Set<ExecutableElement> methods) {
+        final PackageElement pkg = this.processingEnv.getElementUtils().getPackageOf(owner);
+        final String simpleName = validationClassName(owner);
+        final String qualifiedName = pkg.isUnnamed() ? simpleName : pkg.getQualifiedName() + "." + simpleName;
+        if (!this.generated.add(qualifiedName)) {
+            return;
+        }
+
+        final StringBuilder src = new StringBuilder();
+        if (!pkg.isUnnamed()) {
+            src.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+        }
+
+        src.append("/**\n");
+        src.append(" * Parameter validation of {@link ").append(owner.getQualifiedName()).append("}, generated by ");
+        src.append(ValidationProcessor.class.getName()).append(".\n");
+        src.append(" */\n");
+        src.append("@SuppressWarnings(\"rawtypes\")\n");
+        src.append("final class ").append(simpleName).append(" {\n\n");
+        src.append("    private ").append(simpleName).append("() {\n");
+        src.append("    }\n");
+
+        boolean valid = true;
+        for (Element member : owner.getEnclosedElements()) {
+            if (methods.contains(member)) {
+                valid &= this.appendMethod(src, owner, (ExecutableElement) member);
+            }
+        }
+
+        src.append("}\n");
+
+        if (!valid) {
+            return;
+        }
+
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile(qualifiedName, owner).openWriter()) {
+            writer.write(src.toString());
+        }
+        catch (IOException ex) {
+            this.error(owner, "Unable to write " + qualifiedName + ": " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Append the validation method of {@code method} to {@code src}.
+     *
+     * @param src Source code of the validation class
+     * @param owner Class declaring {@code method}
+     * @param method Method or constructor having annotated parameters
+     * @return False, if an annotation has been applied incorrectly
+     */
+    private boolean appendMethod(final StringBuilder src, final TypeElement owner, final ExecutableElement method) {
+        final boolean constructor = (method.getKind() == ElementKind.CONSTRUCTOR);
+        final String name = constructor ? CONSTRUCTOR_METHOD : method.getSimpleName().toString();
+        final String ownerName = nestedName(owner, ".");
+        final String label = constructor ? ownerName : ownerName + "." + method.getSimpleName();
+        final Types types = this.processingEnv.getTypeUtils();
+
+        final StringBuilder params = new StringBuilder();
+        final StringBuilder body = new StringBuilder();
+        boolean valid = true;
+        for (VariableElement param : method.getParameters()) {
+            if (params.length() > 0) {
+                params.append(", ");
+            }
+
+            params.append("final ").append(types.erasure(param.asType())).append(' ').append(param.getSimpleName());
+            valid &= this.appendChecks(body, param, label + "(" + param.getSimpleName() + ")");
+        }
+
+        src.append('\n');
+        src.append("    static void ").append(name).append('(').append(params).append(") {\n");
+        src.append(body);
+        src.append("    }\n");
+
+        return valid;
+    }
+
+    /**
+     * Append the validator calls for all annotations of {@code param} to {@code body}.
+     *
+     * @param body Body of the validation method
+     * @param param Parameter to validate
+     * @param label Name of the parameter referenced in exception messages
+     * @return False, if an annotation has been applied incorrectly
+     */
+    private boolean appendChecks(final StringBuilder body, final VariableElement param, final String label) {
+        final TypeMirror type = param.asType();
+        final String arg = param.getSimpleName().toString();
+        final String msg = '"' + label + '"';
+        boolean valid = true;
+        boolean nullChecked = false;
+
+        if (param.getAnnotation(NonNull.class) != null) {
+            if (type.getKind().isPrimitive()) {
+                valid = this.notApplicable(param, NonNull.class);
+            }
+            else {
+                appendCall(body, "requireNonNull", arg, msg);
+                nullChecked = true;
+            }
+        }
+
+        if (param.getAnnotation(NonBlank.class) != null) {
+            if (this.isString(type)) {
+                appendCall(body, "requireNonBlank", arg, msg);
+            }
+            else {
+                valid = this.notApplicable(param, NonBlank.class);
+            }
+        }
+
+        if (param.getAnnotation(NonEmpty.class) != null) {
+            if (this.isString(type)) {
+                appendCall(body, "requireStringLength", arg, "0", COMPARE_OPERATOR + ".GREATER", msg);
+            }
+            else if (this.isCollection(type) || this.isMap(type)) {
+                appendCall(body, "requireNonEmpty", arg, msg);
+            }
+            else {
+                valid = this.notApplicable(param, NonEmpty.class);
+            }
+        }
+
+        final Length length = param.getAnnotation(Length.class);
+        if (length != null) {
+            final String method;
+            if (this.isString(type)) {
+                method = "requireStringLength";
+            }
+            else if (this.isCollection(type) || this.isMap(type)) {
+                method = "requireLength";
+            }
+            else {
+                method = null;
+                valid = this.notApplicable(param, Length.class);
+            }
+
+            if (length.min() < 0 || length.max() < length.min()) {
+                this.error(param, "@Length requires 0 <= min <= max");
+                valid = false;
+            }
+            else if (method != null) {
+                appendCall(body, method, arg, String.valueOf(length.min()), COMPARE_OPERATOR + ".GREATER_EQUAL", msg);
+                if (length.max() != Integer.MAX_VALUE) {
+                    appendCall(body, method, arg, String.valueOf(length.max()), COMPARE_OPERATOR + ".LESS_EQUAL", msg);
+                }
+            }
+        }
+
+        for (Class<? extends Annotation> sign : Arrays.asList(Positive.class, Negative.class)) {
+            if (param.getAnnotation(sign) == null) {
+                continue;
+            }
+
+            if (!this.isIntegral(type)) {
+                valid = this.notApplicable(param, sign);
+                continue;
+            }
+
+            if (!type.getKind().isPrimitive() && !nullChecked) {
+                appendCall(body, "requireNonNull", arg, msg);
+                nullChecked = true;
+            }
+
+            appendCall(body, "require" + sign.getSimpleName(), arg, msg);
+        }
+
+        return valid;
+    }
+
+    /**
+     * Append a call of a static {@link com.github.marandus.argval.ArgumentValidator} method.
+     *
+     * @param body Body of the validation method
+     * @param method Name of the validator method
+     * @param args Source code of the arguments
+     */
+    private static void appendCall(final StringBuilder body, final String method, final String... args) {
+        body.append("        ").append(VALIDATOR).append('.').append(method).append('(').append(String.join(", ", args)).append(");\n");
+    }
+
+    /**
+     * Get the simple name of the validation class generated for {@code owner}.
+     *
+     * @param owner Class declaring annotated methods
+     * @return Name of the validation class
+     */
+    static String validationClassName(final TypeElement owner) {
+        return nestedName(owner, "_") + CLASS_SUFFIX;
+    }
+
+    /**
+     * Get the simple names of {@code type} and all enclosing classes, joined by {@code separator}.
+     *
+     * @param type Class to get the name of
+     * @param separator Separator of the simple names
+     * @return Name of {@code type} within its package
+     */
+    private static String nestedName(final TypeElement type, final String separator) {
+        String name = type.getSimpleName().toString();
+        for (Element outer = type.getEnclosingElement(); outer instanceof TypeElement; outer = outer.getEnclosingElement()) {
+            name = outer.getSimpleName() + separator + name;
+        }
+
+        return name;
+    }
+
+    /**
+     * Test if {@code type} can be referenced from a class in the same package.
+     *
+     * @param type Class to test
+     * @return False, if {@code type} or any enclosing class is local or anonymous
+     */
+    private static boolean isAccessible(final TypeElement type) {
+        for (Element elem = type; elem instanceof TypeElement; elem = elem.getEnclosingElement()) {
+            final NestingKind kind = ((TypeElement) elem).getNestingKind();
+            if (kind == NestingKind.LOCAL || kind == NestingKind.ANONYMOUS) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isString(final TypeMirror type) {
+        return this.isSubtype(type, String.class.getName());
+    }
+
+    private boolean isCollection(final TypeMirror type) {
+        return this.isSubtype(type, "java.util.Collection");
+    }
+
+    private boolean isMap(final TypeMirror type) {
+        return this.isSubtype(type, "java.util.Map");
+    }
+
+    private boolean isSubtype(final TypeMirror type, final String name) {
+        final Types types = this.processingEnv.getTypeUtils();
+        final TypeElement elem = this.processingEnv.getElementUtils().getTypeElement(name);
+        return types.isAssignable(types.erasure(type), types.erasure(elem.asType()));
+    }
+
+    /**
+     * Test if {@code type} is an integral primitive type or its wrapper class.
+     *
+     * @param type Type to test
+     * @return True, if {@code type} can be passed to a {@code long} parameter
+     */
+    private boolean isIntegral(final TypeMirror type) {
+        TypeKind kind = type.getKind();
+        if (kind == TypeKind.DECLARED) {
+            try {
+                kind = this.processingEnv.getTypeUtils().unboxedType(type).getKind();
+            }
+            catch (IllegalArgumentException ex) {
+                return false;
+            }
+        }
+
+        return (kind == TypeKind.BYTE || kind == TypeKind.SHORT || kind == TypeKind.INT || kind == TypeKind.LONG || kind == TypeKind.CHAR);
+    }
+
+    private boolean notApplicable(final VariableElement param, final Class<? extends Annotation> annotation) {
+        this.error(param, "@" + annotation.getSimpleName() + " is not applicable to parameters of type " + param.asType());
+        return false;
+    }
+
+    private void error(final Element elem, final String msg) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, msg, elem);
+    }
+}
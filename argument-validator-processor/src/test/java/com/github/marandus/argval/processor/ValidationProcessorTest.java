@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.processor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class ValidationProcessorTest {
+
+    private static final String SERVICE = "package foo;\n"
+        + "import com.github.marandus.argval.annotations.*;\n"
+        + "import java.util.List;\n"
+        + "public class Service {\n"
+        + "    public Service(@NonNull Object dep) {\n"
+        + "        ServiceValidation.constructor(dep);\n"
+        + "    }\n"
+        + "    public void create(@NonBlank String name, @Positive int age, @Length(min = 1, max = 2) List<String> tags) {\n"
+        + "        ServiceValidation.create(name, age, tags);\n"
+        + "    }\n"
+        + "    public <T> void create(@NonEmpty T[] values, @Negative Long delta) {\n"
+        + "        ServiceValidation.create(values, delta);\n"
+        + "    }\n"
+        + "    public static class Nested {\n"
+        + "        public void run(@Length(max = 3) String code) {\n"
+        + "            Service_NestedValidation.run(code);\n"
+        + "        }\n"
+        + "    }\n"
+        + "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testGeneratedValidation() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = this.compile(SERVICE.replace("@NonEmpty T[] values", "T[] values"));
+        assertTrue(diagnostics.toString(), diagnostics.isEmpty());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{this.folder.getRoot().toURI().toURL()}, this.getClass().getClassLoader())) {
+            final Class<?> service = loader.loadClass("foo.Service");
+            final Object instance = service.getConstructor(Object.class).newInstance("dep");
+            final Method create = service.getMethod("create", String.class, int.class, List.class);
+            create.invoke(instance, "name", 1, Collections.singletonList("tag"));
+
+            assertViolation("NULL: Service(dep)", () -> service.getConstructor(Object.class).newInstance((Object) null));
+            assertViolation("Service.create(name):   ", () -> create.invoke(instance, "  ", 1, Collections.singletonList("tag")));
+            assertViolation("Value is not positive (Service.create(age)): 0", () -> create.invoke(instance, "name", 0, Collections.singletonList("tag")));
+            assertViolation("Collection size violation (Service.create(tags)): Collection(0) >= 1", () -> create.invoke(instance, "name", 1, Collections.emptyList()));
+            assertViolation("Collection size violation (Service.create(tags)): Collection(3) <= 2", () -> create.invoke(instance, "name", 1, Arrays.asList("a", "b", "c")));
+
+            final Method createDelta = service.getMethod("create", Object[].class, Long.class);
+            createDelta.invoke(instance, new Object[0], -1L);
+            assertViolation("NULL: Service.create(delta)", () -> createDelta.invoke(instance, new Object[0], null));
+
+            final Class<?> nested = loader.loadClass("foo.Service$Nested");
+            final Method run = nested.getMethod("run", String.class);
+            run.invoke(nested.newInstance(), "abc");
+            assertViolation("String length violation (Service.Nested.run(code)): string(4) <= 3", () -> run.invoke(nested.newInstance(), "abcd"));
+        }
+    }
+
+    @Test
+    public void testNotApplicable() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = this.compile(SERVICE);
+        assertEquals(diagnostics.toString(), 1, diagnostics.size());
+        assertEquals(Diagnostic.Kind.ERROR, diagnostics.get(0).getKind());
+        assertEquals("@NonEmpty is not applicable to parameters of type T[]", diagnostics.get(0).getMessage(null));
+    }
+
+    @Test
+    public void testInvalidLength() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = this.compile("package foo;\n"
+            + "import com.github.marandus.argval.annotations.Length;\n"
+            + "public class Invalid {\n"
+            + "    public void run(@Length(min = 3, max = 2) String code) {\n"
+            + "    }\n"
+            + "}\n");
+        assertEquals(diagnostics.toString(), 1, diagnostics.size());
+        assertEquals("@Length requires 0 <= min <= max", diagnostics.get(0).getMessage(null));
+    }
+
+    /**
+     * Compile {@code source} with the {@link ValidationProcessor} into the temporary folder.
+     *
+     * @param source Source code of a single class
+     * @return Diagnostics reported by the compiler
+     */
+    private List<Diagnostic<? extends JavaFileObject>> compile(final String source) throws Exception {
+        final String name = source.replaceAll("(?s).*public class (\\w+).*", "$1");
+        final JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///foo/" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final List<String> options = Arrays.asList("-d", this.folder.getRoot().getPath(), "-classpath", System.getProperty("java.class.path"));
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, Collections.singletonList(file));
+        task.setProcessors(Collections.singletonList(new ValidationProcessor()));
+        task.call();
+
+        return diagnostics.getDiagnostics();
+    }
+
+    private static void assertViolation(final String msg, final Invocation invocation) throws Exception {
+        try {
+            invocation.invoke();
+
+            fail();
+        }
+        catch (InvocationTargetException ex) {
+            assertTrue(ex.getCause() instanceof IllegalArgumentException);
+            assertEquals(msg, ex.getCause().getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Invocation {
+
+        void invoke() throws Exception;
+    }
+}
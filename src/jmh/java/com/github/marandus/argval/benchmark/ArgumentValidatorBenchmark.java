@@ -0,0 +1,414 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.benchmark;
+
+import com.github.marandus.argval.ArgumentValidator;
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.validator.CharClass;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the static-only {@link ArgumentValidator} facade. Comparing these results with the
+ * benchmarks of the bean based validators shows the cost of the additional indirection.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentValidatorBenchmark {
+
+    private String nonBlank = "   order-4711";
+    private String blank = "        ";
+    private String reference = "order-4711";
+    private String token = "3f2a9c0e4b7d41e8a5c6b0d9e8f7a6b5";
+    private String umlauts = "Gr\u00fc\u00dfe aus K\u00f6ln";
+    private CharClass slug = new CharClass("slug", "abcdefghijklmnopqrstuvwxyz0123456789-");
+    private Object nonNull = new Object();
+    private Object nil = null;
+    private List<String> coll = Collections.singletonList("foo");
+    private List<String> emptyColl = Collections.emptyList();
+    private List<String> blankColl = Arrays.asList("foo", " ");
+    private Map<String, String> map = Collections.singletonMap("foo", "bar");
+    private Map<String, String> emptyMap = Collections.emptyMap();
+    private Map<String, String> nullKeyMap = Collections.singletonMap(null, "bar");
+    private byte byteArg = 42;
+    private byte byteRef = 0;
+    private short shortArg = 42;
+    private short shortRef = 0;
+    private int intArg = 42;
+    private int intRef = 0;
+    private long longArg = 42L;
+    private long longRef = 0L;
+    private long negative = -1L;
+    private long[] timestamps = {1000L, 2000L, 3000L, 4000L, 5000L, 6000L, 7000L, 8000L};
+    private long[] unsortedTimestamps = {1000L, 2000L, 3000L, 4000L, 5000L, 6000L, 8000L, 7000L};
+    private long zero = 0L;
+    private NumberCompareOperator comp = NumberCompareOperator.GREATER;
+    private NumberCompareOperator failComp = NumberCompareOperator.LESS;
+
+    @Benchmark
+    public void requireNonBlank_pass() {
+        ArgumentValidator.requireNonBlank(this.nonBlank, "benchmark string");
+    }
+
+    @Benchmark
+    public Object requireNonBlank_fail() {
+        try {
+            ArgumentValidator.requireNonBlank(this.blank, "benchmark string");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireStringLength_pass() {
+        ArgumentValidator.requireStringLength(this.nonBlank, 4, this.comp, "benchmark string");
+    }
+
+    @Benchmark
+    public Object requireStringLength_fail() {
+        try {
+            ArgumentValidator.requireStringLength(this.nonBlank, 4, this.failComp, "benchmark string");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireNonNull_pass() {
+        ArgumentValidator.requireNonNull(this.nonNull, "benchmark object");
+    }
+
+    @Benchmark
+    public Object requireNonNull_fail() {
+        try {
+            ArgumentValidator.requireNonNull(this.nil, "benchmark object");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireNonEmpty_Collection_pass() {
+        ArgumentValidator.requireNonEmpty(this.coll, "benchmark collection");
+    }
+
+    @Benchmark
+    public Object requireNonEmpty_Collection_fail() {
+        try {
+            ArgumentValidator.requireNonEmpty(this.emptyColl, "benchmark collection");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireNonEmpty_Map_pass() {
+        ArgumentValidator.requireNonEmpty(this.map, "benchmark map");
+    }
+
+    @Benchmark
+    public Object requireNonEmpty_Map_fail() {
+        try {
+            ArgumentValidator.requireNonEmpty(this.emptyMap, "benchmark map");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireLength_Collection_pass() {
+        ArgumentValidator.requireLength(this.coll, 0, this.comp, "benchmark collection");
+    }
+
+    @Benchmark
+    public Object requireLength_Collection_fail() {
+        try {
+            ArgumentValidator.requireLength(this.coll, 0, this.failComp, "benchmark collection");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireLength_Map_pass() {
+        ArgumentValidator.requireLength(this.map, 0, this.comp, "benchmark map");
+    }
+
+    @Benchmark
+    public Object requireLength_Map_fail() {
+        try {
+            ArgumentValidator.requireLength(this.map, 0, this.failComp, "benchmark map");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireValue_byte_pass() {
+        ArgumentValidator.requireValue(this.byteArg, this.byteRef, this.comp, "benchmark byte");
+    }
+
+    @Benchmark
+    public Object requireValue_byte_fail() {
+        try {
+            ArgumentValidator.requireValue(this.byteArg, this.byteRef, this.failComp, "benchmark byte");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireValue_short_pass() {
+        ArgumentValidator.requireValue(this.shortArg, this.shortRef, this.comp, "benchmark short");
+    }
+
+    @Benchmark
+    public Object requireValue_short_fail() {
+        try {
+            ArgumentValidator.requireValue(this.shortArg, this.shortRef, this.failComp, "benchmark short");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireValue_int_pass() {
+        ArgumentValidator.requireValue(this.intArg, this.intRef, this.comp, "benchmark int");
+    }
+
+    @Benchmark
+    public Object requireValue_int_fail() {
+        try {
+            ArgumentValidator.requireValue(this.intArg, this.intRef, this.failComp, "benchmark int");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireValue_long_pass() {
+        ArgumentValidator.requireValue(this.longArg, this.longRef, this.comp, "benchmark long");
+    }
+
+    @Benchmark
+    public Object requireValue_long_fail() {
+        try {
+            ArgumentValidator.requireValue(this.longArg, this.longRef, this.failComp, "benchmark long");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireNegative_pass() {
+        ArgumentValidator.requireNegative(this.negative, "benchmark long");
+    }
+
+    @Benchmark
+    public Object requireNegative_fail() {
+        try {
+            ArgumentValidator.requireNegative(this.longArg, "benchmark long");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requirePositive_pass() {
+        ArgumentValidator.requirePositive(this.longArg, "benchmark long");
+    }
+
+    @Benchmark
+    public Object requirePositive_fail() {
+        try {
+            ArgumentValidator.requirePositive(this.negative, "benchmark long");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireZero_pass() {
+        ArgumentValidator.requireZero(this.zero, "benchmark long");
+    }
+
+    @Benchmark
+    public Object requireZero_fail() {
+        try {
+            ArgumentValidator.requireZero(this.longArg, "benchmark long");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireAscii_pass() {
+        ArgumentValidator.requireAscii(this.reference, "benchmark reference");
+    }
+
+    @Benchmark
+    public Object requireAscii_fail() {
+        try {
+            ArgumentValidator.requireAscii(this.umlauts, "benchmark text");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireAlphanumeric_pass() {
+        ArgumentValidator.requireAlphanumeric(this.token, "benchmark token");
+    }
+
+    @Benchmark
+    public Object requireAlphanumeric_fail() {
+        try {
+            ArgumentValidator.requireAlphanumeric(this.reference, "benchmark reference");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireCharsIn_pass() {
+        ArgumentValidator.requireCharsIn(this.reference, this.slug, "benchmark slug");
+    }
+
+    @Benchmark
+    public Object requireCharsIn_fail() {
+        try {
+            ArgumentValidator.requireCharsIn(this.nonBlank, this.slug, "benchmark slug");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireAllValid_pass() {
+        ArgumentValidator.requireAllValid(this.coll, ArgumentValidator::requireNonBlank, "benchmark collection");
+    }
+
+    @Benchmark
+    public Object requireAllValid_fail() {
+        try {
+            ArgumentValidator.requireAllValid(this.blankColl, ArgumentValidator::requireNonBlank, "benchmark collection");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireSorted_pass() {
+        ArgumentValidator.requireSorted(this.timestamps, NumberCompareOperator.LESS_EQUAL, "benchmark timestamps");
+    }
+
+    @Benchmark
+    public Object requireSorted_fail() {
+        try {
+            ArgumentValidator.requireSorted(this.unsortedTimestamps, NumberCompareOperator.LESS_EQUAL, "benchmark timestamps");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireStrictlyIncreasing_pass() {
+        ArgumentValidator.requireStrictlyIncreasing(this.timestamps, "benchmark timestamps");
+    }
+
+    @Benchmark
+    public Object requireStrictlyIncreasing_fail() {
+        try {
+            ArgumentValidator.requireStrictlyIncreasing(this.unsortedTimestamps, "benchmark timestamps");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireNoNullKeys_pass() {
+        ArgumentValidator.requireNoNullKeys(this.map, "benchmark map");
+    }
+
+    @Benchmark
+    public Object requireNoNullKeys_fail() {
+        try {
+            ArgumentValidator.requireNoNullKeys(this.nullKeyMap, "benchmark map");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.benchmark;
+
+import com.github.marandus.argval.ArgumentValidator;
+import com.github.marandus.argval.ArgumentValidatorBean;
+import com.github.marandus.argval.annotations.Length;
+import com.github.marandus.argval.annotations.NonBlank;
+import com.github.marandus.argval.annotations.NonNull;
+import com.github.marandus.argval.annotations.Positive;
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link ArgumentValidatorBean#validate(Object)} compared to the equivalent explicit
+ * validator calls.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanValidationBenchmark {
+
+    public static class Order {
+
+        @NonNull
+        private Object id = new Object();
+
+        @NonBlank
+        private String customer = "customer";
+
+        @Length(min = 1, max = 16)
+        private List<String> items = Arrays.asList("foo", "bar");
+
+        @Positive
+        private int quantity = 3;
+    }
+
+    private final ArgumentValidatorBean argVal = new ArgumentValidatorBean();
+
+    private Order order = new Order();
+
+    @Benchmark
+    public void validate_pass() {
+        this.argVal.validate(this.order);
+    }
+
+    @Benchmark
+    public void explicit_pass() {
+        ArgumentValidator.requireNonNull(this.order.id, "Order.id");
+        ArgumentValidator.requireNonBlank(this.order.customer, "Order.customer");
+        ArgumentValidator.requireLength(this.order.items, 1, NumberCompareOperator.GREATER_EQUAL, "Order.items");
+        ArgumentValidator.requireLength(this.order.items, 16, NumberCompareOperator.LESS_EQUAL, "Order.items");
+        ArgumentValidator.requirePositive(this.order.quantity, "Order.quantity");
+    }
+}
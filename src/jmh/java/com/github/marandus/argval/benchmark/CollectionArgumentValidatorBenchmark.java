@@ -0,0 +1,387 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.benchmark;
+
+import com.github.marandus.argval.ArgumentValidatorBean;
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the collection and map validation methods of {@link ArgumentValidatorBean}.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionArgumentValidatorBenchmark {
+
+    private final ArgumentValidatorBean argVal = new ArgumentValidatorBean();
+
+    @Param({"16", "4096"})
+    private int size;
+
+    private Collection<Integer> coll;
+    private Collection<Integer> emptyColl;
+    private Collection<Integer> queue;
+    private Map<Integer, Integer> map;
+    private Map<Integer, Integer> emptyMap;
+    private Map<Integer, Integer> concurrentMap;
+    private Map<Integer, Integer> nullKeyMap;
+    private Map<Integer, Integer> nullValueMap;
+    private List<Integer> nullList;
+    private List<String> names;
+    private List<String> blankNames;
+    private long[] ids;
+    private long[] unsortedIds;
+    private List<Integer> list;
+    private List<Integer> unsortedList;
+    private NumberCompareOperator comp = NumberCompareOperator.LESS_EQUAL;
+
+    @Setup
+    public void setup() {
+        final List<Integer> list = new ArrayList<>(this.size);
+        this.map = new HashMap<>();
+        for (int i = 0; i < this.size; i++) {
+            list.add(i);
+            this.map.put(i, i);
+        }
+
+        this.coll = list;
+        this.queue = new ConcurrentLinkedQueue<>(list);
+        this.emptyColl = new ArrayList<>();
+        this.emptyMap = new HashMap<>();
+        this.concurrentMap = new ConcurrentHashMap<>(this.map);
+        this.nullKeyMap = new HashMap<>(this.map);
+        this.nullKeyMap.put(null, 0);
+        this.nullValueMap = new HashMap<>(this.map);
+        this.nullValueMap.put(this.size - 1, null);
+        this.nullList = new ArrayList<>(list);
+        this.nullList.set(this.size - 1, null);
+
+        this.names = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.names.add("customer " + i);
+        }
+        this.blankNames = new ArrayList<>(this.names);
+        this.blankNames.set(this.size - 1, " ");
+
+        this.ids = new long[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.ids[i] = 1000000L + 37L * i;
+        }
+        this.unsortedIds = this.ids.clone();
+        this.unsortedIds[this.size - 1] = 0L;
+
+        this.list = list;
+        this.unsortedList = new ArrayList<>(list);
+        this.unsortedList.set(this.size - 1, -1);
+    }
+
+    @Benchmark
+    public void requireNonEmpty_Collection_pass() {
+        this.argVal.requireNonEmpty(this.coll, "benchmark collection");
+    }
+
+    @Benchmark
+    public Object requireNonEmpty_Collection_fail() {
+        try {
+            this.argVal.requireNonEmpty(this.emptyColl, "benchmark collection");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireNonEmpty_Map_pass() {
+        this.argVal.requireNonEmpty(this.map, "benchmark map");
+    }
+
+    @Benchmark
+    public Object requireNonEmpty_Map_fail() {
+        try {
+            this.argVal.requireNonEmpty(this.emptyMap, "benchmark map");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireLength_Collection_pass() {
+        this.argVal.requireLength(this.coll, this.size, this.comp, "benchmark collection");
+    }
+
+    @Benchmark
+    public Object requireLength_Collection_fail() {
+        try {
+            this.argVal.requireLength(this.coll, this.size - 1, this.comp, "benchmark collection");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireLength_Map_pass() {
+        this.argVal.requireLength(this.map, this.size, this.comp, "benchmark map");
+    }
+
+    @Benchmark
+    public Object requireLength_Map_fail() {
+        try {
+            this.argVal.requireLength(this.map, this.size - 1, this.comp, "benchmark map");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireLength_LinearSizeCollection_pass() {
+        this.argVal.requireLength(this.queue, 4, NumberCompareOperator.GREATER_EQUAL, "benchmark queue");
+    }
+
+    @Benchmark
+    public void requireAll_Predicate_pass() {
+        this.argVal.requireAll(this.coll, n -> n >= 0, "benchmark collection");
+    }
+
+    @Benchmark
+    public void requireAll_loop_pass() {
+        for (Integer n : this.coll) {
+            this.argVal.requireValue(n, 0, NumberCompareOperator.GREATER_EQUAL, "benchmark collection");
+        }
+    }
+
+    @Benchmark
+    public void requireAllValid_pass() {
+        this.argVal.requireAllValid(this.names, this.argVal::requireNonBlank, "benchmark names");
+    }
+
+    @Benchmark
+    public Object requireAllValid_fail() {
+        try {
+            this.argVal.requireAllValid(this.blankNames, this.argVal::requireNonBlank, "benchmark names");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public long stream_sum() {
+        return this.coll.stream().mapToLong(n -> n).sum();
+    }
+
+    @Benchmark
+    public long validating_Stream_sum() {
+        return this.argVal.validating(this.coll.stream(), n -> n >= 0, this.size, "benchmark stream").mapToLong(n -> n).sum();
+    }
+
+    @Benchmark
+    public long validating_Iterator_sum() {
+        long sum = 0;
+        final Iterator<Integer> it = this.argVal.validating(this.coll.iterator(), n -> n >= 0, this.size, "benchmark iterator");
+        while (it.hasNext()) {
+            sum += it.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void requireDistinct_long_pass() {
+        this.argVal.requireDistinct(this.ids, "benchmark ids");
+    }
+
+    @Benchmark
+    public boolean hashSet_distinct() {
+        final Set<Long> seen = new HashSet<>();
+        for (long id : this.ids) {
+            if (!seen.add(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public void requireStrictlyIncreasing_long_pass() {
+        this.argVal.requireStrictlyIncreasing(this.ids, "benchmark ids");
+    }
+
+    @Benchmark
+    public Object requireStrictlyIncreasing_long_fail() {
+        try {
+            this.argVal.requireStrictlyIncreasing(this.unsortedIds, "benchmark ids");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireSorted_long_pass() {
+        this.argVal.requireSorted(this.ids, this.comp, "benchmark ids");
+    }
+
+    @Benchmark
+    public Object requireSorted_long_fail() {
+        try {
+            this.argVal.requireSorted(this.unsortedIds, this.comp, "benchmark ids");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireSorted_List_pass() {
+        this.argVal.requireSorted(this.list, this.comp, "benchmark list");
+    }
+
+    @Benchmark
+    public Object requireSorted_List_fail() {
+        try {
+            this.argVal.requireSorted(this.unsortedList, this.comp, "benchmark list");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public int loop_strictlyIncreasing() {
+        for (int i = 1; i < this.ids.length; i++) {
+            if (this.ids[i - 1] >= this.ids[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public void requireNoNullElements_pass() {
+        this.argVal.requireNoNullElements(this.coll, "benchmark collection");
+    }
+
+    @Benchmark
+    public void requireNoNullValues_pass() {
+        this.argVal.requireNoNullValues(this.map, "benchmark map");
+    }
+
+    @Benchmark
+    public Object requireNoNullElements_fail() {
+        try {
+            this.argVal.requireNoNullElements(this.nullList, "benchmark collection");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object requireNoNullValues_fail() {
+        try {
+            this.argVal.requireNoNullValues(this.nullValueMap, "benchmark map");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireNoNullKeys_pass() {
+        this.argVal.requireNoNullKeys(this.map, "benchmark map");
+    }
+
+    @Benchmark
+    public Object requireNoNullKeys_fail() {
+        try {
+            this.argVal.requireNoNullKeys(this.nullKeyMap, "benchmark map");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireNoNullKeys_ConcurrentHashMap_pass() {
+        this.argVal.requireNoNullKeys(this.concurrentMap, "benchmark map");
+    }
+
+    @Benchmark
+    public void loop_noNullElements() {
+        for (Integer n : this.coll) {
+            this.argVal.requireNonNull(n, "benchmark collection");
+        }
+    }
+
+    @Benchmark
+    public void requireAllEntries_HashMap_pass() {
+        this.argVal.requireAllEntries(this.map, (k, v) -> k.equals(v), "benchmark map");
+    }
+
+    @Benchmark
+    public void requireAllEntries_ConcurrentHashMap_pass() {
+        this.argVal.requireAllEntries(this.concurrentMap, (k, v) -> k.equals(v), "benchmark map");
+    }
+
+    @Benchmark
+    public void loop_allEntries() {
+        for (Map.Entry<Integer, Integer> e : this.map.entrySet()) {
+            if (!e.getKey().equals(e.getValue())) {
+                throw new IllegalArgumentException("benchmark map");
+            }
+        }
+    }
+}
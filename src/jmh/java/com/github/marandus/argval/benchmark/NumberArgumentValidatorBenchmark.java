@@ -0,0 +1,221 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.benchmark;
+
+import com.github.marandus.argval.ArgumentValidatorBean;
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.enums.NumberRangeMode;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the number validation methods of {@link ArgumentValidatorBean}.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberArgumentValidatorBenchmark {
+
+    private final ArgumentValidatorBean argVal = new ArgumentValidatorBean();
+
+    private byte byteArg = 42;
+    private byte byteRef = 0;
+    private short shortArg = 42;
+    private short shortRef = 0;
+    private int intArg = 42;
+    private int intRef = 0;
+    private long longArg = 42L;
+    private long longRef = 0L;
+    private long negative = -1L;
+    private long zero = 0L;
+    private NumberCompareOperator comp = NumberCompareOperator.GREATER;
+    private NumberCompareOperator failComp = NumberCompareOperator.LESS;
+    private NumberRangeMode mode = NumberRangeMode.INCLUSIVE_EXCLUSIVE;
+    private double doubleArg = 0.42d;
+
+    @Benchmark
+    public void requireValue_byte_pass() {
+        this.argVal.requireValue(this.byteArg, this.byteRef, this.comp, "benchmark byte");
+    }
+
+    @Benchmark
+    public Object requireValue_byte_fail() {
+        try {
+            this.argVal.requireValue(this.byteArg, this.byteRef, this.failComp, "benchmark byte");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireValue_short_pass() {
+        this.argVal.requireValue(this.shortArg, this.shortRef, this.comp, "benchmark short");
+    }
+
+    @Benchmark
+    public Object requireValue_short_fail() {
+        try {
+            this.argVal.requireValue(this.shortArg, this.shortRef, this.failComp, "benchmark short");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireValue_int_pass() {
+        this.argVal.requireValue(this.intArg, this.intRef, this.comp, "benchmark int");
+    }
+
+    @Benchmark
+    public Object requireValue_int_fail() {
+        try {
+            this.argVal.requireValue(this.intArg, this.intRef, this.failComp, "benchmark int");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireValue_long_pass() {
+        this.argVal.requireValue(this.longArg, this.longRef, this.comp, "benchmark long");
+    }
+
+    @Benchmark
+    public Object requireValue_long_fail() {
+        try {
+            this.argVal.requireValue(this.longArg, this.longRef, this.failComp, "benchmark long");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireNegative_pass() {
+        this.argVal.requireNegative(this.negative, "benchmark long");
+    }
+
+    @Benchmark
+    public Object requireNegative_fail() {
+        try {
+            this.argVal.requireNegative(this.longArg, "benchmark long");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requirePositive_pass() {
+        this.argVal.requirePositive(this.longArg, "benchmark long");
+    }
+
+    @Benchmark
+    public Object requirePositive_fail() {
+        try {
+            this.argVal.requirePositive(this.negative, "benchmark long");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireZero_pass() {
+        this.argVal.requireZero(this.zero, "benchmark long");
+    }
+
+    @Benchmark
+    public Object requireZero_fail() {
+        try {
+            this.argVal.requireZero(this.longArg, "benchmark long");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireInRange_int_pass() {
+        this.argVal.requireInRange(this.intArg, 0, 100, this.mode, "benchmark int");
+    }
+
+    @Benchmark
+    public Object requireInRange_int_fail() {
+        try {
+            this.argVal.requireInRange(this.intArg, 0, 10, this.mode, "benchmark int");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireInRange_long_pass() {
+        this.argVal.requireInRange(this.longArg, 0L, 100L, this.mode, "benchmark long");
+    }
+
+    @Benchmark
+    public Object requireInRange_long_fail() {
+        try {
+            this.argVal.requireInRange(this.longArg, 0L, 10L, this.mode, "benchmark long");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireInRange_double_pass() {
+        this.argVal.requireInRange(this.doubleArg, 0d, 1d, this.mode, "benchmark double");
+    }
+
+    @Benchmark
+    public Object requireInRange_double_fail() {
+        try {
+            this.argVal.requireInRange(this.doubleArg, 0d, 0.1d, this.mode, "benchmark double");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.benchmark;
+
+import com.github.marandus.argval.ArgumentValidatorBean;
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.enums.NumberRangeMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the bulk array validation methods of {@link ArgumentValidatorBean}, compared to
+ * validating each element separately.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberArrayValidatorBenchmark {
+
+    private final ArgumentValidatorBean argVal = new ArgumentValidatorBean();
+
+    @Param({"64", "65536"})
+    private int size;
+
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private NumberCompareOperator comp = NumberCompareOperator.GREATER_EQUAL;
+    private NumberRangeMode mode = NumberRangeMode.INCLUSIVE_EXCLUSIVE;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42L);
+
+        this.ints = new int[this.size];
+        this.longs = new long[this.size];
+        this.doubles = new double[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.ints[i] = random.nextInt(1000);
+            this.longs[i] = random.nextInt(1000);
+            this.doubles[i] = random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public void requireAll_int_pass() {
+        this.argVal.requireAll(this.ints, 0, this.comp, "benchmark int[]");
+    }
+
+    @Benchmark
+    public void requireValue_int_loop_pass() {
+        for (int i = 0; i < this.ints.length; i++) {
+            this.argVal.requireValue(this.ints[i], 0, this.comp, "benchmark int[]");
+        }
+    }
+
+    @Benchmark
+    public void requireAll_long_pass() {
+        this.argVal.requireAll(this.longs, 0L, this.comp, "benchmark long[]");
+    }
+
+    @Benchmark
+    public void requireValue_long_loop_pass() {
+        for (int i = 0; i < this.longs.length; i++) {
+            this.argVal.requireValue(this.longs[i], 0L, this.comp, "benchmark long[]");
+        }
+    }
+
+    @Benchmark
+    public void requireAll_double_pass() {
+        this.argVal.requireAll(this.doubles, 0d, this.comp, "benchmark double[]");
+    }
+
+    @Benchmark
+    public Object requireAll_long_fail() {
+        try {
+            this.argVal.requireAll(this.longs, 999L, this.comp, "benchmark long[]");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireAllInRange_int_pass() {
+        this.argVal.requireAllInRange(this.ints, 0, 1000, this.mode, "benchmark int[]");
+    }
+
+    @Benchmark
+    public void requireAllInRange_long_pass() {
+        this.argVal.requireAllInRange(this.longs, 0L, 1000L, this.mode, "benchmark long[]");
+    }
+
+    @Benchmark
+    public void requireAllInRange_double_pass() {
+        this.argVal.requireAllInRange(this.doubles, 0d, 1d, this.mode, "benchmark double[]");
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.benchmark;
+
+import com.github.marandus.argval.ArgumentValidatorBean;
+import com.github.marandus.argval.ValidationSampler;
+import com.github.marandus.argval.enums.ExceptionMode;
+import com.github.marandus.argval.metrics.LongAdderValidationMetrics;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the object validation methods of {@link ArgumentValidatorBean}.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectArgumentValidatorBenchmark {
+
+    private final ArgumentValidatorBean argVal = new ArgumentValidatorBean();
+    private final ArgumentValidatorBean meteredArgVal = new ArgumentValidatorBean(ExceptionMode.STACK_TRACE, null, new LongAdderValidationMetrics());
+    private final ArgumentValidatorBean sampledArgVal = new ArgumentValidatorBean(ExceptionMode.STACK_TRACE, new ValidationSampler(16));
+
+    private Object nonNull = new Object();
+    private Object nil = null;
+
+    @Benchmark
+    public void requireNonNull_pass() {
+        this.argVal.requireNonNull(this.nonNull, "benchmark object");
+    }
+
+    @Benchmark
+    public Object requireNonNull_fail() {
+        try {
+            this.argVal.requireNonNull(this.nil, "benchmark object");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireNonNull_sampled() {
+        this.sampledArgVal.requireNonNull(this.nonNull, "benchmark object");
+    }
+
+    @Benchmark
+    public void requireNonNull_metrics() {
+        this.meteredArgVal.requireNonNull(this.nonNull, "benchmark object");
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.benchmark;
+
+import com.github.marandus.argval.ArgumentValidatorBean;
+import com.github.marandus.argval.enums.LengthUnit;
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.validator.CharClass;
+import com.github.marandus.argval.validator.ValidationPattern;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the string validation methods of {@link ArgumentValidatorBean}.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringArgumentValidatorBenchmark {
+
+    private final ArgumentValidatorBean argVal = new ArgumentValidatorBean();
+
+    private String nonBlank = "   order-4711";
+    private String blank = "        ";
+    private CharBuffer buffer = CharBuffer.wrap("GET /orders/   order-4711 HTTP/1.1", 12, 25);
+    private int len = 16;
+    private NumberCompareOperator comp = NumberCompareOperator.LESS_EQUAL;
+    private long orderId = 4711L;
+    private String reference = "order-4711";
+    private String regex = "order-\\d+";
+    private ValidationPattern pattern = new ValidationPattern(this.regex);
+    private String token = "3f2a9c0e4b7d41e8a5c6b0d9e8f7a6b5";
+    private ValidationPattern hexPattern = new ValidationPattern("[0-9a-fA-F]*");
+    private CharClass slug = new CharClass("slug", "abcdefghijklmnopqrstuvwxyz0123456789-");
+    private String text = String.join("", Collections.nCopies(256, "Gr\u00fc\u00dfe aus K\u00f6ln. "));
+    private byte[] body = "{\"customer\": \"J\u00fcrgen M\u00fcller\", \"reference\": \"order-4711\"}".getBytes(StandardCharsets.UTF_8);
+    private ByteBuffer directBody = (ByteBuffer) ByteBuffer.allocateDirect(this.body.length).put(this.body).flip();
+
+    @Benchmark
+    public void requireNonBlank_pass() {
+        this.argVal.requireNonBlank(this.nonBlank, "benchmark string");
+    }
+
+    @Benchmark
+    public Object requireNonBlank_fail() {
+        try {
+            this.argVal.requireNonBlank(this.blank, "benchmark string");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireLength_pass() {
+        this.argVal.requireLength(this.nonBlank, this.len, this.comp, "benchmark string");
+    }
+
+    @Benchmark
+    public Object requireLength_fail() {
+        try {
+            this.argVal.requireLength(this.nonBlank, 4, this.comp, "benchmark string");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireLength_concatenatedName_pass() {
+        this.argVal.requireLength(this.nonBlank, this.len, this.comp, "order " + this.orderId + " reference");
+    }
+
+    @Benchmark
+    public void requireLength_suppliedName_pass() {
+        this.argVal.requireLength(this.nonBlank, this.len, this.comp, () -> "order " + this.orderId + " reference");
+    }
+
+    @Benchmark
+    public Object requireLength_suppliedName_fail() {
+        try {
+            this.argVal.requireLength(this.nonBlank, 4, this.comp, () -> "order " + this.orderId + " reference");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireNonBlank_CharSequence_pass() {
+        this.argVal.requireNonBlank(this.buffer, "benchmark string");
+    }
+
+    @Benchmark
+    public void requireNonBlank_CharSequence_toString_pass() {
+        this.argVal.requireNonBlank(this.buffer.toString(), "benchmark string");
+    }
+
+    @Benchmark
+    public void requireValidUtf8_pass() {
+        this.argVal.requireValidUtf8(this.body, 0, this.body.length, "benchmark body");
+    }
+
+    @Benchmark
+    public void requireValidUtf8_direct_pass() {
+        this.argVal.requireValidUtf8(this.directBody, "benchmark body");
+    }
+
+    @Benchmark
+    public void requireEncodedLength_codePoints_pass() {
+        this.argVal.requireEncodedLength(this.body, 0, this.body.length, 64, this.comp, LengthUnit.CODE_POINTS, "benchmark body");
+    }
+
+    @Benchmark
+    public void requireEncodedLength_decoded_pass() {
+        this.argVal.requireLength(new String(this.body, StandardCharsets.UTF_8), 64, this.comp, "benchmark body");
+    }
+
+    @Benchmark
+    public void requireNonBlankUtf8_direct_pass() {
+        this.argVal.requireNonBlankUtf8(this.directBody, "benchmark body");
+    }
+
+    @Benchmark
+    public void requireMatches_cached_pass() {
+        this.argVal.requireMatches(this.reference, this.regex, "benchmark reference");
+    }
+
+    @Benchmark
+    public void requireMatches_precompiled_pass() {
+        this.argVal.requireMatches(this.reference, this.pattern, "benchmark reference");
+    }
+
+    @Benchmark
+    public boolean matches_compiledInline_pass() {
+        return Pattern.compile(this.regex).matcher(this.reference).matches();
+    }
+
+    @Benchmark
+    public void requireHex_pass() {
+        this.argVal.requireHex(this.token, "benchmark token");
+    }
+
+    @Benchmark
+    public void requireHex_regex_pass() {
+        this.argVal.requireMatches(this.token, this.hexPattern, "benchmark token");
+    }
+
+    @Benchmark
+    public void requireLength_utf8Bytes_pass() {
+        this.argVal.requireLength(this.text, 8192, this.comp, LengthUnit.UTF8_BYTES, "benchmark text");
+    }
+
+    @Benchmark
+    public void requireLength_getBytes_pass() {
+        this.argVal.requireValue(this.text.getBytes(StandardCharsets.UTF_8).length, 8192, this.comp, "benchmark text");
+    }
+
+    @Benchmark
+    public Object requireLength_utf8Bytes_fail() {
+        try {
+            this.argVal.requireLength(this.text, 255, this.comp, LengthUnit.UTF8_BYTES, "benchmark text");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireAscii_pass() {
+        this.argVal.requireAscii(this.reference, "benchmark reference");
+    }
+
+    @Benchmark
+    public Object requireAscii_fail() {
+        try {
+            this.argVal.requireAscii(this.text, "benchmark text");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireAlphanumeric_pass() {
+        this.argVal.requireAlphanumeric(this.token, "benchmark token");
+    }
+
+    @Benchmark
+    public Object requireAlphanumeric_fail() {
+        try {
+            this.argVal.requireAlphanumeric(this.reference, "benchmark reference");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void requireCharsIn_pass() {
+        this.argVal.requireCharsIn(this.reference, this.slug, "benchmark slug");
+    }
+
+    @Benchmark
+    public Object requireCharsIn_fail() {
+        try {
+            this.argVal.requireCharsIn(this.nonBlank, this.slug, "benchmark slug");
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.benchmark;
+
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.validator.ValidationContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@link ValidationContext} validating a request with several fields.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationContextBenchmark {
+
+    private final ValidationContext ctx = new ValidationContext();
+
+    private String name = "order-4711";
+    private String blank = " ";
+    private int quantity = 42;
+    private long customerId = 815L;
+
+    @Benchmark
+    public boolean validate_pass() {
+        this.ctx.reset();
+        this.ctx.requireNonBlank(this.name, "name");
+        this.ctx.requireLength(this.name, 64, NumberCompareOperator.LESS_EQUAL, "name");
+        this.ctx.requireValue(this.quantity, 0, NumberCompareOperator.GREATER, "quantity");
+        this.ctx.requirePositive(this.customerId, "customerId");
+        return this.ctx.isValid();
+    }
+
+    @Benchmark
+    public Object validate_fail() {
+        this.ctx.reset();
+        this.ctx.requireNonBlank(this.blank, "name");
+        this.ctx.requireLength(this.name, 4, NumberCompareOperator.LESS_EQUAL, "name");
+        this.ctx.requireValue(this.quantity, 0, NumberCompareOperator.LESS, "quantity");
+        this.ctx.requirePositive(-this.customerId, "customerId");
+
+        try {
+            this.ctx.throwIfInvalid();
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+}
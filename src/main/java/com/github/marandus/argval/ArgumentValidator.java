@@ -15,23 +15,74 @@
  */
 package com.github.marandus.argval;
 
+import com.github.marandus.argval.enums.ExceptionMode;
+import com.github.marandus.argval.enums.LengthUnit;
 import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.enums.NumberRangeMode;
+import com.github.marandus.argval.enums.ValidationLevel;
+import com.github.marandus.argval.metrics.ValidationMetrics;
+import com.github.marandus.argval.validator.CharClass;
+import com.github.marandus.argval.validator.ValidationPattern;
+import java.nio.ByteBuffer;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
 /**
  * Utility class to validate method arguments. This class provides static only methods for argument
  * validation. It passes all method calls to an internal instance of {@link ArgumentValidatorBean}.
+ * <p>
+ * The {@link ExceptionMode} used by the internal bean is read from the system property
+ * <tt>com.github.marandus.argval.exceptionMode</tt> when this class is initialized. It defaults to
+ * {@link ExceptionMode#STACK_TRACE STACK_TRACE}.
+ * <p>
+ * The {@link ValidationLevel} is read from the system property
+ * <tt>com.github.marandus.argval.validationLevel</tt> in the same way and defaults to
+ * {@link ValidationLevel#FULL FULL}. Since it is held in a constant, the JIT compiler removes the
+ * validations disabled by the level entirely. At {@link ValidationLevel#CHEAP CHEAP},
+ * {@code requireAll()}, {@code requireAllValid()}, {@code requireAllInRange()}, and
+ * {@code requireLength(Iterable)} are skipped; at {@link ValidationLevel#OFF OFF}, all methods return without validating.
+ * <p>
+ * If an implementation of {@link ValidationMetrics} is registered for the
+ * {@link java.util.ServiceLoader}, the outcome of all checks is reported to it.
  *
  * @author Thomas Rix (thomasrix@exodus-project.net)
  * @since 0.1
  * @see ArgumentValidatorBean
  */
+@Slf4j
 public class ArgumentValidator {
 
-    private static final ArgumentValidatorBean VALIDATOR_BEAN = new ArgumentValidatorBean();
+    /**
+     * Name of the system property defining the exception mode of the static validator.
+     *
+     * @since 0.3
+     */
+    public static final String EXCEPTION_MODE_PROPERTY = "com.github.marandus.argval.exceptionMode";
+
+    /**
+     * Name of the system property defining the validation level of the static validator.
+     *
+     * @since 0.3
+     */
+    public static final String VALIDATION_LEVEL_PROPERTY = "com.github.marandus.argval.validationLevel";
+
+    private static final ArgumentValidatorBean VALIDATOR_BEAN = new ArgumentValidatorBean(readProperty(EXCEPTION_MODE_PROPERTY, ExceptionMode.class, ExceptionMode.STACK_TRACE), null, loadMetrics());
+    private static final ValidationLevel VALIDATION_LEVEL = readProperty(VALIDATION_LEVEL_PROPERTY, ValidationLevel.class, ValidationLevel.FULL);
+    private static final boolean CHEAP_CHECKS = VALIDATION_LEVEL.isEnabled(ValidationLevel.CHEAP);
+    private static final boolean FULL_CHECKS = VALIDATION_LEVEL.isEnabled(ValidationLevel.FULL);
 
     /**
      * Test {@code arg} to be non-blank as defined by the
@@ -49,7 +100,28 @@ public class ArgumentValidator {
      * @since 0.1
      */
     public static void requireNonBlank(final String arg, final String msg) {
-        VALIDATOR_BEAN.requireNonBlank(arg, msg);
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNonBlank(arg, msg);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be non-blank as defined by the
+     * {@link StringUtils#isBlank(java.lang.CharSequence) StringUtils.isBlank()} method. Works like
+     * {@link #requireNonBlank(String, String)}, but the message is only obtained from {@code msg}
+     * if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param msg Supplier of the message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is blank
+     *
+     * @since 0.3
+     */
+    public static void requireNonBlank(final String arg, final Supplier<String> msg) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNonBlank(arg, msg);
+        }
     }
 
     /**
@@ -70,106 +142,2084 @@ public class ArgumentValidator {
      * @since 0.1
      */
     public static void requireStringLength(final String arg, final int len, final NumberCompareOperator comp, final String name) {
-        VALIDATOR_BEAN.requireLength(arg, len, comp, name);
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireLength(arg, len, comp, name);
+        }
     }
 
     /**
-     * Test {@code arg} to be non-null as defined by the
-     * {@link Objects#isNull(java.lang.Object) Objects.isNull()} method. If {@code arg} is null, an
+     * Test the length {@code arg} against the provided length using the specified compare operator.
+     * Works like {@link #requireStringLength(String, int, NumberCompareOperator, String)}, but the
+     * name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg String to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public static void requireStringLength(final String arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireLength(arg, len, comp, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be non-blank as defined by the
+     * {@code StringUtils#isBlank(java.lang.CharSequence)} method. Works like
+     * {@link #requireNonBlank(String, String)}, but tests the characters of {@code arg} in place,
+     * without converting it to a String. If {@code arg} is blank, an IllegalArgumentException will
+     * be raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>msg + ": " + arg</tt>
+     *
+     * @param arg Argument to test
+     * @param msg Message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is blank
+     *
+     * @since 0.3
+     */
+    public static void requireNonBlank(final CharSequence arg, final String msg) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNonBlank(arg, msg);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be non-blank as defined by the
+     * {@code StringUtils#isBlank(java.lang.CharSequence)} method. Works like
+     * {@link #requireNonBlank(CharSequence, String)}, but the message is only obtained from
+     * {@code msg} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param msg Supplier of the message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is blank
+     *
+     * @since 0.3
+     */
+    public static void requireNonBlank(final CharSequence arg, final Supplier<String> msg) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNonBlank(arg, msg);
+        }
+    }
+
+    /**
+     * Test the length of {@code arg}, as defined by {@code CharSequence.length()}, against the
+     * provided length using the specified compare operator. Works like
+     * {@link #requireStringLength(String, int, NumberCompareOperator, String)}, but does not convert
+     * {@code arg} to a String. If the result of the comparison is false, an IllegalArgumentException
+     * will be raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"String length violation (" + name + "): string(" + arg.length() + ") " +
+     * comp.getOperator() + " " + len</tt>
+     *
+     * @param arg Character sequence to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public static void requireStringLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final String name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireLength(arg, len, comp, name);
+        }
+    }
+
+    /**
+     * Test the length of {@code arg}, as defined by {@code CharSequence.length()}, against the
+     * provided length using the specified compare operator. Works like
+     * {@link #requireStringLength(CharSequence, int, NumberCompareOperator, String)}, but the name is
+     * only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public static void requireStringLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireLength(arg, len, comp, name);
+        }
+    }
+
+    /**
+     * Test the length of {@code arg}, measured in the specified unit, against the provided length
+     * using the specified compare operator. The length in code points or UTF-8 bytes is counted in
+     * a single pass without encoding {@code arg}, and counting stops once {@code len} is exceeded.
+     * If the result of the comparison is false, an IllegalArgumentException will be raised. The
+     * exception message will be constructed as follows, where a length exceeding {@code len} while
+     * counting is represented as <tt>"&gt;" + len</tt>:
+     * <p>
+     * <tt>"String length violation (" + name + "): " + unit.getLabel() + "(" + length + ") " +
+     * comp.getOperator() + " " + len</tt>
+     *
+     * @param arg Character sequence to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param unit Unit the length is measured in
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public static void requireStringLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireLength(arg, len, comp, unit, name);
+        }
+    }
+
+    /**
+     * Test the length of {@code arg}, measured in the specified unit, against the provided length
+     * using the specified compare operator. Works like
+     * {@link #requireStringLength(CharSequence, int, NumberCompareOperator, LengthUnit, String)}, but the
+     * name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param unit Unit the length is measured in
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public static void requireStringLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireLength(arg, len, comp, unit, name);
+        }
+    }
+
+    /**
+     * Test the bytes {@code arg[offset]} to {@code arg[offset + length - 1]} to be well-formed
+     * UTF-8 as defined by RFC 3629. Overlong encodings, surrogates, code points above U+10FFFF, and
+     * sequences truncated by the end of the bytes are malformed. The bytes are not decoded. If a
+     * malformed sequence is found, an IllegalArgumentException will be raised. The exception
+     * message will be constructed as follows, where the index of the first byte of the sequence is
+     * relative to offset:
+     * <p>
+     * <tt>"UTF-8 violation (" + name + "): malformed sequence at byte " + index</tt>
+     *
+     * @param arg Bytes to test
+     * @param offset Index of the first byte to test
+     * @param length Number of bytes to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, the range exceeds it, or it
+     * contains a malformed sequence
+     *
+     * @since 0.3
+     */
+    public static void requireValidUtf8(final byte[] arg, final int offset, final int length, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireValidUtf8(arg, offset, length, name);
+        }
+    }
+
+    /**
+     * Test the bytes {@code arg[offset]} to {@code arg[offset + length - 1]} to be well-formed
+     * UTF-8. Works like {@link #requireValidUtf8(byte[], int, int, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Bytes to test
+     * @param offset Index of the first byte to test
+     * @param length Number of bytes to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, the range exceeds it, or it
+     * contains a malformed sequence
+     *
+     * @since 0.3
+     */
+    public static void requireValidUtf8(final byte[] arg, final int offset, final int length, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireValidUtf8(arg, offset, length, name);
+        }
+    }
+
+    /**
+     * Test the remaining bytes of {@code arg}, from its position to its limit, to be well-formed
+     * UTF-8 as defined by RFC 3629. Overlong encodings, surrogates, code points above U+10FFFF, and
+     * sequences truncated by the end of the bytes are malformed. The bytes are not decoded. The
+     * position of {@code arg} is not changed. If a malformed sequence is found, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows, where the index of the first byte of the sequence is relative to the position of
+     * {@code arg}:
+     * <p>
+     * <tt>"UTF-8 violation (" + name + "): malformed sequence at byte " + index</tt>
+     *
+     * @param arg Buffer to test, either heap or direct
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains a malformed
+     * sequence
+     *
+     * @since 0.3
+     */
+    public static void requireValidUtf8(final ByteBuffer arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireValidUtf8(arg, name);
+        }
+    }
+
+    /**
+     * Test the remaining bytes of {@code arg} to be well-formed UTF-8. Works like
+     * {@link #requireValidUtf8(ByteBuffer, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param arg Buffer to test, either heap or direct
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains a malformed
+     * sequence
+     *
+     * @since 0.3
+     */
+    public static void requireValidUtf8(final ByteBuffer arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireValidUtf8(arg, name);
+        }
+    }
+
+    /**
+     * Test the length of the UTF-8 encoded text in the bytes {@code arg[offset]} to
+     * {@code arg[offset + length - 1]}, measured in the specified unit, against the provided length
+     * using the specified compare operator. The bytes are not decoded. Code points are counted by
+     * their leading bytes, and counting stops once {@code len} is exceeded. The bytes are not
+     * validated, see {@link #requireValidUtf8(byte[], int, int, String)}. If the result of the
+     * comparison is false, an IllegalArgumentException will be raised. The exception message will
+     * be constructed as follows, where a length exceeding {@code len} while counting is represented
+     * as <tt>"&gt;" + len</tt>:
+     * <p>
+     * <tt>"Encoded length violation (" + name + "): " + unit.getLabel() + "(" + length + ") " +
+     * comp.getOperator() + " " + len</tt>
+     *
+     * @param arg Bytes to test
+     * @param offset Index of the first byte to test
+     * @param length Number of bytes to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param unit Unit the length is measured in
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, the range exceeds it, or does
+     * not match length requirements
+     *
+     * @since 0.3
+     */
+    public static void requireEncodedLength(final byte[] arg, final int offset, final int length, final int len, final NumberCompareOperator comp, final LengthUnit unit, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireEncodedLength(arg, offset, length, len, comp, unit, name);
+        }
+    }
+
+    /**
+     * Test the length of the UTF-8 encoded text in the bytes {@code arg[offset]} to
+     * {@code arg[offset + length - 1]} against the provided length using the specified compare
+     * operator. Works like {@link #requireEncodedLength(byte[], int, int, int,
+     * NumberCompareOperator, LengthUnit, String)}, but the name is only obtained from {@code name}
+     * if the validation fails.
+     *
+     * @param arg Bytes to test
+     * @param offset Index of the first byte to test
+     * @param length Number of bytes to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param unit Unit the length is measured in
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, the range exceeds it, or does
+     * not match length requirements
+     *
+     * @since 0.3
+     */
+    public static void requireEncodedLength(final byte[] arg, final int offset, final int length, final int len, final NumberCompareOperator comp, final LengthUnit unit, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireEncodedLength(arg, offset, length, len, comp, unit, name);
+        }
+    }
+
+    /**
+     * Test the length of the UTF-8 encoded text in the remaining bytes of {@code arg}, measured in
+     * the specified unit, against the provided length using the specified compare operator. The
+     * bytes are not decoded. Code points are counted by their leading bytes, and counting stops
+     * once {@code len} is exceeded. The bytes are not validated, see
+     * {@link #requireValidUtf8(ByteBuffer, String)}. The position of {@code arg} is not changed. If
+     * the result of the comparison is false, an IllegalArgumentException will be raised. The
+     * exception message will be constructed as follows, where a length exceeding {@code len} while
+     * counting is represented as <tt>"&gt;" + len</tt>:
+     * <p>
+     * <tt>"Encoded length violation (" + name + "): " + unit.getLabel() + "(" + length + ") " +
+     * comp.getOperator() + " " + len</tt>
+     *
+     * @param arg Buffer to test, either heap or direct
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param unit Unit the length is measured in
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or does not match length
+     * requirements
+     *
+     * @since 0.3
+     */
+    public static void requireEncodedLength(final ByteBuffer arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireEncodedLength(arg, len, comp, unit, name);
+        }
+    }
+
+    /**
+     * Test the length of the UTF-8 encoded text in the remaining bytes of {@code arg} against the
+     * provided length using the specified compare operator. Works like
+     * {@link #requireEncodedLength(ByteBuffer, int, NumberCompareOperator, LengthUnit, String)},
+     * but the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Buffer to test, either heap or direct
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param unit Unit the length is measured in
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or does not match length
+     * requirements
+     *
+     * @since 0.3
+     */
+    public static void requireEncodedLength(final ByteBuffer arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireEncodedLength(arg, len, comp, unit, name);
+        }
+    }
+
+    /**
+     * Test the UTF-8 encoded text in the bytes {@code arg[offset]} to {@code arg[offset + length -
+     * 1]} to be non-blank as defined by the {@code StringUtils#isBlank(java.lang.CharSequence)}
+     * method. The bytes are only decoded for the exception message, and the test stops at the first
+     * byte which does not belong to a whitespace character. If the text is blank, an
      * IllegalArgumentException will be raised. The exception message will be constructed as
      * follows:
      * <p>
-     * <tt>"NULL: " + msg</tt>
+     * <tt>msg + ": " + text</tt>
      *
-     * @param arg Argument to test
+     * @param arg Bytes to test
+     * @param offset Index of the first byte to test
+     * @param length Number of bytes to test
+     * @param msg Message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or blank, or the range exceeds
+     * it
+     *
+     * @since 0.3
+     */
+    public static void requireNonBlankUtf8(final byte[] arg, final int offset, final int length, final String msg) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNonBlankUtf8(arg, offset, length, msg);
+        }
+    }
+
+    /**
+     * Test the UTF-8 encoded text in the bytes {@code arg[offset]} to {@code arg[offset + length -
+     * 1]} to be non-blank. Works like {@link #requireNonBlankUtf8(byte[], int, int, String)}, but
+     * the message is only obtained from {@code msg} if the validation fails.
+     *
+     * @param arg Bytes to test
+     * @param offset Index of the first byte to test
+     * @param length Number of bytes to test
+     * @param msg Supplier of the message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or blank, or the range exceeds
+     * it
+     *
+     * @since 0.3
+     */
+    public static void requireNonBlankUtf8(final byte[] arg, final int offset, final int length, final Supplier<String> msg) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNonBlankUtf8(arg, offset, length, msg);
+        }
+    }
+
+    /**
+     * Test the UTF-8 encoded text in the remaining bytes of {@code arg} to be non-blank as defined
+     * by the {@code StringUtils#isBlank(java.lang.CharSequence)} method. The bytes are only decoded
+     * for the exception message, and the test stops at the first byte which does not belong to a
+     * whitespace character. The position of {@code arg} is not changed. If the text is blank, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>msg + ": " + text</tt>
+     *
+     * @param arg Buffer to test, either heap or direct
      * @param msg Message used to construct the exception message
      *
-     * @throws IllegalArgumentException if specified argument is null
+     * @throws IllegalArgumentException if specified argument is null or blank
+     *
+     * @since 0.3
+     */
+    public static void requireNonBlankUtf8(final ByteBuffer arg, final String msg) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNonBlankUtf8(arg, msg);
+        }
+    }
+
+    /**
+     * Test the UTF-8 encoded text in the remaining bytes of {@code arg} to be non-blank. Works like
+     * {@link #requireNonBlankUtf8(ByteBuffer, String)}, but the message is only obtained from
+     * {@code msg} if the validation fails.
+     *
+     * @param arg Buffer to test, either heap or direct
+     * @param msg Supplier of the message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or blank
+     *
+     * @since 0.3
+     */
+    public static void requireNonBlankUtf8(final ByteBuffer arg, final Supplier<String> msg) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNonBlankUtf8(arg, msg);
+        }
+    }
+
+    /**
+     * Test the entire {@code arg} to match the regular expression {@code regex}. The compiled
+     * pattern is taken from a bounded cache of the validator, so each expression is only compiled
+     * once while it is cached. Callers able to hold a compiled pattern should use
+     * {@link #requireMatches(CharSequence, ValidationPattern, String)} instead. If {@code arg} does
+     * not match, an IllegalArgumentException will be raised. The exception message will be
+     * constructed as follows:
+     * <p>
+     * <tt>"Pattern violation (" + name + "): " + arg + " does not match " + regex</tt>
+     *
+     * @param arg Character sequence to test
+     * @param regex Regular expression to be matched
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or does not match, or if
+     * {@code regex} is null or invalid
+     *
+     * @since 0.3
+     */
+    public static void requireMatches(final CharSequence arg, final String regex, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireMatches(arg, regex, name);
+        }
+    }
+
+    /**
+     * Test the entire {@code arg} to match the regular expression {@code regex}. Works like
+     * {@link #requireMatches(CharSequence, String, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param regex Regular expression to be matched
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or does not match, or if
+     * {@code regex} is null or invalid
+     *
+     * @since 0.3
+     */
+    public static void requireMatches(final CharSequence arg, final String regex, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireMatches(arg, regex, name);
+        }
+    }
+
+    /**
+     * Test the entire {@code arg} to match the precompiled {@code pattern}. If {@code arg} does not
+     * match, an IllegalArgumentException will be raised. The exception message will be constructed
+     * as follows:
+     * <p>
+     * <tt>"Pattern violation (" + name + "): " + arg + " does not match " + pattern</tt>
+     *
+     * @param arg Character sequence to test
+     * @param pattern Compiled pattern to be matched
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or does not match, or if
+     * {@code pattern} is null
+     *
+     * @since 0.3
+     */
+    public static void requireMatches(final CharSequence arg, final ValidationPattern pattern, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireMatches(arg, pattern, name);
+        }
+    }
+
+    /**
+     * Test the entire {@code arg} to match the precompiled {@code pattern}. Works like
+     * {@link #requireMatches(CharSequence, ValidationPattern, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param pattern Compiled pattern to be matched
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or does not match, or if
+     * {@code pattern} is null
+     *
+     * @since 0.3
+     */
+    public static void requireMatches(final CharSequence arg, final ValidationPattern pattern, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireMatches(arg, pattern, name);
+        }
+    }
+
+    /**
+     * Test all characters of {@code arg} to be ASCII characters. Membership is looked up in the
+     * bitmap of {@link CharClass#ASCII}, which is much cheaper than matching a regular expression.
+     * If {@code arg} contains any other character, an IllegalArgumentException will be raised. The
+     * exception message will be constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " contains U+" + codePoint +
+     * " at index " + index + ", expected ascii"</tt>
+     *
+     * @param arg Character sequence to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters
+     *
+     * @since 0.3
+     */
+    public static void requireAscii(final CharSequence arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAscii(arg, name);
+        }
+    }
+
+    /**
+     * Test all characters of {@code arg} to be ASCII characters. Works like
+     * {@link #requireAscii(CharSequence, String)}, but the name is only obtained from {@code name}
+     * if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters
+     *
+     * @since 0.3
+     */
+    public static void requireAscii(final CharSequence arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAscii(arg, name);
+        }
+    }
+
+    /**
+     * Test all characters of {@code arg} to be ASCII letters or digits. Membership is looked up in
+     * the bitmap of {@link CharClass#ALPHANUMERIC}, which is much cheaper than matching a regular
+     * expression. If {@code arg} contains any other character, an IllegalArgumentException will be
+     * raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " contains U+" + codePoint +
+     * " at index " + index + ", expected alphanumeric"</tt>
+     *
+     * @param arg Character sequence to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters
+     *
+     * @since 0.3
+     */
+    public static void requireAlphanumeric(final CharSequence arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAlphanumeric(arg, name);
+        }
+    }
+
+    /**
+     * Test all characters of {@code arg} to be ASCII letters or digits. Works like
+     * {@link #requireAlphanumeric(CharSequence, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters
+     *
+     * @since 0.3
+     */
+    public static void requireAlphanumeric(final CharSequence arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAlphanumeric(arg, name);
+        }
+    }
+
+    /**
+     * Test all characters of {@code arg} to be hexadecimal digits of either case. Membership is
+     * looked up in the bitmap of {@link CharClass#HEX}, which is much cheaper than matching a
+     * regular expression. If {@code arg} contains any other character, an IllegalArgumentException
+     * will be raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " contains U+" + codePoint +
+     * " at index " + index + ", expected hex"</tt>
+     *
+     * @param arg Character sequence to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters
+     *
+     * @since 0.3
+     */
+    public static void requireHex(final CharSequence arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireHex(arg, name);
+        }
+    }
+
+    /**
+     * Test all characters of {@code arg} to be hexadecimal digits of either case. Works like
+     * {@link #requireHex(CharSequence, String)}, but the name is only obtained from {@code name} if
+     * the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters
+     *
+     * @since 0.3
+     */
+    public static void requireHex(final CharSequence arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireHex(arg, name);
+        }
+    }
+
+    /**
+     * Test all characters of {@code arg} to be characters of the Base64 alphabet. Membership is
+     * looked up in the bitmap of {@link CharClass#BASE64}, which is much cheaper than matching a
+     * regular expression. At most two padding characters <tt>'='</tt> may follow, in which case the
+     * length of {@code arg} must be a multiple of four. If {@code arg} contains any other
+     * character, an IllegalArgumentException will be raised. The exception message will be
+     * constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " contains U+" + codePoint +
+     * " at index " + index + ", expected base64"</tt>
+     * <p>
+     * Unpadded input must not have a length of one modulo four, which would leave a character
+     * that encodes no byte. In this case the exception message will be constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " has invalid length " + length +
+     * ", expected base64"</tt>
+     *
+     * @param arg Character sequence to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, contains other characters
+     * or has an invalid length
+     *
+     * @since 0.3
+     */
+    public static void requireBase64(final CharSequence arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireBase64(arg, name);
+        }
+    }
+
+    /**
+     * Test all characters of {@code arg} to be characters of the Base64 alphabet. Works like
+     * {@link #requireBase64(CharSequence, String)}, but the name is only obtained from {@code name}
+     * if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, contains other characters
+     * or has an invalid length
+     *
+     * @since 0.3
+     */
+    public static void requireBase64(final CharSequence arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireBase64(arg, name);
+        }
+    }
+
+    /**
+     * Test all characters of {@code arg} to be characters of the URL and filename safe Base64
+     * alphabet. Membership is looked up in the bitmap of {@link CharClass#BASE64_URL}, which is
+     * much cheaper than matching a regular expression. At most two padding characters <tt>'='</tt>
+     * may follow, in which case the length of {@code arg} must be a multiple of four. If
+     * {@code arg} contains any other character, an IllegalArgumentException will be raised. The
+     * exception message will be constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " contains U+" + codePoint +
+     * " at index " + index + ", expected base64url"</tt>
+     * <p>
+     * Unpadded input must not have a length of one modulo four, which would leave a character
+     * that encodes no byte. In this case the exception message will be constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " has invalid length " + length +
+     * ", expected base64url"</tt>
+     *
+     * @param arg Character sequence to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, contains other characters
+     * or has an invalid length
+     *
+     * @since 0.3
+     */
+    public static void requireBase64Url(final CharSequence arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireBase64Url(arg, name);
+        }
+    }
+
+    /**
+     * Test all characters of {@code arg} to be characters of the URL and filename safe Base64
+     * alphabet. Works like {@link #requireBase64Url(CharSequence, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, contains other characters
+     * or has an invalid length
+     *
+     * @since 0.3
+     */
+    public static void requireBase64Url(final CharSequence arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireBase64Url(arg, name);
+        }
+    }
+
+    /**
+     * Test all characters of {@code arg} to be members of {@code charClass}. Membership of ASCII
+     * characters is looked up in the bitmap of the class, which is much cheaper than matching a
+     * regular expression. If {@code arg} contains any other character, an IllegalArgumentException
+     * will be raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " contains U+" + codePoint +
+     * " at index " + index + ", expected " + charClass.getName()</tt>
+     *
+     * @param arg Character sequence to test
+     * @param charClass Class of the allowed characters
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters,
+     * or if {@code charClass} is null
+     *
+     * @since 0.3
+     */
+    public static void requireCharsIn(final CharSequence arg, final CharClass charClass, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireCharsIn(arg, charClass, name);
+        }
+    }
+
+    /**
+     * Test all characters of {@code arg} to be members of {@code charClass}. Works like
+     * {@link #requireCharsIn(CharSequence, CharClass, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param charClass Class of the allowed characters
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters,
+     * or if {@code charClass} is null
+     *
+     * @since 0.3
+     */
+    public static void requireCharsIn(final CharSequence arg, final CharClass charClass, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireCharsIn(arg, charClass, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be non-null as defined by the
+     * {@link Objects#isNull(java.lang.Object) Objects.isNull()} method. If {@code arg} is null, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>"NULL: " + msg</tt>
+     *
+     * @param arg Argument to test
+     * @param msg Message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null
+     *
+     * @since 0.1
+     */
+    public static void requireNonNull(final Object arg, final String msg) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNonNull(arg, msg);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be non-null as defined by the
+     * {@link Objects#isNull(java.lang.Object) Objects.isNull()} method. Works like
+     * {@link #requireNonNull(Object, String)}, but the message is only obtained from {@code msg} if
+     * the validation fails.
+     *
+     * @param arg Argument to test
+     * @param msg Supplier of the message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null
+     *
+     * @since 0.3
+     */
+    public static void requireNonNull(final Object arg, final Supplier<String> msg) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNonNull(arg, msg);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be non-null and not empty. If the collection is {@code null} or empty, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>msg + ": Collection is empty"</tt>
+     *
+     * @param arg Argument to test
+     * @param msg Message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is empty or null
+     *
+     * @since 0.2
+     */
+    public static void requireNonEmpty(final Collection<?> arg, final String msg) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNonEmpty(arg, msg);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be non-null and not empty. Works like
+     * {@link #requireNonEmpty(Collection, String)}, but the message is only obtained from
+     * {@code msg} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param msg Supplier of the message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is empty or null
+     *
+     * @since 0.3
+     */
+    public static void requireNonEmpty(final Collection<?> arg, final Supplier<String> msg) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNonEmpty(arg, msg);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be non-null and not empty. If the map is {@code null} or empty, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>msg + ": Map is empty"</tt>
+     *
+     * @param arg Argument to test
+     * @param msg Message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is empty or null
+     *
+     * @since 0.2
+     */
+    public static void requireNonEmpty(final Map<?, ?> arg, final String msg) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNonEmpty(arg, msg);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be non-null and not empty. Works like
+     * {@link #requireNonEmpty(Map<?, ?>, String)}, but the message is only obtained from
+     * {@code msg} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param msg Supplier of the message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is empty or null
+     *
+     * @since 0.3
+     */
+    public static void requireNonEmpty(final Map<?, ?> arg, final Supplier<String> msg) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNonEmpty(arg, msg);
+        }
+    }
+
+    /**
+     * Test the size of {@code arg}, as defined by {@code Collection.size()}, against the provided
+     * length using the specified compare operator. If the result of the comparison is false, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>"Collection size violation (" + name + "): Collection(" + arg.size() + ") " +
+     * comp.getOperator() + " " + len</tt>
+     *
+     * @param arg Collection to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.2
+     */
+    public static void requireLength(final Collection<?> arg, final int len, final NumberCompareOperator comp, final String name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireLength(arg, len, comp, name);
+        }
+    }
+
+    /**
+     * Test the size of {@code arg}, as defined by {@code Collection.size()}, against the provided
+     * length using the specified compare operator. Works like
+     * {@link #requireLength(Collection, int, NumberCompareOperator, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Collection to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public static void requireLength(final Collection<?> arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireLength(arg, len, comp, name);
+        }
+    }
+
+    /**
+     * Test the size of {@code arg}, as defined by {@code Map.size()}, against the provided length
+     * using the specified compare operator. If the result of the comparison is false, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>"Map size violation (" + name + "): Map(" + arg.size() + ") " + comp.getOperator() + " "
+     * + len</tt>
+     *
+     * @param arg Map to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.2
+     */
+    public static void requireLength(final Map<?, ?> arg, final int len, final NumberCompareOperator comp, final String name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireLength(arg, len, comp, name);
+        }
+    }
+
+    /**
+     * Test the size of {@code arg}, as defined by {@code Map.size()}, against the provided length
+     * using the specified compare operator. Works like
+     * {@link #requireLength(Map<?, ?>, int, NumberCompareOperator, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Map to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public static void requireLength(final Map<?, ?> arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireLength(arg, len, comp, name);
+        }
+    }
+
+    /**
+     * Test the number of elements of {@code arg} against the provided length using the specified
+     * compare operator. Elements are counted by iterating {@code arg}, but iteration stops as soon
+     * as the result of the comparison is known, that is after at most {@code len + 1} elements.
+     * Collections which provide their size in constant time are measured by {@code size()}. If the
+     * result of the comparison is false, an IllegalArgumentException will be raised. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Iterable size violation (" + name + "): Iterable(" + size + ") " + comp.getOperator() +
+     * " " + len</tt>
+     * <p>
+     * If counting has been stopped early, <tt>size</tt> is reported as <tt>"&gt;" + len</tt>.
+     *
+     * @param arg Iterable to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public static void requireLength(final Iterable<?> arg, final int len, final NumberCompareOperator comp, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireLength(arg, len, comp, name);
+        }
+    }
+
+    /**
+     * Test the number of elements of {@code arg} against the provided length using the specified
+     * compare operator. Works like
+     * {@link #requireLength(Iterable, int, NumberCompareOperator, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Iterable to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public static void requireLength(final Iterable<?> arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireLength(arg, len, comp, name);
+        }
+    }
+
+    /**
+     * Test all elements of {@code arg} to pass {@code rule}. Collections with more elements than a
+     * threshold, {@code 8192} by default, are scanned in parallel on the common fork/join pool.
+     * Once an element has failed, all other tasks stop scanning. A parallel scan reports any
+     * failing element rather than the first one, and reports its index only if the spliterator of
+     * the collection is {@code SUBSIZED}, like those of arrays and array lists. If an element does
+     * not pass, an IllegalArgumentException will be raised. The exception message will be
+     * constructed as follows, where the index is omitted if unknown:
+     * <p>
+     * <tt>"Element violation (" + name + "[" + index + "]): " + element</tt>
+     *
+     * @param <T> Type of the elements
+     * @param arg Collection to test
+     * @param rule Rule every element must pass
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or any element does not pass,
+     * or if {@code rule} is null
+     *
+     * @since 0.3
+     */
+    public static <T> void requireAll(final Collection<T> arg, final Predicate<? super T> rule, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAll(arg, rule, name);
+        }
+    }
+
+    /**
+     * Test all elements of {@code arg} to pass {@code rule}. Works like
+     * {@link #requireAll(Collection, Predicate, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param <T> Type of the elements
+     * @param arg Collection to test
+     * @param rule Rule every element must pass
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or any element does not pass,
+     * or if {@code rule} is null
+     *
+     * @since 0.3
+     */
+    public static <T> void requireAll(final Collection<T> arg, final Predicate<? super T> rule, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAll(arg, rule, name);
+        }
+    }
+
+    /**
+     * Test all elements of {@code arg} using an existing validation method, e.g.
+     * {@code stringArgVal::requireNonBlank}. The method is called with every element and
+     * {@code name}, and an element fails if the method raises an IllegalArgumentException.
+     * Collections with more elements than a threshold, {@code 8192} by default, are scanned in
+     * parallel on the common fork/join pool. Once an element has failed, all other tasks stop
+     * scanning. A parallel scan reports any failing element rather than the first one, and reports
+     * its index only if the spliterator of the collection is {@code SUBSIZED}, like those of arrays
+     * and array lists. If an element does not pass, an IllegalArgumentException will be raised. The
+     * exception message will be constructed as follows, where the index is omitted if unknown:
+     * <p>
+     * <tt>"Element violation (" + name + "[" + index + "]): " + validatorMessage</tt>
+     * <p>
+     * There is no variant taking a Supplier of the name, since lambda expressions could not tell it
+     * apart from this method. To obtain the name lazily, use
+     * {@link #requireAll(Collection, Predicate, Supplier)}.
+     *
+     * @param <T> Type of the elements
+     * @param arg Collection to test
+     * @param validator Validation method every element must pass
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or any element does not pass,
+     * or if {@code validator} is null
+     *
+     * @since 0.3
+     */
+    public static <T> void requireAllValid(final Collection<T> arg, final BiConsumer<? super T, String> validator, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAllValid(arg, validator, name);
+        }
+    }
+
+    /**
+     * Test all entries of {@code arg} to pass {@code rule}, which is called with the key and value
+     * of each entry. A ConcurrentHashMap is scanned by its own {@code search()} method, in parallel
+     * on the common fork/join pool if it has more entries than a threshold, {@code 8192} by
+     * default. Once an entry has failed, all other tasks stop scanning. Other maps are scanned
+     * sequentially. An entry fails if {@code rule} returns false or raises an
+     * IllegalArgumentException. If an entry does not pass, an IllegalArgumentException will be
+     * raised. The exception message will be constructed as follows, where the message of the
+     * exception raised by {@code rule} replaces the value if present:
+     * <p>
+     * <tt>"Entry violation (" + name + "[" + key + "]): " + value</tt>
+     *
+     * @param <K> Type of the keys
+     * @param <V> Type of the values
+     * @param arg Map to test
+     * @param rule Rule every entry must pass
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or any entry does not pass,
+     * or if {@code rule} is null
+     *
+     * @since 0.3
+     */
+    public static <K, V> void requireAllEntries(final Map<K, V> arg, final BiPredicate<? super K, ? super V> rule, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAllEntries(arg, rule, name);
+        }
+    }
+
+    /**
+     * Test all entries of {@code arg} to pass {@code rule}. Works like
+     * {@link #requireAllEntries(Map, BiPredicate, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param <K> Type of the keys
+     * @param <V> Type of the values
+     * @param arg Map to test
+     * @param rule Rule every entry must pass
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or any entry does not pass,
+     * or if {@code rule} is null
+     *
+     * @since 0.3
+     */
+    public static <K, V> void requireAllEntries(final Map<K, V> arg, final BiPredicate<? super K, ? super V> rule, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAllEntries(arg, rule, name);
+        }
+    }
+
+    /**
+     * Wrap {@code arg} into an iterator testing every element to pass {@code rule}, at the time it
+     * is returned by {@code next()}. The elements are neither traversed in advance nor buffered, so
+     * {@code arg} may be backed by a database cursor or a file too large to be held in memory. An
+     * element fails if {@code rule} returns false or raises an IllegalArgumentException. If an
+     * element does not pass, an IllegalArgumentException will be raised instead of handing it on.
+     * The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Element violation (" + name + "[" + index + "]): " + element</tt>
+     * <p>
+     * If {@code arg} has more than {@code maxElements} elements, an IllegalArgumentException will
+     * be raised instead of handing on the first excess element. The exception message will be
+     * constructed as follows:
+     * <p>
+     * <tt>"Iterator size violation (" + name + "): Iterator(>" + maxElements + ") &lt;= " + maxElements</tt>
+     *
+     * @param <T> Type of the elements
+     * @param arg Iterator to wrap
+     * @param rule Rule every element must pass
+     * @param maxElements Maximum number of elements
+     * @param name Name to be referenced in exception message
+     * @return Iterator handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument is null, if {@code rule} is null, or
+     * if {@code maxElements} is negative
+     *
+     * @since 0.3
+     */
+    public static <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final long maxElements, final String name) {
+        if (FULL_CHECKS) {
+            return VALIDATOR_BEAN.validating(arg, rule, maxElements, name);
+        }
+
+        return arg;
+    }
+
+    /**
+     * Wrap {@code arg} into an iterator testing every element to pass {@code rule}. Works like
+     * {@link #validating(Iterator, Predicate, long, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param <T> Type of the elements
+     * @param arg Iterator to wrap
+     * @param rule Rule every element must pass
+     * @param maxElements Maximum number of elements
+     * @param name Supplier of the name to be referenced in exception message
+     * @return Iterator handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument is null, if {@code rule} is null, or
+     * if {@code maxElements} is negative
+     *
+     * @since 0.3
+     */
+    public static <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final long maxElements, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            return VALIDATOR_BEAN.validating(arg, rule, maxElements, name);
+        }
+
+        return arg;
+    }
+
+    /**
+     * Wrap {@code arg} into an iterator testing every element to pass {@code rule}. Works like
+     * {@link #validating(Iterator, Predicate, long, String)}, but does not limit the number of
+     * elements.
+     *
+     * @param <T> Type of the elements
+     * @param arg Iterator to wrap
+     * @param rule Rule every element must pass
+     * @param name Name to be referenced in exception message
+     * @return Iterator handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument or {@code rule} is null
+     *
+     * @since 0.3
+     */
+    public static <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final String name) {
+        if (FULL_CHECKS) {
+            return VALIDATOR_BEAN.validating(arg, rule, name);
+        }
+
+        return arg;
+    }
+
+    /**
+     * Wrap {@code arg} into an iterator testing every element to pass {@code rule}. Works like
+     * {@link #validating(Iterator, Predicate, long, String)}, but does not limit the number of
+     * elements, and the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param <T> Type of the elements
+     * @param arg Iterator to wrap
+     * @param rule Rule every element must pass
+     * @param name Supplier of the name to be referenced in exception message
+     * @return Iterator handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument or {@code rule} is null
+     *
+     * @since 0.3
+     */
+    public static <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            return VALIDATOR_BEAN.validating(arg, rule, name);
+        }
+
+        return arg;
+    }
+
+    /**
+     * Wrap {@code arg} into a stream testing every element to pass {@code rule}, at the time it is
+     * consumed by the stream pipeline. The elements are neither traversed in advance nor buffered,
+     * so {@code arg} may be backed by a database cursor or a file too large to be held in memory.
+     * The returned stream is closed together with {@code arg}. Since elements are counted in
+     * encounter order, the validation does not split a parallel stream. An element fails if
+     * {@code rule} returns false or raises an IllegalArgumentException. If an element does not
+     * pass, an IllegalArgumentException will be raised instead of handing it on. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Element violation (" + name + "[" + index + "]): " + element</tt>
+     * <p>
+     * If {@code arg} has more than {@code maxElements} elements, an IllegalArgumentException will
+     * be raised instead of handing on the first excess element. The exception message will be
+     * constructed as follows:
+     * <p>
+     * <tt>"Stream size violation (" + name + "): Stream(>" + maxElements + ") &lt;= " + maxElements</tt>
+     *
+     * @param <T> Type of the elements
+     * @param arg Stream to wrap
+     * @param rule Rule every element must pass
+     * @param maxElements Maximum number of elements
+     * @param name Name to be referenced in exception message
+     * @return Stream handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument is null, if {@code rule} is null, or
+     * if {@code maxElements} is negative
+     *
+     * @since 0.3
+     */
+    public static <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final long maxElements, final String name) {
+        if (FULL_CHECKS) {
+            return VALIDATOR_BEAN.validating(arg, rule, maxElements, name);
+        }
+
+        return arg;
+    }
+
+    /**
+     * Wrap {@code arg} into a stream testing every element to pass {@code rule}. Works like
+     * {@link #validating(Stream, Predicate, long, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param <T> Type of the elements
+     * @param arg Stream to wrap
+     * @param rule Rule every element must pass
+     * @param maxElements Maximum number of elements
+     * @param name Supplier of the name to be referenced in exception message
+     * @return Stream handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument is null, if {@code rule} is null, or
+     * if {@code maxElements} is negative
+     *
+     * @since 0.3
+     */
+    public static <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final long maxElements, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            return VALIDATOR_BEAN.validating(arg, rule, maxElements, name);
+        }
+
+        return arg;
+    }
+
+    /**
+     * Wrap {@code arg} into a stream testing every element to pass {@code rule}. Works like
+     * {@link #validating(Stream, Predicate, long, String)}, but does not limit the number of
+     * elements.
+     *
+     * @param <T> Type of the elements
+     * @param arg Stream to wrap
+     * @param rule Rule every element must pass
+     * @param name Name to be referenced in exception message
+     * @return Stream handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument or {@code rule} is null
+     *
+     * @since 0.3
+     */
+    public static <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final String name) {
+        if (FULL_CHECKS) {
+            return VALIDATOR_BEAN.validating(arg, rule, name);
+        }
+
+        return arg;
+    }
+
+    /**
+     * Wrap {@code arg} into a stream testing every element to pass {@code rule}. Works like
+     * {@link #validating(Stream, Predicate, long, String)}, but does not limit the number of
+     * elements, and the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param <T> Type of the elements
+     * @param arg Stream to wrap
+     * @param rule Rule every element must pass
+     * @param name Supplier of the name to be referenced in exception message
+     * @return Stream handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument or {@code rule} is null
+     *
+     * @since 0.3
+     */
+    public static <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            return VALIDATOR_BEAN.validating(arg, rule, name);
+        }
+
+        return arg;
+    }
+
+    /**
+     * Test {@code arg} not to contain any element twice, according to {@code equals()}. Null
+     * elements are equal to each other. Sets are not scanned, since they cannot contain duplicates.
+     * Random access lists of up to {@code 16} elements are compared pairwise, other collections are
+     * inserted into a hash table, which does not traverse them in advance. The scan stops at the
+     * first duplicate. If an element equals a preceding element in iteration order, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>"Distinct violation (" + name + "[" + index + "]): " + element + " is not unique"</tt>
+     *
+     * @param arg Collection to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or any element is not unique
+     *
+     * @since 0.3
+     */
+    public static void requireDistinct(final Collection<?> arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireDistinct(arg, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} not to contain any element twice. Works like
+     * {@link #requireDistinct(Collection, String)}, but the name is only obtained from {@code name}
+     * if the validation fails.
+     *
+     * @param arg Collection to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or any element is not unique
+     *
+     * @since 0.3
+     */
+    public static void requireDistinct(final Collection<?> arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireDistinct(arg, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} not to contain any value twice. The values are inserted into a hash table
+     * backed by a primitive array, so they are not boxed. Arrays of up to {@code 16} elements are
+     * compared pairwise without allocating a hash table. The scan stops at the first duplicate. If
+     * an element equals a preceding element, an IllegalArgumentException will be raised. The
+     * exception message will be constructed as follows:
+     * <p>
+     * <tt>"Distinct violation (" + name + "[" + index + "]): " + element + " is not unique"</tt>
+     *
+     * @param arg Array to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or has more than 2^29
+     * elements, or if any element is not unique
+     *
+     * @since 0.3
+     */
+    public static void requireDistinct(final int[] arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireDistinct(arg, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} not to contain any element twice. Works like
+     * {@link #requireDistinct(int[], String)}, but the name is only obtained from {@code name} if the
+     * validation fails.
+     *
+     * @param arg Array to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or has more than 2^29
+     * elements, or if any element is not unique
+     *
+     * @since 0.3
+     */
+    public static void requireDistinct(final int[] arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireDistinct(arg, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} not to contain any value twice. The values are inserted into a hash table
+     * backed by a primitive array, so they are not boxed. Arrays of up to {@code 16} elements are
+     * compared pairwise without allocating a hash table. The scan stops at the first duplicate. If
+     * an element equals a preceding element, an IllegalArgumentException will be raised. The
+     * exception message will be constructed as follows:
+     * <p>
+     * <tt>"Distinct violation (" + name + "[" + index + "]): " + element + " is not unique"</tt>
+     *
+     * @param arg Array to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or has more than 2^29
+     * elements, or if any element is not unique
+     *
+     * @since 0.3
+     */
+    public static void requireDistinct(final long[] arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireDistinct(arg, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} not to contain any element twice. Works like
+     * {@link #requireDistinct(long[], String)}, but the name is only obtained from {@code name} if the
+     * validation fails.
+     *
+     * @param arg Array to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or has more than 2^29
+     * elements, or if any element is not unique
+     *
+     * @since 0.3
+     */
+    public static void requireDistinct(final long[] arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireDistinct(arg, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} not to contain any string twice. Null elements are equal to each other.
+     * Arrays of up to {@code 16} elements are compared pairwise without allocating a hash table.
+     * The scan stops at the first duplicate. If an element equals a preceding element, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>"Distinct violation (" + name + "[" + index + "]): " + element + " is not unique"</tt>
+     *
+     * @param arg Array to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or has more than 2^29
+     * elements, or if any element is not unique
+     *
+     * @since 0.3
+     */
+    public static void requireDistinct(final String[] arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireDistinct(arg, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} not to contain any element twice. Works like
+     * {@link #requireDistinct(String[], String)}, but the name is only obtained from {@code name}
+     * if the validation fails.
+     *
+     * @param arg Array to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or has more than 2^29
+     * elements, or if any element is not unique
+     *
+     * @since 0.3
+     */
+    public static void requireDistinct(final String[] arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireDistinct(arg, name);
+        }
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}. For example,
+     * {@code LESS} requires strictly increasing and {@code GREATER_EQUAL} non-increasing elements.
+     * The array is tested in a single forward pass, block by block, which allows the JIT compiler
+     * to vectorize the comparisons. If an element is out of order, an IllegalArgumentException will
+     * be raised for the first of these elements. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>"Order violation (" + name + "[" + index + "]): " + arg[index - 1] + " " +
+     * comp.getOperator() + " " + arg[index]</tt>
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     *
+     * @since 0.3
+     */
+    public static void requireSorted(final int[] arg, final NumberCompareOperator comp, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireSorted(arg, comp, name);
+        }
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}. Works like
+     * {@link #requireSorted(int[], NumberCompareOperator, String)}, but the name is only obtained
+     * from {@code name} if the validation fails.
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     *
+     * @since 0.3
+     */
+    public static void requireSorted(final int[] arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireSorted(arg, comp, name);
+        }
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}. For example,
+     * {@code LESS} requires strictly increasing and {@code GREATER_EQUAL} non-increasing elements.
+     * The array is tested in a single forward pass, block by block, which allows the JIT compiler
+     * to vectorize the comparisons. If an element is out of order, an IllegalArgumentException will
+     * be raised for the first of these elements. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>"Order violation (" + name + "[" + index + "]): " + arg[index - 1] + " " +
+     * comp.getOperator() + " " + arg[index]</tt>
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     *
+     * @since 0.3
+     */
+    public static void requireSorted(final long[] arg, final NumberCompareOperator comp, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireSorted(arg, comp, name);
+        }
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}. Works like
+     * {@link #requireSorted(long[], NumberCompareOperator, String)}, but the name is only obtained
+     * from {@code name} if the validation fails.
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     *
+     * @since 0.3
+     */
+    public static void requireSorted(final long[] arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireSorted(arg, comp, name);
+        }
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}. For example,
+     * {@code LESS} requires strictly increasing and {@code GREATER_EQUAL} non-increasing elements.
+     * The array is tested in a single forward pass, block by block, which allows the JIT compiler
+     * to vectorize the comparisons. Since all comparisons involving NaN are false, arrays of two or
+     * more elements containing NaN are never in order. If an element is out of order, an
+     * IllegalArgumentException will be raised for the first of these elements. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Order violation (" + name + "[" + index + "]): " + arg[index - 1] + " " +
+     * comp.getOperator() + " " + arg[index]</tt>
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     *
+     * @since 0.3
+     */
+    public static void requireSorted(final double[] arg, final NumberCompareOperator comp, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireSorted(arg, comp, name);
+        }
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}. Works like
+     * {@link #requireSorted(double[], NumberCompareOperator, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     *
+     * @since 0.3
+     */
+    public static void requireSorted(final double[] arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireSorted(arg, comp, name);
+        }
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}, applied to the
+     * result of {@code compareTo()} and zero. For example, {@code LESS} requires strictly
+     * increasing and {@code GREATER_EQUAL} non-increasing elements. The list is traversed once by
+     * its iterator. Null elements cannot be compared, so lists of two or more elements containing
+     * null are never in order. If an element is out of order, an IllegalArgumentException will be
+     * raised for the first of these elements. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Order violation (" + name + "[" + index + "]): " + arg.get(index - 1) + " " +
+     * comp.getOperator() + " " + arg.get(index)</tt>
+     *
+     * @param <T> Type of the elements
+     * @param arg List to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     *
+     * @since 0.3
+     */
+    public static <T extends Comparable<? super T>> void requireSorted(final List<T> arg, final NumberCompareOperator comp, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireSorted(arg, comp, name);
+        }
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}. Works like
+     * {@link #requireSorted(List, NumberCompareOperator, String)}, but the name is only obtained
+     * from {@code name} if the validation fails.
+     *
+     * @param <T> Type of the elements
+     * @param arg List to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     *
+     * @since 0.3
+     */
+    public static <T extends Comparable<? super T>> void requireSorted(final List<T> arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireSorted(arg, comp, name);
+        }
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(int[], NumberCompareOperator, String)} with the operator {@code LESS}.
+     *
+     * @param arg Array to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     *
+     * @since 0.3
+     */
+    public static void requireStrictlyIncreasing(final int[] arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireStrictlyIncreasing(arg, name);
+        }
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(int[], NumberCompareOperator, String)} with the operator {@code LESS},
+     * but the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Array to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     *
+     * @since 0.3
+     */
+    public static void requireStrictlyIncreasing(final int[] arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireStrictlyIncreasing(arg, name);
+        }
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(long[], NumberCompareOperator, String)} with the operator {@code LESS}.
+     *
+     * @param arg Array to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     *
+     * @since 0.3
+     */
+    public static void requireStrictlyIncreasing(final long[] arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireStrictlyIncreasing(arg, name);
+        }
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(long[], NumberCompareOperator, String)} with the operator {@code LESS},
+     * but the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Array to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     *
+     * @since 0.3
+     */
+    public static void requireStrictlyIncreasing(final long[] arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireStrictlyIncreasing(arg, name);
+        }
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(double[], NumberCompareOperator, String)} with the operator
+     * {@code LESS}.
+     *
+     * @param arg Array to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     *
+     * @since 0.3
+     */
+    public static void requireStrictlyIncreasing(final double[] arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireStrictlyIncreasing(arg, name);
+        }
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(double[], NumberCompareOperator, String)} with the operator
+     * {@code LESS}, but the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Array to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     *
+     * @since 0.3
+     */
+    public static void requireStrictlyIncreasing(final double[] arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireStrictlyIncreasing(arg, name);
+        }
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(List, NumberCompareOperator, String)} with the operator {@code LESS}.
+     *
+     * @param <T> Type of the elements
+     * @param arg List to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     *
+     * @since 0.3
+     */
+    public static <T extends Comparable<? super T>> void requireStrictlyIncreasing(final List<T> arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireStrictlyIncreasing(arg, name);
+        }
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(List, NumberCompareOperator, String)} with the operator {@code LESS},
+     * but the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param <T> Type of the elements
+     * @param arg List to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     *
+     * @since 0.3
+     */
+    public static <T extends Comparable<? super T>> void requireStrictlyIncreasing(final List<T> arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireStrictlyIncreasing(arg, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} not to contain any null element. Collections which do not permit null
+     * elements are not scanned, such as the views of ConcurrentHashMap, concurrent and blocking
+     * queues, ArrayDeque, EnumSet, or the immutable collections created by {@code List.of()} and
+     * {@code Set.of()}. Lists are searched by {@code indexOf(null)}, other collections are asked
+     * {@code contains(null)} first, which takes constant time for hash sets. If the collection
+     * contains null, an IllegalArgumentException will be raised for the first null element. The
+     * exception message will be constructed as follows:
+     * <p>
+     * <tt>"NULL: " + name + "[" + index + "]"</tt>
+     *
+     * @param arg Collection to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains a null element
+     *
+     * @since 0.3
+     */
+    public static void requireNoNullElements(final Collection<?> arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireNoNullElements(arg, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} not to contain any null element. Works like
+     * {@link #requireNoNullElements(Collection, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param arg Collection to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains a null element
+     *
+     * @since 0.3
+     */
+    public static void requireNoNullElements(final Collection<?> arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireNoNullElements(arg, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} not to contain a null key. Maps which do not permit null keys are not
+     * scanned, such as ConcurrentHashMap, ConcurrentSkipListMap, Hashtable, EnumMap, or the
+     * immutable maps created by {@code Map.of()}. Other maps are asked {@code containsKey(null)},
+     * which takes constant time for hash maps. If the map contains a null key, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>"NULL: " + name + " key"</tt>
+     *
+     * @param arg Map to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains a null key
+     *
+     * @since 0.3
+     */
+    public static void requireNoNullKeys(final Map<?, ?> arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireNoNullKeys(arg, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} not to contain a null key. Works like
+     * {@link #requireNoNullKeys(Map, String)}, but the name is only obtained from {@code name} if the validation
+     * fails.
+     *
+     * @param arg Map to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains a null key
      *
-     * @since 0.1
+     * @since 0.3
      */
-    public static void requireNonNull(final Object arg, final String msg) {
-        VALIDATOR_BEAN.requireNonNull(arg, msg);
+    public static void requireNoNullKeys(final Map<?, ?> arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireNoNullKeys(arg, name);
+        }
     }
 
     /**
-     * Test {@code arg} to be non-null and not empty. If the collection is {@code null} or empty, an
-     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * Test {@code arg} not to contain a null value. Maps which do not permit null values are not
+     * scanned, such as ConcurrentHashMap, ConcurrentSkipListMap, Hashtable, or the immutable maps
+     * created by {@code Map.of()}. Other maps are asked {@code containsValue(null)}, which is a
+     * single pass over the values. If the map contains a null value, an IllegalArgumentException
+     * will be raised for the first key mapped to null. The exception message will be constructed as
      * follows:
      * <p>
-     * <tt>msg + ": Collection is empty"</tt>
+     * <tt>"NULL: " + name + "[" + key + "]"</tt>
      *
-     * @param arg Argument to test
-     * @param msg Message used to construct the exception message
+     * @param arg Map to test
+     * @param name Name to be referenced in exception message
      *
-     * @throws IllegalArgumentException if specified argument is empty or null
+     * @throws IllegalArgumentException if specified argument is null or contains a null value
      *
-     * @since 0.2
+     * @since 0.3
      */
-    public static void requireNonEmpty(final Collection<?> arg, final String msg) {
-        VALIDATOR_BEAN.requireNonEmpty(arg, msg);
+    public static void requireNoNullValues(final Map<?, ?> arg, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireNoNullValues(arg, name);
+        }
     }
 
     /**
-     * Test {@code arg} to be non-null and not empty. If the map is {@code null} or empty, an
-     * IllegalArgumentException will be raised. The exception message will be constructed as
-     * follows:
-     * <p>
-     * <tt>msg + ": Map is empty"</tt>
+     * Test {@code arg} not to contain a null value. Works like
+     * {@link #requireNoNullValues(Map, String)}, but the name is only obtained from {@code name} if the validation
+     * fails.
      *
-     * @param arg Argument to test
-     * @param msg Message used to construct the exception message
+     * @param arg Map to test
+     * @param name Supplier of the name to be referenced in exception message
      *
-     * @throws IllegalArgumentException if specified argument is empty or null
+     * @throws IllegalArgumentException if specified argument is null or contains a null value
      *
-     * @since 0.2
+     * @since 0.3
      */
-    public static void requireNonEmpty(final Map<?, ?> arg, final String msg) {
-        VALIDATOR_BEAN.requireNonEmpty(arg, msg);
+    public static void requireNoNullValues(final Map<?, ?> arg, final Supplier<String> name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireNoNullValues(arg, name);
+        }
     }
 
     /**
-     * Test the size of {@code arg}, as defined by {@code Collection.size()}, against the provided
-     * length using the specified compare operator. If the result of the comparison is false, an
+     * Test the comparison of {@code arg} and {@code value} using the operator defined in
+     * {@code comp} to be true. If the result of the comparison is false, an
      * IllegalArgumentException will be raised. The exception message will be constructed as
      * follows:
      * <p>
-     * <tt>"Collection size violation (" + name + "): Collection(" + arg.size() + ") " +
-     * comp.getOperator() + " " + len</tt>
+     * <tt>"Byte value violation (" + name + "): byte(" + arg + ") " + comp.getOperator() + " " +
+     * value</tt>
      *
-     * @param arg Collection to test
-     * @param len Value to be used as reference in comparison
+     * @param arg Argument to test
+     * @param value Value to be used as reference in comparison
      * @param comp Comparison operator to be used
      * @param name Name to be referenced in exception message
      *
-     * @throws IllegalArgumentException if specified argument does not match length requirements
+     * @throws IllegalArgumentException if specified argument does not match value requirements
      *
      * @since 0.2
      */
-    public static void requireLength(final Collection<?> arg, final int len, final NumberCompareOperator comp, final String name) {
-        VALIDATOR_BEAN.requireLength(arg, len, comp, name);
+    public static void requireValue(final byte arg, final byte value, final NumberCompareOperator comp, final String name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireValue(arg, value, comp, name);
+        }
     }
 
     /**
-     * Test the size of {@code arg}, as defined by {@code Map.size()}, against the provided length
-     * using the specified compare operator. If the result of the comparison is false, an
-     * IllegalArgumentException will be raised. The exception message will be constructed as
-     * follows:
-     * <p>
-     * <tt>"Map size violation (" + name + "): Map(" + arg.size() + ") " + comp.getOperator() + " "
-     * + len</tt>
+     * Test the comparison of {@code arg} and {@code value} using the operator defined in
+     * {@code comp} to be true. Works like
+     * {@link #requireValue(byte, byte, NumberCompareOperator, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
      *
-     * @param arg Map to test
-     * @param len Value to be used as reference in comparison
+     * @param arg Argument to test
+     * @param value Value to be used as reference in comparison
      * @param comp Comparison operator to be used
-     * @param name Name to be referenced in exception message
+     * @param name Supplier of the name to be referenced in exception message
      *
-     * @throws IllegalArgumentException if specified argument does not match length requirements
+     * @throws IllegalArgumentException if specified argument does not match value requirements
      *
-     * @since 0.2
+     * @since 0.3
      */
-    public static void requireLength(final Map<?, ?> arg, final int len, final NumberCompareOperator comp, final String name) {
-        VALIDATOR_BEAN.requireLength(arg, len, comp, name);
+    public static void requireValue(final byte arg, final byte value, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireValue(arg, value, comp, name);
+        }
     }
 
     /**
@@ -178,7 +2228,7 @@ public class ArgumentValidator {
      * IllegalArgumentException will be raised. The exception message will be constructed as
      * follows:
      * <p>
-     * <tt>"Byte value violation (" + name + "): byte(" + arg + ") " + comp.getOperator() + " " +
+     * <tt>"Short value violation (" + name + "): short(" + arg + ") " + comp.getOperator() + " " +
      * value</tt>
      *
      * @param arg Argument to test
@@ -190,30 +2240,31 @@ public class ArgumentValidator {
      *
      * @since 0.2
      */
-    public void requireValue(final byte arg, final byte value, final NumberCompareOperator comp, final String name) {
-        VALIDATOR_BEAN.requireValue(arg, value, comp, name);
+    public static void requireValue(final short arg, final short value, final NumberCompareOperator comp, final String name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireValue(arg, value, comp, name);
+        }
     }
 
     /**
      * Test the comparison of {@code arg} and {@code value} using the operator defined in
-     * {@code comp} to be true. If the result of the comparison is false, an
-     * IllegalArgumentException will be raised. The exception message will be constructed as
-     * follows:
-     * <p>
-     * <tt>"Short value violation (" + name + "): short(" + arg + ") " + comp.getOperator() + " " +
-     * value</tt>
+     * {@code comp} to be true. Works like
+     * {@link #requireValue(short, short, NumberCompareOperator, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
      *
      * @param arg Argument to test
      * @param value Value to be used as reference in comparison
      * @param comp Comparison operator to be used
-     * @param name Name to be referenced in exception message
+     * @param name Supplier of the name to be referenced in exception message
      *
      * @throws IllegalArgumentException if specified argument does not match value requirements
      *
-     * @since 0.2
+     * @since 0.3
      */
-    public void requireValue(final short arg, final short value, final NumberCompareOperator comp, final String name) {
-        VALIDATOR_BEAN.requireValue(arg, value, comp, name);
+    public static void requireValue(final short arg, final short value, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireValue(arg, value, comp, name);
+        }
     }
 
     /**
@@ -234,8 +2285,31 @@ public class ArgumentValidator {
      *
      * @since 0.2
      */
-    public void requireValue(final int arg, final int value, final NumberCompareOperator comp, final String name) {
-        VALIDATOR_BEAN.requireValue(arg, value, comp, name);
+    public static void requireValue(final int arg, final int value, final NumberCompareOperator comp, final String name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireValue(arg, value, comp, name);
+        }
+    }
+
+    /**
+     * Test the comparison of {@code arg} and {@code value} using the operator defined in
+     * {@code comp} to be true. Works like
+     * {@link #requireValue(int, int, NumberCompareOperator, String)}, but the name is only obtained
+     * from {@code name} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match value requirements
+     *
+     * @since 0.3
+     */
+    public static void requireValue(final int arg, final int value, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireValue(arg, value, comp, name);
+        }
     }
 
     /**
@@ -256,8 +2330,31 @@ public class ArgumentValidator {
      *
      * @since 0.2
      */
-    public void requireValue(final long arg, final long value, final NumberCompareOperator comp, final String name) {
-        VALIDATOR_BEAN.requireValue(arg, value, comp, name);
+    public static void requireValue(final long arg, final long value, final NumberCompareOperator comp, final String name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireValue(arg, value, comp, name);
+        }
+    }
+
+    /**
+     * Test the comparison of {@code arg} and {@code value} using the operator defined in
+     * {@code comp} to be true. Works like
+     * {@link #requireValue(long, long, NumberCompareOperator, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match value requirements
+     *
+     * @since 0.3
+     */
+    public static void requireValue(final long arg, final long value, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireValue(arg, value, comp, name);
+        }
     }
 
     /**
@@ -274,8 +2371,28 @@ public class ArgumentValidator {
      *
      * @since 0.2
      */
-    public void requireNegative(long arg, String name) {
-        VALIDATOR_BEAN.requireNegative(arg, name);
+    public static void requireNegative(final long arg, final String name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNegative(arg, name);
+        }
+    }
+
+    /**
+     * Test the value of {@code arg} to be less than zero. Works like
+     * {@link #requireNegative(long, String)}, but the name is only obtained from {@code name} if
+     * the validation fails.
+     *
+     * @param arg Argument to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match value requirements
+     *
+     * @since 0.3
+     */
+    public static void requireNegative(final long arg, final Supplier<String> name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireNegative(arg, name);
+        }
     }
 
     /**
@@ -292,8 +2409,28 @@ public class ArgumentValidator {
      *
      * @since 0.2
      */
-    public void requirePositive(long arg, String name) {
-        VALIDATOR_BEAN.requirePositive(arg, name);
+    public static void requirePositive(final long arg, final String name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requirePositive(arg, name);
+        }
+    }
+
+    /**
+     * Test the value of {@code arg} to be greater than zero. Works like
+     * {@link #requirePositive(long, String)}, but the name is only obtained from {@code name} if
+     * the validation fails.
+     *
+     * @param arg Argument to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match value requirements
+     *
+     * @since 0.3
+     */
+    public static void requirePositive(final long arg, final Supplier<String> name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requirePositive(arg, name);
+        }
     }
 
     /**
@@ -310,8 +2447,397 @@ public class ArgumentValidator {
      * 
      * @since 0.2
      */
-    public void requireZero(long arg, String name) {
-        VALIDATOR_BEAN.requireZero(arg, name);
+    public static void requireZero(final long arg, final String name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireZero(arg, name);
+        }
+    }
+
+    /**
+     * Test the value of {@code arg} to be zero. Works like {@link #requireZero(long, String)}, but
+     * the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match value requirements
+     * 
+     * @since 0.3
+     */
+    public static void requireZero(final long arg, final Supplier<String> name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireZero(arg, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}. If {@code arg} is outside of the range, an IllegalArgumentException will be
+     * raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Integer range violation (" + name + "): int(" + arg + ") not in " + mode.format(lower,
+     * upper)</tt>
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is outside of the range, or if
+     * the range is empty
+     *
+     * @since 0.3
+     */
+    public static void requireInRange(final int arg, final int lower, final int upper, final NumberRangeMode mode, final String name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireInRange(arg, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}. Works like {@link #requireInRange(int, int, int, NumberRangeMode, String)}, but
+     * the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is outside of the range, or if
+     * the range is empty
+     *
+     * @since 0.3
+     */
+    public static void requireInRange(final int arg, final int lower, final int upper, final NumberRangeMode mode, final Supplier<String> name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireInRange(arg, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}. If {@code arg} is outside of the range, an IllegalArgumentException will be
+     * raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Long range violation (" + name + "): long(" + arg + ") not in " + mode.format(lower,
+     * upper)</tt>
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is outside of the range, or if
+     * the range is empty
+     *
+     * @since 0.3
+     */
+    public static void requireInRange(final long arg, final long lower, final long upper, final NumberRangeMode mode, final String name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireInRange(arg, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}. Works like {@link #requireInRange(long, long, long, NumberRangeMode, String)},
+     * but the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is outside of the range, or if
+     * the range is empty
+     *
+     * @since 0.3
+     */
+    public static void requireInRange(final long arg, final long lower, final long upper, final NumberRangeMode mode, final Supplier<String> name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireInRange(arg, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}. If {@code arg} is outside of the range, an IllegalArgumentException will be
+     * raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Double range violation (" + name + "): double(" + arg + ") not in " + mode.format(lower,
+     * upper)</tt>
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is outside of the range, or if
+     * the range is empty
+     *
+     * @since 0.3
+     */
+    public static void requireInRange(final double arg, final double lower, final double upper, final NumberRangeMode mode, final String name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireInRange(arg, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}. Works like
+     * {@link #requireInRange(double, double, double, NumberRangeMode, String)}, but the name is
+     * only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is outside of the range, or if
+     * the range is empty
+     *
+     * @since 0.3
+     */
+    public static void requireInRange(final double arg, final double lower, final double upper, final NumberRangeMode mode, final Supplier<String> name) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.requireInRange(arg, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * Test the comparison of each element of {@code values} and {@code value} using the operator
+     * defined in {@code comp} to be true. If the comparison is false for any element, an
+     * IllegalArgumentException will be raised for the first of these elements. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Integer value violation (" + name + "[" + index + "]): int(" + values[index] + ") " +
+     * comp.getOperator() + " " + value</tt>
+     *
+     * @param values Arguments to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if {@code values} is null, or if any element does not
+     * match value requirements
+     *
+     * @since 0.3
+     */
+    public static void requireAll(final int[] values, final int value, final NumberCompareOperator comp, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAll(values, value, comp, name);
+        }
+    }
+
+    /**
+     * Test the comparison of each element of {@code values} and {@code value} using the operator
+     * defined in {@code comp} to be true. If the comparison is false for any element, an
+     * IllegalArgumentException will be raised for the first of these elements. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Long value violation (" + name + "[" + index + "]): long(" + values[index] + ") " +
+     * comp.getOperator() + " " + value</tt>
+     *
+     * @param values Arguments to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if {@code values} is null, or if any element does not
+     * match value requirements
+     *
+     * @since 0.3
+     */
+    public static void requireAll(final long[] values, final long value, final NumberCompareOperator comp, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAll(values, value, comp, name);
+        }
+    }
+
+    /**
+     * Test the comparison of each element of {@code values} and {@code value} using the operator
+     * defined in {@code comp} to be true. If the comparison is false for any element, an
+     * IllegalArgumentException will be raised for the first of these elements. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Double value violation (" + name + "[" + index + "]): double(" + values[index] + ") " +
+     * comp.getOperator() + " " + value</tt>
+     *
+     * @param values Arguments to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if {@code values} is null, or if any element does not
+     * match value requirements
+     *
+     * @since 0.3
+     */
+    public static void requireAll(final double[] values, final double value, final NumberCompareOperator comp, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAll(values, value, comp, name);
+        }
+    }
+
+    /**
+     * Test each element of {@code values} to be within the range defined by {@code lower},
+     * {@code upper}, and {@code mode}. If any element is outside of the range, an
+     * IllegalArgumentException will be raised for the first of these elements. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Integer range violation (" + name + "[" + index + "]): int(" + values[index] + ") not in "
+     * + mode.format(lower, upper)</tt>
+     *
+     * @param values Arguments to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if {@code values} is null, if any element is outside of
+     * the range, or if the range is empty
+     *
+     * @since 0.3
+     */
+    public static void requireAllInRange(final int[] values, final int lower, final int upper, final NumberRangeMode mode, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAllInRange(values, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * Test each element of {@code values} to be within the range defined by {@code lower},
+     * {@code upper}, and {@code mode}. If any element is outside of the range, an
+     * IllegalArgumentException will be raised for the first of these elements. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Long range violation (" + name + "[" + index + "]): long(" + values[index] + ") not in "
+     * + mode.format(lower, upper)</tt>
+     *
+     * @param values Arguments to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if {@code values} is null, if any element is outside of
+     * the range, or if the range is empty
+     *
+     * @since 0.3
+     */
+    public static void requireAllInRange(final long[] values, final long lower, final long upper, final NumberRangeMode mode, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAllInRange(values, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * Test each element of {@code values} to be within the range defined by {@code lower},
+     * {@code upper}, and {@code mode}. If any element is outside of the range, an
+     * IllegalArgumentException will be raised for the first of these elements. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Double range violation (" + name + "[" + index + "]): double(" + values[index] + ") not in "
+     * + mode.format(lower, upper)</tt>
+     *
+     * @param values Arguments to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if {@code values} is null, if any element is outside of
+     * the range, or if the range is empty
+     *
+     * @since 0.3
+     */
+    public static void requireAllInRange(final double[] values, final double lower, final double upper, final NumberRangeMode mode, final String name) {
+        if (FULL_CHECKS) {
+            VALIDATOR_BEAN.requireAllInRange(values, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * Validate the fields of {@code bean} according to their constraint annotations from package
+     * <tt>com.github.marandus.argval.annotations</tt>. Fields declared by superclasses are included,
+     * static fields are ignored. The annotations of a class are read only once, on the first
+     * validation of one of its instances. Fields are referenced in exception messages as
+     * <tt>SimpleClassName.fieldName</tt>, the messages are constructed by the corresponding
+     * validator methods.
+     *
+     * @param bean Object to validate
+     *
+     * @throws IllegalArgumentException if {@code bean} is null, any field violates its constraints,
+     * or an annotation has been applied to a field of unsupported type
+     *
+     * @since 0.3
+     */
+    public static void validate(final Object bean) {
+        if (CHEAP_CHECKS) {
+            VALIDATOR_BEAN.validate(bean);
+        }
+    }
+
+    /**
+     * Get the validation level of the static validator, as read from the system property
+     * {@link #VALIDATION_LEVEL_PROPERTY}.
+     *
+     * @return Validation level
+     *
+     * @since 0.3
+     */
+    public static ValidationLevel getValidationLevel() {
+        return VALIDATION_LEVEL;
+    }
+
+    /**
+     * Load the first {@link ValidationMetrics} implementation registered for the
+     * {@link ServiceLoader}.
+     *
+     * @return Metrics sink, or null if none is registered
+     */
+    private static ValidationMetrics loadMetrics() {
+        try {
+            final Iterator<ValidationMetrics> it = ServiceLoader.load(ValidationMetrics.class).iterator();
+            return it.hasNext() ? it.next() : null;
+        }
+        catch (ServiceConfigurationError ex) {
+            log.warn("Unable to load ValidationMetrics implementation. Checks are not reported.", ex);
+            return null;
+        }
+    }
+
+    /**
+     * Read an enum constant from a system property. Unknown values are logged and replaced by the
+     * default value.
+     *
+     * @param <E> Enum type
+     * @param property Name of the system property
+     * @param type Enum class
+     * @param defaultValue Value used if the property is not set or unknown
+     * @return Configured enum constant
+     */
+    private static <E extends Enum<E>> E readProperty(final String property, final Class<E> type, final E defaultValue) {
+        final String value = System.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        }
+        catch (IllegalArgumentException ex) {
+            log.warn("Unknown value of system property {}: {}. Using {} instead.", property, value, defaultValue);
+            return defaultValue;
+        }
     }
 
     /**
@@ -15,7 +15,12 @@
  */
 package com.github.marandus.argval;
 
+import com.github.marandus.argval.enums.ExceptionMode;
+import com.github.marandus.argval.enums.LengthUnit;
 import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.enums.NumberRangeMode;
+import com.github.marandus.argval.metrics.ValidationMetrics;
+import com.github.marandus.argval.validator.CharClass;
 import com.github.marandus.argval.validator.CollectionArgumentValidator;
 import com.github.marandus.argval.validator.CollectionArgumentValidatorImpl;
 import com.github.marandus.argval.validator.NumberArgumentValidator;
@@ -24,8 +29,17 @@ import com.github.marandus.argval.validator.ObjectArgumentValidator;
 import com.github.marandus.argval.validator.ObjectArgumentValidatorImpl;
 import com.github.marandus.argval.validator.StringArgumentValidator;
 import com.github.marandus.argval.validator.StringArgumentValidatorImpl;
+import com.github.marandus.argval.validator.ValidationPattern;
+import java.nio.ByteBuffer;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * An implementation of the argument validator that may be used as a bean in other applications. It
@@ -42,6 +56,8 @@ public class ArgumentValidatorBean implements CollectionArgumentValidator, Numbe
     private final NumberArgumentValidator numArgVal;
     private final ObjectArgumentValidator objArgVal;
     private final StringArgumentValidator stringArgVal;
+    private final ValidationSampler sampler;
+    private final ArgumentValidatorBean unsampled;
 
     /**
      * Create a new validator bean instance. Uses the reference implementations of
@@ -53,7 +69,67 @@ public class ArgumentValidatorBean implements CollectionArgumentValidator, Numbe
      * @see StringArgumentValidatorImpl
      */
     public ArgumentValidatorBean() {
-        this(new CollectionArgumentValidatorImpl(), new NumberArgumentValidatorImpl(), new ObjectArgumentValidatorImpl(), new StringArgumentValidatorImpl());
+        this(ExceptionMode.STACK_TRACE);
+    }
+
+    /**
+     * Create a new validator bean instance. Uses the reference implementations of
+     * {@link CollectionArgumentValidator}, {@link ObjectArgumentValidator}, and
+     * {@link StringArgumentValidator}. Failed validations raise exceptions as defined by the
+     * specified exception mode.
+     *
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     *
+     * @see CollectionArgumentValidatorImpl
+     * @see ObjectArgumentValidatorImpl
+     * @see StringArgumentValidatorImpl
+     * @since 0.3
+     */
+    public ArgumentValidatorBean(final ExceptionMode exceptionMode) {
+        this(exceptionMode, null);
+    }
+
+    /**
+     * Create a new validator bean instance. Uses the reference implementations of
+     * {@link CollectionArgumentValidator}, {@link ObjectArgumentValidator}, and
+     * {@link StringArgumentValidator}. Failed validations raise exceptions as defined by the
+     * specified exception mode.
+     * <p>
+     * Calls of the validation methods taking a message or name as String are only validated if
+     * {@code sampler} decides so for the message or name. Methods taking a {@link Supplier} and
+     * {@link #validate(Object)} always validate.
+     *
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     * @param sampler Sampler deciding which calls are validated, or null to validate all calls
+     *
+     * @see CollectionArgumentValidatorImpl
+     * @see ObjectArgumentValidatorImpl
+     * @see StringArgumentValidatorImpl
+     * @since 0.3
+     */
+    public ArgumentValidatorBean(final ExceptionMode exceptionMode, final ValidationSampler sampler) {
+        this(exceptionMode, sampler, null);
+    }
+
+    /**
+     * Create a new validator bean instance. Uses the reference implementations of
+     * {@link CollectionArgumentValidator}, {@link ObjectArgumentValidator}, and
+     * {@link StringArgumentValidator}, which report the outcome of every check to
+     * {@code metrics}. Failed validations raise exceptions as defined by the specified exception
+     * mode. Validations are sampled by {@code sampler}, see
+     * {@link #ArgumentValidatorBean(ExceptionMode, ValidationSampler)}.
+     *
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     * @param sampler Sampler deciding which calls are validated, or null to validate all calls
+     * @param metrics Sink receiving the outcome of all checks, or null to not report checks
+     *
+     * @see CollectionArgumentValidatorImpl
+     * @see ObjectArgumentValidatorImpl
+     * @see StringArgumentValidatorImpl
+     * @since 0.3
+     */
+    public ArgumentValidatorBean(final ExceptionMode exceptionMode, final ValidationSampler sampler, final ValidationMetrics metrics) {
+        this(new CollectionArgumentValidatorImpl(exceptionMode, metrics), new NumberArgumentValidatorImpl(exceptionMode, metrics), new ObjectArgumentValidatorImpl(exceptionMode, metrics), new StringArgumentValidatorImpl(exceptionMode, metrics), sampler);
     }
 
     /**
@@ -67,10 +143,30 @@ public class ArgumentValidatorBean implements CollectionArgumentValidator, Numbe
      * @param stringArgVal Custom implementation of string validator
      */
     public ArgumentValidatorBean(final CollectionArgumentValidator collArgVal, final NumberArgumentValidator numArgVal, final ObjectArgumentValidator objArgVal, final StringArgumentValidator stringArgVal) {
+        this(collArgVal, numArgVal, objArgVal, stringArgVal, null);
+    }
+
+    /**
+     * Create a new validator bean instance. Uses the specified custom implementations of
+     * {@link CollectionArgumentValidator}, {@link ObjectArgumentValidator}, and
+     * {@link StringArgumentValidator}. Validations are sampled by {@code sampler}, see
+     * {@link #ArgumentValidatorBean(ExceptionMode, ValidationSampler)}.
+     *
+     * @param collArgVal Custom implementation of collection validator
+     * @param numArgVal Custom implementation of number validator
+     * @param objArgVal Custom implementation of object validator
+     * @param stringArgVal Custom implementation of string validator
+     * @param sampler Sampler deciding which calls are validated, or null to validate all calls
+     *
+     * @since 0.3
+     */
+    public ArgumentValidatorBean(final CollectionArgumentValidator collArgVal, final NumberArgumentValidator numArgVal, final ObjectArgumentValidator objArgVal, final StringArgumentValidator stringArgVal, final ValidationSampler sampler) {
         this.collArgVal = collArgVal;
         this.numArgVal = numArgVal;
         this.objArgVal = objArgVal;
         this.stringArgVal = stringArgVal;
+        this.sampler = sampler;
+        this.unsampled = (sampler == null) ? this : new ArgumentValidatorBean(collArgVal, numArgVal, objArgVal, stringArgVal, null);
     }
 
     /**
@@ -78,6 +174,16 @@ public class ArgumentValidatorBean implements CollectionArgumentValidator, Numbe
      */
     @Override
     public void requireNonBlank(final String arg, final String msg) {
+        if (this.sample(msg)) {
+            this.stringArgVal.requireNonBlank(arg, msg);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonBlank(final String arg, final Supplier<String> msg) {
         this.stringArgVal.requireNonBlank(arg, msg);
     }
 
@@ -86,6 +192,16 @@ public class ArgumentValidatorBean implements CollectionArgumentValidator, Numbe
      */
     @Override
     public void requireLength(final String arg, final int len, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireLength(arg, len, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final String arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
         this.stringArgVal.requireLength(arg, len, comp, name);
     }
 
@@ -93,95 +209,1080 @@ public class ArgumentValidatorBean implements CollectionArgumentValidator, Numbe
      * {@inheritDoc }
      */
     @Override
-    public void requireNonNull(final Object arg, final String msg) {
-        this.objArgVal.requireNonNull(arg, msg);
+    public void requireNonBlank(final CharSequence arg, final String msg) {
+        if (this.sample(msg)) {
+            this.stringArgVal.requireNonBlank(arg, msg);
+        }
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
-    public void requireNonEmpty(final Collection<?> arg, final String msg) {
-        this.collArgVal.requireNonEmpty(arg, msg);
+    public void requireNonBlank(final CharSequence arg, final Supplier<String> msg) {
+        this.stringArgVal.requireNonBlank(arg, msg);
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
-    public void requireNonEmpty(final Map<?, ?> arg, final String msg) {
-        this.collArgVal.requireNonEmpty(arg, msg);
+    public void requireLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireLength(arg, len, comp, name);
+        }
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
-    public void requireLength(final Collection<?> arg, final int len, final NumberCompareOperator comp, final String name) {
-        this.collArgVal.requireLength(arg, len, comp, name);
+    public void requireLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.stringArgVal.requireLength(arg, len, comp, name);
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
-    public void requireLength(final Map<?, ?> arg, final int len, final NumberCompareOperator comp, final String name) {
-        this.collArgVal.requireLength(arg, len, comp, name);
+    public void requireLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireLength(arg, len, comp, unit, name);
+        }
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
-    public void requireValue(final byte arg, final byte value, final NumberCompareOperator comp, final String name) {
-        this.numArgVal.requireValue(arg, value, comp, name);
+    public void requireLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final Supplier<String> name) {
+        this.stringArgVal.requireLength(arg, len, comp, unit, name);
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
-    public void requireValue(final short arg, final short value, final NumberCompareOperator comp, final String name) {
-        this.numArgVal.requireValue(arg, value, comp, name);
+    public void requireValidUtf8(final byte[] arg, final int offset, final int length, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireValidUtf8(arg, offset, length, name);
+        }
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
-    public void requireValue(final int arg, final int value, final NumberCompareOperator comp, final String name) {
-        this.numArgVal.requireValue(arg, value, comp, name);
+    public void requireValidUtf8(final byte[] arg, final int offset, final int length, final Supplier<String> name) {
+        this.stringArgVal.requireValidUtf8(arg, offset, length, name);
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
-    public void requireValue(final long arg, final long value, final NumberCompareOperator comp, final String name) {
-        this.numArgVal.requireValue(arg, value, comp, name);
+    public void requireValidUtf8(final ByteBuffer arg, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireValidUtf8(arg, name);
+        }
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
-    public void requireNegative(long arg, String name) {
-        this.numArgVal.requireNegative(arg, name);
+    public void requireValidUtf8(final ByteBuffer arg, final Supplier<String> name) {
+        this.stringArgVal.requireValidUtf8(arg, name);
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
-    public void requirePositive(long arg, String name) {
-        this.numArgVal.requirePositive(arg, name);
+    public void requireEncodedLength(final byte[] arg, final int offset, final int length, final int len, final NumberCompareOperator comp, final LengthUnit unit, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireEncodedLength(arg, offset, length, len, comp, unit, name);
+        }
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
-    public void requireZero(long arg, String name) {
-        this.numArgVal.requireZero(arg, name);
+    public void requireEncodedLength(final byte[] arg, final int offset, final int length, final int len, final NumberCompareOperator comp, final LengthUnit unit, final Supplier<String> name) {
+        this.stringArgVal.requireEncodedLength(arg, offset, length, len, comp, unit, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireEncodedLength(final ByteBuffer arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireEncodedLength(arg, len, comp, unit, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireEncodedLength(final ByteBuffer arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final Supplier<String> name) {
+        this.stringArgVal.requireEncodedLength(arg, len, comp, unit, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonBlankUtf8(final byte[] arg, final int offset, final int length, final String msg) {
+        if (this.sample(msg)) {
+            this.stringArgVal.requireNonBlankUtf8(arg, offset, length, msg);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonBlankUtf8(final byte[] arg, final int offset, final int length, final Supplier<String> msg) {
+        this.stringArgVal.requireNonBlankUtf8(arg, offset, length, msg);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonBlankUtf8(final ByteBuffer arg, final String msg) {
+        if (this.sample(msg)) {
+            this.stringArgVal.requireNonBlankUtf8(arg, msg);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonBlankUtf8(final ByteBuffer arg, final Supplier<String> msg) {
+        this.stringArgVal.requireNonBlankUtf8(arg, msg);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireMatches(final CharSequence arg, final String regex, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireMatches(arg, regex, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireMatches(final CharSequence arg, final String regex, final Supplier<String> name) {
+        this.stringArgVal.requireMatches(arg, regex, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireMatches(final CharSequence arg, final ValidationPattern pattern, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireMatches(arg, pattern, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireMatches(final CharSequence arg, final ValidationPattern pattern, final Supplier<String> name) {
+        this.stringArgVal.requireMatches(arg, pattern, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAscii(final CharSequence arg, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireAscii(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAscii(final CharSequence arg, final Supplier<String> name) {
+        this.stringArgVal.requireAscii(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAlphanumeric(final CharSequence arg, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireAlphanumeric(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAlphanumeric(final CharSequence arg, final Supplier<String> name) {
+        this.stringArgVal.requireAlphanumeric(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireHex(final CharSequence arg, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireHex(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireHex(final CharSequence arg, final Supplier<String> name) {
+        this.stringArgVal.requireHex(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireBase64(final CharSequence arg, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireBase64(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireBase64(final CharSequence arg, final Supplier<String> name) {
+        this.stringArgVal.requireBase64(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireBase64Url(final CharSequence arg, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireBase64Url(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireBase64Url(final CharSequence arg, final Supplier<String> name) {
+        this.stringArgVal.requireBase64Url(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireCharsIn(final CharSequence arg, final CharClass charClass, final String name) {
+        if (this.sample(name)) {
+            this.stringArgVal.requireCharsIn(arg, charClass, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireCharsIn(final CharSequence arg, final CharClass charClass, final Supplier<String> name) {
+        this.stringArgVal.requireCharsIn(arg, charClass, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonNull(final Object arg, final String msg) {
+        if (this.sample(msg)) {
+            this.objArgVal.requireNonNull(arg, msg);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonNull(final Object arg, final Supplier<String> msg) {
+        this.objArgVal.requireNonNull(arg, msg);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonEmpty(final Collection<?> arg, final String msg) {
+        if (this.sample(msg)) {
+            this.collArgVal.requireNonEmpty(arg, msg);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonEmpty(final Collection<?> arg, final Supplier<String> msg) {
+        this.collArgVal.requireNonEmpty(arg, msg);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonEmpty(final Map<?, ?> arg, final String msg) {
+        if (this.sample(msg)) {
+            this.collArgVal.requireNonEmpty(arg, msg);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonEmpty(final Map<?, ?> arg, final Supplier<String> msg) {
+        this.collArgVal.requireNonEmpty(arg, msg);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final Collection<?> arg, final int len, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireLength(arg, len, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final Collection<?> arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.collArgVal.requireLength(arg, len, comp, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final Map<?, ?> arg, final int len, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireLength(arg, len, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final Map<?, ?> arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.collArgVal.requireLength(arg, len, comp, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final Iterable<?> arg, final int len, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireLength(arg, len, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final Iterable<?> arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.collArgVal.requireLength(arg, len, comp, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> void requireAll(final Collection<T> arg, final Predicate<? super T> rule, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireAll(arg, rule, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> void requireAll(final Collection<T> arg, final Predicate<? super T> rule, final Supplier<String> name) {
+        this.collArgVal.requireAll(arg, rule, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> void requireAllValid(final Collection<T> arg, final BiConsumer<? super T, String> validator, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireAllValid(arg, validator, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <K, V> void requireAllEntries(final Map<K, V> arg, final BiPredicate<? super K, ? super V> rule, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireAllEntries(arg, rule, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <K, V> void requireAllEntries(final Map<K, V> arg, final BiPredicate<? super K, ? super V> rule, final Supplier<String> name) {
+        this.collArgVal.requireAllEntries(arg, rule, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final long maxElements, final String name) {
+        if (this.sample(name)) {
+            return this.collArgVal.validating(arg, rule, maxElements, name);
+        }
+
+        return arg;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final long maxElements, final Supplier<String> name) {
+        return this.collArgVal.validating(arg, rule, maxElements, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final String name) {
+        if (this.sample(name)) {
+            return this.collArgVal.validating(arg, rule, name);
+        }
+
+        return arg;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final Supplier<String> name) {
+        return this.collArgVal.validating(arg, rule, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final long maxElements, final String name) {
+        if (this.sample(name)) {
+            return this.collArgVal.validating(arg, rule, maxElements, name);
+        }
+
+        return arg;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final long maxElements, final Supplier<String> name) {
+        return this.collArgVal.validating(arg, rule, maxElements, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final String name) {
+        if (this.sample(name)) {
+            return this.collArgVal.validating(arg, rule, name);
+        }
+
+        return arg;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final Supplier<String> name) {
+        return this.collArgVal.validating(arg, rule, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final Collection<?> arg, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireDistinct(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final Collection<?> arg, final Supplier<String> name) {
+        this.collArgVal.requireDistinct(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final int[] arg, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireDistinct(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final int[] arg, final Supplier<String> name) {
+        this.collArgVal.requireDistinct(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final long[] arg, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireDistinct(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final long[] arg, final Supplier<String> name) {
+        this.collArgVal.requireDistinct(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final String[] arg, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireDistinct(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final String[] arg, final Supplier<String> name) {
+        this.collArgVal.requireDistinct(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireSorted(final int[] arg, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireSorted(arg, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireSorted(final int[] arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.collArgVal.requireSorted(arg, comp, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireSorted(final long[] arg, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireSorted(arg, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireSorted(final long[] arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.collArgVal.requireSorted(arg, comp, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireSorted(final double[] arg, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireSorted(arg, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireSorted(final double[] arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.collArgVal.requireSorted(arg, comp, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T extends Comparable<? super T>> void requireSorted(final List<T> arg, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireSorted(arg, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T extends Comparable<? super T>> void requireSorted(final List<T> arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.collArgVal.requireSorted(arg, comp, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireStrictlyIncreasing(final int[] arg, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireStrictlyIncreasing(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireStrictlyIncreasing(final int[] arg, final Supplier<String> name) {
+        this.collArgVal.requireStrictlyIncreasing(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireStrictlyIncreasing(final long[] arg, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireStrictlyIncreasing(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireStrictlyIncreasing(final long[] arg, final Supplier<String> name) {
+        this.collArgVal.requireStrictlyIncreasing(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireStrictlyIncreasing(final double[] arg, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireStrictlyIncreasing(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireStrictlyIncreasing(final double[] arg, final Supplier<String> name) {
+        this.collArgVal.requireStrictlyIncreasing(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T extends Comparable<? super T>> void requireStrictlyIncreasing(final List<T> arg, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireStrictlyIncreasing(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T extends Comparable<? super T>> void requireStrictlyIncreasing(final List<T> arg, final Supplier<String> name) {
+        this.collArgVal.requireStrictlyIncreasing(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNoNullElements(final Collection<?> arg, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireNoNullElements(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNoNullElements(final Collection<?> arg, final Supplier<String> name) {
+        this.collArgVal.requireNoNullElements(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNoNullKeys(final Map<?, ?> arg, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireNoNullKeys(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNoNullKeys(final Map<?, ?> arg, final Supplier<String> name) {
+        this.collArgVal.requireNoNullKeys(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNoNullValues(final Map<?, ?> arg, final String name) {
+        if (this.sample(name)) {
+            this.collArgVal.requireNoNullValues(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNoNullValues(final Map<?, ?> arg, final Supplier<String> name) {
+        this.collArgVal.requireNoNullValues(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValue(final byte arg, final byte value, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireValue(arg, value, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValue(final byte arg, final byte value, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.numArgVal.requireValue(arg, value, comp, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValue(final short arg, final short value, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireValue(arg, value, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValue(final short arg, final short value, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.numArgVal.requireValue(arg, value, comp, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValue(final int arg, final int value, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireValue(arg, value, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValue(final int arg, final int value, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.numArgVal.requireValue(arg, value, comp, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValue(final long arg, final long value, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireValue(arg, value, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValue(final long arg, final long value, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.numArgVal.requireValue(arg, value, comp, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNegative(long arg, String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireNegative(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNegative(final long arg, final Supplier<String> name) {
+        this.numArgVal.requireNegative(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requirePositive(long arg, String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requirePositive(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requirePositive(final long arg, final Supplier<String> name) {
+        this.numArgVal.requirePositive(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireZero(long arg, String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireZero(arg, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireZero(final long arg, final Supplier<String> name) {
+        this.numArgVal.requireZero(arg, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireInRange(final int arg, final int lower, final int upper, final NumberRangeMode mode, final String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireInRange(arg, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireInRange(final int arg, final int lower, final int upper, final NumberRangeMode mode, final Supplier<String> name) {
+        this.numArgVal.requireInRange(arg, lower, upper, mode, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireInRange(final long arg, final long lower, final long upper, final NumberRangeMode mode, final String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireInRange(arg, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireInRange(final long arg, final long lower, final long upper, final NumberRangeMode mode, final Supplier<String> name) {
+        this.numArgVal.requireInRange(arg, lower, upper, mode, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireInRange(final double arg, final double lower, final double upper, final NumberRangeMode mode, final String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireInRange(arg, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireInRange(final double arg, final double lower, final double upper, final NumberRangeMode mode, final Supplier<String> name) {
+        this.numArgVal.requireInRange(arg, lower, upper, mode, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAll(final int[] values, final int value, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireAll(values, value, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAll(final long[] values, final long value, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireAll(values, value, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAll(final double[] values, final double value, final NumberCompareOperator comp, final String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireAll(values, value, comp, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAllInRange(final int[] values, final int lower, final int upper, final NumberRangeMode mode, final String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireAllInRange(values, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAllInRange(final long[] values, final long lower, final long upper, final NumberRangeMode mode, final String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireAllInRange(values, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAllInRange(final double[] values, final double lower, final double upper, final NumberRangeMode mode, final String name) {
+        if (this.sample(name)) {
+            this.numArgVal.requireAllInRange(values, lower, upper, mode, name);
+        }
+    }
+
+    /**
+     * Validate the fields of {@code bean} according to their constraint annotations from package
+     * <tt>com.github.marandus.argval.annotations</tt>. Fields declared by superclasses are included,
+     * static fields are ignored. The annotations of a class are read only once, on the first
+     * validation of one of its instances. Fields are referenced in exception messages as
+     * <tt>SimpleClassName.fieldName</tt>, the messages are constructed by the corresponding
+     * validator methods.
+     *
+     * @param bean Object to validate
+     *
+     * @throws IllegalArgumentException if {@code bean} is null, any field violates its constraints,
+     * or an annotation has been applied to a field of unsupported type
+     *
+     * @since 0.3
+     */
+    public void validate(final Object bean) {
+        this.objArgVal.requireNonNull(bean, "validate(Object) parameter");
+        // Field checks are named after the field, so they must bypass the sampler
+        ValidationPlan.of(bean.getClass()).validate(this.unsampled, bean);
+    }
+
+    /**
+     * Decide if the current call of the validation named {@code name} is to be performed.
+     *
+     * @param name Message or name passed to the validation method
+     * @return True, if no sampler is used or the sampler selects this call
+     */
+    private boolean sample(final String name) {
+        return (this.sampler == null || this.sampler.sample(name));
     }
 }
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval;
+
+import com.github.marandus.argval.annotations.Length;
+import com.github.marandus.argval.annotations.Negative;
+import com.github.marandus.argval.annotations.NonBlank;
+import com.github.marandus.argval.annotations.NonEmpty;
+import com.github.marandus.argval.annotations.NonNull;
+import com.github.marandus.argval.annotations.Positive;
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validation plan of a class, consisting of one check per constraint annotation on its fields. The
+ * fields of the class and all superclasses are inspected once, when the plan is created. Checks
+ * read the field values through {@link MethodHandle} getters and pass them on to the validator
+ * methods of an {@link ArgumentValidatorBean}, so executing a plan does not involve reflection.
+ * <p>
+ * Plans are cached in a {@link ClassValue}, which does not prevent classes from being unloaded.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+final class ValidationPlan {
+
+    private static final ClassValue<ValidationPlan> PLANS = new ClassValue<ValidationPlan>() {
+        @Override
+        protected ValidationPlan computeValue(final Class<?> type) {
+            return new ValidationPlan(type);
+        }
+    };
+
+    private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType LONG_GETTER = MethodType.methodType(long.class, Object.class);
+    private static final List<Class<?>> INTEGRAL_TYPES = Arrays.asList(byte.class, short.class, int.class, long.class, char.class, Byte.class, Short.class, Integer.class, Long.class, Character.class);
+
+    private final Check[] checks;
+
+    /**
+     * Create the validation plan of {@code type}.
+     *
+     * @param type Class to create the plan for
+     */
+    private ValidationPlan(final Class<?> type) {
+        final List<Check> list = new ArrayList<>();
+        for (Class<?> cls = type; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            for (Field field : cls.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    addChecks(list, field);
+                }
+            }
+        }
+
+        this.checks = list.toArray(new Check[list.size()]);
+    }
+
+    /**
+     * Get the validation plan of {@code type}. The plan is created on first use.
+     *
+     * @param type Class to get the plan for
+     * @return Validation plan
+     *
+     * @throws IllegalArgumentException if a constraint annotation of {@code type} has been applied
+     * to a field of unsupported type
+     */
+    static ValidationPlan of(final Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Validate {@code bean} using the validator methods of {@code argVal}.
+     *
+     * @param argVal Validator used for all checks
+     * @param bean Object to validate, must be an instance of the class of this plan
+     *
+     * @throws IllegalArgumentException if any check fails
+     */
+    void validate(final ArgumentValidatorBean argVal, final Object bean) {
+        try {
+            for (Check check : this.checks) {
+                check.validate(argVal, bean);
+            }
+        }
+        catch (RuntimeException | Error ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new IllegalStateException("Unable to read field value", ex);
+        }
+    }
+
+    /**
+     * Get the number of checks of this plan.
+     *
+     * @return Number of checks
+     */
+    int size() {
+        return this.checks.length;
+    }
+
+    /**
+     * Add checks for all constraint annotations of {@code field} to {@code list}.
+     *
+     * @param list Checks of the plan
+     * @param field Field to inspect
+     */
+    private static void addChecks(final List<Check> list, final Field field) {
+        final Class<?> type = field.getType();
+        final String name = field.getDeclaringClass().getSimpleName() + "." + field.getName();
+        final boolean string = (type == String.class);
+        final boolean collection = Collection.class.isAssignableFrom(type);
+        final boolean map = Map.class.isAssignableFrom(type);
+        final boolean integral = INTEGRAL_TYPES.contains(type);
+
+        MethodHandle getter = null;
+        boolean nullChecked = false;
+
+        if (field.isAnnotationPresent(NonNull.class)) {
+            requireApplicable(!type.isPrimitive(), NonNull.class, field);
+            getter = objectGetter(field);
+
+            final MethodHandle get = getter;
+            list.add((argVal, bean) -> argVal.requireNonNull((Object) get.invokeExact(bean), name));
+            nullChecked = true;
+        }
+
+        if (field.isAnnotationPresent(NonBlank.class)) {
+            requireApplicable(string, NonBlank.class, field);
+            getter = (getter == null) ? objectGetter(field) : getter;
+
+            final MethodHandle get = getter;
+            list.add((argVal, bean) -> argVal.requireNonBlank((String) (Object) get.invokeExact(bean), name));
+        }
+
+        if (field.isAnnotationPresent(NonEmpty.class)) {
+            requireApplicable(string || collection || map, NonEmpty.class, field);
+            getter = (getter == null) ? objectGetter(field) : getter;
+
+            final MethodHandle get = getter;
+            if (string) {
+                list.add((argVal, bean) -> argVal.requireLength((String) (Object) get.invokeExact(bean), 0, NumberCompareOperator.GREATER, name));
+            }
+            else if (collection) {
+                list.add((argVal, bean) -> argVal.requireNonEmpty((Collection<?>) (Object) get.invokeExact(bean), name));
+            }
+            else {
+                list.add((argVal, bean) -> argVal.requireNonEmpty((Map<?, ?>) (Object) get.invokeExact(bean), name));
+            }
+        }
+
+        final Length length = field.getAnnotation(Length.class);
+        if (length != null) {
+            requireApplicable(string || collection || map, Length.class, field);
+            if (length.min() < 0 || length.max() < length.min()) {
+                throw new IllegalArgumentException("@Length requires 0 <= min <= max: " + field);
+            }
+
+            getter = (getter == null) ? objectGetter(field) : getter;
+            addLengthCheck(list, getter, string, collection, length.min(), NumberCompareOperator.GREATER_EQUAL, name);
+            if (length.max() != Integer.MAX_VALUE) {
+                addLengthCheck(list, getter, string, collection, length.max(), NumberCompareOperator.LESS_EQUAL, name);
+            }
+        }
+
+        final boolean positive = field.isAnnotationPresent(Positive.class);
+        final boolean negative = field.isAnnotationPresent(Negative.class);
+        if (positive || negative) {
+            requireApplicable(integral, positive ? Positive.class : Negative.class, field);
+            if (!type.isPrimitive() && !nullChecked) {
+                final MethodHandle get = (getter == null) ? objectGetter(field) : getter;
+                list.add((argVal, bean) -> argVal.requireNonNull((Object) get.invokeExact(bean), name));
+            }
+
+            final MethodHandle get = longGetter(field);
+            if (positive) {
+                list.add((argVal, bean) -> argVal.requirePositive((long) get.invokeExact(bean), name));
+            }
+            if (negative) {
+                list.add((argVal, bean) -> argVal.requireNegative((long) get.invokeExact(bean), name));
+            }
+        }
+    }
+
+    /**
+     * Add a length check of a string, collection, or map field to {@code list}.
+     *
+     * @param list Checks of the plan
+     * @param getter Object getter of the field
+     * @param string True, if the field is a string
+     * @param collection True, if the field is a collection
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in exception message
+     */
+    private static void addLengthCheck(final List<Check> list, final MethodHandle getter, final boolean string, final boolean collection, final int len, final NumberCompareOperator comp, final String name) {
+        if (string) {
+            list.add((argVal, bean) -> argVal.requireLength((String) (Object) getter.invokeExact(bean), len, comp, name));
+        }
+        else if (collection) {
+            list.add((argVal, bean) -> argVal.requireLength((Collection<?>) (Object) getter.invokeExact(bean), len, comp, name));
+        }
+        else {
+            list.add((argVal, bean) -> argVal.requireLength((Map<?, ?>) (Object) getter.invokeExact(bean), len, comp, name));
+        }
+    }
+
+    private static void requireApplicable(final boolean applicable, final Class<? extends Annotation> annotation, final Field field) {
+        if (!applicable) {
+            throw new IllegalArgumentException("@" + annotation.getSimpleName() + " is not applicable to field " + field);
+        }
+    }
+
+    /**
+     * Get a getter of {@code field} with the type <tt>(Object)Object</tt>.
+     *
+     * @param field Field to read
+     * @return Getter of the field
+     */
+    private static MethodHandle objectGetter(final Field field) {
+        return getter(field).asType(OBJECT_GETTER);
+    }
+
+    /**
+     * Get a getter of the integral {@code field} with the type <tt>(Object)long</tt>. Values of
+     * wrapper types are unboxed.
+     *
+     * @param field Field to read
+     * @return Getter of the field
+     */
+    private static MethodHandle longGetter(final Field field) {
+        MethodHandle getter = getter(field);
+        if (field.getType() == Character.class) {
+            getter = getter.asType(getter.type().changeReturnType(char.class));
+        }
+
+        return getter.asType(LONG_GETTER);
+    }
+
+    private static MethodHandle getter(final Field field) {
+        try {
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(field);
+        }
+        catch (IllegalAccessException | RuntimeException ex) {
+            throw new IllegalArgumentException("Unable to access field " + field, ex);
+        }
+    }
+
+    /**
+     * A single check of a validation plan.
+     */
+    @FunctionalInterface
+    private interface Check {
+
+        void validate(final ArgumentValidatorBean argVal, final Object bean) throws Throwable;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decides which calls of a validation are actually performed, allowing to validate only one in
+ * {@code N} calls of hot validations with trusted input. The rate {@code N} is defined per name of
+ * the validation, i.e. the message or name passed to the validator method, and falls back to a
+ * default rate for all other names. A rate of 1 validates every call.
+ * <p>
+ * Each name has its own call counter. Counters are striped by thread and padded to separate cache
+ * lines, so concurrent callers do not contend on a shared counter. Counters are updated without
+ * synchronization; lost updates only shift the sampled calls slightly.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ * @see ArgumentValidatorBean#ArgumentValidatorBean(com.github.marandus.argval.enums.ExceptionMode, ValidationSampler)
+ */
+public final class ValidationSampler {
+
+    /**
+     * Maximum number of names with individual counters. Calls of further names without configured
+     * rate share a single counter.
+     */
+    private static final int MAX_COUNTERS = 1024;
+
+    private static final int STRIPES = stripes();
+    private static final int PADDING = 16;
+
+    private final Counter defaultCounter;
+    private final Map<String, Counter> configured;
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new sampler validating one in {@code rate} calls of every validation.
+     *
+     * @param rate Sampling rate, must be positive
+     */
+    public ValidationSampler(final int rate) {
+        this(rate, Collections.emptyMap());
+    }
+
+    /**
+     * Create a new sampler using the specified rates per validation name. Validations not listed in
+     * {@code rates} use {@code defaultRate}.
+     *
+     * @param defaultRate Sampling rate of validations not listed in {@code rates}, must be positive
+     * @param rates Sampling rates by name of validation, must be positive
+     */
+    public ValidationSampler(final int defaultRate, final Map<String, Integer> rates) {
+        if (rates == null) {
+            throw new IllegalArgumentException("NULL: ValidationSampler rates parameter");
+        }
+
+        this.defaultCounter = new Counter(checkRate(defaultRate));
+
+        final Map<String, Counter> map = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : rates.entrySet()) {
+            map.put(entry.getKey(), new Counter(checkRate(entry.getValue())));
+        }
+
+        this.configured = map;
+    }
+
+    /**
+     * Decide if the current call of the validation named {@code name} is to be performed.
+     *
+     * @param name Name of the validation
+     * @return True, if the validation is to be performed
+     */
+    public boolean sample(final String name) {
+        return this.counter(name).sample();
+    }
+
+    /**
+     * Get the sampling rate of the validation named {@code name}.
+     *
+     * @param name Name of the validation
+     * @return Sampling rate
+     */
+    public int getRate(final String name) {
+        final Counter counter = this.configured.get(name);
+        return (counter == null) ? this.defaultCounter.rate : counter.rate;
+    }
+
+    /**
+     * Get the counter of the validation named {@code name}. Counters of names without configured
+     * rate are created on first use.
+     *
+     * @param name Name of the validation
+     * @return Counter of the validation
+     */
+    private Counter counter(final String name) {
+        if (name == null) {
+            return this.defaultCounter;
+        }
+
+        final Counter counter = this.configured.get(name);
+        if (counter != null) {
+            return counter;
+        }
+
+        if (this.defaultCounter.rate == 1) {
+            return this.defaultCounter;
+        }
+
+        final Counter named = this.counters.get(name);
+        if (named != null) {
+            return named;
+        }
+
+        if (this.counters.size() >= MAX_COUNTERS) {
+            return this.defaultCounter;
+        }
+
+        return this.counters.computeIfAbsent(name, key -> new Counter(this.defaultCounter.rate));
+    }
+
+    private static int checkRate(final Integer rate) {
+        if (rate == null || rate < 1) {
+            throw new IllegalArgumentException("Non-positive ValidationSampler rate parameter: " + rate);
+        }
+
+        return rate;
+    }
+
+    /**
+     * Get the number of counter stripes, which is the number of available processors rounded up to
+     * the next power of two, but at most 64.
+     *
+     * @return Number of stripes
+     */
+    private static int stripes() {
+        final int cpus = Math.min(64, Runtime.getRuntime().availableProcessors());
+        return Integer.highestOneBit(Math.max(1, cpus - 1)) << 1;
+    }
+
+    /**
+     * Striped call counter of a single validation.
+     */
+    private static final class Counter {
+
+        private final int rate;
+        private final int[] counts;
+
+        Counter(final int rate) {
+            this.rate = rate;
+            this.counts = (rate == 1) ? null : new int[(STRIPES + 1) * PADDING];
+        }
+
+        /**
+         * Count a call and decide if it is to be validated. The first call on each stripe and every
+         * {@code rate}-th call after it are validated.
+         *
+         * @return True, if the call is to be validated
+         */
+        boolean sample() {
+            if (this.rate == 1) {
+                return true;
+            }
+
+            final long id = Thread.currentThread().getId();
+            final int index = ((int) (id ^ (id >>> 16)) & (STRIPES - 1)) * PADDING + PADDING;
+            final int count = this.counts[index];
+            this.counts[index] = (count + 1 >= this.rate) ? 0 : count + 1;
+
+            return (count == 0);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The length of the annotated parameter or field must be within {@link #min()} and {@link #max()}, both
+ * inclusive. The length of a string is defined by {@code String.length()}, the length of
+ * collections and maps by their {@code size()}. A null argument is rejected.
+ * <p>
+ * Applicable to parameters and fields of type {@link String}, {@link java.util.Collection}, and
+ * {@link java.util.Map}.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.PARAMETER, ElementType.FIELD})
+public @interface Length {
+
+    /**
+     * Minimum length, inclusive. Must not be negative.
+     *
+     * @return Minimum length
+     */
+    int min() default 0;
+
+    /**
+     * Maximum length, inclusive. Must not be less than {@link #min()}.
+     *
+     * @return Maximum length
+     */
+    int max() default Integer.MAX_VALUE;
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.enums;
+
+import com.github.marandus.argval.exceptions.StacklessIllegalArgumentException;
+
+/**
+ * Definition of the ways validators may raise exceptions for failed validations.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+public enum ExceptionMode {
+    /**
+     * Raise a regular IllegalArgumentException including the full stack trace.
+     */
+    STACK_TRACE {
+        @Override
+        public IllegalArgumentException createException(final String msg) {
+            return new IllegalArgumentException(msg);
+        }
+    },
+    /**
+     * Raise a {@link StacklessIllegalArgumentException}, which does not capture a stack trace.
+     */
+    STACKLESS {
+        @Override
+        public IllegalArgumentException createException(final String msg) {
+            return new StacklessIllegalArgumentException(msg);
+        }
+    };
+
+    /**
+     * Create the exception to be raised for a failed validation.
+     *
+     * @param msg Exception message
+     * @return New exception instance
+     *
+     * @since 0.3
+     */
+    public abstract IllegalArgumentException createException(final String msg);
+}
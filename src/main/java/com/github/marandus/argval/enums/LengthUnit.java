@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.enums;
+
+import lombok.Getter;
+
+/**
+ * Definition of the units in which the length of encoded text may be measured.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+public enum LengthUnit {
+    /**
+     * Number of bytes of the UTF-8 encoding. Unpaired surrogates count as one byte, since they are
+     * encoded as <tt>'?'</tt>.
+     */
+    UTF8_BYTES("bytes"),
+    /**
+     * Number of Unicode code points. Supplementary characters count as one code point.
+     */
+    CODE_POINTS("code points"),
+    /**
+     * Number of UTF-16 code units, i.e. the length of a String. Supplementary characters count as
+     * two units.
+     */
+    UTF16_UNITS("chars");
+
+    /**
+     * Representation of the unit in exception messages.
+     */
+    @Getter
+    private final String label;
+
+    /**
+     *
+     * @param label Representation of the unit in exception messages
+     */
+    private LengthUnit(final String label) {
+        this.label = label;
+    }
+}
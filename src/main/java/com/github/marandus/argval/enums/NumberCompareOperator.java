@@ -15,20 +15,178 @@
  */
 package com.github.marandus.argval.enums;
 
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 import lombok.Getter;
 
 /**
  * Definition of comparison operators available for number comparisons.
+ * <p>
+ * Each operator implements its comparisons in its own body, so a call on a known operator does
+ * not need to dispatch on the operator. Comparisons of {@code double} values follow the IEEE 754
+ * semantics of the Java comparison operators: if any operand is NaN, the result is false for every
+ * operator, including {@link #EQUAL}, and {@code -0.0} is equal to {@code 0.0}.
  *
  * @author Thomas Rix (thomasrix@exodus-project.net)
  * @since 0.1
  */
 public enum NumberCompareOperator {
-    EQUAL("=="),
-    GREATER(">"),
-    GREATER_EQUAL(">="),
-    LESS("<"),
-    LESS_EQUAL("<=");
+    EQUAL("==") {
+        @Override
+        public boolean doComparison(final int n1, final int n2) {
+            return (n1 == n2);
+        }
+
+        @Override
+        public boolean doComparison(final long n1, final long n2) {
+            return (n1 == n2);
+        }
+
+        @Override
+        public boolean doComparison(final double n1, final double n2) {
+            return (n1 == n2);
+        }
+
+        @Override
+        public IntPredicate bind(final int value) {
+            return n -> (n == value);
+        }
+
+        @Override
+        public LongPredicate bind(final long value) {
+            return n -> (n == value);
+        }
+
+        @Override
+        public DoublePredicate bind(final double value) {
+            return n -> (n == value);
+        }
+    },
+    GREATER(">") {
+        @Override
+        public boolean doComparison(final int n1, final int n2) {
+            return (n1 > n2);
+        }
+
+        @Override
+        public boolean doComparison(final long n1, final long n2) {
+            return (n1 > n2);
+        }
+
+        @Override
+        public boolean doComparison(final double n1, final double n2) {
+            return (n1 > n2);
+        }
+
+        @Override
+        public IntPredicate bind(final int value) {
+            return n -> (n > value);
+        }
+
+        @Override
+        public LongPredicate bind(final long value) {
+            return n -> (n > value);
+        }
+
+        @Override
+        public DoublePredicate bind(final double value) {
+            return n -> (n > value);
+        }
+    },
+    GREATER_EQUAL(">=") {
+        @Override
+        public boolean doComparison(final int n1, final int n2) {
+            return (n1 >= n2);
+        }
+
+        @Override
+        public boolean doComparison(final long n1, final long n2) {
+            return (n1 >= n2);
+        }
+
+        @Override
+        public boolean doComparison(final double n1, final double n2) {
+            return (n1 >= n2);
+        }
+
+        @Override
+        public IntPredicate bind(final int value) {
+            return n -> (n >= value);
+        }
+
+        @Override
+        public LongPredicate bind(final long value) {
+            return n -> (n >= value);
+        }
+
+        @Override
+        public DoublePredicate bind(final double value) {
+            return n -> (n >= value);
+        }
+    },
+    LESS("<") {
+        @Override
+        public boolean doComparison(final int n1, final int n2) {
+            return (n1 < n2);
+        }
+
+        @Override
+        public boolean doComparison(final long n1, final long n2) {
+            return (n1 < n2);
+        }
+
+        @Override
+        public boolean doComparison(final double n1, final double n2) {
+            return (n1 < n2);
+        }
+
+        @Override
+        public IntPredicate bind(final int value) {
+            return n -> (n < value);
+        }
+
+        @Override
+        public LongPredicate bind(final long value) {
+            return n -> (n < value);
+        }
+
+        @Override
+        public DoublePredicate bind(final double value) {
+            return n -> (n < value);
+        }
+    },
+    LESS_EQUAL("<=") {
+        @Override
+        public boolean doComparison(final int n1, final int n2) {
+            return (n1 <= n2);
+        }
+
+        @Override
+        public boolean doComparison(final long n1, final long n2) {
+            return (n1 <= n2);
+        }
+
+        @Override
+        public boolean doComparison(final double n1, final double n2) {
+            return (n1 <= n2);
+        }
+
+        @Override
+        public IntPredicate bind(final int value) {
+            return n -> (n <= value);
+        }
+
+        @Override
+        public LongPredicate bind(final long value) {
+            return n -> (n <= value);
+        }
+
+        @Override
+        public DoublePredicate bind(final double value) {
+            return n -> (n <= value);
+        }
+    };
 
     /**
      * String representation of operator.
@@ -44,6 +202,18 @@ public enum NumberCompareOperator {
         this.operator = op;
     }
 
+    /**
+     * Perform the compare operation defined by this operator on the two argument {@code n1} and
+     * {@code n2}.
+     *
+     * @param n1 Left hand side of comparison
+     * @param n2 Right hand side of comparison
+     * @return Result of comparison
+     *
+     * @since 0.3
+     */
+    public abstract boolean doComparison(final int n1, final int n2);
+
     /**
      * Perform the compare operation defined by this operator on the two argument {@code n1} and
      * {@code n2}.
@@ -54,20 +224,56 @@ public enum NumberCompareOperator {
      *
      * @since 0.2
      */
-    public boolean doComparison(long n1, long n2) {
-        switch (this) {
-            case EQUAL:
-                return (n1 == n2);
-            case GREATER:
-                return (n1 > n2);
-            case GREATER_EQUAL:
-                return (n1 >= n2);
-            case LESS:
-                return (n1 < n2);
-            case LESS_EQUAL:
-                return (n1 <= n2);
-            default:
-                throw new IllegalArgumentException("Unknown value of NumberCompare: " + this);
-        }
-    }
+    public abstract boolean doComparison(final long n1, final long n2);
+
+    /**
+     * Perform the compare operation defined by this operator on the two argument {@code n1} and
+     * {@code n2}. If any of the arguments is NaN, the result is false.
+     *
+     * @param n1 Left hand side of comparison
+     * @param n2 Right hand side of comparison
+     * @return Result of comparison
+     *
+     * @since 0.3
+     */
+    public abstract boolean doComparison(final double n1, final double n2);
+
+    /**
+     * Get a predicate performing the compare operation defined by this operator, using the tested
+     * number as left hand side and {@code value} as right hand side of the comparison. Each
+     * operator returns its own predicate implementation, so call sites holding such a predicate
+     * stay monomorphic.
+     *
+     * @param value Right hand side of comparison
+     * @return Predicate bound to this operator and {@code value}
+     *
+     * @since 0.3
+     */
+    public abstract IntPredicate bind(final int value);
+
+    /**
+     * Get a predicate performing the compare operation defined by this operator, using the tested
+     * number as left hand side and {@code value} as right hand side of the comparison. Each
+     * operator returns its own predicate implementation, so call sites holding such a predicate
+     * stay monomorphic.
+     *
+     * @param value Right hand side of comparison
+     * @return Predicate bound to this operator and {@code value}
+     *
+     * @since 0.3
+     */
+    public abstract LongPredicate bind(final long value);
+
+    /**
+     * Get a predicate performing the compare operation defined by this operator, using the tested
+     * number as left hand side and {@code value} as right hand side of the comparison. Each
+     * operator returns its own predicate implementation, so call sites holding such a predicate
+     * stay monomorphic. The predicate is false for NaN, as are all double comparisons.
+     *
+     * @param value Right hand side of comparison
+     * @return Predicate bound to this operator and {@code value}
+     *
+     * @since 0.3
+     */
+    public abstract DoublePredicate bind(final double value);
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.enums;
+
+import lombok.Getter;
+
+/**
+ * Definition of the ways the bounds of a number range may be interpreted.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+public enum NumberRangeMode {
+    /**
+     * Both bounds are part of the range: <tt>[lower, upper]</tt>
+     */
+    INCLUSIVE("[", "]") {
+        @Override
+        public boolean isInRange(final long n, final long lower, final long upper) {
+            return (n >= lower && n <= upper);
+        }
+
+        @Override
+        public boolean isInRange(final double n, final double lower, final double upper) {
+            return (n >= lower && n <= upper);
+        }
+
+        @Override
+        public boolean isEmpty(final long lower, final long upper) {
+            return (lower > upper);
+        }
+
+        @Override
+        public boolean isEmpty(final double lower, final double upper) {
+            return !(lower <= upper);
+        }
+    },
+    /**
+     * Neither bound is part of the range: <tt>(lower, upper)</tt>
+     */
+    EXCLUSIVE("(", ")") {
+        @Override
+        public boolean isInRange(final long n, final long lower, final long upper) {
+            return (n > lower && n < upper);
+        }
+
+        @Override
+        public boolean isInRange(final double n, final double lower, final double upper) {
+            return (n > lower && n < upper);
+        }
+
+        @Override
+        public boolean isEmpty(final long lower, final long upper) {
+            return (lower >= upper || lower == upper - 1L);
+        }
+
+        @Override
+        public boolean isEmpty(final double lower, final double upper) {
+            return !(Math.nextUp(lower) < upper);
+        }
+    },
+    /**
+     * Only the lower bound is part of the range: <tt>[lower, upper)</tt>
+     */
+    INCLUSIVE_EXCLUSIVE("[", ")") {
+        @Override
+        public boolean isInRange(final long n, final long lower, final long upper) {
+            return (n >= lower && n < upper);
+        }
+
+        @Override
+        public boolean isInRange(final double n, final double lower, final double upper) {
+            return (n >= lower && n < upper);
+        }
+
+        @Override
+        public boolean isEmpty(final long lower, final long upper) {
+            return (lower >= upper);
+        }
+
+        @Override
+        public boolean isEmpty(final double lower, final double upper) {
+            return !(lower < upper);
+        }
+    },
+    /**
+     * Only the upper bound is part of the range: <tt>(lower, upper]</tt>
+     */
+    EXCLUSIVE_INCLUSIVE("(", "]") {
+        @Override
+        public boolean isInRange(final long n, final long lower, final long upper) {
+            return (n > lower && n <= upper);
+        }
+
+        @Override
+        public boolean isInRange(final double n, final double lower, final double upper) {
+            return (n > lower && n <= upper);
+        }
+
+        @Override
+        public boolean isEmpty(final long lower, final long upper) {
+            return (lower >= upper);
+        }
+
+        @Override
+        public boolean isEmpty(final double lower, final double upper) {
+            return !(lower < upper);
+        }
+    };
+
+    /**
+     * String representation of the lower bound bracket.
+     */
+    @Getter
+    private final String lowerBracket;
+
+    /**
+     * String representation of the upper bound bracket.
+     */
+    @Getter
+    private final String upperBracket;
+
+    /**
+     *
+     * @param lowerBracket String representation of the lower bound bracket
+     * @param upperBracket String representation of the upper bound bracket
+     */
+    private NumberRangeMode(final String lowerBracket, final String upperBracket) {
+        this.lowerBracket = lowerBracket;
+        this.upperBracket = upperBracket;
+    }
+
+    /**
+     * Test {@code n} to be within the range defined by {@code lower}, {@code upper}, and this mode.
+     *
+     * @param n Value to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @return True, if {@code n} is within the range
+     *
+     * @since 0.3
+     */
+    public abstract boolean isInRange(final long n, final long lower, final long upper);
+
+    /**
+     * Test {@code n} to be within the range defined by {@code lower}, {@code upper}, and this mode.
+     * A NaN value is never within a range.
+     *
+     * @param n Value to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @return True, if {@code n} is within the range
+     *
+     * @since 0.3
+     */
+    public abstract boolean isInRange(final double n, final double lower, final double upper);
+
+    /**
+     * Test the range defined by {@code lower}, {@code upper}, and this mode to contain no value at
+     * all, e.g. <tt>(5, 5)</tt> or <tt>(5, 6)</tt> for integral bounds.
+     *
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @return True, if no value is within the range
+     *
+     * @since 0.3
+     */
+    public abstract boolean isEmpty(final long lower, final long upper);
+
+    /**
+     * Test the range defined by {@code lower}, {@code upper}, and this mode to contain no value at
+     * all. A range with a NaN bound is always empty.
+     *
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @return True, if no value is within the range
+     *
+     * @since 0.3
+     */
+    public abstract boolean isEmpty(final double lower, final double upper);
+
+    /**
+     * Get the string representation of a range using this mode, e.g. <tt>[1, 10)</tt>.
+     *
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @return String representation of the range
+     *
+     * @since 0.3
+     */
+    public String format(final Object lower, final Object upper) {
+        return this.lowerBracket + lower + ", " + upper + this.upperBracket;
+    }
+}
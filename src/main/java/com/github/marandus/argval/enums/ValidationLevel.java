@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.enums;
+
+/**
+ * Definition of the extent to which the static {@link com.github.marandus.argval.ArgumentValidator}
+ * performs validations. The level is read once when the class is initialized, so disabled checks
+ * are removed entirely by the JIT compiler.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+public enum ValidationLevel {
+    /**
+     * Skip all validations.
+     */
+    OFF,
+    /**
+     * Perform validations whose cost does not depend on the size of the argument. Validations
+     * which scan elements, such as
+     * {@link com.github.marandus.argval.ArgumentValidator#requireAll(int[], int, NumberCompareOperator, String) requireAll()},
+     * are skipped.
+     */
+    CHEAP,
+    /**
+     * Perform all validations.
+     */
+    FULL;
+
+    /**
+     * Test if validations of the specified level are performed at this level.
+     *
+     * @param level Level of a validation
+     * @return True, if validations of {@code level} are enabled
+     *
+     * @since 0.3
+     */
+    public boolean isEnabled(final ValidationLevel level) {
+        return (level != OFF && this.ordinal() >= level.ordinal());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.exceptions;
+
+/**
+ * IllegalArgumentException raised by the validators when they are operated in
+ * {@link com.github.marandus.argval.enums.ExceptionMode#STACKLESS STACKLESS} mode. The exception
+ * does not capture a stack trace and ignores attempts to set one, which makes creating and throwing
+ * it considerably cheaper. The exception message is identical to the one of a regular validation
+ * failure.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+public class StacklessIllegalArgumentException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Create a new exception instance.
+     *
+     * @param msg Exception message
+     */
+    public StacklessIllegalArgumentException(final String msg) {
+        super(msg);
+    }
+
+    /**
+     * Does not capture the current stack.
+     *
+     * @return This exception instance
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    /**
+     * Ignores the specified stack trace, the stack trace of this exception is not writable.
+     *
+     * @param stackTrace Ignored
+     */
+    @Override
+    public void setStackTrace(final StackTraceElement[] stackTrace) {
+
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.metrics;
+
+import lombok.Getter;
+
+/**
+ * Immutable number of hits and misses of a single cache, as counted by
+ * {@link LongAdderValidationMetrics}.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+public final class CacheStatistics {
+
+    /**
+     * Name of the cache.
+     */
+    @Getter
+    private final String cache;
+
+    /**
+     * Number of lookups which have found a cached entry.
+     */
+    @Getter
+    private final long hits;
+
+    /**
+     * Number of lookups which have not found a cached entry.
+     */
+    @Getter
+    private final long misses;
+
+    /**
+     * @param cache Name of the cache
+     * @param hits Number of hits
+     * @param misses Number of misses
+     */
+    CacheStatistics(final String cache, final long hits, final long misses) {
+        this.cache = cache;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    /**
+     * Get the share of lookups which have found a cached entry.
+     *
+     * @return Hit rate between 0 and 1, or 0 if there have been no lookups
+     */
+    public double getHitRate() {
+        final long lookups = this.hits + this.misses;
+        return (lookups == 0L) ? 0d : (double) this.hits / lookups;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String toString() {
+        return "CacheStatistics[" + this.cache + ": hits=" + this.hits + ", misses=" + this.misses + "]";
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reference implementation of the {@link ValidationMetrics} interface. Checks and failures are
+ * counted in {@link LongAdder} instances, so concurrent validations do not contend on shared
+ * counters.
+ * <p>
+ * By default, checks are counted per rule only, since names are free-form and may be built from
+ * argument values. Counting per name is enabled by a bound on the number of distinct names. Checks
+ * of names beyond the bound, and checks whose name has been passed as Supplier, are counted under
+ * the empty name of their rule. Counters are created on first use and never removed.
+ * <p>
+ * Cache lookups are counted per cache, see {@link #cacheSnapshot()}.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+public class LongAdderValidationMetrics implements ValidationMetrics {
+
+    private final int maxNames;
+    private final AtomicInteger nameCount = new AtomicInteger();
+    private final ConcurrentMap<String, ConcurrentMap<String, Counters>> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counters> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new instance counting checks per rule only.
+     */
+    public LongAdderValidationMetrics() {
+        this(0);
+    }
+
+    /**
+     * Create a new instance counting checks per rule and name, for up to {@code maxNames}
+     * combinations of rule and name in total. Names are admitted in the order of their first check.
+     *
+     * @param maxNames Maximum number of names counted separately, 0 to count per rule only
+     */
+    public LongAdderValidationMetrics(final int maxNames) {
+        if (maxNames < 0) {
+            throw new IllegalArgumentException("Negative LongAdderValidationMetrics() maxNames parameter");
+        }
+
+        this.maxNames = maxNames;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void record(final String rule, final String name, final boolean passed) {
+        final Counters counter = this.counters(rule, name);
+
+        counter.checks.increment();
+        if (!passed) {
+            counter.failures.increment();
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void recordCacheLookup(final String cache, final boolean hit) {
+        Counters counter = this.caches.get(cache);
+        if (counter == null) {
+            counter = this.caches.computeIfAbsent(cache, key -> new Counters());
+        }
+
+        // Checks count the lookups and failures the misses of the cache
+        counter.checks.increment();
+        if (!hit) {
+            counter.failures.increment();
+        }
+    }
+
+    /**
+     * Get the current number of checks and failures of all rules and names recorded so far. The
+     * counters are read one after another while validations may still be running, so the snapshot
+     * is not atomic.
+     *
+     * @return Statistics of all rules and names
+     */
+    public List<ValidationStatistics> snapshot() {
+        final List<ValidationStatistics> list = new ArrayList<>();
+        for (Map.Entry<String, ConcurrentMap<String, Counters>> rule : this.counters.entrySet()) {
+            for (Map.Entry<String, Counters> name : rule.getValue().entrySet()) {
+                final Counters counter = name.getValue();
+                final long failures = counter.failures.sum();
+                final long checks = Math.max(failures, counter.checks.sum());
+                list.add(new ValidationStatistics(rule.getKey(), name.getKey(), checks, failures));
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Get the current number of hits and misses of all caches recorded so far. Like
+     * {@link #snapshot()}, the snapshot is not atomic.
+     *
+     * @return Statistics of all caches
+     */
+    public List<CacheStatistics> cacheSnapshot() {
+        final List<CacheStatistics> list = new ArrayList<>();
+        for (Map.Entry<String, Counters> cache : this.caches.entrySet()) {
+            final Counters counter = cache.getValue();
+            final long misses = counter.failures.sum();
+            final long lookups = Math.max(misses, counter.checks.sum());
+            list.add(new CacheStatistics(cache.getKey(), lookups - misses, misses));
+        }
+
+        return list;
+    }
+
+    /**
+     * Reset all counters to zero.
+     */
+    public void reset() {
+        for (ConcurrentMap<String, Counters> names : this.counters.values()) {
+            for (Counters counter : names.values()) {
+                counter.checks.reset();
+                counter.failures.reset();
+            }
+        }
+        for (Counters counter : this.caches.values()) {
+            counter.checks.reset();
+            counter.failures.reset();
+        }
+    }
+
+    /**
+     * Get the counters of {@code rule} and {@code name}, creating them on first use. The counters
+     * of the empty name are returned if names are not counted, or the bound has been reached.
+     *
+     * @param rule Name of the validator method
+     * @param name Message or name passed to the validator method, may be null
+     * @return Counters of the rule and name
+     */
+    private Counters counters(final String rule, final String name) {
+        ConcurrentMap<String, Counters> names = this.counters.get(rule);
+        if (names == null) {
+            names = this.counters.computeIfAbsent(rule, key -> new ConcurrentHashMap<>());
+        }
+
+        if (this.maxNames > 0 && name != null && !name.isEmpty()) {
+            final Counters counter = names.get(name);
+            if (counter != null) {
+                return counter;
+            }
+
+            // The mapping function returns null once the bound has been reached, which adds no entry
+            final Counters created = names.computeIfAbsent(name, key -> this.admitName() ? new Counters() : null);
+            if (created != null) {
+                return created;
+            }
+        }
+
+        final Counters counter = names.get("");
+        return (counter != null) ? counter : names.computeIfAbsent("", key -> new Counters());
+    }
+
+    /**
+     * Count a new name against the bound.
+     *
+     * @return True, if the name may be counted separately
+     */
+    private boolean admitName() {
+        int count;
+        do {
+            count = this.nameCount.get();
+            if (count >= this.maxNames) {
+                return false;
+            }
+        }
+        while (!this.nameCount.compareAndSet(count, count + 1));
+
+        return true;
+    }
+
+    /**
+     * Counters of a single rule and name, or of a single cache.
+     */
+    private static final class Counters {
+
+        private final LongAdder checks = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+    }
+}
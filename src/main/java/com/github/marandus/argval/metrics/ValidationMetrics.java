@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.metrics;
+
+/**
+ * Service provider interface of a sink receiving the outcome of every check performed by the
+ * reference validator implementations. Implementations must be thread-safe and should return
+ * quickly, since they are called on the path of every validation.
+ * <p>
+ * Validators without a metrics sink do not report anything. The static
+ * {@link com.github.marandus.argval.ArgumentValidator} uses the first implementation registered
+ * for the {@link java.util.ServiceLoader}, if any.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ * @see LongAdderValidationMetrics
+ */
+public interface ValidationMetrics {
+
+    /**
+     * Record the outcome of a single check.
+     *
+     * @param rule Name of the validator method, e.g. <tt>requireNonBlank</tt>
+     * @param name Message or name passed to the validator method, or null if it has been passed as
+     * Supplier
+     * @param passed True, if the check has passed
+     */
+    public void record(final String rule, final String name, final boolean passed);
+
+    /**
+     * Record a single lookup in a cache of a validator, such as the pattern cache of
+     * {@link com.github.marandus.argval.validator.StringArgumentValidatorImpl}. Lookups are not
+     * checks, so they are reported separately. The default implementation ignores them.
+     *
+     * @param cache Name of the cache, e.g. <tt>pattern</tt>
+     * @param hit True, if the lookup has found a cached entry
+     */
+    public default void recordCacheLookup(final String cache, final boolean hit) {
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.metrics;
+
+import lombok.Getter;
+
+/**
+ * Immutable number of checks and failures of a single rule and name, as counted by
+ * {@link LongAdderValidationMetrics}.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+public final class ValidationStatistics {
+
+    /**
+     * Name of the validator method.
+     */
+    @Getter
+    private final String rule;
+
+    /**
+     * Message or name passed to the validator method, or the empty string for checks not counted
+     * per name.
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * Number of checks performed, including failed checks.
+     */
+    @Getter
+    private final long checks;
+
+    /**
+     * Number of failed checks.
+     */
+    @Getter
+    private final long failures;
+
+    /**
+     * @param rule Name of the validator method
+     * @param name Message or name passed to the validator method
+     * @param checks Number of checks performed
+     * @param failures Number of failed checks
+     */
+    ValidationStatistics(final String rule, final String name, final long checks, final long failures) {
+        this.rule = rule;
+        this.name = name;
+        this.checks = checks;
+        this.failures = failures;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String toString() {
+        return "ValidationStatistics[" + this.rule + "(" + this.name + "): checks=" + this.checks + ", failures=" + this.failures + "]";
+    }
+}
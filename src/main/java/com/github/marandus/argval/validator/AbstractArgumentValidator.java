@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import com.github.marandus.argval.enums.ExceptionMode;
+import com.github.marandus.argval.metrics.ValidationMetrics;
+
+/**
+ * Common base of the reference validator implementations.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+abstract class AbstractArgumentValidator {
+
+    private final ExceptionMode exceptionMode;
+    private final ValidationMetrics metrics;
+
+    /**
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     * @param metrics Sink receiving the outcome of all checks, may be null
+     */
+    protected AbstractArgumentValidator(final ExceptionMode exceptionMode, final ValidationMetrics metrics) {
+        if (exceptionMode == null) {
+            throw new IllegalArgumentException("NULL: exceptionMode parameter");
+        }
+
+        this.exceptionMode = exceptionMode;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get the mode used to create exceptions for failed validations.
+     *
+     * @return Exception mode of this validator
+     */
+    public ExceptionMode getExceptionMode() {
+        return this.exceptionMode;
+    }
+
+    /**
+     * Get the sink receiving the outcome of all checks.
+     *
+     * @return Metrics sink of this validator, or null if checks are not reported
+     */
+    public ValidationMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Report a passed check to the metrics sink, if any.
+     *
+     * @param rule Name of the validator method
+     * @param name Message or name passed to the validator method, null if passed as Supplier
+     */
+    protected void passed(final String rule, final String name) {
+        if (this.metrics != null) {
+            this.metrics.record(rule, name, true);
+        }
+    }
+
+    /**
+     * Report a failed check to the metrics sink, if any, emit a {@link ValidationFailureEvent}, if
+     * enabled, and create the exception to be raised.
+     *
+     * @param rule Name of the validator method
+     * @param name Message or name passed to the validator method, null if passed as Supplier
+     * @param msg Exception message
+     * @return New exception instance
+     */
+    protected IllegalArgumentException violation(final String rule, final String name, final String msg) {
+        if (this.metrics != null) {
+            this.metrics.record(rule, name, false);
+        }
+
+        ValidationEvents.failure(rule, name, msg);
+        return this.exceptionMode.createException(msg);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import java.util.function.IntPredicate;
+import lombok.Getter;
+
+/**
+ * Set of characters to be used with the requireCharsIn() methods of
+ * {@link StringArgumentValidator}. Membership of ASCII characters is looked up in a precomputed
+ * 128 bit bitmap held in two {@code long} values. Characters outside the ASCII range are tested by
+ * an optional predicate on their code point, and are not members if no predicate is given.
+ * Instances are immutable and thread-safe.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+public final class CharClass {
+
+    /**
+     * All ASCII characters, <tt>U+0000</tt> to <tt>U+007F</tt>.
+     */
+    public static final CharClass ASCII = new CharClass("ascii", -1L, -1L, null);
+
+    /**
+     * ASCII letters and digits: <tt>[A-Za-z0-9]</tt>
+     */
+    public static final CharClass ALPHANUMERIC = new CharClass("alphanumeric", range('A', 'Z') + range('a', 'z') + range('0', '9'));
+
+    /**
+     * Hexadecimal digits of either case: <tt>[0-9A-Fa-f]</tt>
+     */
+    public static final CharClass HEX = new CharClass("hex", range('0', '9') + range('A', 'F') + range('a', 'f'));
+
+    /**
+     * Alphabet of the Base64 encoding as defined by RFC 4648, excluding the padding character:
+     * <tt>[A-Za-z0-9+/]</tt>
+     */
+    public static final CharClass BASE64 = new CharClass("base64", range('A', 'Z') + range('a', 'z') + range('0', '9') + "+/");
+
+    /**
+     * Alphabet of the URL and filename safe Base64 encoding as defined by RFC 4648, excluding the
+     * padding character: <tt>[A-Za-z0-9_-]</tt>
+     */
+    public static final CharClass BASE64_URL = new CharClass("base64url", range('A', 'Z') + range('a', 'z') + range('0', '9') + "-_");
+
+    /**
+     * Name of the class used in exception messages.
+     */
+    @Getter
+    private final String name;
+
+    private final long low;
+    private final long high;
+    private final IntPredicate nonAscii;
+
+    /**
+     * Create a new class of ASCII characters.
+     *
+     * @param name Name of the class used in exception messages
+     * @param chars Members of the class, all of which must be ASCII characters
+     */
+    public CharClass(final String name, final CharSequence chars) {
+        this(name, chars, null);
+    }
+
+    /**
+     * Create a new class of the specified ASCII characters and all non-ASCII characters accepted
+     * by {@code nonAscii}.
+     *
+     * @param name Name of the class used in exception messages
+     * @param chars ASCII members of the class
+     * @param nonAscii Predicate on the code point of non-ASCII characters, or null to accept none
+     */
+    public CharClass(final String name, final CharSequence chars, final IntPredicate nonAscii) {
+        this(name, bitmap(chars, 0), bitmap(chars, 64), nonAscii);
+    }
+
+    private CharClass(final String name, final long low, final long high, final IntPredicate nonAscii) {
+        if (name == null) {
+            throw new IllegalArgumentException("NULL: CharClass() name parameter");
+        }
+
+        this.name = name;
+        this.low = low;
+        this.high = high;
+        this.nonAscii = nonAscii;
+    }
+
+    /**
+     * Test if the code point {@code c} is a member of this class.
+     *
+     * @param c Code point to test
+     * @return True, if {@code c} is a member
+     */
+    public boolean contains(final int c) {
+        if (c < 64) {
+            return c >= 0 && (this.low & (1L << c)) != 0;
+        }
+        else if (c < 128) {
+            return (this.high & (1L << c)) != 0;
+        }
+
+        return this.nonAscii != null && this.nonAscii.test(c);
+    }
+
+    /**
+     * Find the first character of {@code arg} which is not a member of this class. Surrogate pairs
+     * are tested as one code point.
+     *
+     * @param arg Character sequence to test
+     * @return Index of the first character which is not a member, or -1
+     */
+    public int indexNotIn(final CharSequence arg) {
+        return this.indexNotIn(arg, 0, arg.length());
+    }
+
+    /**
+     * Find the first character of {@code arg} from index {@code start} to index {@code end - 1}
+     * which is not a member of this class. Surrogate pairs are tested as one code point.
+     *
+     * @param arg Character sequence to test
+     * @param start Index of the first character to test
+     * @param end Index after the last character to test
+     * @return Index of the first character which is not a member, or -1
+     */
+    public int indexNotIn(final CharSequence arg, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = arg.charAt(i);
+            if (c < 128) {
+                final long bits = (c < 64) ? this.low : this.high;
+                if ((bits & (1L << c)) == 0) {
+                    return i;
+                }
+                continue;
+            }
+
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(arg.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(c, arg.charAt(i + 1));
+            }
+
+            if (this.nonAscii == null || !this.nonAscii.test(codePoint)) {
+                return i;
+            }
+            else if (codePoint > Character.MAX_VALUE) {
+                i++;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * Compute one half of the bitmap of {@code chars}.
+     *
+     * @param chars Members of the class
+     * @param base First character of the half, either 0 or 64
+     * @return Bitmap of the characters from {@code base} to {@code base + 63}
+     */
+    private static long bitmap(final CharSequence chars, final int base) {
+        if (chars == null) {
+            throw new IllegalArgumentException("NULL: CharClass() chars parameter");
+        }
+
+        long bits = 0L;
+        for (int i = 0; i < chars.length(); i++) {
+            final char c = chars.charAt(i);
+            if (c >= 128) {
+                throw new IllegalArgumentException("Non-ASCII character in CharClass() chars parameter: " + c);
+            }
+            else if (c >= base && c < base + 64) {
+                bits |= 1L << c;
+            }
+        }
+
+        return bits;
+    }
+
+    private static String range(final char first, final char last) {
+        final StringBuilder sb = new StringBuilder();
+        for (char c = first; c <= last; c++) {
+            sb.append(c);
+        }
+
+        return sb.toString();
+    }
+}
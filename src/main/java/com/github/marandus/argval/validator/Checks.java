@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.enums.NumberRangeMode;
+import java.util.Collection;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Checks shared by the reference validator implementations and {@link ValidationContext}. Both
+ * call these methods instead of repeating the checks, so that they accept the same arguments and
+ * reject the same usage errors.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+@Slf4j
+final class Checks {
+
+    /**
+     * Private constructor, static only class
+     */
+    private Checks() {
+
+    }
+
+    /**
+     * Test {@code arg} to be null, empty, or whitespace only.
+     *
+     * @param arg Character sequence to test
+     * @return True, if {@code arg} is blank
+     */
+    static boolean isBlank(final CharSequence arg) {
+        return StringUtils.isBlank(arg);
+    }
+
+    /**
+     * Validate the reference length passed to a requireLength() method.
+     *
+     * @param len Value to be used as reference in comparison
+     * @param method Signature of the validation method used in the exception message
+     */
+    static void checkLength(final int len, final String method) {
+        if (len < 0) {
+            throw new IllegalArgumentException("Negative " + method + " length parameter");
+        }
+    }
+
+    /**
+     * Validate the reference length and operator passed to a requireLength() method for character
+     * sequences. Testing for a length equal to zero is logged, since requireNonBlank() is most
+     * likely meant.
+     *
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     */
+    static void checkStringLength(final int len, final NumberCompareOperator comp) {
+        checkLength(len, "requireLength()");
+
+        if (len == 0 && comp == NumberCompareOperator.EQUAL) {
+            log.warn("Called requireLength() with length=0 and operator=EQUAL. You should use requireNonBlank() instead.");
+        }
+    }
+
+    /**
+     * Validate the range passed to a requireInRange() method. Empty ranges are rejected, since no
+     * argument could ever pass.
+     *
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param method Signature of the validation method used in the exception message
+     */
+    static void checkRange(final long lower, final long upper, final NumberRangeMode mode, final String method) {
+        if (mode.isEmpty(lower, upper)) {
+            throw new IllegalArgumentException("Invalid " + method + " range: " + mode.format(lower, upper));
+        }
+    }
+
+    /**
+     * Validate the range passed to a requireInRange() method, see
+     * {@link #checkRange(long, long, NumberRangeMode, String)}.
+     *
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param method Signature of the validation method used in the exception message
+     */
+    static void checkRange(final double lower, final double upper, final NumberRangeMode mode, final String method) {
+        if (mode.isEmpty(lower, upper)) {
+            throw new IllegalArgumentException("Invalid " + method + " range: " + mode.format(lower, upper));
+        }
+    }
+
+    /**
+     * Get the representation of a size in violation messages. A size which has been bounded while
+     * counting is represented as <tt>"&gt;" + len</tt>.
+     *
+     * @param arg Measured collection, map, or iterable
+     * @param size Size as returned by boundedSize()
+     * @param len Value used as reference in comparison
+     * @return Representation of the size
+     */
+    static Object describeSize(final Object arg, final int size, final int len) {
+        final boolean counted;
+        if (arg instanceof Collection) {
+            counted = !CollectionArgumentValidatorImpl.hasConstantTimeSize((Collection<?>) arg);
+        }
+        else if (arg instanceof Map) {
+            counted = !CollectionArgumentValidatorImpl.hasConstantTimeSize((Map<?, ?>) arg);
+        }
+        else {
+            counted = true;
+        }
+
+        return (counted && size > len) ? ">" + len : size;
+    }
+}
@@ -17,10 +17,21 @@ package com.github.marandus.argval.validator;
 
 import com.github.marandus.argval.enums.NumberCompareOperator;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Definition of methods available for Collection and Map argument validation.
+ * <p>
+ * Methods added in 0.3 are default methods, so implementations written against earlier versions
+ * keep working. The defaults of the variants taking a Supplier of the name obtain the name up front
+ * and call the variant taking the name. All other defaults throw an UnsupportedOperationException.
  *
  * @author Thomas Rix (thomasrix@exodus-project.net)
  * @since 0.1
@@ -43,6 +54,22 @@ public interface CollectionArgumentValidator {
      */
     public void requireNonEmpty(final Collection<?> arg, final String msg);
 
+    /**
+     * Test {@code arg} to be non-null and not empty. Works like
+     * {@link #requireNonEmpty(Collection, String)}, but the message is only obtained from
+     * {@code msg} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param msg Supplier of the message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is empty or null
+     *
+     * @since 0.3
+     */
+    public default void requireNonEmpty(final Collection<?> arg, final Supplier<String> msg) {
+        this.requireNonEmpty(arg, ViolationMessages.resolve(msg));
+    }
+
     /**
      * Test {@code arg} to be non-null and not empty. If the map is {@code null} or empty, an
      * IllegalArgumentException will be raised. The exception message will be constructed as
@@ -59,6 +86,22 @@ public interface CollectionArgumentValidator {
      */
     public void requireNonEmpty(final Map<?, ?> arg, final String msg);
 
+    /**
+     * Test {@code arg} to be non-null and not empty. Works like
+     * {@link #requireNonEmpty(Map<?, ?>, String)}, but the message is only obtained from
+     * {@code msg} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param msg Supplier of the message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is empty or null
+     *
+     * @since 0.3
+     */
+    public default void requireNonEmpty(final Map<?, ?> arg, final Supplier<String> msg) {
+        this.requireNonEmpty(arg, ViolationMessages.resolve(msg));
+    }
+
     /**
      * Test the size of {@code arg}, as defined by {@code Collection.size()}, against the provided
      * length using the specified compare operator. If the result of the comparison is false, an
@@ -79,6 +122,25 @@ public interface CollectionArgumentValidator {
      */
     public void requireLength(final Collection<?> arg, final int len, final NumberCompareOperator comp, final String name);
 
+    /**
+     * Test the size of {@code arg}, as defined by {@code Collection.size()}, against the provided
+     * length using the specified compare operator. Works like
+     * {@link #requireLength(Collection, int, NumberCompareOperator, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Collection to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public default void requireLength(final Collection<?> arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.requireLength(arg, len, comp, ViolationMessages.resolve(name));
+    }
+
     /**
      * Test the size of {@code arg}, as defined by {@code Map.size()}, against the provided length
      * using the specified compare operator. If the result of the comparison is false, an
@@ -98,4 +160,967 @@ public interface CollectionArgumentValidator {
      * @since 0.2
      */
     public void requireLength(final Map<?, ?> arg, final int len, final NumberCompareOperator comp, final String name);
+
+    /**
+     * Test the size of {@code arg}, as defined by {@code Map.size()}, against the provided length
+     * using the specified compare operator. Works like
+     * {@link #requireLength(Map<?, ?>, int, NumberCompareOperator, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Map to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public default void requireLength(final Map<?, ?> arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.requireLength(arg, len, comp, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test the number of elements of {@code arg} against the provided length using the specified
+     * compare operator. Elements are counted by iterating {@code arg}, but iteration stops as soon
+     * as the result of the comparison is known, that is after at most {@code len + 1} elements.
+     * Collections which provide their size in constant time are measured by {@code size()}. If the
+     * result of the comparison is false, an IllegalArgumentException will be raised. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Iterable size violation (" + name + "): Iterable(" + size + ") " + comp.getOperator() +
+     * " " + len</tt>
+     * <p>
+     * If counting has been stopped early, <tt>size</tt> is reported as <tt>"&gt;" + len</tt>.
+     *
+     * @param arg Iterable to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireLength(final Iterable<?> arg, final int len, final NumberCompareOperator comp, final String name) {
+        throw new UnsupportedOperationException("requireLength() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the number of elements of {@code arg} against the provided length using the specified
+     * compare operator. Works like
+     * {@link #requireLength(Iterable, int, NumberCompareOperator, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Iterable to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public default void requireLength(final Iterable<?> arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.requireLength(arg, len, comp, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test all elements of {@code arg} to pass {@code rule}. Collections with more elements than a
+     * threshold, {@code 8192} by default, are scanned in parallel on the common fork/join pool.
+     * Once an element has failed, all other tasks stop scanning. A parallel scan reports any
+     * failing element rather than the first one, and reports its index only if the spliterator of
+     * the collection is {@code SUBSIZED}, like those of arrays and array lists. If an element does
+     * not pass, an IllegalArgumentException will be raised. The exception message will be
+     * constructed as follows, where the index is omitted if unknown:
+     * <p>
+     * <tt>"Element violation (" + name + "[" + index + "]): " + element</tt>
+     *
+     * @param <T> Type of the elements
+     * @param arg Collection to test
+     * @param rule Rule every element must pass
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or any element does not pass,
+     * or if {@code rule} is null
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default <T> void requireAll(final Collection<T> arg, final Predicate<? super T> rule, final String name) {
+        throw new UnsupportedOperationException("requireAll() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test all elements of {@code arg} to pass {@code rule}. Works like
+     * {@link #requireAll(Collection, Predicate, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param <T> Type of the elements
+     * @param arg Collection to test
+     * @param rule Rule every element must pass
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or any element does not pass,
+     * or if {@code rule} is null
+     *
+     * @since 0.3
+     */
+    public default <T> void requireAll(final Collection<T> arg, final Predicate<? super T> rule, final Supplier<String> name) {
+        this.requireAll(arg, rule, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test all elements of {@code arg} using an existing validation method, e.g.
+     * {@code stringArgVal::requireNonBlank}. The method is called with every element and
+     * {@code name}, and an element fails if the method raises an IllegalArgumentException.
+     * Collections with more elements than a threshold, {@code 8192} by default, are scanned in
+     * parallel on the common fork/join pool. Once an element has failed, all other tasks stop
+     * scanning. A parallel scan reports any failing element rather than the first one, and reports
+     * its index only if the spliterator of the collection is {@code SUBSIZED}, like those of arrays
+     * and array lists. If an element does not pass, an IllegalArgumentException will be raised. The
+     * exception message will be constructed as follows, where the index is omitted if unknown:
+     * <p>
+     * <tt>"Element violation (" + name + "[" + index + "]): " + validatorMessage</tt>
+     * <p>
+     * There is no variant taking a Supplier of the name, since lambda expressions could not tell it
+     * apart from this method. To obtain the name lazily, use
+     * {@link #requireAll(Collection, Predicate, Supplier)}.
+     *
+     * @param <T> Type of the elements
+     * @param arg Collection to test
+     * @param validator Validation method every element must pass
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or any element does not pass,
+     * or if {@code validator} is null
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default <T> void requireAllValid(final Collection<T> arg, final BiConsumer<? super T, String> validator, final String name) {
+        throw new UnsupportedOperationException("requireAllValid() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Wrap {@code arg} into an iterator testing every element to pass {@code rule}, at the time it
+     * is returned by {@code next()}. The elements are neither traversed in advance nor buffered, so
+     * {@code arg} may be backed by a database cursor or a file too large to be held in memory. An
+     * element fails if {@code rule} returns false or raises an IllegalArgumentException. If an
+     * element does not pass, an IllegalArgumentException will be raised instead of handing it on.
+     * The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Element violation (" + name + "[" + index + "]): " + element</tt>
+     * <p>
+     * If {@code arg} has more than {@code maxElements} elements, an IllegalArgumentException will
+     * be raised instead of handing on the first excess element. The exception message will be
+     * constructed as follows:
+     * <p>
+     * <tt>"Iterator size violation (" + name + "): Iterator(>" + maxElements + ") &lt;= " + maxElements</tt>
+     *
+     * @param <T> Type of the elements
+     * @param arg Iterator to wrap
+     * @param rule Rule every element must pass
+     * @param maxElements Maximum number of elements
+     * @param name Name to be referenced in exception message
+     * @return Iterator handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument is null, if {@code rule} is null, or
+     * if {@code maxElements} is negative
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final long maxElements, final String name) {
+        throw new UnsupportedOperationException("validating() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Wrap {@code arg} into an iterator testing every element to pass {@code rule}. Works like
+     * {@link #validating(Iterator, Predicate, long, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param <T> Type of the elements
+     * @param arg Iterator to wrap
+     * @param rule Rule every element must pass
+     * @param maxElements Maximum number of elements
+     * @param name Supplier of the name to be referenced in exception message
+     * @return Iterator handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument is null, if {@code rule} is null, or
+     * if {@code maxElements} is negative
+     *
+     * @since 0.3
+     */
+    public default <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final long maxElements, final Supplier<String> name) {
+        return this.validating(arg, rule, maxElements, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Wrap {@code arg} into an iterator testing every element to pass {@code rule}. Works like
+     * {@link #validating(Iterator, Predicate, long, String)}, but does not limit the number of
+     * elements.
+     *
+     * @param <T> Type of the elements
+     * @param arg Iterator to wrap
+     * @param rule Rule every element must pass
+     * @param name Name to be referenced in exception message
+     * @return Iterator handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument or {@code rule} is null
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final String name) {
+        throw new UnsupportedOperationException("validating() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Wrap {@code arg} into an iterator testing every element to pass {@code rule}. Works like
+     * {@link #validating(Iterator, Predicate, long, String)}, but does not limit the number of
+     * elements, and the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param <T> Type of the elements
+     * @param arg Iterator to wrap
+     * @param rule Rule every element must pass
+     * @param name Supplier of the name to be referenced in exception message
+     * @return Iterator handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument or {@code rule} is null
+     *
+     * @since 0.3
+     */
+    public default <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final Supplier<String> name) {
+        return this.validating(arg, rule, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Wrap {@code arg} into a stream testing every element to pass {@code rule}, at the time it is
+     * consumed by the stream pipeline. The elements are neither traversed in advance nor buffered,
+     * so {@code arg} may be backed by a database cursor or a file too large to be held in memory.
+     * The returned stream is closed together with {@code arg}. Since elements are counted in
+     * encounter order, the validation does not split a parallel stream. An element fails if
+     * {@code rule} returns false or raises an IllegalArgumentException. If an element does not
+     * pass, an IllegalArgumentException will be raised instead of handing it on. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Element violation (" + name + "[" + index + "]): " + element</tt>
+     * <p>
+     * If {@code arg} has more than {@code maxElements} elements, an IllegalArgumentException will
+     * be raised instead of handing on the first excess element. The exception message will be
+     * constructed as follows:
+     * <p>
+     * <tt>"Stream size violation (" + name + "): Stream(>" + maxElements + ") &lt;= " + maxElements</tt>
+     *
+     * @param <T> Type of the elements
+     * @param arg Stream to wrap
+     * @param rule Rule every element must pass
+     * @param maxElements Maximum number of elements
+     * @param name Name to be referenced in exception message
+     * @return Stream handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument is null, if {@code rule} is null, or
+     * if {@code maxElements} is negative
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final long maxElements, final String name) {
+        throw new UnsupportedOperationException("validating() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Wrap {@code arg} into a stream testing every element to pass {@code rule}. Works like
+     * {@link #validating(Stream, Predicate, long, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param <T> Type of the elements
+     * @param arg Stream to wrap
+     * @param rule Rule every element must pass
+     * @param maxElements Maximum number of elements
+     * @param name Supplier of the name to be referenced in exception message
+     * @return Stream handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument is null, if {@code rule} is null, or
+     * if {@code maxElements} is negative
+     *
+     * @since 0.3
+     */
+    public default <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final long maxElements, final Supplier<String> name) {
+        return this.validating(arg, rule, maxElements, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Wrap {@code arg} into a stream testing every element to pass {@code rule}. Works like
+     * {@link #validating(Stream, Predicate, long, String)}, but does not limit the number of
+     * elements.
+     *
+     * @param <T> Type of the elements
+     * @param arg Stream to wrap
+     * @param rule Rule every element must pass
+     * @param name Name to be referenced in exception message
+     * @return Stream handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument or {@code rule} is null
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final String name) {
+        throw new UnsupportedOperationException("validating() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Wrap {@code arg} into a stream testing every element to pass {@code rule}. Works like
+     * {@link #validating(Stream, Predicate, long, String)}, but does not limit the number of
+     * elements, and the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param <T> Type of the elements
+     * @param arg Stream to wrap
+     * @param rule Rule every element must pass
+     * @param name Supplier of the name to be referenced in exception message
+     * @return Stream handing on the elements of {@code arg}
+     *
+     * @throws IllegalArgumentException if specified argument or {@code rule} is null
+     *
+     * @since 0.3
+     */
+    public default <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final Supplier<String> name) {
+        return this.validating(arg, rule, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test {@code arg} not to contain any element twice, according to {@code equals()}. Null
+     * elements are equal to each other. Sets are not scanned, since they cannot contain duplicates.
+     * Random access lists of up to {@code 16} elements are compared pairwise, other collections are
+     * inserted into a hash table, which does not traverse them in advance. The scan stops at the
+     * first duplicate. If an element equals a preceding element in iteration order, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>"Distinct violation (" + name + "[" + index + "]): " + element + " is not unique"</tt>
+     *
+     * @param arg Collection to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or any element is not unique
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireDistinct(final Collection<?> arg, final String name) {
+        throw new UnsupportedOperationException("requireDistinct() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test {@code arg} not to contain any element twice. Works like
+     * {@link #requireDistinct(Collection, String)}, but the name is only obtained from {@code name}
+     * if the validation fails.
+     *
+     * @param arg Collection to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or any element is not unique
+     *
+     * @since 0.3
+     */
+    public default void requireDistinct(final Collection<?> arg, final Supplier<String> name) {
+        this.requireDistinct(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test {@code arg} not to contain any value twice. The values are inserted into a hash table
+     * backed by a primitive array, so they are not boxed. Arrays of up to {@code 16} elements are
+     * compared pairwise without allocating a hash table. The scan stops at the first duplicate. If
+     * an element equals a preceding element, an IllegalArgumentException will be raised. The
+     * exception message will be constructed as follows:
+     * <p>
+     * <tt>"Distinct violation (" + name + "[" + index + "]): " + element + " is not unique"</tt>
+     *
+     * @param arg Array to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or has more than 2^29
+     * elements, or if any element is not unique
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireDistinct(final int[] arg, final String name) {
+        throw new UnsupportedOperationException("requireDistinct() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test {@code arg} not to contain any element twice. Works like
+     * {@link #requireDistinct(int[], String)}, but the name is only obtained from {@code name} if the
+     * validation fails.
+     *
+     * @param arg Array to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or has more than 2^29
+     * elements, or if any element is not unique
+     *
+     * @since 0.3
+     */
+    public default void requireDistinct(final int[] arg, final Supplier<String> name) {
+        this.requireDistinct(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test {@code arg} not to contain any value twice. The values are inserted into a hash table
+     * backed by a primitive array, so they are not boxed. Arrays of up to {@code 16} elements are
+     * compared pairwise without allocating a hash table. The scan stops at the first duplicate. If
+     * an element equals a preceding element, an IllegalArgumentException will be raised. The
+     * exception message will be constructed as follows:
+     * <p>
+     * <tt>"Distinct violation (" + name + "[" + index + "]): " + element + " is not unique"</tt>
+     *
+     * @param arg Array to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or has more than 2^29
+     * elements, or if any element is not unique
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireDistinct(final long[] arg, final String name) {
+        throw new UnsupportedOperationException("requireDistinct() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test {@code arg} not to contain any element twice. Works like
+     * {@link #requireDistinct(long[], String)}, but the name is only obtained from {@code name} if the
+     * validation fails.
+     *
+     * @param arg Array to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or has more than 2^29
+     * elements, or if any element is not unique
+     *
+     * @since 0.3
+     */
+    public default void requireDistinct(final long[] arg, final Supplier<String> name) {
+        this.requireDistinct(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test {@code arg} not to contain any string twice. Null elements are equal to each other.
+     * Arrays of up to {@code 16} elements are compared pairwise without allocating a hash table.
+     * The scan stops at the first duplicate. If an element equals a preceding element, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>"Distinct violation (" + name + "[" + index + "]): " + element + " is not unique"</tt>
+     *
+     * @param arg Array to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or has more than 2^29
+     * elements, or if any element is not unique
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireDistinct(final String[] arg, final String name) {
+        throw new UnsupportedOperationException("requireDistinct() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test {@code arg} not to contain any element twice. Works like
+     * {@link #requireDistinct(String[], String)}, but the name is only obtained from {@code name}
+     * if the validation fails.
+     *
+     * @param arg Array to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or has more than 2^29
+     * elements, or if any element is not unique
+     *
+     * @since 0.3
+     */
+    public default void requireDistinct(final String[] arg, final Supplier<String> name) {
+        this.requireDistinct(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}. For example,
+     * {@code LESS} requires strictly increasing and {@code GREATER_EQUAL} non-increasing elements.
+     * The array is tested in a single forward pass, block by block, which allows the JIT compiler
+     * to vectorize the comparisons. If an element is out of order, an IllegalArgumentException will
+     * be raised for the first of these elements. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>"Order violation (" + name + "[" + index + "]): " + arg[index - 1] + " " +
+     * comp.getOperator() + " " + arg[index]</tt>
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireSorted(final int[] arg, final NumberCompareOperator comp, final String name) {
+        throw new UnsupportedOperationException("requireSorted() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}. Works like
+     * {@link #requireSorted(int[], NumberCompareOperator, String)}, but the name is only obtained
+     * from {@code name} if the validation fails.
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     *
+     * @since 0.3
+     */
+    public default void requireSorted(final int[] arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.requireSorted(arg, comp, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}. For example,
+     * {@code LESS} requires strictly increasing and {@code GREATER_EQUAL} non-increasing elements.
+     * The array is tested in a single forward pass, block by block, which allows the JIT compiler
+     * to vectorize the comparisons. If an element is out of order, an IllegalArgumentException will
+     * be raised for the first of these elements. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>"Order violation (" + name + "[" + index + "]): " + arg[index - 1] + " " +
+     * comp.getOperator() + " " + arg[index]</tt>
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireSorted(final long[] arg, final NumberCompareOperator comp, final String name) {
+        throw new UnsupportedOperationException("requireSorted() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}. Works like
+     * {@link #requireSorted(long[], NumberCompareOperator, String)}, but the name is only obtained
+     * from {@code name} if the validation fails.
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     *
+     * @since 0.3
+     */
+    public default void requireSorted(final long[] arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.requireSorted(arg, comp, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}. For example,
+     * {@code LESS} requires strictly increasing and {@code GREATER_EQUAL} non-increasing elements.
+     * The array is tested in a single forward pass, block by block, which allows the JIT compiler
+     * to vectorize the comparisons. Since all comparisons involving NaN are false, arrays of two or
+     * more elements containing NaN are never in order. If an element is out of order, an
+     * IllegalArgumentException will be raised for the first of these elements. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Order violation (" + name + "[" + index + "]): " + arg[index - 1] + " " +
+     * comp.getOperator() + " " + arg[index]</tt>
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireSorted(final double[] arg, final NumberCompareOperator comp, final String name) {
+        throw new UnsupportedOperationException("requireSorted() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}. Works like
+     * {@link #requireSorted(double[], NumberCompareOperator, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     *
+     * @since 0.3
+     */
+    public default void requireSorted(final double[] arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.requireSorted(arg, comp, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}, applied to the
+     * result of {@code compareTo()} and zero. For example, {@code LESS} requires strictly
+     * increasing and {@code GREATER_EQUAL} non-increasing elements. The list is traversed once by
+     * its iterator. Null elements cannot be compared, so lists of two or more elements containing
+     * null are never in order. If an element is out of order, an IllegalArgumentException will be
+     * raised for the first of these elements. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Order violation (" + name + "[" + index + "]): " + arg.get(index - 1) + " " +
+     * comp.getOperator() + " " + arg.get(index)</tt>
+     *
+     * @param <T> Type of the elements
+     * @param arg List to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default <T extends Comparable<? super T>> void requireSorted(final List<T> arg, final NumberCompareOperator comp, final String name) {
+        throw new UnsupportedOperationException("requireSorted() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test every element of {@code arg} and its successor to satisfy {@code comp}. Works like
+     * {@link #requireSorted(List, NumberCompareOperator, String)}, but the name is only obtained
+     * from {@code name} if the validation fails.
+     *
+     * @param <T> Type of the elements
+     * @param arg List to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument or {@code comp} is null, or if any
+     * element is out of order
+     *
+     * @since 0.3
+     */
+    public default <T extends Comparable<? super T>> void requireSorted(final List<T> arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.requireSorted(arg, comp, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(int[], NumberCompareOperator, String)} with the operator {@code LESS}.
+     *
+     * @param arg Array to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireStrictlyIncreasing(final int[] arg, final String name) {
+        throw new UnsupportedOperationException("requireStrictlyIncreasing() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(int[], NumberCompareOperator, String)} with the operator {@code LESS},
+     * but the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Array to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     *
+     * @since 0.3
+     */
+    public default void requireStrictlyIncreasing(final int[] arg, final Supplier<String> name) {
+        this.requireStrictlyIncreasing(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(long[], NumberCompareOperator, String)} with the operator {@code LESS}.
+     *
+     * @param arg Array to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireStrictlyIncreasing(final long[] arg, final String name) {
+        throw new UnsupportedOperationException("requireStrictlyIncreasing() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(long[], NumberCompareOperator, String)} with the operator {@code LESS},
+     * but the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Array to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     *
+     * @since 0.3
+     */
+    public default void requireStrictlyIncreasing(final long[] arg, final Supplier<String> name) {
+        this.requireStrictlyIncreasing(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(double[], NumberCompareOperator, String)} with the operator
+     * {@code LESS}.
+     *
+     * @param arg Array to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireStrictlyIncreasing(final double[] arg, final String name) {
+        throw new UnsupportedOperationException("requireStrictlyIncreasing() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(double[], NumberCompareOperator, String)} with the operator
+     * {@code LESS}, but the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Array to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     *
+     * @since 0.3
+     */
+    public default void requireStrictlyIncreasing(final double[] arg, final Supplier<String> name) {
+        this.requireStrictlyIncreasing(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(List, NumberCompareOperator, String)} with the operator {@code LESS}.
+     *
+     * @param <T> Type of the elements
+     * @param arg List to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default <T extends Comparable<? super T>> void requireStrictlyIncreasing(final List<T> arg, final String name) {
+        throw new UnsupportedOperationException("requireStrictlyIncreasing() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the elements of {@code arg} to be strictly increasing. Works like
+     * {@link #requireSorted(List, NumberCompareOperator, String)} with the operator {@code LESS},
+     * but the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param <T> Type of the elements
+     * @param arg List to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or if any element is not
+     * greater than its predecessor
+     *
+     * @since 0.3
+     */
+    public default <T extends Comparable<? super T>> void requireStrictlyIncreasing(final List<T> arg, final Supplier<String> name) {
+        this.requireStrictlyIncreasing(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test {@code arg} not to contain any null element. Collections which do not permit null
+     * elements are not scanned, such as the views of ConcurrentHashMap, concurrent and blocking
+     * queues, ArrayDeque, EnumSet, or the immutable collections created by {@code List.of()} and
+     * {@code Set.of()}. Lists are searched by {@code indexOf(null)}, other collections are asked
+     * {@code contains(null)} first, which takes constant time for hash sets. If the collection
+     * contains null, an IllegalArgumentException will be raised for the first null element. The
+     * exception message will be constructed as follows:
+     * <p>
+     * <tt>"NULL: " + name + "[" + index + "]"</tt>
+     *
+     * @param arg Collection to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains a null element
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireNoNullElements(final Collection<?> arg, final String name) {
+        throw new UnsupportedOperationException("requireNoNullElements() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test {@code arg} not to contain any null element. Works like
+     * {@link #requireNoNullElements(Collection, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param arg Collection to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains a null element
+     *
+     * @since 0.3
+     */
+    public default void requireNoNullElements(final Collection<?> arg, final Supplier<String> name) {
+        this.requireNoNullElements(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test {@code arg} not to contain a null key. Maps which do not permit null keys are not
+     * scanned, such as ConcurrentHashMap, ConcurrentSkipListMap, Hashtable, EnumMap, or the
+     * immutable maps created by {@code Map.of()}. Other maps are asked {@code containsKey(null)},
+     * which takes constant time for hash maps. If the map contains a null key, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>"NULL: " + name + " key"</tt>
+     *
+     * @param arg Map to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains a null key
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireNoNullKeys(final Map<?, ?> arg, final String name) {
+        throw new UnsupportedOperationException("requireNoNullKeys() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test {@code arg} not to contain a null key. Works like
+     * {@link #requireNoNullKeys(Map, String)}, but the name is only obtained from {@code name} if the validation
+     * fails.
+     *
+     * @param arg Map to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains a null key
+     *
+     * @since 0.3
+     */
+    public default void requireNoNullKeys(final Map<?, ?> arg, final Supplier<String> name) {
+        this.requireNoNullKeys(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test {@code arg} not to contain a null value. Maps which do not permit null values are not
+     * scanned, such as ConcurrentHashMap, ConcurrentSkipListMap, Hashtable, or the immutable maps
+     * created by {@code Map.of()}. Other maps are asked {@code containsValue(null)}, which is a
+     * single pass over the values. If the map contains a null value, an IllegalArgumentException
+     * will be raised for the first key mapped to null. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>"NULL: " + name + "[" + key + "]"</tt>
+     *
+     * @param arg Map to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains a null value
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireNoNullValues(final Map<?, ?> arg, final String name) {
+        throw new UnsupportedOperationException("requireNoNullValues() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test {@code arg} not to contain a null value. Works like
+     * {@link #requireNoNullValues(Map, String)}, but the name is only obtained from {@code name} if the validation
+     * fails.
+     *
+     * @param arg Map to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains a null value
+     *
+     * @since 0.3
+     */
+    public default void requireNoNullValues(final Map<?, ?> arg, final Supplier<String> name) {
+        this.requireNoNullValues(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test all entries of {@code arg} to pass {@code rule}, which is called with the key and value
+     * of each entry. A ConcurrentHashMap is scanned by its own {@code search()} method, in parallel
+     * on the common fork/join pool if it has more entries than a threshold, {@code 8192} by
+     * default. Once an entry has failed, all other tasks stop scanning. Other maps are scanned
+     * sequentially. An entry fails if {@code rule} returns false or raises an
+     * IllegalArgumentException. If an entry does not pass, an IllegalArgumentException will be
+     * raised. The exception message will be constructed as follows, where the message of the
+     * exception raised by {@code rule} replaces the value if present:
+     * <p>
+     * <tt>"Entry violation (" + name + "[" + key + "]): " + value</tt>
+     *
+     * @param <K> Type of the keys
+     * @param <V> Type of the values
+     * @param arg Map to test
+     * @param rule Rule every entry must pass
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or any entry does not pass,
+     * or if {@code rule} is null
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default <K, V> void requireAllEntries(final Map<K, V> arg, final BiPredicate<? super K, ? super V> rule, final String name) {
+        throw new UnsupportedOperationException("requireAllEntries() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test all entries of {@code arg} to pass {@code rule}. Works like
+     * {@link #requireAllEntries(Map, BiPredicate, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param <K> Type of the keys
+     * @param <V> Type of the values
+     * @param arg Map to test
+     * @param rule Rule every entry must pass
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or any entry does not pass,
+     * or if {@code rule} is null
+     *
+     * @since 0.3
+     */
+    public default <K, V> void requireAllEntries(final Map<K, V> arg, final BiPredicate<? super K, ? super V> rule, final Supplier<String> name) {
+        this.requireAllEntries(arg, rule, ViolationMessages.resolve(name));
+    }
 }
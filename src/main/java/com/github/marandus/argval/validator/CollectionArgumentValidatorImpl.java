@@ -15,38 +15,205 @@
  */
 package com.github.marandus.argval.validator;
 
+import com.github.marandus.argval.enums.ExceptionMode;
 import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.metrics.ValidationMetrics;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Reference implementation of the {@link CollectionArgumentValidator} interface.
+ * <p>
+ * The size checks of this implementation do not call {@code size()} on collections and maps which
+ * are known to compute their size by traversing all elements, such as {@link ConcurrentLinkedQueue}
+ * or {@link ConcurrentSkipListMap}. Instead, these are iterated until the outcome of the check is
+ * known, which is after at most {@code len + 1} elements.
+ * <p>
+ * The requireAll() and requireAllValid() methods scan collections larger than a threshold in
+ * parallel on the common {@link java.util.concurrent.ForkJoinPool}. Smaller collections are
+ * scanned on the calling thread.
+ * The requireAllEntries() methods use the same threshold for the parallel search of a
+ * {@link ConcurrentHashMap}.
+ * <p>
+ * The null checks of this implementation do not scan collections and maps which are known not to
+ * permit null, such as {@link ConcurrentHashMap}. Other collections and maps are asked
+ * {@code contains(null)}, {@code containsKey(null)}, or {@code containsValue(null)} first.
  *
  * @author Thomas Rix (thomasrix@exodus-project.net)
  * @since 0.1
  */
-public class CollectionArgumentValidatorImpl implements CollectionArgumentValidator {
+public class CollectionArgumentValidatorImpl extends AbstractArgumentValidator implements CollectionArgumentValidator {
+
+    private static final Class<?> SKIP_LIST_KEY_SET = new ConcurrentSkipListMap<>().keySet().getClass();
+    private static final Class<?> SKIP_LIST_VALUES = new ConcurrentSkipListMap<>().values().getClass();
+    private static final Class<?> SKIP_LIST_ENTRY_SET = new ConcurrentSkipListMap<>().entrySet().getClass();
+    private static final Class<?> HASH_MAP_VALUES = new ConcurrentHashMap<>().values().getClass();
+
+    /**
+     * Types of the JDK known not to permit null elements, or null keys and values.
+     */
+    private static final List<Class<?>> NULL_HOSTILE_TYPES = Arrays.asList(
+            BlockingQueue.class, ConcurrentLinkedQueue.class, ConcurrentLinkedDeque.class, ConcurrentSkipListSet.class, ConcurrentHashMap.KeySetView.class,
+            ArrayDeque.class, PriorityQueue.class, EnumSet.class, ConcurrentHashMap.class, ConcurrentSkipListMap.class, Hashtable.class);
+
+    /**
+     * Names of the immutable collections of Java 9 and later which do not permit null elements.
+     * Lists with more than two elements are missing, since {@code Stream.toList()} creates them
+     * with null elements permitted.
+     */
+    private static final Set<String> NULL_HOSTILE_IMMUTABLES = new HashSet<>(Arrays.asList(
+            "java.util.ImmutableCollections$List12", "java.util.ImmutableCollections$Set12", "java.util.ImmutableCollections$SetN",
+            "java.util.ImmutableCollections$Map1", "java.util.ImmutableCollections$MapN"));
+
+    /**
+     * Cache of the outcome of {@link #isNullHostile(Class)} per class.
+     */
+    private static final ClassValue<Boolean> NULL_HOSTILE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return isNullHostile(type);
+        }
+    };
+
+    /**
+     * Default number of elements above which the requireAll() and requireAllValid() methods scan
+     * in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
 
     private final ObjectArgumentValidator objArgVal;
+    private final int parallelThreshold;
 
     /**
      * Create a new validator instance. Uses the reference implementation of
-     * {@link ObjectArgumentValidator}.
+     * {@link ObjectArgumentValidator}. Failed validations raise exceptions including the full stack
+     * trace.
      *
      * @see ObjectArgumentValidatorImpl
      */
     public CollectionArgumentValidatorImpl() {
-        this(new ObjectArgumentValidatorImpl());
+        this(ExceptionMode.STACK_TRACE);
+    }
+
+    /**
+     * Create a new validator instance. Uses the reference implementation of
+     * {@link ObjectArgumentValidator}. Failed validations raise exceptions as defined by the
+     * specified exception mode.
+     *
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     *
+     * @see ObjectArgumentValidatorImpl
+     * @since 0.3
+     */
+    public CollectionArgumentValidatorImpl(final ExceptionMode exceptionMode) {
+        this(exceptionMode, null);
+    }
+
+    /**
+     * Create a new validator instance. Uses the reference implementation of
+     * {@link ObjectArgumentValidator}. Failed validations raise exceptions as defined by the
+     * specified exception mode. The outcome of every check is reported to {@code metrics}, except
+     * for the null checks of the validator's own parameters.
+     *
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     * @param metrics Sink receiving the outcome of all checks, or null to not report checks
+     *
+     * @see ObjectArgumentValidatorImpl
+     * @since 0.3
+     */
+    public CollectionArgumentValidatorImpl(final ExceptionMode exceptionMode, final ValidationMetrics metrics) {
+        this(new ObjectArgumentValidatorImpl(exceptionMode), exceptionMode, metrics);
     }
 
     /**
      * Create a new validator instance. Uses the specified custom implementation of
-     * {@link ObjectArgumentValidator}.
+     * {@link ObjectArgumentValidator}. Failed validations raise exceptions including the full stack
+     * trace.
      *
      * @param objArgVal Custom implementation of object validator
      */
     public CollectionArgumentValidatorImpl(final ObjectArgumentValidator objArgVal) {
+        this(objArgVal, ExceptionMode.STACK_TRACE);
+    }
+
+    /**
+     * Create a new validator instance. Uses the specified custom implementation of
+     * {@link ObjectArgumentValidator}. Failed validations raise exceptions as defined by the
+     * specified exception mode.
+     *
+     * @param objArgVal Custom implementation of object validator
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     *
+     * @since 0.3
+     */
+    public CollectionArgumentValidatorImpl(final ObjectArgumentValidator objArgVal, final ExceptionMode exceptionMode) {
+        this(objArgVal, exceptionMode, null);
+    }
+
+    /**
+     * Create a new validator instance. Uses the specified custom implementation of
+     * {@link ObjectArgumentValidator}. Failed validations raise exceptions as defined by the
+     * specified exception mode. The outcome of every check is reported to {@code metrics}.
+     *
+     * @param objArgVal Custom implementation of object validator
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     * @param metrics Sink receiving the outcome of all checks, or null to not report checks
+     *
+     * @since 0.3
+     */
+    public CollectionArgumentValidatorImpl(final ObjectArgumentValidator objArgVal, final ExceptionMode exceptionMode, final ValidationMetrics metrics) {
+        this(objArgVal, exceptionMode, metrics, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Create a new validator instance. Uses the specified custom implementation of
+     * {@link ObjectArgumentValidator}. Failed validations raise exceptions as defined by the
+     * specified exception mode. The outcome of every check is reported to {@code metrics}. The
+     * requireAll() and requireAllValid() methods scan collections with more than
+     * {@code parallelThreshold} elements in parallel, and so do the requireAllEntries() methods
+     * with ConcurrentHashMap arguments.
+     *
+     * @param objArgVal Custom implementation of object validator
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     * @param metrics Sink receiving the outcome of all checks, or null to not report checks
+     * @param parallelThreshold Number of elements above which collections and concurrent hash maps
+     * are scanned in parallel, use {@code Integer.MAX_VALUE} to always scan sequentially
+     *
+     * @since 0.3
+     */
+    public CollectionArgumentValidatorImpl(final ObjectArgumentValidator objArgVal, final ExceptionMode exceptionMode, final ValidationMetrics metrics, final int parallelThreshold) {
+        super(exceptionMode, metrics);
+
+        if (parallelThreshold < 0) {
+            throw new IllegalArgumentException("Negative CollectionArgumentValidatorImpl() parallelThreshold parameter");
+        }
+
         this.objArgVal = objArgVal;
+        this.parallelThreshold = parallelThreshold;
     }
 
     /**
@@ -57,8 +224,24 @@ public class CollectionArgumentValidatorImpl implements CollectionArgumentValida
         this.objArgVal.requireNonNull(arg, "requireNonEmpty(Collection<?>) parameter");
 
         if (arg.isEmpty()) {
-            throw new IllegalArgumentException(msg + ": Collection is empty");
+            throw this.violation("requireNonEmpty", msg, ViolationMessages.collectionEmpty(msg));
+        }
+
+        this.passed("requireNonEmpty", msg);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonEmpty(final Collection<?> arg, final Supplier<String> msg) {
+        this.objArgVal.requireNonNull(arg, "requireNonEmpty(Collection<?>) parameter");
+
+        if (arg.isEmpty()) {
+            throw this.violation("requireNonEmpty", null, ViolationMessages.collectionEmpty(ViolationMessages.resolve(msg)));
         }
+
+        this.passed("requireNonEmpty", null);
     }
 
     /**
@@ -69,8 +252,24 @@ public class CollectionArgumentValidatorImpl implements CollectionArgumentValida
         this.objArgVal.requireNonNull(arg, "requireNonEmpty(Map<?,?>) parameter");
 
         if (arg.isEmpty()) {
-            throw new IllegalArgumentException(msg + ": Map is empty");
+            throw this.violation("requireNonEmpty", msg, ViolationMessages.mapEmpty(msg));
+        }
+
+        this.passed("requireNonEmpty", msg);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonEmpty(final Map<?, ?> arg, final Supplier<String> msg) {
+        this.objArgVal.requireNonNull(arg, "requireNonEmpty(Map<?,?>) parameter");
+
+        if (arg.isEmpty()) {
+            throw this.violation("requireNonEmpty", null, ViolationMessages.mapEmpty(ViolationMessages.resolve(msg)));
         }
+
+        this.passed("requireNonEmpty", null);
     }
 
     /**
@@ -78,16 +277,27 @@ public class CollectionArgumentValidatorImpl implements CollectionArgumentValida
      */
     @Override
     public void requireLength(final Collection<?> arg, final int len, final NumberCompareOperator comp, final String name) {
-        if (len < 0) {
-            throw new IllegalArgumentException("Negative requireLength(Collection<?>) length parameter");
+        final int size = this.checkedSize(arg, len, name);
+
+        if (!comp.doComparison(size, len)) {
+            throw this.violation("requireLength", name, ViolationMessages.collectionSize(name, Checks.describeSize(arg, size, len), comp, len));
         }
 
-        this.objArgVal.requireNonNull(arg, "requireLength(Collection<?>) parameter");
+        this.passed("requireLength", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final Collection<?> arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        final int size = this.checkedSize(arg, len, null);
 
-        if (!comp.doComparison(arg.size(), len)) {
-            String msg = "Collection size violation (" + name + "): Collection(" + arg.size() + ") " + comp.getOperator() + " " + len;
-            throw new IllegalArgumentException(msg);
+        if (!comp.doComparison(size, len)) {
+            throw this.violation("requireLength", null, ViolationMessages.collectionSize(ViolationMessages.resolve(name), Checks.describeSize(arg, size, len), comp, len));
         }
+
+        this.passed("requireLength", null);
     }
 
     /**
@@ -95,15 +305,1101 @@ public class CollectionArgumentValidatorImpl implements CollectionArgumentValida
      */
     @Override
     public void requireLength(final Map<?, ?> arg, final int len, final NumberCompareOperator comp, final String name) {
-        if (len < 0) {
-            throw new IllegalArgumentException("Negative requireLength(Map<?,?>) length parameter");
+        final int size = this.checkedSize(arg, len, name);
+
+        if (!comp.doComparison(size, len)) {
+            throw this.violation("requireLength", name, ViolationMessages.mapSize(name, Checks.describeSize(arg, size, len), comp, len));
         }
 
-        this.objArgVal.requireNonNull(arg, "requireLength(Map<?,?>) parameter");
+        this.passed("requireLength", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final Map<?, ?> arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        final int size = this.checkedSize(arg, len, null);
+
+        if (!comp.doComparison(size, len)) {
+            throw this.violation("requireLength", null, ViolationMessages.mapSize(ViolationMessages.resolve(name), Checks.describeSize(arg, size, len), comp, len));
+        }
+
+        this.passed("requireLength", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final Iterable<?> arg, final int len, final NumberCompareOperator comp, final String name) {
+        final int size = this.checkedSize(arg, len, name);
+
+        if (!comp.doComparison(size, len)) {
+            throw this.violation("requireLength", name, ViolationMessages.iterableSize(name, Checks.describeSize(arg, size, len), comp, len));
+        }
+
+        this.passed("requireLength", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final Iterable<?> arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        final int size = this.checkedSize(arg, len, null);
+
+        if (!comp.doComparison(size, len)) {
+            throw this.violation("requireLength", null, ViolationMessages.iterableSize(ViolationMessages.resolve(name), Checks.describeSize(arg, size, len), comp, len));
+        }
+
+        this.passed("requireLength", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> void requireAll(final Collection<T> arg, final Predicate<? super T> rule, final String name) {
+        final ElementScan.Failure failure = this.scanElements(arg, rule, rule, "requireAll", name);
+        if (failure != null) {
+            throw this.violation("requireAll", name, ViolationMessages.element(name, failure));
+        }
+
+        this.passed("requireAll", name);
+    }
 
-        if (!comp.doComparison(arg.size(), len)) {
-            String msg = "Map size violation (" + name + "): Map(" + arg.size() + ") " + comp.getOperator() + " " + len;
-            throw new IllegalArgumentException(msg);
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> void requireAll(final Collection<T> arg, final Predicate<? super T> rule, final Supplier<String> name) {
+        final ElementScan.Failure failure = this.scanElements(arg, rule, rule, "requireAll", null);
+        if (failure != null) {
+            throw this.violation("requireAll", null, ViolationMessages.element(ViolationMessages.resolve(name), failure));
+        }
+
+        this.passed("requireAll", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> void requireAllValid(final Collection<T> arg, final BiConsumer<? super T, String> validator, final String name) {
+        final ElementScan.Failure failure = this.scanElements(arg, validator, element -> {
+            validator.accept(element, name);
+            return true;
+        }, "requireAllValid", name);
+        if (failure != null) {
+            throw this.violation("requireAllValid", name, ViolationMessages.element(name, failure));
+        }
+
+        this.passed("requireAllValid", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final long maxElements, final String name) {
+        final ElementCheck<T> check = this.elementCheck(arg, "Iterator", rule, maxElements, name, null);
+        return new ElementCheck.CheckedIterator<>(arg, check);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final long maxElements, final Supplier<String> name) {
+        final ElementCheck<T> check = this.elementCheck(arg, "Iterator", rule, maxElements, null, name);
+        return new ElementCheck.CheckedIterator<>(arg, check);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final String name) {
+        return this.validating(arg, rule, Long.MAX_VALUE, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Iterator<T> validating(final Iterator<T> arg, final Predicate<? super T> rule, final Supplier<String> name) {
+        return this.validating(arg, rule, Long.MAX_VALUE, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final long maxElements, final String name) {
+        final ElementCheck<T> check = this.elementCheck(arg, "Stream", rule, maxElements, name, null);
+        return StreamSupport.stream(new ElementCheck.CheckedSpliterator<>(arg.spliterator(), check), arg.isParallel()).onClose(arg::close);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final long maxElements, final Supplier<String> name) {
+        final ElementCheck<T> check = this.elementCheck(arg, "Stream", rule, maxElements, null, name);
+        return StreamSupport.stream(new ElementCheck.CheckedSpliterator<>(arg.spliterator(), check), arg.isParallel()).onClose(arg::close);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final String name) {
+        return this.validating(arg, rule, Long.MAX_VALUE, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T> Stream<T> validating(final Stream<T> arg, final Predicate<? super T> rule, final Supplier<String> name) {
+        return this.validating(arg, rule, Long.MAX_VALUE, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final Collection<?> arg, final String name) {
+        final int index = this.indexOfDuplicate(arg, name);
+        if (index >= 0) {
+            throw this.violation("requireDistinct", name, ViolationMessages.duplicate(name, index, elementAt(arg, index)));
+        }
+
+        this.passed("requireDistinct", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final Collection<?> arg, final Supplier<String> name) {
+        final int index = this.indexOfDuplicate(arg, null);
+        if (index >= 0) {
+            throw this.violation("requireDistinct", null, ViolationMessages.duplicate(ViolationMessages.resolve(name), index, elementAt(arg, index)));
+        }
+
+        this.passed("requireDistinct", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final int[] arg, final String name) {
+        final int index = this.indexOfDuplicate(arg, name);
+        if (index >= 0) {
+            throw this.violation("requireDistinct", name, ViolationMessages.duplicate(name, index, arg[index]));
+        }
+
+        this.passed("requireDistinct", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final int[] arg, final Supplier<String> name) {
+        final int index = this.indexOfDuplicate(arg, null);
+        if (index >= 0) {
+            throw this.violation("requireDistinct", null, ViolationMessages.duplicate(ViolationMessages.resolve(name), index, arg[index]));
+        }
+
+        this.passed("requireDistinct", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final long[] arg, final String name) {
+        final int index = this.indexOfDuplicate(arg, name);
+        if (index >= 0) {
+            throw this.violation("requireDistinct", name, ViolationMessages.duplicate(name, index, arg[index]));
+        }
+
+        this.passed("requireDistinct", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final long[] arg, final Supplier<String> name) {
+        final int index = this.indexOfDuplicate(arg, null);
+        if (index >= 0) {
+            throw this.violation("requireDistinct", null, ViolationMessages.duplicate(ViolationMessages.resolve(name), index, arg[index]));
+        }
+
+        this.passed("requireDistinct", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final String[] arg, final String name) {
+        final int index = this.indexOfDuplicate(arg, name);
+        if (index >= 0) {
+            throw this.violation("requireDistinct", name, ViolationMessages.duplicate(name, index, arg[index]));
+        }
+
+        this.passed("requireDistinct", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireDistinct(final String[] arg, final Supplier<String> name) {
+        final int index = this.indexOfDuplicate(arg, null);
+        if (index >= 0) {
+            throw this.violation("requireDistinct", null, ViolationMessages.duplicate(ViolationMessages.resolve(name), index, arg[index]));
         }
+
+        this.passed("requireDistinct", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireSorted(final int[] arg, final NumberCompareOperator comp, final String name) {
+        final int index = this.indexOfUnordered(arg, comp, name);
+        if (index >= 0) {
+            throw this.violation("requireSorted", name, ViolationMessages.order(name, index, arg[index - 1], comp, arg[index]));
+        }
+
+        this.passed("requireSorted", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireSorted(final int[] arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        final int index = this.indexOfUnordered(arg, comp, null);
+        if (index >= 0) {
+            throw this.violation("requireSorted", null, ViolationMessages.order(ViolationMessages.resolve(name), index, arg[index - 1], comp, arg[index]));
+        }
+
+        this.passed("requireSorted", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireSorted(final long[] arg, final NumberCompareOperator comp, final String name) {
+        final int index = this.indexOfUnordered(arg, comp, name);
+        if (index >= 0) {
+            throw this.violation("requireSorted", name, ViolationMessages.order(name, index, arg[index - 1], comp, arg[index]));
+        }
+
+        this.passed("requireSorted", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireSorted(final long[] arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        final int index = this.indexOfUnordered(arg, comp, null);
+        if (index >= 0) {
+            throw this.violation("requireSorted", null, ViolationMessages.order(ViolationMessages.resolve(name), index, arg[index - 1], comp, arg[index]));
+        }
+
+        this.passed("requireSorted", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireSorted(final double[] arg, final NumberCompareOperator comp, final String name) {
+        final int index = this.indexOfUnordered(arg, comp, name);
+        if (index >= 0) {
+            throw this.violation("requireSorted", name, ViolationMessages.order(name, index, arg[index - 1], comp, arg[index]));
+        }
+
+        this.passed("requireSorted", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireSorted(final double[] arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        final int index = this.indexOfUnordered(arg, comp, null);
+        if (index >= 0) {
+            throw this.violation("requireSorted", null, ViolationMessages.order(ViolationMessages.resolve(name), index, arg[index - 1], comp, arg[index]));
+        }
+
+        this.passed("requireSorted", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T extends Comparable<? super T>> void requireSorted(final List<T> arg, final NumberCompareOperator comp, final String name) {
+        final int index = this.indexOfUnordered(arg, comp, name);
+        if (index >= 0) {
+            throw this.violation("requireSorted", name, ViolationMessages.order(name, index, arg.get(index - 1), comp, arg.get(index)));
+        }
+
+        this.passed("requireSorted", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T extends Comparable<? super T>> void requireSorted(final List<T> arg, final NumberCompareOperator comp, final Supplier<String> name) {
+        final int index = this.indexOfUnordered(arg, comp, null);
+        if (index >= 0) {
+            throw this.violation("requireSorted", null, ViolationMessages.order(ViolationMessages.resolve(name), index, arg.get(index - 1), comp, arg.get(index)));
+        }
+
+        this.passed("requireSorted", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireStrictlyIncreasing(final int[] arg, final String name) {
+        this.requireSorted(arg, NumberCompareOperator.LESS, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireStrictlyIncreasing(final int[] arg, final Supplier<String> name) {
+        this.requireSorted(arg, NumberCompareOperator.LESS, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireStrictlyIncreasing(final long[] arg, final String name) {
+        this.requireSorted(arg, NumberCompareOperator.LESS, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireStrictlyIncreasing(final long[] arg, final Supplier<String> name) {
+        this.requireSorted(arg, NumberCompareOperator.LESS, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireStrictlyIncreasing(final double[] arg, final String name) {
+        this.requireSorted(arg, NumberCompareOperator.LESS, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireStrictlyIncreasing(final double[] arg, final Supplier<String> name) {
+        this.requireSorted(arg, NumberCompareOperator.LESS, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T extends Comparable<? super T>> void requireStrictlyIncreasing(final List<T> arg, final String name) {
+        this.requireSorted(arg, NumberCompareOperator.LESS, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <T extends Comparable<? super T>> void requireStrictlyIncreasing(final List<T> arg, final Supplier<String> name) {
+        this.requireSorted(arg, NumberCompareOperator.LESS, name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNoNullElements(final Collection<?> arg, final String name) {
+        final int index = this.indexOfNull(arg, name);
+        if (index >= 0) {
+            throw this.violation("requireNoNullElements", name, ViolationMessages.isNull(name + "[" + index + "]"));
+        }
+
+        this.passed("requireNoNullElements", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNoNullElements(final Collection<?> arg, final Supplier<String> name) {
+        final int index = this.indexOfNull(arg, null);
+        if (index >= 0) {
+            throw this.violation("requireNoNullElements", null, ViolationMessages.isNull(ViolationMessages.resolve(name) + "[" + index + "]"));
+        }
+
+        this.passed("requireNoNullElements", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNoNullKeys(final Map<?, ?> arg, final String name) {
+        if (this.hasNullKey(arg, name)) {
+            throw this.violation("requireNoNullKeys", name, ViolationMessages.isNull(name + " key"));
+        }
+
+        this.passed("requireNoNullKeys", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNoNullKeys(final Map<?, ?> arg, final Supplier<String> name) {
+        if (this.hasNullKey(arg, null)) {
+            throw this.violation("requireNoNullKeys", null, ViolationMessages.isNull(ViolationMessages.resolve(name) + " key"));
+        }
+
+        this.passed("requireNoNullKeys", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNoNullValues(final Map<?, ?> arg, final String name) {
+        final Map.Entry<?, ?> entry = this.findNullValue(arg, name);
+        if (entry != null) {
+            throw this.violation("requireNoNullValues", name, ViolationMessages.isNull(name + "[" + entry.getKey() + "]"));
+        }
+
+        this.passed("requireNoNullValues", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNoNullValues(final Map<?, ?> arg, final Supplier<String> name) {
+        final Map.Entry<?, ?> entry = this.findNullValue(arg, null);
+        if (entry != null) {
+            throw this.violation("requireNoNullValues", null, ViolationMessages.isNull(ViolationMessages.resolve(name) + "[" + entry.getKey() + "]"));
+        }
+
+        this.passed("requireNoNullValues", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <K, V> void requireAllEntries(final Map<K, V> arg, final BiPredicate<? super K, ? super V> rule, final String name) {
+        final EntryScan.Failure failure = this.scanEntries(arg, rule, name);
+        if (failure != null) {
+            throw this.violation("requireAllEntries", name, ViolationMessages.entry(name, failure));
+        }
+
+        this.passed("requireAllEntries", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <K, V> void requireAllEntries(final Map<K, V> arg, final BiPredicate<? super K, ? super V> rule, final Supplier<String> name) {
+        final EntryScan.Failure failure = this.scanEntries(arg, rule, null);
+        if (failure != null) {
+            throw this.violation("requireAllEntries", null, ViolationMessages.entry(ViolationMessages.resolve(name), failure));
+        }
+
+        this.passed("requireAllEntries", null);
+    }
+
+    /**
+     * Validate the arguments passed to the requireLength(Collection) methods and get the size of
+     * the collection. The size is bounded to {@code len + 1} for collections without constant-time
+     * size.
+     *
+     * @param arg Collection to test
+     * @param len Value to be used as reference in comparison
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Size of the collection
+     */
+    private int checkedSize(final Collection<?> arg, final int len, final String name) {
+        Checks.checkLength(len, "requireLength(Collection<?>)");
+
+        this.objArgVal.requireNonNull(arg, "requireLength(Collection<?>) parameter");
+        return timedSize(arg, len, name);
+    }
+
+    /**
+     * Validate the arguments passed to the requireLength(Map) methods and get the size of the map.
+     * The size is bounded to {@code len + 1} for maps without constant-time size.
+     *
+     * @param arg Map to test
+     * @param len Value to be used as reference in comparison
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Size of the map
+     */
+    private int checkedSize(final Map<?, ?> arg, final int len, final String name) {
+        Checks.checkLength(len, "requireLength(Map<?,?>)");
+
+        this.objArgVal.requireNonNull(arg, "requireLength(Map<?,?>) parameter");
+        return timedSize(arg, len, name);
+    }
+
+    /**
+     * Validate the arguments passed to the requireLength(Iterable) methods and get the number of
+     * elements. The number is bounded to {@code len + 1} unless the iterable is a collection with
+     * constant-time size.
+     *
+     * @param arg Iterable to test
+     * @param len Value to be used as reference in comparison
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Number of elements
+     */
+    private int checkedSize(final Iterable<?> arg, final int len, final String name) {
+        Checks.checkLength(len, "requireLength(Iterable<?>)");
+
+        this.objArgVal.requireNonNull(arg, "requireLength(Iterable<?>) parameter");
+        return timedSize(arg, len, name);
+    }
+
+    /**
+     * Validate the arguments passed to the requireAll() and requireAllValid() methods and scan the
+     * elements of the collection, in parallel if it has more elements than the parallel threshold.
+     * The scan is timed by a {@link SlowValidationEvent}.
+     *
+     * @param <T> Type of the elements
+     * @param arg Collection to scan
+     * @param rule Rule or validator passed to the validation method
+     * @param check Test of a single element using {@code rule}
+     * @param method Name of the validation method
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Failing element, or null if all elements have passed
+     */
+    private <T> ElementScan.Failure scanElements(final Collection<T> arg, final Object rule, final Predicate<? super T> check, final String method, final String name) {
+        this.objArgVal.requireNonNull(arg, method + "(Collection<?>) parameter");
+        this.objArgVal.requireNonNull(rule, method + "(Collection<?>) rule parameter");
+
+        final int size = boundedSize(arg, this.parallelThreshold);
+        final Object event = ValidationEvents.beginScan();
+        final ElementScan.Failure failure = ElementScan.scan(arg, check, size > this.parallelThreshold);
+        ValidationEvents.endScan(event, method, name, size);
+
+        return failure;
+    }
+
+    /**
+     * Validate the arguments passed to the requireAllEntries() methods and scan the entries of the
+     * map. A ConcurrentHashMap with more entries than the parallel threshold is scanned in
+     * parallel. The scan is timed by a {@link SlowValidationEvent}.
+     *
+     * @param <K> Type of the keys
+     * @param <V> Type of the values
+     * @param arg Map to scan
+     * @param rule Rule every entry must pass
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Failing entry, or null if all entries have passed
+     */
+    private <K, V> EntryScan.Failure scanEntries(final Map<K, V> arg, final BiPredicate<? super K, ? super V> rule, final String name) {
+        this.objArgVal.requireNonNull(arg, "requireAllEntries(Map<?,?>) parameter");
+        this.objArgVal.requireNonNull(rule, "requireAllEntries(Map<?,?>) rule parameter");
+
+        final Object event = ValidationEvents.beginScan();
+        final EntryScan.Failure failure = EntryScan.scan(arg, rule, this.parallelThreshold);
+        ValidationEvents.endScan(event, "requireAllEntries", name, hasConstantTimeSize(arg) ? arg.size() : 0);
+
+        return failure;
+    }
+
+    /**
+     * Validate the arguments passed to the validating() methods and create the check of the
+     * elements.
+     *
+     * @param <T> Type of the elements
+     * @param arg Iterator or stream to wrap
+     * @param type Type of {@code arg}, used in exception messages
+     * @param rule Rule every element must pass
+     * @param maxElements Maximum number of elements
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @param nameSupplier Supplier passed to the validation method, null if passed as String
+     * @return Check of the elements
+     */
+    private <T> ElementCheck<T> elementCheck(final Object arg, final String type, final Predicate<? super T> rule, final long maxElements, final String name, final Supplier<String> nameSupplier) {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Negative validating(" + type + "<?>) maxElements parameter");
+        }
+
+        this.objArgVal.requireNonNull(arg, "validating(" + type + "<?>) parameter");
+        this.objArgVal.requireNonNull(rule, "validating(" + type + "<?>) rule parameter");
+        return new ElementCheck<>(this, type, rule, maxElements, name, nameSupplier);
+    }
+
+    /**
+     * Validate the argument passed to the requireDistinct(Collection) methods and search it for
+     * duplicates. The hash table is sized from the collection, unless it does not have a
+     * constant-time size. The search is timed by a {@link SlowValidationEvent}.
+     *
+     * @param arg Collection to search
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Index of the first duplicate, or -1
+     */
+    private int indexOfDuplicate(final Collection<?> arg, final String name) {
+        this.objArgVal.requireNonNull(arg, "requireDistinct(Collection<?>) parameter");
+        final int size = hasConstantTimeSize(arg) ? arg.size() : 0;
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = Distinct.indexOfDuplicate(arg, size);
+        ValidationEvents.endScan(event, "requireDistinct", name, (index < 0) ? size : index + 1);
+        return index;
+    }
+
+    /**
+     * Validate the argument passed to the requireDistinct(int[]) methods and search it for
+     * duplicates. The search is timed by a {@link SlowValidationEvent}.
+     *
+     * @param arg Array to search
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Index of the first duplicate, or -1
+     */
+    private int indexOfDuplicate(final int[] arg, final String name) {
+        this.objArgVal.requireNonNull(arg, "requireDistinct(int[]) parameter");
+        if (arg.length > Distinct.MAX_LENGTH) {
+            throw new IllegalArgumentException("Too many elements in requireDistinct(int[]) parameter: " + arg.length);
+        }
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = Distinct.indexOfDuplicate(arg);
+        ValidationEvents.endScan(event, "requireDistinct", name, (index < 0) ? arg.length : index + 1);
+        return index;
+    }
+
+    /**
+     * Validate the argument passed to the requireDistinct(long[]) methods and search it for
+     * duplicates. The search is timed by a {@link SlowValidationEvent}.
+     *
+     * @param arg Array to search
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Index of the first duplicate, or -1
+     */
+    private int indexOfDuplicate(final long[] arg, final String name) {
+        this.objArgVal.requireNonNull(arg, "requireDistinct(long[]) parameter");
+        if (arg.length > Distinct.MAX_LENGTH) {
+            throw new IllegalArgumentException("Too many elements in requireDistinct(long[]) parameter: " + arg.length);
+        }
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = Distinct.indexOfDuplicate(arg);
+        ValidationEvents.endScan(event, "requireDistinct", name, (index < 0) ? arg.length : index + 1);
+        return index;
+    }
+
+    /**
+     * Validate the argument passed to the requireDistinct(String[]) methods and search it for
+     * duplicates. The search is timed by a {@link SlowValidationEvent}.
+     *
+     * @param arg Array to search
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Index of the first duplicate, or -1
+     */
+    private int indexOfDuplicate(final String[] arg, final String name) {
+        this.objArgVal.requireNonNull(arg, "requireDistinct(String[]) parameter");
+        if (arg.length > Distinct.MAX_LENGTH) {
+            throw new IllegalArgumentException("Too many elements in requireDistinct(String[]) parameter: " + arg.length);
+        }
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = Distinct.indexOfDuplicate(arg);
+        ValidationEvents.endScan(event, "requireDistinct", name, (index < 0) ? arg.length : index + 1);
+        return index;
+    }
+
+    /**
+     * Validate the arguments passed to the requireSorted(int[]) methods and search the first element
+     * out of order. The search is timed by a {@link SlowValidationEvent}.
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Index of the first element out of order, or -1
+     */
+    private int indexOfUnordered(final int[] arg, final NumberCompareOperator comp, final String name) {
+        this.objArgVal.requireNonNull(arg, "requireSorted(int[]) parameter");
+        this.objArgVal.requireNonNull(comp, "requireSorted(int[]) comp parameter");
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = Sorted.indexOfUnordered(arg, comp);
+        ValidationEvents.endScan(event, "requireSorted", name, (index < 0) ? arg.length : index + 1);
+        return index;
+    }
+
+    /**
+     * Validate the arguments passed to the requireSorted(long[]) methods and search the first element
+     * out of order. The search is timed by a {@link SlowValidationEvent}.
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Index of the first element out of order, or -1
+     */
+    private int indexOfUnordered(final long[] arg, final NumberCompareOperator comp, final String name) {
+        this.objArgVal.requireNonNull(arg, "requireSorted(long[]) parameter");
+        this.objArgVal.requireNonNull(comp, "requireSorted(long[]) comp parameter");
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = Sorted.indexOfUnordered(arg, comp);
+        ValidationEvents.endScan(event, "requireSorted", name, (index < 0) ? arg.length : index + 1);
+        return index;
+    }
+
+    /**
+     * Validate the arguments passed to the requireSorted(double[]) methods and search the first element
+     * out of order. The search is timed by a {@link SlowValidationEvent}.
+     *
+     * @param arg Array to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Index of the first element out of order, or -1
+     */
+    private int indexOfUnordered(final double[] arg, final NumberCompareOperator comp, final String name) {
+        this.objArgVal.requireNonNull(arg, "requireSorted(double[]) parameter");
+        this.objArgVal.requireNonNull(comp, "requireSorted(double[]) comp parameter");
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = Sorted.indexOfUnordered(arg, comp);
+        ValidationEvents.endScan(event, "requireSorted", name, (index < 0) ? arg.length : index + 1);
+        return index;
+    }
+
+    /**
+     * Validate the arguments passed to the requireSorted(List) methods and search the first element
+     * out of order. The search is timed by a {@link SlowValidationEvent}.
+     *
+     * @param <T> Type of the elements
+     * @param arg List to test
+     * @param comp Comparison operator every element and its successor must satisfy
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Index of the first element out of order, or -1
+     */
+    private <T extends Comparable<? super T>> int indexOfUnordered(final List<T> arg, final NumberCompareOperator comp, final String name) {
+        this.objArgVal.requireNonNull(arg, "requireSorted(List<?>) parameter");
+        this.objArgVal.requireNonNull(comp, "requireSorted(List<?>) comp parameter");
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = Sorted.indexOfUnordered(arg, comp);
+        ValidationEvents.endScan(event, "requireSorted", name, (index < 0) ? arg.size() : index + 1);
+        return index;
+    }
+
+    /**
+     * Validate the argument passed to the requireNoNullElements() methods and search the first null
+     * element. The search is timed by a {@link SlowValidationEvent}.
+     *
+     * @param arg Collection to search
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Index of the first null element, or -1
+     */
+    private int indexOfNull(final Collection<?> arg, final String name) {
+        this.objArgVal.requireNonNull(arg, "requireNoNullElements(Collection<?>) parameter");
+        if (isNullHostile(arg)) {
+            return -1;
+        }
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = indexOfNull(arg);
+        ValidationEvents.endScan(event, "requireNoNullElements", name, (index >= 0) ? index + 1 : (hasConstantTimeSize(arg) ? arg.size() : 0));
+        return index;
+    }
+
+    /**
+     * Validate the argument passed to the requireNoNullKeys() methods and test it for a null key.
+     *
+     * @param arg Map to test
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return True, if {@code arg} contains a null key
+     */
+    private boolean hasNullKey(final Map<?, ?> arg, final String name) {
+        this.objArgVal.requireNonNull(arg, "requireNoNullKeys(Map<?,?>) parameter");
+        if (arg instanceof EnumMap || isNullHostile(arg)) {
+            return false;
+        }
+
+        try {
+            return arg.containsKey(null);
+        }
+        catch (NullPointerException ex) {
+            // the map does not permit null keys
+            return false;
+        }
+    }
+
+    /**
+     * Validate the argument passed to the requireNoNullValues() methods and search the first entry
+     * with a null value. The search is timed by a {@link SlowValidationEvent}.
+     *
+     * @param arg Map to search
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return First entry with a null value, or null
+     */
+    private Map.Entry<?, ?> findNullValue(final Map<?, ?> arg, final String name) {
+        this.objArgVal.requireNonNull(arg, "requireNoNullValues(Map<?,?>) parameter");
+        if (isNullHostile(arg)) {
+            return null;
+        }
+
+        final Object event = ValidationEvents.beginScan();
+        Map.Entry<?, ?> entry = null;
+        try {
+            if (arg.containsValue(null)) {
+                for (Map.Entry<?, ?> candidate : arg.entrySet()) {
+                    if (candidate.getValue() == null) {
+                        entry = candidate;
+                        break;
+                    }
+                }
+            }
+        }
+        catch (NullPointerException ex) {
+            // the map does not permit null values
+        }
+        ValidationEvents.endScan(event, "requireNoNullValues", name, hasConstantTimeSize(arg) ? arg.size() : 0);
+
+        return entry;
+    }
+
+    /**
+     * Find the first null element of {@code arg}. Lists are searched by {@code indexOf(null)}. Other
+     * collections are asked {@code contains(null)}, and only iterated to find the index if the
+     * answer is true.
+     *
+     * @param arg Collection to search
+     * @return Index of the first null element in iteration order, or -1
+     */
+    private static int indexOfNull(final Collection<?> arg) {
+        try {
+            if (arg instanceof List) {
+                return ((List<?>) arg).indexOf(null);
+            }
+            else if (!arg.contains(null)) {
+                return -1;
+            }
+        }
+        catch (NullPointerException ex) {
+            // the collection does not permit null elements
+            return -1;
+        }
+
+        int index = 0;
+        for (Object element : arg) {
+            if (element == null) {
+                return index;
+            }
+            index++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Get the element of {@code arg} at {@code index} in iteration order.
+     *
+     * @param arg Collection to get the element of
+     * @param index Index of the element, less than the number of elements
+     * @return Element at {@code index}
+     */
+    private static Object elementAt(final Collection<?> arg, final int index) {
+        if (arg instanceof List) {
+            return ((List<?>) arg).get(index);
+        }
+
+        final Iterator<?> it = arg.iterator();
+        for (int i = 0; i < index; i++) {
+            it.next();
+        }
+        return it.next();
+    }
+
+    /**
+     * Get the size of {@code arg} using the matching boundedSize() method. Counting the elements is
+     * timed by a {@link SlowValidationEvent}.
+     *
+     * @param arg Collection, map, or iterable to measure
+     * @param len Value to be used as reference in comparison
+     * @param name Name passed to the validation method, null if passed as Supplier
+     * @return Size of the argument, bounded to {@code len + 1} if counted
+     */
+    private static int timedSize(final Object arg, final int len, final String name) {
+        if (arg instanceof Collection && hasConstantTimeSize((Collection<?>) arg)) {
+            return ((Collection<?>) arg).size();
+        }
+        else if (arg instanceof Map && hasConstantTimeSize((Map<?, ?>) arg)) {
+            return ((Map<?, ?>) arg).size();
+        }
+
+        final Object event = ValidationEvents.beginScan();
+        final int size = (arg instanceof Map) ? boundedSize((Map<?, ?>) arg, len) : boundedSize((Iterable<?>) arg, len);
+        ValidationEvents.endScan(event, "requireLength", name, size);
+
+        return size;
+    }
+
+    /**
+     * Get the size of {@code arg}. If the collection does not have a constant-time size, its
+     * elements are counted, but only up to {@code len + 1}. Since the result of every comparison
+     * with {@code len} is the same for all sizes greater than {@code len}, the bounded size yields
+     * the same result as the actual size.
+     *
+     * @param arg Collection to measure
+     * @param len Value to be used as reference in comparison
+     * @return Size of the collection, bounded to {@code len + 1} if counted
+     */
+    static int boundedSize(final Collection<?> arg, final int len) {
+        if (hasConstantTimeSize(arg)) {
+            return arg.size();
+        }
+
+        return countElements(arg.iterator(), len);
+    }
+
+    /**
+     * Get the size of {@code arg}, see {@link #boundedSize(Collection, int)}.
+     *
+     * @param arg Map to measure
+     * @param len Value to be used as reference in comparison
+     * @return Size of the map, bounded to {@code len + 1} if counted
+     */
+    static int boundedSize(final Map<?, ?> arg, final int len) {
+        if (hasConstantTimeSize(arg)) {
+            return arg.size();
+        }
+
+        return countElements(arg.keySet().iterator(), len);
+    }
+
+    /**
+     * Get the number of elements of {@code arg}, see {@link #boundedSize(Collection, int)}.
+     *
+     * @param arg Iterable to measure
+     * @param len Value to be used as reference in comparison
+     * @return Number of elements, bounded to {@code len + 1} if counted
+     */
+    static int boundedSize(final Iterable<?> arg, final int len) {
+        if (arg instanceof Collection) {
+            return boundedSize((Collection<?>) arg, len);
+        }
+
+        return countElements(arg.iterator(), len);
+    }
+
+    /**
+     * Test if {@code arg} is able to provide its size in constant time. Only collections which are
+     * known to traverse their elements in {@code size()} are reported as not having a constant-time
+     * size.
+     *
+     * @param arg Collection to test
+     * @return False, if {@code arg} is known to compute its size in linear time
+     */
+    static boolean hasConstantTimeSize(final Collection<?> arg) {
+        if (arg instanceof ConcurrentLinkedQueue || arg instanceof ConcurrentLinkedDeque || arg instanceof LinkedTransferQueue || arg instanceof ConcurrentSkipListSet) {
+            return false;
+        }
+
+        final Class<?> type = arg.getClass();
+        return (type != SKIP_LIST_KEY_SET && type != SKIP_LIST_VALUES && type != SKIP_LIST_ENTRY_SET);
+    }
+
+    /**
+     * Test if {@code arg} is able to provide its size in constant time, see
+     * {@link #hasConstantTimeSize(Collection)}.
+     *
+     * @param arg Map to test
+     * @return False, if {@code arg} is known to compute its size in linear time
+     */
+    static boolean hasConstantTimeSize(final Map<?, ?> arg) {
+        return !(arg instanceof ConcurrentNavigableMap);
+    }
+
+    /**
+     * Test if {@code arg} is known not to permit null elements. These are the collections of
+     * {@code java.util.concurrent} which do not permit null, ArrayDeque, PriorityQueue, EnumSet, and
+     * the immutable collections of Java 9 and later, except for lists of more than two elements.
+     *
+     * @param arg Collection to test
+     * @return True, if {@code arg} cannot contain null elements
+     */
+    static boolean isNullHostile(final Collection<?> arg) {
+        return NULL_HOSTILE.get(arg.getClass());
+    }
+
+    /**
+     * Test if {@code arg} is known to permit neither null keys nor null values. These are
+     * ConcurrentHashMap, ConcurrentSkipListMap, Hashtable, and the immutable maps of Java 9 and
+     * later.
+     *
+     * @param arg Map to test
+     * @return True, if {@code arg} cannot contain null keys and values
+     */
+    static boolean isNullHostile(final Map<?, ?> arg) {
+        return NULL_HOSTILE.get(arg.getClass());
+    }
+
+    /**
+     * Test if instances of {@code type} are known not to contain null. The outcome is cached in
+     * {@link #NULL_HOSTILE}, so this is called once per class.
+     *
+     * @param type Type of a collection or map
+     * @return True, if instances of {@code type} cannot contain null
+     */
+    private static boolean isNullHostile(final Class<?> type) {
+        for (Class<?> hostile : NULL_HOSTILE_TYPES) {
+            if (hostile.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+
+        return (type == SKIP_LIST_KEY_SET || type == SKIP_LIST_VALUES || type == HASH_MAP_VALUES || NULL_HOSTILE_IMMUTABLES.contains(type.getName()));
+    }
+
+    /**
+     * Count the remaining elements of {@code it}, but stop after {@code len + 1} elements.
+     *
+     * @param it Iterator to count the elements of
+     * @param len Value to be used as reference in comparison
+     * @return Number of elements, at most {@code len + 1}
+     */
+    private static int countElements(final Iterator<?> it, final int len) {
+        int count = 0;
+        while (count <= len && it.hasNext()) {
+            it.next();
+            count++;
+        }
+
+        return count;
     }
 }
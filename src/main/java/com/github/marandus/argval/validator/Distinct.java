@@ -0,0 +1,345 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Search for duplicate elements. Inputs of up to {@link #SMALL} elements are compared pairwise,
+ * which neither sorts nor allocates anything. Larger inputs are inserted into an open-addressing
+ * hash table with linear probing, sized from the input to be at most half full. Primitive values
+ * are stored in a primitive array, so they are not boxed. All methods stop at the first duplicate.
+ * <p>
+ * Since the hash table is at most half full, arrays are limited to {@link #MAX_LENGTH} elements.
+ * Collections with more elements continue the search in a {@link HashSet}.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+final class Distinct {
+
+    /**
+     * Maximum number of elements compared pairwise.
+     */
+    static final int SMALL = 16;
+
+    /**
+     * Maximum number of slots of a hash table, which is the maximum array size that is a power of
+     * two.
+     */
+    static final int MAX_TABLE = 1 << 30;
+
+    /**
+     * Maximum number of elements of an array, which fill a hash table of {@link #MAX_TABLE} slots
+     * by half.
+     */
+    static final int MAX_LENGTH = MAX_TABLE / 2;
+
+    private static final int MIN_TABLE = 32;
+    private static final int GOLDEN_32 = 0x9E3779B9;
+    private static final long GOLDEN_64 = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Private constructor, static only class
+     */
+    private Distinct() {
+
+    }
+
+    /**
+     * Find the first element of {@code arg} equal to a preceding element. The value zero marks
+     * empty slots of the hash table, so its occurrence is tracked separately.
+     *
+     * @param arg Array to search, at most {@link #MAX_LENGTH} elements
+     * @return Index of the first duplicate, or -1
+     */
+    static int indexOfDuplicate(final int[] arg) {
+        if (arg.length <= SMALL) {
+            for (int i = 1; i < arg.length; i++) {
+                for (int j = 0; j < i; j++) {
+                    if (arg[j] == arg[i]) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        final int[] table = new int[tableSize(arg.length)];
+        final int mask = table.length - 1;
+        final int shift = Integer.numberOfLeadingZeros(mask);
+        boolean zero = false;
+
+        for (int i = 0; i < arg.length; i++) {
+            final int value = arg[i];
+            if (value == 0) {
+                if (zero) {
+                    return i;
+                }
+                zero = true;
+                continue;
+            }
+
+            int slot = (value * GOLDEN_32) >>> shift;
+            while (table[slot] != 0) {
+                if (table[slot] == value) {
+                    return i;
+                }
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = value;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Find the first element of {@code arg} equal to a preceding element. Works like
+     * {@link #indexOfDuplicate(int[])}.
+     *
+     * @param arg Array to search, at most {@link #MAX_LENGTH} elements
+     * @return Index of the first duplicate, or -1
+     */
+    static int indexOfDuplicate(final long[] arg) {
+        if (arg.length <= SMALL) {
+            for (int i = 1; i < arg.length; i++) {
+                for (int j = 0; j < i; j++) {
+                    if (arg[j] == arg[i]) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        final long[] table = new long[tableSize(arg.length)];
+        final int mask = table.length - 1;
+        final int shift = Long.numberOfLeadingZeros(mask);
+        boolean zero = false;
+
+        for (int i = 0; i < arg.length; i++) {
+            final long value = arg[i];
+            if (value == 0) {
+                if (zero) {
+                    return i;
+                }
+                zero = true;
+                continue;
+            }
+
+            int slot = (int) ((value * GOLDEN_64) >>> shift);
+            while (table[slot] != 0) {
+                if (table[slot] == value) {
+                    return i;
+                }
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = value;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Find the first element of {@code arg} equal to a preceding element, according to
+     * {@code equals()}. Null elements are equal to each other.
+     *
+     * @param arg Array to search, at most {@link #MAX_LENGTH} elements
+     * @return Index of the first duplicate, or -1
+     */
+    static int indexOfDuplicate(final Object[] arg) {
+        if (arg.length <= SMALL) {
+            for (int i = 1; i < arg.length; i++) {
+                for (int j = 0; j < i; j++) {
+                    if (Objects.equals(arg[j], arg[i])) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        final Object[] table = new Object[tableSize(arg.length)];
+        boolean nullSeen = false;
+
+        for (int i = 0; i < arg.length; i++) {
+            if (arg[i] == null) {
+                if (nullSeen) {
+                    return i;
+                }
+                nullSeen = true;
+            }
+            else if (!insert(table, arg[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Find the first element of {@code arg} equal to a preceding element in iteration order. Works
+     * like {@link #indexOfDuplicate(Object[])}. Sets are not searched, since they cannot contain
+     * duplicates. If {@code expectedSize} is too small, the hash table grows while the elements are
+     * inserted, so collections without constant-time size are traversed only once. Once more than
+     * {@link #MAX_LENGTH} elements have been inserted, the search continues in a {@link HashSet}.
+     *
+     * @param arg Collection to search
+     * @param expectedSize Expected number of elements
+     * @return Index of the first duplicate, or -1
+     */
+    static int indexOfDuplicate(final Collection<?> arg, final int expectedSize) {
+        return indexOfDuplicate(arg, expectedSize, MAX_TABLE);
+    }
+
+    /**
+     * Find the first element of {@code arg} equal to a preceding element in iteration order, using
+     * hash tables of at most {@code maxTable} slots.
+     *
+     * @param arg Collection to search
+     * @param expectedSize Expected number of elements
+     * @param maxTable Maximum number of slots of the hash table, a power of two
+     * @return Index of the first duplicate, or -1
+     */
+    static int indexOfDuplicate(final Collection<?> arg, final int expectedSize, final int maxTable) {
+        if (arg instanceof Set) {
+            return -1;
+        }
+
+        if (arg instanceof List && arg instanceof RandomAccess && expectedSize <= SMALL) {
+            final List<?> list = (List<?>) arg;
+            for (int i = 1; i < list.size(); i++) {
+                final Object element = list.get(i);
+                for (int j = 0; j < i; j++) {
+                    if (Objects.equals(list.get(j), element)) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        Object[] table = new Object[Math.min(tableSize(expectedSize), maxTable)];
+        Set<Object> overflow = null;
+        boolean nullSeen = false;
+        int count = 0;
+        int index = 0;
+
+        for (Object element : arg) {
+            if (element == null) {
+                if (nullSeen) {
+                    return index;
+                }
+                nullSeen = true;
+            }
+            else if (overflow != null) {
+                if (!overflow.add(element)) {
+                    return index;
+                }
+            }
+            else if (++count > maxTable / 2) {
+                overflow = toSet(table);
+                table = null;
+                if (!overflow.add(element)) {
+                    return index;
+                }
+            }
+            else {
+                if (count > table.length / 2) {
+                    table = grow(table);
+                }
+                if (!insert(table, element)) {
+                    return index;
+                }
+            }
+            index++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Insert {@code element} into the hash table, unless an equal element is present.
+     *
+     * @param table Hash table with at least one empty slot
+     * @param element Element to insert, not null
+     * @return True if inserted, false if an equal element is present
+     */
+    private static boolean insert(final Object[] table, final Object element) {
+        final int mask = table.length - 1;
+        int slot = (element.hashCode() * GOLDEN_32) >>> Integer.numberOfLeadingZeros(mask);
+
+        Object present;
+        while ((present = table[slot]) != null) {
+            if (present.equals(element)) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        table[slot] = element;
+        return true;
+    }
+
+    /**
+     * Rehash all elements of {@code table} into a table of twice the size.
+     *
+     * @param table Hash table to grow
+     * @return New hash table
+     */
+    private static Object[] grow(final Object[] table) {
+        final Object[] grown = new Object[table.length * 2];
+        for (Object element : table) {
+            if (element != null) {
+                insert(grown, element);
+            }
+        }
+        return grown;
+    }
+
+    /**
+     * Copy all elements of {@code table} into a {@link HashSet}, once the table cannot grow anymore.
+     *
+     * @param table Hash table to copy
+     * @return Set of all elements
+     */
+    private static Set<Object> toSet(final Object[] table) {
+        final Set<Object> set = new HashSet<>(table.length);
+        for (Object element : table) {
+            if (element != null) {
+                set.add(element);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Get the size of a hash table for {@code length} elements, which is the smallest power of two
+     * of at least twice the number of elements, but at most {@link #MAX_TABLE}.
+     *
+     * @param length Number of elements
+     * @return Number of slots
+     */
+    private static int tableSize(final int length) {
+        final long size = Long.highestOneBit(Math.max(MIN_TABLE / 2, 2L * length - 1)) << 1;
+        return (int) Math.min(size, MAX_TABLE);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Element-wise test of a stream or iterator, performed while the consumer pulls the elements. Each
+ * element is counted and tested before it is handed on, so the validation runs in the same pass as
+ * the processing, and no element is buffered. Once all elements have been pulled, the check is
+ * reported as passed.
+ *
+ * @param <T> Type of the elements
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+final class ElementCheck<T> implements Consumer<T> {
+
+    private static final String RULE = "validating";
+
+    private final AbstractArgumentValidator validator;
+    private final String type;
+    private final Predicate<? super T> rule;
+    private final long maxElements;
+    private final String name;
+    private final Supplier<String> nameSupplier;
+    private long count;
+    private boolean finished;
+
+    /**
+     * Create a new check.
+     *
+     * @param validator Validator reporting the outcome of the check
+     * @param type Type of the validated source, used in exception messages
+     * @param rule Rule every element must pass
+     * @param maxElements Maximum number of elements
+     * @param name Name to be referenced in exception message, null if passed as Supplier
+     * @param nameSupplier Supplier of the name, null if passed as String
+     */
+    ElementCheck(final AbstractArgumentValidator validator, final String type, final Predicate<? super T> rule, final long maxElements, final String name, final Supplier<String> nameSupplier) {
+        this.validator = validator;
+        this.type = type;
+        this.rule = rule;
+        this.maxElements = maxElements;
+        this.name = name;
+        this.nameSupplier = nameSupplier;
+    }
+
+    /**
+     * Count and test a single element. An element fails if the rule returns false or raises an
+     * IllegalArgumentException. All other exceptions are propagated.
+     *
+     * @param element Element to test
+     */
+    @Override
+    public void accept(final T element) {
+        final long index = this.count++;
+        if (index >= this.maxElements) {
+            throw this.validator.violation(RULE, this.name, ViolationMessages.elementCount(this.name(), this.type, this.maxElements));
+        }
+
+        final boolean passed;
+        try {
+            passed = this.rule.test(element);
+        }
+        catch (IllegalArgumentException ex) {
+            throw this.validator.violation(RULE, this.name, ViolationMessages.element(this.name(), index, ex.getMessage()));
+        }
+
+        if (!passed) {
+            throw this.validator.violation(RULE, this.name, ViolationMessages.element(this.name(), index, element));
+        }
+    }
+
+    /**
+     * Report the check as passed, once all elements have been pulled. Subsequent calls do nothing.
+     */
+    void finish() {
+        if (!this.finished) {
+            this.finished = true;
+            this.validator.passed(RULE, this.name);
+        }
+    }
+
+    private String name() {
+        return (this.nameSupplier == null) ? this.name : ViolationMessages.resolve(this.nameSupplier);
+    }
+
+    /**
+     * Iterator testing the elements of another iterator as they are returned.
+     *
+     * @param <T> Type of the elements
+     */
+    static final class CheckedIterator<T> implements Iterator<T> {
+
+        private final Iterator<T> source;
+        private final ElementCheck<T> check;
+
+        CheckedIterator(final Iterator<T> source, final ElementCheck<T> check) {
+            this.source = source;
+            this.check = check;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.source.hasNext()) {
+                return true;
+            }
+
+            this.check.finish();
+            return false;
+        }
+
+        @Override
+        public T next() {
+            final T element = this.source.next();
+            this.check.accept(element);
+            return element;
+        }
+
+        @Override
+        public void remove() {
+            this.source.remove();
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super T> action) {
+            this.source.forEachRemaining(element -> {
+                this.check.accept(element);
+                action.accept(element);
+            });
+            this.check.finish();
+        }
+    }
+
+    /**
+     * Spliterator testing the elements of another spliterator as they are traversed. It does not
+     * split, since the elements must be counted in encounter order, and it does not report a known
+     * size, so that terminal operations like {@code count()} cannot skip the traversal.
+     *
+     * @param <T> Type of the elements
+     */
+    static final class CheckedSpliterator<T> implements Spliterator<T>, Consumer<T> {
+
+        private final Spliterator<T> source;
+        private final ElementCheck<T> check;
+        private Consumer<? super T> action;
+
+        CheckedSpliterator(final Spliterator<T> source, final ElementCheck<T> check) {
+            this.source = source;
+            this.check = check;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            this.action = action;
+            if (this.source.tryAdvance(this)) {
+                return true;
+            }
+
+            this.check.finish();
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super T> action) {
+            this.action = action;
+            this.source.forEachRemaining(this);
+            this.check.finish();
+        }
+
+        @Override
+        public void accept(final T element) {
+            this.check.accept(element);
+            this.action.accept(element);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return this.source.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return this.source.getComparator();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import lombok.Getter;
+
+/**
+ * Element-wise test of a collection, either sequentially on the calling thread or in parallel on
+ * the common {@link ForkJoinPool}. A parallel scan splits the {@link Spliterator} of the collection
+ * into batches, which are scanned by separate tasks. All tasks share the first failure found, and
+ * stop scanning as soon as it is present, so the result of a parallel scan is any failing element
+ * rather than the first one.
+ * <p>
+ * Indices are reported in encounter order. Parallel scans only know the index of an element, if
+ * the spliterator of the collection is {@link Spliterator#SUBSIZED}, such as those of arrays and
+ * array lists.
+ *
+ * @param <T> Type of the elements
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+final class ElementScan<T> extends RecursiveAction implements Consumer<T> {
+
+    /**
+     * Minimum number of elements scanned by a single task.
+     */
+    static final long MIN_BATCH = 1024;
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Spliterator<T> spliterator;
+    private final transient Predicate<? super T> rule;
+    private final AtomicReference<Failure> failure;
+    private final long batch;
+    private long index;
+
+    private ElementScan(final Spliterator<T> spliterator, final long index, final Predicate<? super T> rule, final AtomicReference<Failure> failure, final long batch) {
+        this.spliterator = spliterator;
+        this.index = index;
+        this.rule = rule;
+        this.failure = failure;
+        this.batch = batch;
+    }
+
+    /**
+     * Test all elements of {@code arg}. An element fails if {@code rule} returns false or raises an
+     * IllegalArgumentException. All other exceptions are propagated.
+     *
+     * @param <T> Type of the elements
+     * @param arg Collection to scan
+     * @param rule Rule every element must pass
+     * @param parallel True, to scan on the common fork/join pool
+     * @return Failing element, or null if all elements have passed
+     */
+    static <T> Failure scan(final Collection<T> arg, final Predicate<? super T> rule, final boolean parallel) {
+        final AtomicReference<Failure> failure = new AtomicReference<>();
+        final Spliterator<T> spliterator = arg.spliterator();
+
+        if (parallel && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            final long batch = Math.max(MIN_BATCH, spliterator.estimateSize() / (ForkJoinPool.getCommonPoolParallelism() * 4L));
+            final long index = spliterator.hasCharacteristics(Spliterator.SUBSIZED) ? 0 : -1;
+            ForkJoinPool.commonPool().invoke(new ElementScan<>(spliterator, index, rule, failure, batch));
+        }
+        else {
+            new ElementScan<>(spliterator, 0, rule, failure, Long.MAX_VALUE).compute();
+        }
+
+        return failure.get();
+    }
+
+    /**
+     * Split off batches to be scanned by forked tasks, until the remaining batch is small enough,
+     * then scan it and wait for the forked tasks.
+     */
+    @Override
+    protected void compute() {
+        final Spliterator<T> rest = this.spliterator;
+        List<ElementScan<T>> forks = null;
+
+        while (rest.estimateSize() > this.batch && this.failure.get() == null) {
+            final Spliterator<T> prefix = rest.trySplit();
+            if (prefix == null) {
+                break;
+            }
+
+            final long prefixSize = prefix.getExactSizeIfKnown();
+            final ElementScan<T> task = new ElementScan<>(prefix, this.index, this.rule, this.failure, this.batch);
+            this.index = (this.index < 0 || prefixSize < 0) ? -1 : this.index + prefixSize;
+
+            if (forks == null) {
+                forks = new ArrayList<>();
+            }
+            forks.add(task);
+            task.fork();
+        }
+
+        while (this.failure.get() == null && rest.tryAdvance(this)) {
+            // all work is done by accept()
+        }
+
+        if (forks != null) {
+            for (ElementScan<T> task : forks) {
+                task.join();
+            }
+        }
+    }
+
+    /**
+     * Test a single element and record it, if it fails.
+     *
+     * @param element Element to test
+     */
+    @Override
+    public void accept(final T element) {
+        try {
+            if (!this.rule.test(element)) {
+                this.failure.compareAndSet(null, new Failure(this.index, element, null));
+            }
+        }
+        catch (IllegalArgumentException ex) {
+            this.failure.compareAndSet(null, new Failure(this.index, element, ex));
+        }
+
+        if (this.index >= 0) {
+            this.index++;
+        }
+    }
+
+    /**
+     * Element which has failed the test of a scan.
+     */
+    static final class Failure {
+
+        /**
+         * Index of the element in encounter order, or -1 if unknown.
+         */
+        @Getter
+        private final long index;
+
+        /**
+         * Failing element.
+         */
+        @Getter
+        private final Object element;
+
+        /**
+         * Exception raised by the rule, or null if the rule has returned false.
+         */
+        @Getter
+        private final IllegalArgumentException cause;
+
+        private Failure(final long index, final Object element, final IllegalArgumentException cause) {
+            this.index = index;
+            this.element = element;
+            this.cause = cause;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import lombok.Getter;
+
+/**
+ * Test of all entries of a map. A {@link ConcurrentHashMap} with more entries than a threshold is
+ * scanned by its own {@link ConcurrentHashMap#search(long, java.util.function.BiFunction) search()},
+ * which runs in parallel on the common fork/join pool and stops all tasks once a failing entry has
+ * been found. Other maps are scanned sequentially on the calling thread.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+final class EntryScan {
+
+    /**
+     * Private constructor, static only class
+     */
+    private EntryScan() {
+
+    }
+
+    /**
+     * Test all entries of {@code arg}. An entry fails if {@code rule} returns false or raises an
+     * IllegalArgumentException. All other exceptions are propagated.
+     *
+     * @param <K> Type of the keys
+     * @param <V> Type of the values
+     * @param arg Map to scan
+     * @param rule Rule every entry must pass
+     * @param parallelThreshold Number of entries above which a ConcurrentHashMap is scanned in
+     * parallel
+     * @return Failing entry, or null if all entries have passed
+     */
+    static <K, V> Failure scan(final Map<K, V> arg, final BiPredicate<? super K, ? super V> rule, final long parallelThreshold) {
+        if (arg instanceof ConcurrentHashMap) {
+            final ConcurrentHashMap<K, V> map = (ConcurrentHashMap<K, V>) arg;
+            // search() costs about twice an iteration of the entry set when it runs sequentially
+            if (map.mappingCount() > parallelThreshold) {
+                return map.search(parallelThreshold, (key, value) -> test(key, value, rule));
+            }
+        }
+
+        for (Map.Entry<K, V> entry : arg.entrySet()) {
+            final Failure failure = test(entry.getKey(), entry.getValue(), rule);
+            if (failure != null) {
+                return failure;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Test a single entry.
+     *
+     * @param <K> Type of the keys
+     * @param <V> Type of the values
+     * @param key Key of the entry
+     * @param value Value of the entry
+     * @param rule Rule the entry must pass
+     * @return Failure, or null if the entry has passed
+     */
+    private static <K, V> Failure test(final K key, final V value, final BiPredicate<? super K, ? super V> rule) {
+        try {
+            return rule.test(key, value) ? null : new Failure(key, value, null);
+        }
+        catch (IllegalArgumentException ex) {
+            return new Failure(key, value, ex);
+        }
+    }
+
+    /**
+     * Entry which has failed the test of a scan.
+     */
+    static final class Failure {
+
+        /**
+         * Key of the failing entry.
+         */
+        @Getter
+        private final Object key;
+
+        /**
+         * Value of the failing entry.
+         */
+        @Getter
+        private final Object value;
+
+        /**
+         * Exception raised by the rule, or null if the rule has returned false.
+         */
+        @Getter
+        private final IllegalArgumentException cause;
+
+        private Failure(final Object key, final Object value, final IllegalArgumentException cause) {
+            this.key = key;
+            this.value = value;
+            this.cause = cause;
+        }
+    }
+}
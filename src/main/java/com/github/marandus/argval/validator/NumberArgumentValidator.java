@@ -16,9 +16,15 @@
 package com.github.marandus.argval.validator;
 
 import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.enums.NumberRangeMode;
+import java.util.function.Supplier;
 
 /**
  * Definition of methods available for number argument validation.
+ * <p>
+ * Methods added in 0.3 are default methods, so implementations written against earlier versions
+ * keep working. The defaults of the variants taking a Supplier of the name obtain the name up front
+ * and call the variant taking the name. All other defaults throw an UnsupportedOperationException.
  *
  * @author Thomas Rix (thomasrix@exodus-project.net)
  * @since 0.2
@@ -45,6 +51,25 @@ public interface NumberArgumentValidator {
      */
     public void requireValue(final byte arg, final byte value, final NumberCompareOperator comp, final String name);
 
+    /**
+     * Test the comparison of {@code arg} and {@code value} using the operator defined in
+     * {@code comp} to be true. Works like
+     * {@link #requireValue(byte, byte, NumberCompareOperator, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match value requirements
+     * 
+     * @since 0.3
+     */
+    public default void requireValue(final byte arg, final byte value, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.requireValue(arg, value, comp, ViolationMessages.resolve(name));
+    }
+
     /**
      * Test the comparison of {@code arg} and {@code value} using the operator defined in
      * {@code comp} to be true. If the result of the comparison is false, an
@@ -65,6 +90,25 @@ public interface NumberArgumentValidator {
      */
     public void requireValue(final short arg, final short value, final NumberCompareOperator comp, final String name);
 
+    /**
+     * Test the comparison of {@code arg} and {@code value} using the operator defined in
+     * {@code comp} to be true. Works like
+     * {@link #requireValue(short, short, NumberCompareOperator, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match value requirements
+     *
+     * @since 0.3
+     */
+    public default void requireValue(final short arg, final short value, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.requireValue(arg, value, comp, ViolationMessages.resolve(name));
+    }
+
     /**
      * Test the comparison of {@code arg} and {@code value} using the operator defined in
      * {@code comp} to be true. If the result of the comparison is false, an
@@ -85,6 +129,25 @@ public interface NumberArgumentValidator {
      */
     public void requireValue(final int arg, final int value, final NumberCompareOperator comp, final String name);
 
+    /**
+     * Test the comparison of {@code arg} and {@code value} using the operator defined in
+     * {@code comp} to be true. Works like
+     * {@link #requireValue(int, int, NumberCompareOperator, String)}, but the name is only obtained
+     * from {@code name} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match value requirements
+     *
+     * @since 0.3
+     */
+    public default void requireValue(final int arg, final int value, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.requireValue(arg, value, comp, ViolationMessages.resolve(name));
+    }
+
     /**
      * Test the comparison of {@code arg} and {@code value} using the operator defined in
      * {@code comp} to be true. If the result of the comparison is false, an
@@ -105,6 +168,25 @@ public interface NumberArgumentValidator {
      */
     public void requireValue(final long arg, final long value, final NumberCompareOperator comp, final String name);
 
+    /**
+     * Test the comparison of {@code arg} and {@code value} using the operator defined in
+     * {@code comp} to be true. Works like
+     * {@link #requireValue(long, long, NumberCompareOperator, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match value requirements
+     *
+     * @since 0.3
+     */
+    public default void requireValue(final long arg, final long value, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.requireValue(arg, value, comp, ViolationMessages.resolve(name));
+    }
+
     /**
      * Test the value of {@code arg} to be less than zero. If the value is zero or greater, an
      * IllegalArgumentException will be raised. The exception message will be constructed as
@@ -121,6 +203,22 @@ public interface NumberArgumentValidator {
      */
     public void requireNegative(final long arg, final String name);
 
+    /**
+     * Test the value of {@code arg} to be less than zero. Works like
+     * {@link #requireNegative(long, String)}, but the name is only obtained from {@code name} if
+     * the validation fails.
+     *
+     * @param arg Argument to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match value requirements
+     *
+     * @since 0.3
+     */
+    public default void requireNegative(final long arg, final Supplier<String> name) {
+        this.requireNegative(arg, ViolationMessages.resolve(name));
+    }
+
     /**
      * Test the value of {@code arg} to be greater than zero. If the value is zero or less, an
      * IllegalArgumentException will be raised. The exception message will be constructed as
@@ -137,6 +235,22 @@ public interface NumberArgumentValidator {
      */
     public void requirePositive(final long arg, final String name);
 
+    /**
+     * Test the value of {@code arg} to be greater than zero. Works like
+     * {@link #requirePositive(long, String)}, but the name is only obtained from {@code name} if
+     * the validation fails.
+     *
+     * @param arg Argument to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match value requirements
+     *
+     * @since 0.3
+     */
+    public default void requirePositive(final long arg, final Supplier<String> name) {
+        this.requirePositive(arg, ViolationMessages.resolve(name));
+    }
+
     /**
      * Test the value of {@code arg} to be zero. If the value is greater or less than zero, an
      * IllegalArgumentException will be raised. The exception message will be constructed as
@@ -153,4 +267,298 @@ public interface NumberArgumentValidator {
      */
     public void requireZero(final long arg, final String name);
 
+    /**
+     * Test the value of {@code arg} to be zero. Works like {@link #requireZero(long, String)}, but
+     * the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match value requirements
+     *
+     * @since 0.3
+     */
+    public default void requireZero(final long arg, final Supplier<String> name) {
+        this.requireZero(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}. If {@code arg} is outside of the range, an IllegalArgumentException will be
+     * raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Integer range violation (" + name + "): int(" + arg + ") not in " + mode.format(lower,
+     * upper)</tt>
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is outside of the range, or if
+     * the range is empty
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireInRange(final int arg, final int lower, final int upper, final NumberRangeMode mode, final String name) {
+        throw new UnsupportedOperationException("requireInRange() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}. Works like {@link #requireInRange(int, int, int, NumberRangeMode, String)}, but
+     * the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is outside of the range, or if
+     * the range is empty
+     *
+     * @since 0.3
+     */
+    public default void requireInRange(final int arg, final int lower, final int upper, final NumberRangeMode mode, final Supplier<String> name) {
+        this.requireInRange(arg, lower, upper, mode, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}. If {@code arg} is outside of the range, an IllegalArgumentException will be
+     * raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Long range violation (" + name + "): long(" + arg + ") not in " + mode.format(lower,
+     * upper)</tt>
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is outside of the range, or if
+     * the range is empty
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireInRange(final long arg, final long lower, final long upper, final NumberRangeMode mode, final String name) {
+        throw new UnsupportedOperationException("requireInRange() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}. Works like {@link #requireInRange(long, long, long, NumberRangeMode, String)},
+     * but the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is outside of the range, or if
+     * the range is empty
+     *
+     * @since 0.3
+     */
+    public default void requireInRange(final long arg, final long lower, final long upper, final NumberRangeMode mode, final Supplier<String> name) {
+        this.requireInRange(arg, lower, upper, mode, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}. If {@code arg} is outside of the range, an IllegalArgumentException will be
+     * raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Double range violation (" + name + "): double(" + arg + ") not in " + mode.format(lower,
+     * upper)</tt>
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is outside of the range, or if
+     * the range is empty
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireInRange(final double arg, final double lower, final double upper, final NumberRangeMode mode, final String name) {
+        throw new UnsupportedOperationException("requireInRange() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}. Works like
+     * {@link #requireInRange(double, double, double, NumberRangeMode, String)}, but the name is
+     * only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is outside of the range, or if
+     * the range is empty
+     *
+     * @since 0.3
+     */
+    public default void requireInRange(final double arg, final double lower, final double upper, final NumberRangeMode mode, final Supplier<String> name) {
+        this.requireInRange(arg, lower, upper, mode, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test the comparison of each element of {@code values} and {@code value} using the operator
+     * defined in {@code comp} to be true. If the comparison is false for any element, an
+     * IllegalArgumentException will be raised for the first of these elements. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Integer value violation (" + name + "[" + index + "]): int(" + values[index] + ") " +
+     * comp.getOperator() + " " + value</tt>
+     *
+     * @param values Arguments to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if {@code values} is null, or if any element does not
+     * match value requirements
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireAll(final int[] values, final int value, final NumberCompareOperator comp, final String name) {
+        throw new UnsupportedOperationException("requireAll() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the comparison of each element of {@code values} and {@code value} using the operator
+     * defined in {@code comp} to be true. If the comparison is false for any element, an
+     * IllegalArgumentException will be raised for the first of these elements. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Long value violation (" + name + "[" + index + "]): long(" + values[index] + ") " +
+     * comp.getOperator() + " " + value</tt>
+     *
+     * @param values Arguments to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if {@code values} is null, or if any element does not
+     * match value requirements
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireAll(final long[] values, final long value, final NumberCompareOperator comp, final String name) {
+        throw new UnsupportedOperationException("requireAll() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the comparison of each element of {@code values} and {@code value} using the operator
+     * defined in {@code comp} to be true. If the comparison is false for any element, an
+     * IllegalArgumentException will be raised for the first of these elements. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Double value violation (" + name + "[" + index + "]): double(" + values[index] + ") " +
+     * comp.getOperator() + " " + value</tt>
+     *
+     * @param values Arguments to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if {@code values} is null, or if any element does not
+     * match value requirements
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireAll(final double[] values, final double value, final NumberCompareOperator comp, final String name) {
+        throw new UnsupportedOperationException("requireAll() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test each element of {@code values} to be within the range defined by {@code lower},
+     * {@code upper}, and {@code mode}. If any element is outside of the range, an
+     * IllegalArgumentException will be raised for the first of these elements. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Integer range violation (" + name + "[" + index + "]): int(" + values[index] + ") not in "
+     * + mode.format(lower, upper)</tt>
+     *
+     * @param values Arguments to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if {@code values} is null, if any element is outside of
+     * the range, or if the range is empty
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireAllInRange(final int[] values, final int lower, final int upper, final NumberRangeMode mode, final String name) {
+        throw new UnsupportedOperationException("requireAllInRange() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test each element of {@code values} to be within the range defined by {@code lower},
+     * {@code upper}, and {@code mode}. If any element is outside of the range, an
+     * IllegalArgumentException will be raised for the first of these elements. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Long range violation (" + name + "[" + index + "]): long(" + values[index] + ") not in "
+     * + mode.format(lower, upper)</tt>
+     *
+     * @param values Arguments to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if {@code values} is null, if any element is outside of
+     * the range, or if the range is empty
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireAllInRange(final long[] values, final long lower, final long upper, final NumberRangeMode mode, final String name) {
+        throw new UnsupportedOperationException("requireAllInRange() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test each element of {@code values} to be within the range defined by {@code lower},
+     * {@code upper}, and {@code mode}. If any element is outside of the range, an
+     * IllegalArgumentException will be raised for the first of these elements. The exception
+     * message will be constructed as follows:
+     * <p>
+     * <tt>"Double range violation (" + name + "[" + index + "]): double(" + values[index] + ") not in "
+     * + mode.format(lower, upper)</tt>
+     *
+     * @param values Arguments to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if {@code values} is null, if any element is outside of
+     * the range, or if the range is empty
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireAllInRange(final double[] values, final double lower, final double upper, final NumberRangeMode mode, final String name) {
+        throw new UnsupportedOperationException("requireAllInRange() is not implemented by " + this.getClass().getName());
+    }
 }
@@ -15,7 +15,11 @@
  */
 package com.github.marandus.argval.validator;
 
+import com.github.marandus.argval.enums.ExceptionMode;
 import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.enums.NumberRangeMode;
+import com.github.marandus.argval.metrics.ValidationMetrics;
+import java.util.function.Supplier;
 
 /**
  * Reference implementation of the {@link NumberArgumentValidatorImpl} interface.
@@ -23,13 +27,44 @@ import com.github.marandus.argval.enums.NumberCompareOperator;
  * @author Thomas Rix (thomasrix@exodus-project.net)
  * @since 0.2
  */
-public class NumberArgumentValidatorImpl implements NumberArgumentValidator {
+public class NumberArgumentValidatorImpl extends AbstractArgumentValidator implements NumberArgumentValidator {
 
     /**
-     * Create a new validator instance.
+     * Number of array elements reduced to their minimum and maximum before the result is checked.
+     */
+    private static final int BLOCK_SIZE = 256;
+
+    /**
+     * Create a new validator instance. Failed validations raise exceptions including the full stack
+     * trace.
      */
     public NumberArgumentValidatorImpl() {
+        this(ExceptionMode.STACK_TRACE);
+    }
 
+    /**
+     * Create a new validator instance. Failed validations raise exceptions as defined by the
+     * specified exception mode.
+     *
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     *
+     * @since 0.3
+     */
+    public NumberArgumentValidatorImpl(final ExceptionMode exceptionMode) {
+        this(exceptionMode, null);
+    }
+
+    /**
+     * Create a new validator instance. Failed validations raise exceptions as defined by the
+     * specified exception mode. The outcome of every check is reported to {@code metrics}.
+     *
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     * @param metrics Sink receiving the outcome of all checks, or null to not report checks
+     *
+     * @since 0.3
+     */
+    public NumberArgumentValidatorImpl(final ExceptionMode exceptionMode, final ValidationMetrics metrics) {
+        super(exceptionMode, metrics);
     }
 
     /**
@@ -38,9 +73,22 @@ public class NumberArgumentValidatorImpl implements NumberArgumentValidator {
     @Override
     public void requireValue(final byte arg, final byte value, final NumberCompareOperator comp, final String name) {
         if (!comp.doComparison(arg, value)) {
-            String msg = "Byte value violation (" + name + "): byte(" + arg + ") " + comp.getOperator() + " " + value;
-            throw new IllegalArgumentException(msg);
+            throw this.violation("requireValue", name, ViolationMessages.value("Byte", "byte", name, arg, comp, value));
+        }
+
+        this.passed("requireValue", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValue(final byte arg, final byte value, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (!comp.doComparison(arg, value)) {
+            throw this.violation("requireValue", null, ViolationMessages.value("Byte", "byte", ViolationMessages.resolve(name), arg, comp, value));
         }
+
+        this.passed("requireValue", null);
     }
 
     /**
@@ -49,9 +97,22 @@ public class NumberArgumentValidatorImpl implements NumberArgumentValidator {
     @Override
     public void requireValue(final short arg, final short value, final NumberCompareOperator comp, final String name) {
         if (!comp.doComparison(arg, value)) {
-            String msg = "Short value violation (" + name + "): short(" + arg + ") " + comp.getOperator() + " " + value;
-            throw new IllegalArgumentException(msg);
+            throw this.violation("requireValue", name, ViolationMessages.value("Short", "short", name, arg, comp, value));
         }
+
+        this.passed("requireValue", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValue(final short arg, final short value, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (!comp.doComparison(arg, value)) {
+            throw this.violation("requireValue", null, ViolationMessages.value("Short", "short", ViolationMessages.resolve(name), arg, comp, value));
+        }
+
+        this.passed("requireValue", null);
     }
 
     /**
@@ -60,9 +121,22 @@ public class NumberArgumentValidatorImpl implements NumberArgumentValidator {
     @Override
     public void requireValue(final int arg, final int value, final NumberCompareOperator comp, final String name) {
         if (!comp.doComparison(arg, value)) {
-            String msg = "Integer value violation (" + name + "): int(" + arg + ") " + comp.getOperator() + " " + value;
-            throw new IllegalArgumentException(msg);
+            throw this.violation("requireValue", name, ViolationMessages.value("Integer", "int", name, arg, comp, value));
         }
+
+        this.passed("requireValue", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValue(final int arg, final int value, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (!comp.doComparison(arg, value)) {
+            throw this.violation("requireValue", null, ViolationMessages.value("Integer", "int", ViolationMessages.resolve(name), arg, comp, value));
+        }
+
+        this.passed("requireValue", null);
     }
 
     /**
@@ -71,50 +145,501 @@ public class NumberArgumentValidatorImpl implements NumberArgumentValidator {
     @Override
     public void requireValue(final long arg, final long value, final NumberCompareOperator comp, final String name) {
         if (!comp.doComparison(arg, value)) {
-            String msg = "Long value violation (" + name + "): long(" + arg + ") " + comp.getOperator() + " " + value;
-            throw new IllegalArgumentException(msg);
+            throw this.violation("requireValue", name, ViolationMessages.value("Long", "long", name, arg, comp, value));
+        }
+
+        this.passed("requireValue", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValue(final long arg, final long value, final NumberCompareOperator comp, final Supplier<String> name) {
+        if (!comp.doComparison(arg, value)) {
+            throw this.violation("requireValue", null, ViolationMessages.value("Long", "long", ViolationMessages.resolve(name), arg, comp, value));
+        }
+
+        this.passed("requireValue", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNegative(final long arg, final String name) {
+        if (arg >= 0L) {
+            throw this.violation("requireNegative", name, ViolationMessages.notNegative(name, arg));
+        }
+
+        this.passed("requireNegative", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNegative(final long arg, final Supplier<String> name) {
+        if (arg >= 0L) {
+            throw this.violation("requireNegative", null, ViolationMessages.notNegative(ViolationMessages.resolve(name), arg));
+        }
+
+        this.passed("requireNegative", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requirePositive(final long arg, final String name) {
+        if (arg <= 0L) {
+            throw this.violation("requirePositive", name, ViolationMessages.notPositive(name, arg));
+        }
+
+        this.passed("requirePositive", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requirePositive(final long arg, final Supplier<String> name) {
+        if (arg <= 0L) {
+            throw this.violation("requirePositive", null, ViolationMessages.notPositive(ViolationMessages.resolve(name), arg));
         }
+
+        this.passed("requirePositive", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireZero(final long arg, final String name) {
+        if (arg != 0L) {
+            throw this.violation("requireZero", name, ViolationMessages.notZero(name, arg));
+        }
+
+        this.passed("requireZero", name);
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
-    public void requireNegative(long arg, String name) {
-        try {
-            this.requireValue(arg, 0L, NumberCompareOperator.LESS, name);
+    public void requireZero(final long arg, final Supplier<String> name) {
+        if (arg != 0L) {
+            throw this.violation("requireZero", null, ViolationMessages.notZero(ViolationMessages.resolve(name), arg));
         }
-        catch (IllegalArgumentException ex) {
-            String msg = "Value is not negative (" + name + "): " + arg;
-            throw new IllegalArgumentException(msg);
+
+        this.passed("requireZero", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireInRange(final int arg, final int lower, final int upper, final NumberRangeMode mode, final String name) {
+        Checks.checkRange(lower, upper, mode, "requireInRange(int)");
+
+        if (!mode.isInRange(arg, lower, upper)) {
+            throw this.violation("requireInRange", name, ViolationMessages.range("Integer", "int", name, arg, mode, lower, upper));
         }
+
+        this.passed("requireInRange", name);
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
-    public void requirePositive(long arg, String name) {
-        try {
-            this.requireValue(arg, 0L, NumberCompareOperator.GREATER, name);
+    public void requireInRange(final int arg, final int lower, final int upper, final NumberRangeMode mode, final Supplier<String> name) {
+        Checks.checkRange(lower, upper, mode, "requireInRange(int)");
+
+        if (!mode.isInRange(arg, lower, upper)) {
+            throw this.violation("requireInRange", null, ViolationMessages.range("Integer", "int", ViolationMessages.resolve(name), arg, mode, lower, upper));
         }
-        catch (IllegalArgumentException ex) {
-            String msg = "Value is not positive (" + name + "): " + arg;
-            throw new IllegalArgumentException(msg);
+
+        this.passed("requireInRange", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireInRange(final long arg, final long lower, final long upper, final NumberRangeMode mode, final String name) {
+        Checks.checkRange(lower, upper, mode, "requireInRange(long)");
+
+        if (!mode.isInRange(arg, lower, upper)) {
+            throw this.violation("requireInRange", name, ViolationMessages.range("Long", "long", name, arg, mode, lower, upper));
         }
+
+        this.passed("requireInRange", name);
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
-    public void requireZero(long arg, String name) {
-        try {
-            this.requireValue(arg, 0L, NumberCompareOperator.EQUAL, name);
+    public void requireInRange(final long arg, final long lower, final long upper, final NumberRangeMode mode, final Supplier<String> name) {
+        Checks.checkRange(lower, upper, mode, "requireInRange(long)");
+
+        if (!mode.isInRange(arg, lower, upper)) {
+            throw this.violation("requireInRange", null, ViolationMessages.range("Long", "long", ViolationMessages.resolve(name), arg, mode, lower, upper));
         }
-        catch (IllegalArgumentException ex) {
-            String msg = "Value is not zero (" + name + "): " + arg;
-            throw new IllegalArgumentException(msg);
+
+        this.passed("requireInRange", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireInRange(final double arg, final double lower, final double upper, final NumberRangeMode mode, final String name) {
+        Checks.checkRange(lower, upper, mode, "requireInRange(double)");
+
+        if (!mode.isInRange(arg, lower, upper)) {
+            throw this.violation("requireInRange", name, ViolationMessages.range("Double", "double", name, arg, mode, lower, upper));
         }
+
+        this.passed("requireInRange", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireInRange(final double arg, final double lower, final double upper, final NumberRangeMode mode, final Supplier<String> name) {
+        Checks.checkRange(lower, upper, mode, "requireInRange(double)");
+
+        if (!mode.isInRange(arg, lower, upper)) {
+            throw this.violation("requireInRange", null, ViolationMessages.range("Double", "double", ViolationMessages.resolve(name), arg, mode, lower, upper));
+        }
+
+        this.passed("requireInRange", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAll(final int[] values, final int value, final NumberCompareOperator comp, final String name) {
+        if (values == null) {
+            throw this.violation("requireAll", name, ViolationMessages.isNull("requireAll(int[]) parameter"));
+        }
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = indexOfViolation(values, value, comp);
+        ValidationEvents.endScan(event, "requireAll", name, values.length);
+        if (index >= 0) {
+            throw this.violation("requireAll", name, ViolationMessages.value("Integer", "int", name + "[" + index + "]", values[index], comp, value));
+        }
+
+        this.passed("requireAll", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAll(final long[] values, final long value, final NumberCompareOperator comp, final String name) {
+        if (values == null) {
+            throw this.violation("requireAll", name, ViolationMessages.isNull("requireAll(long[]) parameter"));
+        }
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = indexOfViolation(values, value, comp);
+        ValidationEvents.endScan(event, "requireAll", name, values.length);
+        if (index >= 0) {
+            throw this.violation("requireAll", name, ViolationMessages.value("Long", "long", name + "[" + index + "]", values[index], comp, value));
+        }
+
+        this.passed("requireAll", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAll(final double[] values, final double value, final NumberCompareOperator comp, final String name) {
+        if (values == null) {
+            throw this.violation("requireAll", name, ViolationMessages.isNull("requireAll(double[]) parameter"));
+        }
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = indexOfViolation(values, value, comp);
+        ValidationEvents.endScan(event, "requireAll", name, values.length);
+        if (index >= 0) {
+            throw this.violation("requireAll", name, ViolationMessages.value("Double", "double", name + "[" + index + "]", values[index], comp, value));
+        }
+
+        this.passed("requireAll", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAllInRange(final int[] values, final int lower, final int upper, final NumberRangeMode mode, final String name) {
+        Checks.checkRange(lower, upper, mode, "requireAllInRange(int[])");
+
+        if (values == null) {
+            throw this.violation("requireAllInRange", name, ViolationMessages.isNull("requireAllInRange(int[]) parameter"));
+        }
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = indexOfViolation(values, lower, upper, mode);
+        ValidationEvents.endScan(event, "requireAllInRange", name, values.length);
+        if (index >= 0) {
+            throw this.violation("requireAllInRange", name, ViolationMessages.range("Integer", "int", name + "[" + index + "]", values[index], mode, lower, upper));
+        }
+
+        this.passed("requireAllInRange", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAllInRange(final long[] values, final long lower, final long upper, final NumberRangeMode mode, final String name) {
+        Checks.checkRange(lower, upper, mode, "requireAllInRange(long[])");
+
+        if (values == null) {
+            throw this.violation("requireAllInRange", name, ViolationMessages.isNull("requireAllInRange(long[]) parameter"));
+        }
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = indexOfViolation(values, lower, upper, mode);
+        ValidationEvents.endScan(event, "requireAllInRange", name, values.length);
+        if (index >= 0) {
+            throw this.violation("requireAllInRange", name, ViolationMessages.range("Long", "long", name + "[" + index + "]", values[index], mode, lower, upper));
+        }
+
+        this.passed("requireAllInRange", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAllInRange(final double[] values, final double lower, final double upper, final NumberRangeMode mode, final String name) {
+        Checks.checkRange(lower, upper, mode, "requireAllInRange(double[])");
+
+        if (values == null) {
+            throw this.violation("requireAllInRange", name, ViolationMessages.isNull("requireAllInRange(double[]) parameter"));
+        }
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = indexOfViolation(values, lower, upper, mode);
+        ValidationEvents.endScan(event, "requireAllInRange", name, values.length);
+        if (index >= 0) {
+            throw this.violation("requireAllInRange", name, ViolationMessages.range("Double", "double", name + "[" + index + "]", values[index], mode, lower, upper));
+        }
+
+        this.passed("requireAllInRange", name);
+    }
+
+    /**
+     * Find the first element of {@code values} for which the comparison with {@code value} is
+     * false. The elements are reduced to their minimum and maximum block by block, which does not
+     * depend on the operator and can be vectorized by the JIT compiler. All elements of a block
+     * pass the comparison if both its minimum and maximum pass. Only blocks which do not pass are
+     * searched element by element.
+     *
+     * @param values Elements to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @return Index of the first violating element, or -1 if all elements pass
+     */
+    private static int indexOfViolation(final int[] values, final int value, final NumberCompareOperator comp) {
+        for (int from = 0; from < values.length; from += BLOCK_SIZE) {
+            final int to = Math.min(from + BLOCK_SIZE, values.length);
+
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int i = from; i < to; i++) {
+                min = Math.min(min, values[i]);
+                max = Math.max(max, values[i]);
+            }
+
+            if (!comp.doComparison(min, value) || !comp.doComparison(max, value)) {
+                for (int i = from; i < to; i++) {
+                    if (!comp.doComparison(values[i], value)) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Find the first element of {@code values} for which the comparison with {@code value} is
+     * false. The elements are reduced to their minimum and maximum block by block, which does not
+     * depend on the operator and can be vectorized by the JIT compiler. All elements of a block
+     * pass the comparison if both its minimum and maximum pass. Only blocks which do not pass are
+     * searched element by element.
+     *
+     * @param values Elements to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @return Index of the first violating element, or -1 if all elements pass
+     */
+    private static int indexOfViolation(final long[] values, final long value, final NumberCompareOperator comp) {
+        for (int from = 0; from < values.length; from += BLOCK_SIZE) {
+            final int to = Math.min(from + BLOCK_SIZE, values.length);
+
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int i = from; i < to; i++) {
+                min = Math.min(min, values[i]);
+                max = Math.max(max, values[i]);
+            }
+
+            if (!comp.doComparison(min, value) || !comp.doComparison(max, value)) {
+                for (int i = from; i < to; i++) {
+                    if (!comp.doComparison(values[i], value)) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Find the first element of {@code values} for which the comparison with {@code value} is
+     * false. The elements are reduced to their minimum and maximum block by block, which does not
+     * depend on the operator and can be vectorized by the JIT compiler. All elements of a block
+     * pass the comparison if both its minimum and maximum pass. Only blocks which do not pass are
+     * searched element by element.
+     *
+     * @param values Elements to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @return Index of the first violating element, or -1 if all elements pass
+     */
+    private static int indexOfViolation(final double[] values, final double value, final NumberCompareOperator comp) {
+        for (int from = 0; from < values.length; from += BLOCK_SIZE) {
+            final int to = Math.min(from + BLOCK_SIZE, values.length);
+
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                min = Math.min(min, values[i]);
+                max = Math.max(max, values[i]);
+            }
+
+            if (!comp.doComparison(min, value) || !comp.doComparison(max, value)) {
+                for (int i = from; i < to; i++) {
+                    if (!comp.doComparison(values[i], value)) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Find the first element of {@code values} which is outside of the range. Works block by block
+     * like {@link #indexOfViolation(int[], int, NumberCompareOperator)}.
+     *
+     * @param values Elements to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @return Index of the first violating element, or -1 if all elements are within the range
+     */
+    private static int indexOfViolation(final int[] values, final int lower, final int upper, final NumberRangeMode mode) {
+        for (int from = 0; from < values.length; from += BLOCK_SIZE) {
+            final int to = Math.min(from + BLOCK_SIZE, values.length);
+
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int i = from; i < to; i++) {
+                min = Math.min(min, values[i]);
+                max = Math.max(max, values[i]);
+            }
+
+            if (!mode.isInRange(min, lower, upper) || !mode.isInRange(max, lower, upper)) {
+                for (int i = from; i < to; i++) {
+                    if (!mode.isInRange(values[i], lower, upper)) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Find the first element of {@code values} which is outside of the range. Works block by block
+     * like {@link #indexOfViolation(long[], long, NumberCompareOperator)}.
+     *
+     * @param values Elements to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @return Index of the first violating element, or -1 if all elements are within the range
+     */
+    private static int indexOfViolation(final long[] values, final long lower, final long upper, final NumberRangeMode mode) {
+        for (int from = 0; from < values.length; from += BLOCK_SIZE) {
+            final int to = Math.min(from + BLOCK_SIZE, values.length);
+
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int i = from; i < to; i++) {
+                min = Math.min(min, values[i]);
+                max = Math.max(max, values[i]);
+            }
+
+            if (!mode.isInRange(min, lower, upper) || !mode.isInRange(max, lower, upper)) {
+                for (int i = from; i < to; i++) {
+                    if (!mode.isInRange(values[i], lower, upper)) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Find the first element of {@code values} which is outside of the range. Works block by block
+     * like {@link #indexOfViolation(double[], double, NumberCompareOperator)}.
+     *
+     * @param values Elements to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @return Index of the first violating element, or -1 if all elements are within the range
+     */
+    private static int indexOfViolation(final double[] values, final double lower, final double upper, final NumberRangeMode mode) {
+        for (int from = 0; from < values.length; from += BLOCK_SIZE) {
+            final int to = Math.min(from + BLOCK_SIZE, values.length);
+
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                min = Math.min(min, values[i]);
+                max = Math.max(max, values[i]);
+            }
+
+            if (!mode.isInRange(min, lower, upper) || !mode.isInRange(max, lower, upper)) {
+                for (int i = from; i < to; i++) {
+                    if (!mode.isInRange(values[i], lower, upper)) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
     }
 }
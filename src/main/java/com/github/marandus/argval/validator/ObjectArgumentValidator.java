@@ -15,8 +15,14 @@
  */
 package com.github.marandus.argval.validator;
 
+import java.util.function.Supplier;
+
 /**
  * Definition of methods available for Object argument validation.
+ * <p>
+ * The variant taking a Supplier of the message has been added in 0.3 as a default method, so
+ * implementations written against earlier versions keep working. It obtains the message up front
+ * and calls the variant taking the message.
  *
  * @author Thomas Rix (thomasrix@exodus-project.net)
  * @since 0.1
@@ -38,4 +44,20 @@ public interface ObjectArgumentValidator {
      * @since 0.1
      */
     public void requireNonNull(final Object arg, final String msg);
+
+    /**
+     * Test {@code arg} to be non-null as defined by the {@code Objects#isNull(java.lang.Object)}
+     * method. Works like {@link #requireNonNull(Object, String)}, but the message is only obtained
+     * from {@code msg} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param msg Supplier of the message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null
+     *
+     * @since 0.3
+     */
+    public default void requireNonNull(final Object arg, final Supplier<String> msg) {
+        this.requireNonNull(arg, ViolationMessages.resolve(msg));
+    }
 }
@@ -15,7 +15,10 @@
  */
 package com.github.marandus.argval.validator;
 
+import com.github.marandus.argval.enums.ExceptionMode;
+import com.github.marandus.argval.metrics.ValidationMetrics;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Reference implementation of the {@link ObjectArgumentValidator} interface.
@@ -23,13 +26,39 @@ import java.util.Objects;
  * @author Thomas Rix (thomasrix@exodus-project.net)
  * @since 0.1
  */
-public class ObjectArgumentValidatorImpl implements ObjectArgumentValidator {
+public class ObjectArgumentValidatorImpl extends AbstractArgumentValidator implements ObjectArgumentValidator {
 
     /**
-     * Create a new validator instance.
+     * Create a new validator instance. Failed validations raise exceptions including the full stack
+     * trace.
      */
     public ObjectArgumentValidatorImpl() {
+        this(ExceptionMode.STACK_TRACE);
+    }
 
+    /**
+     * Create a new validator instance. Failed validations raise exceptions as defined by the
+     * specified exception mode.
+     *
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     *
+     * @since 0.3
+     */
+    public ObjectArgumentValidatorImpl(final ExceptionMode exceptionMode) {
+        this(exceptionMode, null);
+    }
+
+    /**
+     * Create a new validator instance. Failed validations raise exceptions as defined by the
+     * specified exception mode. The outcome of every check is reported to {@code metrics}.
+     *
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     * @param metrics Sink receiving the outcome of all checks, or null to not report checks
+     *
+     * @since 0.3
+     */
+    public ObjectArgumentValidatorImpl(final ExceptionMode exceptionMode, final ValidationMetrics metrics) {
+        super(exceptionMode, metrics);
     }
 
     /**
@@ -38,7 +67,21 @@ public class ObjectArgumentValidatorImpl implements ObjectArgumentValidator {
     @Override
     public void requireNonNull(final Object arg, final String msg) {
         if (Objects.isNull(arg)) {
-            throw new IllegalArgumentException("NULL: " + msg);
+            throw this.violation("requireNonNull", msg, ViolationMessages.isNull(msg));
         }
+
+        this.passed("requireNonNull", msg);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonNull(final Object arg, final Supplier<String> msg) {
+        if (Objects.isNull(arg)) {
+            throw this.violation("requireNonNull", null, ViolationMessages.isNull(ViolationMessages.resolve(msg)));
+        }
+
+        this.passed("requireNonNull", null);
     }
 }
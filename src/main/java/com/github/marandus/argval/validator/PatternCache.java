@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import com.github.marandus.argval.metrics.ValidationMetrics;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded cache of compiled patterns, keyed by their regular expression. Once the capacity is
+ * exceeded, the patterns are evicted in the order they have been added. Lookups never block, and
+ * patterns are compiled outside of the map, so a slow compilation does not delay other lookups.
+ * Concurrent misses of the same expression may compile it more than once, but only one pattern is
+ * cached.
+ * <p>
+ * The cache holds plain {@link Pattern} instances rather than {@link ValidationPattern} handles,
+ * since the per-thread matchers of a handle would outlive its eviction in every thread that has
+ * used it.
+ * <p>
+ * Hits and misses are counted by the cache and reported to the metrics sink of the validator as
+ * cache lookups, which are not counted as checks.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+final class PatternCache {
+
+    private final int capacity;
+    private final String name;
+    private final ValidationMetrics metrics;
+    private final ConcurrentMap<String, Pattern> patterns = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity Maximum number of cached patterns
+     */
+    PatternCache(final int capacity) {
+        this(capacity, null, null);
+    }
+
+    /**
+     * @param capacity Maximum number of cached patterns
+     * @param name Name of the cache reported to {@code metrics}
+     * @param metrics Sink receiving all lookups, or null to not report lookups
+     */
+    PatternCache(final int capacity, final String name, final ValidationMetrics metrics) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid PatternCache capacity: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.name = name;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get the compiled pattern of {@code regex}, compiling and caching it on a miss.
+     *
+     * @param regex Regular expression
+     * @return Compiled pattern
+     *
+     * @throws java.util.regex.PatternSyntaxException if the syntax of {@code regex} is invalid
+     */
+    Pattern get(final String regex) {
+        final Pattern cached = this.patterns.get(regex);
+        if (cached != null) {
+            this.hits.increment();
+            if (this.metrics != null) {
+                this.metrics.recordCacheLookup(this.name, true);
+            }
+            return cached;
+        }
+
+        this.misses.increment();
+        if (this.metrics != null) {
+            this.metrics.recordCacheLookup(this.name, false);
+        }
+
+        final Pattern compiled = Pattern.compile(regex);
+        final Pattern raced = this.patterns.putIfAbsent(regex, compiled);
+        if (raced != null) {
+            return raced;
+        }
+
+        this.insertionOrder.add(regex);
+        while (this.patterns.size() > this.capacity) {
+            final String eldest = this.insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            this.patterns.remove(eldest);
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Get the number of cached patterns.
+     *
+     * @return Number of cached patterns
+     */
+    int size() {
+        return this.patterns.size();
+    }
+
+    /**
+     * Get the number of lookups which have found a cached pattern.
+     *
+     * @return Number of hits
+     */
+    long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Get the number of lookups which have compiled the pattern.
+     *
+     * @return Number of misses
+     */
+    long getMisses() {
+        return this.misses.sum();
+    }
+}
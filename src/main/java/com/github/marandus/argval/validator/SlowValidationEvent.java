@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event of a validation scanning the elements of its argument, which took longer
+ * than the configured threshold.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+@Name("com.github.marandus.argval.SlowValidation")
+@Label("Slow Validation")
+@Category("Argument Validator")
+@Description("Validation scanning the elements of its argument that exceeded the threshold")
+@StackTrace(true)
+@Threshold("1 ms")
+final class SlowValidationEvent extends Event {
+
+    @Label("Rule")
+    @Description("Name of the validator method")
+    String rule;
+
+    @Label("Name")
+    @Description("Message or name passed to the validator method")
+    String name;
+
+    @Label("Elements")
+    @Description("Number of elements of the argument")
+    long elements;
+}
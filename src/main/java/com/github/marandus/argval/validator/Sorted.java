@@ -0,0 +1,274 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Test of the order of adjacent elements, in a single forward pass. Every element is compared with
+ * its successor using a {@link NumberCompareOperator}, e.g. {@code LESS} for strictly increasing
+ * elements.
+ * <p>
+ * Arrays are checked block by block. Within a block, the outcome of all comparisons is combined
+ * without branching or exiting early, which keeps the inner loop a simple counted loop the JIT
+ * compiler is able to unroll and vectorize. Only a block containing a violation is scanned again to
+ * find the index. Descending orders reuse the loops of ascending orders on inverted values, which
+ * is {@code ~x} for integers and {@code -x} for doubles.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+final class Sorted {
+
+    /**
+     * Number of array elements compared before the combined outcome is checked.
+     */
+    private static final int BLOCK_SIZE = 256;
+
+    /**
+     * Private constructor, static only class
+     */
+    private Sorted() {
+
+    }
+
+    /**
+     * Find the first element of {@code arg} for which the comparison of its predecessor and itself
+     * using {@code comp} is false.
+     *
+     * @param arg Array to test
+     * @param comp Operator every element and its successor must satisfy
+     * @return Index of the first element out of order, or -1
+     */
+    static int indexOfUnordered(final int[] arg, final NumberCompareOperator comp) {
+        switch (comp) {
+            case LESS:
+                return indexOfUnordered(arg, 0, true);
+            case LESS_EQUAL:
+                return indexOfUnordered(arg, 0, false);
+            case GREATER:
+                return indexOfUnordered(arg, -1, true);
+            case GREATER_EQUAL:
+                return indexOfUnordered(arg, -1, false);
+            default:
+                for (int i = 1; i < arg.length; i++) {
+                    if (arg[i] != arg[0]) {
+                        return i;
+                    }
+                }
+                return -1;
+        }
+    }
+
+    /**
+     * Find the first element of {@code arg} for which the comparison of its predecessor and itself
+     * using {@code comp} is false.
+     *
+     * @param arg Array to test
+     * @param comp Operator every element and its successor must satisfy
+     * @return Index of the first element out of order, or -1
+     */
+    static int indexOfUnordered(final long[] arg, final NumberCompareOperator comp) {
+        switch (comp) {
+            case LESS:
+                return indexOfUnordered(arg, 0L, true);
+            case LESS_EQUAL:
+                return indexOfUnordered(arg, 0L, false);
+            case GREATER:
+                return indexOfUnordered(arg, -1L, true);
+            case GREATER_EQUAL:
+                return indexOfUnordered(arg, -1L, false);
+            default:
+                for (int i = 1; i < arg.length; i++) {
+                    if (arg[i] != arg[0]) {
+                        return i;
+                    }
+                }
+                return -1;
+        }
+    }
+
+    /**
+     * Find the first element of {@code arg} for which the comparison of its predecessor and itself
+     * using {@code comp} is false. Since all comparisons involving NaN are false, arrays of two or
+     * more elements containing NaN are never in order.
+     *
+     * @param arg Array to test
+     * @param comp Operator every element and its successor must satisfy
+     * @return Index of the first element out of order, or -1
+     */
+    static int indexOfUnordered(final double[] arg, final NumberCompareOperator comp) {
+        switch (comp) {
+            case LESS:
+                return indexOfUnordered(arg, 1.0, true);
+            case LESS_EQUAL:
+                return indexOfUnordered(arg, 1.0, false);
+            case GREATER:
+                return indexOfUnordered(arg, -1.0, true);
+            case GREATER_EQUAL:
+                return indexOfUnordered(arg, -1.0, false);
+            default:
+                for (int i = 1; i < arg.length; i++) {
+                    if (!(arg[i - 1] == arg[i])) {
+                        return i;
+                    }
+                }
+                return -1;
+        }
+    }
+
+    /**
+     * Find the first element of {@code arg} for which the result of comparing its predecessor to
+     * itself is not in the relation {@code comp} to zero. Null elements cannot be compared, so
+     * lists of two or more elements containing null are never in order.
+     *
+     * @param <T> Type of the elements
+     * @param arg List to test
+     * @param comp Operator every element and its successor must satisfy
+     * @return Index of the first element out of order, or -1
+     */
+    static <T extends Comparable<? super T>> int indexOfUnordered(final List<T> arg, final NumberCompareOperator comp) {
+        final Iterator<T> it = arg.iterator();
+        if (!it.hasNext()) {
+            return -1;
+        }
+
+        T previous = it.next();
+        for (int i = 1; it.hasNext(); i++) {
+            final T element = it.next();
+            if (previous == null || element == null || !comp.doComparison(previous.compareTo(element), 0)) {
+                return i;
+            }
+            previous = element;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Find the first element of {@code arg} which is not greater than, or not greater than or equal
+     * to, its predecessor after both have been XORed with {@code flip}.
+     *
+     * @param arg Array to test
+     * @param flip Zero for ascending order, -1 for descending order
+     * @param strict True to require elements to be different from their predecessor
+     * @return Index of the first element out of order, or -1
+     */
+    private static int indexOfUnordered(final int[] arg, final int flip, final boolean strict) {
+        for (int from = 1; from < arg.length; from += BLOCK_SIZE) {
+            final int to = Math.min(from + BLOCK_SIZE, arg.length);
+
+            boolean ordered = true;
+            if (strict) {
+                for (int i = from; i < to; i++) {
+                    ordered &= (arg[i - 1] ^ flip) < (arg[i] ^ flip);
+                }
+            }
+            else {
+                for (int i = from; i < to; i++) {
+                    ordered &= (arg[i - 1] ^ flip) <= (arg[i] ^ flip);
+                }
+            }
+
+            if (!ordered) {
+                for (int i = from; i < to; i++) {
+                    if (strict ? (arg[i - 1] ^ flip) >= (arg[i] ^ flip) : (arg[i - 1] ^ flip) > (arg[i] ^ flip)) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Find the first element of {@code arg} out of order. Works like
+     * {@link #indexOfUnordered(int[], int, boolean)}.
+     *
+     * @param arg Array to test
+     * @param flip Zero for ascending order, -1 for descending order
+     * @param strict True to require elements to be different from their predecessor
+     * @return Index of the first element out of order, or -1
+     */
+    private static int indexOfUnordered(final long[] arg, final long flip, final boolean strict) {
+        for (int from = 1; from < arg.length; from += BLOCK_SIZE) {
+            final int to = Math.min(from + BLOCK_SIZE, arg.length);
+
+            boolean ordered = true;
+            if (strict) {
+                for (int i = from; i < to; i++) {
+                    ordered &= (arg[i - 1] ^ flip) < (arg[i] ^ flip);
+                }
+            }
+            else {
+                for (int i = from; i < to; i++) {
+                    ordered &= (arg[i - 1] ^ flip) <= (arg[i] ^ flip);
+                }
+            }
+
+            if (!ordered) {
+                for (int i = from; i < to; i++) {
+                    if (strict ? (arg[i - 1] ^ flip) >= (arg[i] ^ flip) : (arg[i - 1] ^ flip) > (arg[i] ^ flip)) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Find the first element of {@code arg} out of order. Works like
+     * {@link #indexOfUnordered(int[], int, boolean)}, but multiplies the elements by
+     * {@code sign}. The comparisons are negated rather than inverted, so NaN is out of order.
+     *
+     * @param arg Array to test
+     * @param sign One for ascending order, -1 for descending order
+     * @param strict True to require elements to be different from their predecessor
+     * @return Index of the first element out of order, or -1
+     */
+    private static int indexOfUnordered(final double[] arg, final double sign, final boolean strict) {
+        for (int from = 1; from < arg.length; from += BLOCK_SIZE) {
+            final int to = Math.min(from + BLOCK_SIZE, arg.length);
+
+            boolean ordered = true;
+            if (strict) {
+                for (int i = from; i < to; i++) {
+                    ordered &= (arg[i - 1] * sign) < (arg[i] * sign);
+                }
+            }
+            else {
+                for (int i = from; i < to; i++) {
+                    ordered &= (arg[i - 1] * sign) <= (arg[i] * sign);
+                }
+            }
+
+            if (!ordered) {
+                for (int i = from; i < to; i++) {
+                    if (strict ? !((arg[i - 1] * sign) < (arg[i] * sign)) : !((arg[i - 1] * sign) <= (arg[i] * sign))) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+}
@@ -15,10 +15,19 @@
  */
 package com.github.marandus.argval.validator;
 
+import com.github.marandus.argval.enums.LengthUnit;
 import com.github.marandus.argval.enums.NumberCompareOperator;
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
 
 /**
  * Definition of methods available for String argument validation.
+ * <p>
+ * Methods added in 0.3 are default methods, so implementations written against earlier versions
+ * keep working. The defaults of the variants taking a Supplier of the name obtain the name up front
+ * and call the variant taking the name. The defaults of requireNonBlank() and requireLength()
+ * without a length unit convert a CharSequence argument to a String and call the variant taking a
+ * String. All other defaults throw an UnsupportedOperationException.
  *
  * @author Thomas Rix (thomasrix@exodus-project.net)
  * @since 0.1
@@ -42,6 +51,23 @@ public interface StringArgumentValidator {
      */
     public void requireNonBlank(final String arg, final String msg);
 
+    /**
+     * Test {@code arg} to be non-blank as defined by the
+     * {@code StringUtils#isBlank(java.lang.CharSequence)} method. Works like
+     * {@link #requireNonBlank(String, String)}, but the message is only obtained from {@code msg}
+     * if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param msg Supplier of the message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is blank
+     *
+     * @since 0.3
+     */
+    public default void requireNonBlank(final String arg, final Supplier<String> msg) {
+        this.requireNonBlank(arg, ViolationMessages.resolve(msg));
+    }
+
     /**
      * Test the length of {@code arg} against the provided length using the specified compare
      * operator. If the result of the comparison is false, an IllegalArgumentException will be
@@ -60,4 +86,746 @@ public interface StringArgumentValidator {
      * @since 0.1
      */
     public void requireLength(final String arg, final int len, final NumberCompareOperator comp, final String name);
+
+    /**
+     * Test the length of {@code arg} against the provided length using the specified compare
+     * operator. Works like {@link #requireLength(String, int, NumberCompareOperator, String)}, but
+     * the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg String to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public default void requireLength(final String arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.requireLength(arg, len, comp, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test {@code arg} to be non-blank as defined by the
+     * {@code StringUtils#isBlank(java.lang.CharSequence)} method. Works like
+     * {@link #requireNonBlank(String, String)}, but tests the characters of {@code arg} in place,
+     * without converting it to a String. If {@code arg} is blank, an IllegalArgumentException will
+     * be raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>msg + ": " + arg</tt>
+     *
+     * @param arg Argument to test
+     * @param msg Message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is blank
+     *
+     * @since 0.3
+     */
+    public default void requireNonBlank(final CharSequence arg, final String msg) {
+        this.requireNonBlank((arg == null) ? null : arg.toString(), msg);
+    }
+
+    /**
+     * Test {@code arg} to be non-blank as defined by the
+     * {@code StringUtils#isBlank(java.lang.CharSequence)} method. Works like
+     * {@link #requireNonBlank(CharSequence, String)}, but the message is only obtained from
+     * {@code msg} if the validation fails.
+     *
+     * @param arg Argument to test
+     * @param msg Supplier of the message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is blank
+     *
+     * @since 0.3
+     */
+    public default void requireNonBlank(final CharSequence arg, final Supplier<String> msg) {
+        this.requireNonBlank(arg, ViolationMessages.resolve(msg));
+    }
+
+    /**
+     * Test the length of {@code arg}, as defined by {@code CharSequence.length()}, against the
+     * provided length using the specified compare operator. Works like
+     * {@link #requireLength(String, int, NumberCompareOperator, String)}, but does not convert
+     * {@code arg} to a String. If the result of the comparison is false, an IllegalArgumentException
+     * will be raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"String length violation (" + name + "): string(" + arg.length() + ") " +
+     * comp.getOperator() + " " + len</tt>
+     *
+     * @param arg Character sequence to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public default void requireLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final String name) {
+        this.requireLength((arg == null) ? null : arg.toString(), len, comp, name);
+    }
+
+    /**
+     * Test the length of {@code arg}, as defined by {@code CharSequence.length()}, against the
+     * provided length using the specified compare operator. Works like
+     * {@link #requireLength(CharSequence, int, NumberCompareOperator, String)}, but the name is
+     * only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public default void requireLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.requireLength(arg, len, comp, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test the bytes {@code arg[offset]} to {@code arg[offset + length - 1]} to be well-formed
+     * UTF-8 as defined by RFC 3629. Overlong encodings, surrogates, code points above U+10FFFF, and
+     * sequences truncated by the end of the bytes are malformed. The bytes are not decoded. If a
+     * malformed sequence is found, an IllegalArgumentException will be raised. The exception
+     * message will be constructed as follows, where the index of the first byte of the sequence is
+     * relative to offset:
+     * <p>
+     * <tt>"UTF-8 violation (" + name + "): malformed sequence at byte " + index</tt>
+     *
+     * @param arg Bytes to test
+     * @param offset Index of the first byte to test
+     * @param length Number of bytes to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, the range exceeds it, or it
+     * contains a malformed sequence
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireValidUtf8(final byte[] arg, final int offset, final int length, final String name) {
+        throw new UnsupportedOperationException("requireValidUtf8() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the bytes {@code arg[offset]} to {@code arg[offset + length - 1]} to be well-formed
+     * UTF-8. Works like {@link #requireValidUtf8(byte[], int, int, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Bytes to test
+     * @param offset Index of the first byte to test
+     * @param length Number of bytes to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, the range exceeds it, or it
+     * contains a malformed sequence
+     *
+     * @since 0.3
+     */
+    public default void requireValidUtf8(final byte[] arg, final int offset, final int length, final Supplier<String> name) {
+        this.requireValidUtf8(arg, offset, length, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test the remaining bytes of {@code arg}, from its position to its limit, to be well-formed
+     * UTF-8 as defined by RFC 3629. Overlong encodings, surrogates, code points above U+10FFFF, and
+     * sequences truncated by the end of the bytes are malformed. The bytes are not decoded. The
+     * position of {@code arg} is not changed. If a malformed sequence is found, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows, where the index of the first byte of the sequence is relative to the position of
+     * {@code arg}:
+     * <p>
+     * <tt>"UTF-8 violation (" + name + "): malformed sequence at byte " + index</tt>
+     *
+     * @param arg Buffer to test, either heap or direct
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains a malformed
+     * sequence
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireValidUtf8(final ByteBuffer arg, final String name) {
+        throw new UnsupportedOperationException("requireValidUtf8() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the remaining bytes of {@code arg} to be well-formed UTF-8. Works like
+     * {@link #requireValidUtf8(ByteBuffer, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param arg Buffer to test, either heap or direct
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains a malformed
+     * sequence
+     *
+     * @since 0.3
+     */
+    public default void requireValidUtf8(final ByteBuffer arg, final Supplier<String> name) {
+        this.requireValidUtf8(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test the length of the UTF-8 encoded text in the bytes {@code arg[offset]} to
+     * {@code arg[offset + length - 1]}, measured in the specified unit, against the provided length
+     * using the specified compare operator. The bytes are not decoded. Code points are counted by
+     * their leading bytes, and counting stops once {@code len} is exceeded. The bytes are not
+     * validated, see {@link #requireValidUtf8(byte[], int, int, String)}. If the result of the
+     * comparison is false, an IllegalArgumentException will be raised. The exception message will
+     * be constructed as follows, where a length exceeding {@code len} while counting is represented
+     * as <tt>"&gt;" + len</tt>:
+     * <p>
+     * <tt>"Encoded length violation (" + name + "): " + unit.getLabel() + "(" + length + ") " +
+     * comp.getOperator() + " " + len</tt>
+     *
+     * @param arg Bytes to test
+     * @param offset Index of the first byte to test
+     * @param length Number of bytes to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param unit Unit the length is measured in
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, the range exceeds it, or does
+     * not match length requirements
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireEncodedLength(final byte[] arg, final int offset, final int length, final int len, final NumberCompareOperator comp, final LengthUnit unit, final String name) {
+        throw new UnsupportedOperationException("requireEncodedLength() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the length of the UTF-8 encoded text in the bytes {@code arg[offset]} to
+     * {@code arg[offset + length - 1]} against the provided length using the specified compare
+     * operator. Works like {@link #requireEncodedLength(byte[], int, int, int,
+     * NumberCompareOperator, LengthUnit, String)}, but the name is only obtained from {@code name}
+     * if the validation fails.
+     *
+     * @param arg Bytes to test
+     * @param offset Index of the first byte to test
+     * @param length Number of bytes to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param unit Unit the length is measured in
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, the range exceeds it, or does
+     * not match length requirements
+     *
+     * @since 0.3
+     */
+    public default void requireEncodedLength(final byte[] arg, final int offset, final int length, final int len, final NumberCompareOperator comp, final LengthUnit unit, final Supplier<String> name) {
+        this.requireEncodedLength(arg, offset, length, len, comp, unit, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test the length of the UTF-8 encoded text in the remaining bytes of {@code arg}, measured in
+     * the specified unit, against the provided length using the specified compare operator. The
+     * bytes are not decoded. Code points are counted by their leading bytes, and counting stops
+     * once {@code len} is exceeded. The bytes are not validated, see
+     * {@link #requireValidUtf8(ByteBuffer, String)}. The position of {@code arg} is not changed. If
+     * the result of the comparison is false, an IllegalArgumentException will be raised. The
+     * exception message will be constructed as follows, where a length exceeding {@code len} while
+     * counting is represented as <tt>"&gt;" + len</tt>:
+     * <p>
+     * <tt>"Encoded length violation (" + name + "): " + unit.getLabel() + "(" + length + ") " +
+     * comp.getOperator() + " " + len</tt>
+     *
+     * @param arg Buffer to test, either heap or direct
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param unit Unit the length is measured in
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or does not match length
+     * requirements
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireEncodedLength(final ByteBuffer arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final String name) {
+        throw new UnsupportedOperationException("requireEncodedLength() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the length of the UTF-8 encoded text in the remaining bytes of {@code arg} against the
+     * provided length using the specified compare operator. Works like
+     * {@link #requireEncodedLength(ByteBuffer, int, NumberCompareOperator, LengthUnit, String)},
+     * but the name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Buffer to test, either heap or direct
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param unit Unit the length is measured in
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, or does not match length
+     * requirements
+     *
+     * @since 0.3
+     */
+    public default void requireEncodedLength(final ByteBuffer arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final Supplier<String> name) {
+        this.requireEncodedLength(arg, len, comp, unit, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test the UTF-8 encoded text in the bytes {@code arg[offset]} to {@code arg[offset + length -
+     * 1]} to be non-blank as defined by the {@code StringUtils#isBlank(java.lang.CharSequence)}
+     * method. The bytes are only decoded for the exception message, and the test stops at the first
+     * byte which does not belong to a whitespace character. If the text is blank, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>msg + ": " + text</tt>
+     *
+     * @param arg Bytes to test
+     * @param offset Index of the first byte to test
+     * @param length Number of bytes to test
+     * @param msg Message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or blank, or the range exceeds
+     * it
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireNonBlankUtf8(final byte[] arg, final int offset, final int length, final String msg) {
+        throw new UnsupportedOperationException("requireNonBlankUtf8() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the UTF-8 encoded text in the bytes {@code arg[offset]} to {@code arg[offset + length -
+     * 1]} to be non-blank. Works like {@link #requireNonBlankUtf8(byte[], int, int, String)}, but
+     * the message is only obtained from {@code msg} if the validation fails.
+     *
+     * @param arg Bytes to test
+     * @param offset Index of the first byte to test
+     * @param length Number of bytes to test
+     * @param msg Supplier of the message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or blank, or the range exceeds
+     * it
+     *
+     * @since 0.3
+     */
+    public default void requireNonBlankUtf8(final byte[] arg, final int offset, final int length, final Supplier<String> msg) {
+        this.requireNonBlankUtf8(arg, offset, length, ViolationMessages.resolve(msg));
+    }
+
+    /**
+     * Test the UTF-8 encoded text in the remaining bytes of {@code arg} to be non-blank as defined
+     * by the {@code StringUtils#isBlank(java.lang.CharSequence)} method. The bytes are only decoded
+     * for the exception message, and the test stops at the first byte which does not belong to a
+     * whitespace character. The position of {@code arg} is not changed. If the text is blank, an
+     * IllegalArgumentException will be raised. The exception message will be constructed as
+     * follows:
+     * <p>
+     * <tt>msg + ": " + text</tt>
+     *
+     * @param arg Buffer to test, either heap or direct
+     * @param msg Message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or blank
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireNonBlankUtf8(final ByteBuffer arg, final String msg) {
+        throw new UnsupportedOperationException("requireNonBlankUtf8() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the UTF-8 encoded text in the remaining bytes of {@code arg} to be non-blank. Works like
+     * {@link #requireNonBlankUtf8(ByteBuffer, String)}, but the message is only obtained from
+     * {@code msg} if the validation fails.
+     *
+     * @param arg Buffer to test, either heap or direct
+     * @param msg Supplier of the message used to construct the exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or blank
+     *
+     * @since 0.3
+     */
+    public default void requireNonBlankUtf8(final ByteBuffer arg, final Supplier<String> msg) {
+        this.requireNonBlankUtf8(arg, ViolationMessages.resolve(msg));
+    }
+
+    /**
+     * Test the entire {@code arg} to match the regular expression {@code regex}. The compiled
+     * pattern is taken from a bounded cache of the validator, so each expression is only compiled
+     * once while it is cached. Callers able to hold a compiled pattern should use
+     * {@link #requireMatches(CharSequence, ValidationPattern, String)} instead. If {@code arg} does
+     * not match, an IllegalArgumentException will be raised. The exception message will be
+     * constructed as follows:
+     * <p>
+     * <tt>"Pattern violation (" + name + "): " + arg + " does not match " + regex</tt>
+     *
+     * @param arg Character sequence to test
+     * @param regex Regular expression to be matched
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or does not match, or if
+     * {@code regex} is null or invalid
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireMatches(final CharSequence arg, final String regex, final String name) {
+        throw new UnsupportedOperationException("requireMatches() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the entire {@code arg} to match the regular expression {@code regex}. Works like
+     * {@link #requireMatches(CharSequence, String, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param regex Regular expression to be matched
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or does not match, or if
+     * {@code regex} is null or invalid
+     *
+     * @since 0.3
+     */
+    public default void requireMatches(final CharSequence arg, final String regex, final Supplier<String> name) {
+        this.requireMatches(arg, regex, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test the entire {@code arg} to match the precompiled {@code pattern}. If {@code arg} does not
+     * match, an IllegalArgumentException will be raised. The exception message will be constructed
+     * as follows:
+     * <p>
+     * <tt>"Pattern violation (" + name + "): " + arg + " does not match " + pattern</tt>
+     *
+     * @param arg Character sequence to test
+     * @param pattern Compiled pattern to be matched
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or does not match, or if
+     * {@code pattern} is null
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireMatches(final CharSequence arg, final ValidationPattern pattern, final String name) {
+        throw new UnsupportedOperationException("requireMatches() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the entire {@code arg} to match the precompiled {@code pattern}. Works like
+     * {@link #requireMatches(CharSequence, ValidationPattern, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param pattern Compiled pattern to be matched
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or does not match, or if
+     * {@code pattern} is null
+     *
+     * @since 0.3
+     */
+    public default void requireMatches(final CharSequence arg, final ValidationPattern pattern, final Supplier<String> name) {
+        this.requireMatches(arg, pattern, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test all characters of {@code arg} to be ASCII characters. Membership is looked up in the
+     * bitmap of {@link CharClass#ASCII}, which is much cheaper than matching a regular expression.
+     * If {@code arg} contains any other character, an IllegalArgumentException will be raised. The
+     * exception message will be constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " contains U+" + codePoint +
+     * " at index " + index + ", expected ascii"</tt>
+     *
+     * @param arg Character sequence to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireAscii(final CharSequence arg, final String name) {
+        throw new UnsupportedOperationException("requireAscii() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test all characters of {@code arg} to be ASCII characters. Works like
+     * {@link #requireAscii(CharSequence, String)}, but the name is only obtained from {@code name}
+     * if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters
+     *
+     * @since 0.3
+     */
+    public default void requireAscii(final CharSequence arg, final Supplier<String> name) {
+        this.requireAscii(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test all characters of {@code arg} to be ASCII letters or digits. Membership is looked up in
+     * the bitmap of {@link CharClass#ALPHANUMERIC}, which is much cheaper than matching a regular
+     * expression. If {@code arg} contains any other character, an IllegalArgumentException will be
+     * raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " contains U+" + codePoint +
+     * " at index " + index + ", expected alphanumeric"</tt>
+     *
+     * @param arg Character sequence to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireAlphanumeric(final CharSequence arg, final String name) {
+        throw new UnsupportedOperationException("requireAlphanumeric() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test all characters of {@code arg} to be ASCII letters or digits. Works like
+     * {@link #requireAlphanumeric(CharSequence, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters
+     *
+     * @since 0.3
+     */
+    public default void requireAlphanumeric(final CharSequence arg, final Supplier<String> name) {
+        this.requireAlphanumeric(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test all characters of {@code arg} to be hexadecimal digits of either case. Membership is
+     * looked up in the bitmap of {@link CharClass#HEX}, which is much cheaper than matching a
+     * regular expression. If {@code arg} contains any other character, an IllegalArgumentException
+     * will be raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " contains U+" + codePoint +
+     * " at index " + index + ", expected hex"</tt>
+     *
+     * @param arg Character sequence to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireHex(final CharSequence arg, final String name) {
+        throw new UnsupportedOperationException("requireHex() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test all characters of {@code arg} to be hexadecimal digits of either case. Works like
+     * {@link #requireHex(CharSequence, String)}, but the name is only obtained from {@code name} if
+     * the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters
+     *
+     * @since 0.3
+     */
+    public default void requireHex(final CharSequence arg, final Supplier<String> name) {
+        this.requireHex(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test all characters of {@code arg} to be characters of the Base64 alphabet. Membership is
+     * looked up in the bitmap of {@link CharClass#BASE64}, which is much cheaper than matching a
+     * regular expression. At most two padding characters <tt>'='</tt> may follow, in which case the
+     * length of {@code arg} must be a multiple of four. If {@code arg} contains any other
+     * character, an IllegalArgumentException will be raised. The exception message will be
+     * constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " contains U+" + codePoint +
+     * " at index " + index + ", expected base64"</tt>
+     * <p>
+     * Unpadded input must not have a length of one modulo four, which would leave a character
+     * that encodes no byte. In this case the exception message will be constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " has invalid length " + length +
+     * ", expected base64"</tt>
+     *
+     * @param arg Character sequence to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, contains other characters
+     * or has an invalid length
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireBase64(final CharSequence arg, final String name) {
+        throw new UnsupportedOperationException("requireBase64() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test all characters of {@code arg} to be characters of the Base64 alphabet. Works like
+     * {@link #requireBase64(CharSequence, String)}, but the name is only obtained from {@code name}
+     * if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, contains other characters
+     * or has an invalid length
+     *
+     * @since 0.3
+     */
+    public default void requireBase64(final CharSequence arg, final Supplier<String> name) {
+        this.requireBase64(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test all characters of {@code arg} to be characters of the URL and filename safe Base64
+     * alphabet. Membership is looked up in the bitmap of {@link CharClass#BASE64_URL}, which is
+     * much cheaper than matching a regular expression. At most two padding characters <tt>'='</tt>
+     * may follow, in which case the length of {@code arg} must be a multiple of four. If
+     * {@code arg} contains any other character, an IllegalArgumentException will be raised. The
+     * exception message will be constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " contains U+" + codePoint +
+     * " at index " + index + ", expected base64url"</tt>
+     * <p>
+     * Unpadded input must not have a length of one modulo four, which would leave a character
+     * that encodes no byte. In this case the exception message will be constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " has invalid length " + length +
+     * ", expected base64url"</tt>
+     *
+     * @param arg Character sequence to test
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, contains other characters
+     * or has an invalid length
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireBase64Url(final CharSequence arg, final String name) {
+        throw new UnsupportedOperationException("requireBase64Url() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test all characters of {@code arg} to be characters of the URL and filename safe Base64
+     * alphabet. Works like {@link #requireBase64Url(CharSequence, String)}, but the name is only
+     * obtained from {@code name} if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null, contains other characters
+     * or has an invalid length
+     *
+     * @since 0.3
+     */
+    public default void requireBase64Url(final CharSequence arg, final Supplier<String> name) {
+        this.requireBase64Url(arg, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test all characters of {@code arg} to be members of {@code charClass}. Membership of ASCII
+     * characters is looked up in the bitmap of the class, which is much cheaper than matching a
+     * regular expression. If {@code arg} contains any other character, an IllegalArgumentException
+     * will be raised. The exception message will be constructed as follows:
+     * <p>
+     * <tt>"Character violation (" + name + "): " + arg + " contains U+" + codePoint +
+     * " at index " + index + ", expected " + charClass.getName()</tt>
+     *
+     * @param arg Character sequence to test
+     * @param charClass Class of the allowed characters
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters,
+     * or if {@code charClass} is null
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireCharsIn(final CharSequence arg, final CharClass charClass, final String name) {
+        throw new UnsupportedOperationException("requireCharsIn() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test all characters of {@code arg} to be members of {@code charClass}. Works like
+     * {@link #requireCharsIn(CharSequence, CharClass, String)}, but the name is only obtained from
+     * {@code name} if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param charClass Class of the allowed characters
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument is null or contains other characters,
+     * or if {@code charClass} is null
+     *
+     * @since 0.3
+     */
+    public default void requireCharsIn(final CharSequence arg, final CharClass charClass, final Supplier<String> name) {
+        this.requireCharsIn(arg, charClass, ViolationMessages.resolve(name));
+    }
+
+    /**
+     * Test the length of {@code arg}, measured in the specified unit, against the provided length
+     * using the specified compare operator. The length in code points or UTF-8 bytes is counted in
+     * a single pass without encoding {@code arg}, and counting stops once {@code len} is exceeded.
+     * If the result of the comparison is false, an IllegalArgumentException will be raised. The
+     * exception message will be constructed as follows, where a length exceeding {@code len} while
+     * counting is represented as <tt>"&gt;" + len</tt>:
+     * <p>
+     * <tt>"String length violation (" + name + "): " + unit.getLabel() + "(" + length + ") " +
+     * comp.getOperator() + " " + len</tt>
+     *
+     * @param arg Character sequence to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param unit Unit the length is measured in
+     * @param name Name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     * @throws UnsupportedOperationException if the implementation does not support this method
+     *
+     * @since 0.3
+     */
+    public default void requireLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final String name) {
+        throw new UnsupportedOperationException("requireLength() is not implemented by " + this.getClass().getName());
+    }
+
+    /**
+     * Test the length of {@code arg}, measured in the specified unit, against the provided length
+     * using the specified compare operator. Works like
+     * {@link #requireLength(CharSequence, int, NumberCompareOperator, LengthUnit, String)}, but the
+     * name is only obtained from {@code name} if the validation fails.
+     *
+     * @param arg Character sequence to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param unit Unit the length is measured in
+     * @param name Supplier of the name to be referenced in exception message
+     *
+     * @throws IllegalArgumentException if specified argument does not match length requirements
+     *
+     * @since 0.3
+     */
+    public default void requireLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final Supplier<String> name) {
+        this.requireLength(arg, len, comp, unit, ViolationMessages.resolve(name));
+    }
 }
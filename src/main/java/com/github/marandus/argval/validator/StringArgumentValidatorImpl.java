@@ -15,9 +15,12 @@
  */
 package com.github.marandus.argval.validator;
 
+import com.github.marandus.argval.enums.ExceptionMode;
+import com.github.marandus.argval.enums.LengthUnit;
 import com.github.marandus.argval.enums.NumberCompareOperator;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
+import com.github.marandus.argval.metrics.ValidationMetrics;
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
 
 /**
  * Reference implementation of the {@link StringArgumentValidator} interface.
@@ -25,29 +28,131 @@ import org.apache.commons.lang3.StringUtils;
  * @author Thomas Rix (thomasrix@exodus-project.net)
  * @since 0.1
  */
-@Slf4j
-public class StringArgumentValidatorImpl implements StringArgumentValidator {
+public class StringArgumentValidatorImpl extends AbstractArgumentValidator implements StringArgumentValidator {
+
+    /**
+     * Maximum number of regular expressions cached by a validator instance.
+     */
+    static final int PATTERN_CACHE_CAPACITY = 256;
+
+    /**
+     * Name of the pattern cache of requireMatches(), as reported to
+     * {@link ValidationMetrics#recordCacheLookup(String, boolean)}.
+     *
+     * @since 0.3
+     */
+    public static final String PATTERN_CACHE = "pattern";
 
     private final ObjectArgumentValidator objArgVal;
+    private final PatternCache patterns;
 
     /**
      * Create a new validator instance. Uses the reference implementation of
-     * {@link ObjectArgumentValidator}.
+     * {@link ObjectArgumentValidator}. Failed validations raise exceptions including the full stack
+     * trace.
      *
      * @see ObjectArgumentValidatorImpl
      */
     public StringArgumentValidatorImpl() {
-        this(new ObjectArgumentValidatorImpl());
+        this(ExceptionMode.STACK_TRACE);
+    }
+
+    /**
+     * Create a new validator instance. Uses the reference implementation of
+     * {@link ObjectArgumentValidator}. Failed validations raise exceptions as defined by the
+     * specified exception mode.
+     *
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     *
+     * @see ObjectArgumentValidatorImpl
+     * @since 0.3
+     */
+    public StringArgumentValidatorImpl(final ExceptionMode exceptionMode) {
+        this(exceptionMode, null);
+    }
+
+    /**
+     * Create a new validator instance. Uses the reference implementation of
+     * {@link ObjectArgumentValidator}. Failed validations raise exceptions as defined by the
+     * specified exception mode. The outcome of every check is reported to {@code metrics}, except
+     * for the null checks of the validator's own parameters.
+     *
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     * @param metrics Sink receiving the outcome of all checks, or null to not report checks
+     *
+     * @see ObjectArgumentValidatorImpl
+     * @since 0.3
+     */
+    public StringArgumentValidatorImpl(final ExceptionMode exceptionMode, final ValidationMetrics metrics) {
+        this(new ObjectArgumentValidatorImpl(exceptionMode), exceptionMode, metrics);
     }
 
     /**
      * Create a new validator instance. Uses the specified custom implementation of
-     * {@link ObjectArgumentValidator}.
+     * {@link ObjectArgumentValidator}. Failed validations raise exceptions including the full stack
+     * trace.
      *
      * @param objArgVal Custom implementation of object validator
      */
     public StringArgumentValidatorImpl(final ObjectArgumentValidator objArgVal) {
+        this(objArgVal, ExceptionMode.STACK_TRACE);
+    }
+
+    /**
+     * Create a new validator instance. Uses the specified custom implementation of
+     * {@link ObjectArgumentValidator}. Failed validations raise exceptions as defined by the
+     * specified exception mode.
+     *
+     * @param objArgVal Custom implementation of object validator
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     *
+     * @since 0.3
+     */
+    public StringArgumentValidatorImpl(final ObjectArgumentValidator objArgVal, final ExceptionMode exceptionMode) {
+        this(objArgVal, exceptionMode, null);
+    }
+
+    /**
+     * Create a new validator instance. Uses the specified custom implementation of
+     * {@link ObjectArgumentValidator}. Failed validations raise exceptions as defined by the
+     * specified exception mode. The outcome of every check is reported to {@code metrics}, and so
+     * is every lookup in the pattern cache of requireMatches(), under the name
+     * {@link #PATTERN_CACHE}.
+     *
+     * @param objArgVal Custom implementation of object validator
+     * @param exceptionMode Mode used to create exceptions for failed validations
+     * @param metrics Sink receiving the outcome of all checks, or null to not report checks
+     *
+     * @since 0.3
+     */
+    public StringArgumentValidatorImpl(final ObjectArgumentValidator objArgVal, final ExceptionMode exceptionMode, final ValidationMetrics metrics) {
+        super(exceptionMode, metrics);
         this.objArgVal = objArgVal;
+        this.patterns = new PatternCache(PATTERN_CACHE_CAPACITY, PATTERN_CACHE, metrics);
+    }
+
+    /**
+     * Get the number of regular expressions passed to requireMatches() whose compiled pattern has
+     * been found in the cache of this validator.
+     *
+     * @return Number of pattern cache hits
+     *
+     * @since 0.3
+     */
+    public long getPatternCacheHits() {
+        return this.patterns.getHits();
+    }
+
+    /**
+     * Get the number of regular expressions passed to requireMatches() which have been compiled,
+     * since their pattern has not been found in the cache of this validator.
+     *
+     * @return Number of pattern cache misses
+     *
+     * @since 0.3
+     */
+    public long getPatternCacheMisses() {
+        return this.patterns.getMisses();
     }
 
     /**
@@ -55,9 +160,23 @@ public class StringArgumentValidatorImpl implements StringArgumentValidator {
      */
     @Override
     public void requireNonBlank(final String arg, final String msg) {
-        if (StringUtils.isBlank(arg)) {
-            throw new IllegalArgumentException(msg + ": " + arg);
+        if (Checks.isBlank(arg)) {
+            throw this.violation("requireNonBlank", msg, ViolationMessages.isBlank(msg, arg));
         }
+
+        this.passed("requireNonBlank", msg);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonBlank(final String arg, final Supplier<String> msg) {
+        if (Checks.isBlank(arg)) {
+            throw this.violation("requireNonBlank", null, ViolationMessages.isBlank(ViolationMessages.resolve(msg), arg));
+        }
+
+        this.passed("requireNonBlank", null);
     }
 
     /**
@@ -65,19 +184,625 @@ public class StringArgumentValidatorImpl implements StringArgumentValidator {
      */
     @Override
     public void requireLength(final String arg, final int len, final NumberCompareOperator comp, final String name) {
-        if(len < 0) {
-            throw new IllegalArgumentException("Negative requireLength() length parameter");
+        this.checkLengthArguments(arg, len, comp);
+
+        if (!comp.doComparison(arg.length(), len)) {
+            throw this.violation("requireLength", name, ViolationMessages.stringLength(name, arg.length(), comp, len));
+        }
+
+        this.passed("requireLength", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final String arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.checkLengthArguments(arg, len, comp);
+
+        if (!comp.doComparison(arg.length(), len)) {
+            throw this.violation("requireLength", null, ViolationMessages.stringLength(ViolationMessages.resolve(name), arg.length(), comp, len));
+        }
+
+        this.passed("requireLength", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonBlank(final CharSequence arg, final String msg) {
+        if (Checks.isBlank(arg)) {
+            throw this.violation("requireNonBlank", msg, ViolationMessages.isBlank(msg, arg));
+        }
+
+        this.passed("requireNonBlank", msg);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonBlank(final CharSequence arg, final Supplier<String> msg) {
+        if (Checks.isBlank(arg)) {
+            throw this.violation("requireNonBlank", null, ViolationMessages.isBlank(ViolationMessages.resolve(msg), arg));
+        }
+
+        this.passed("requireNonBlank", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final String name) {
+        this.checkLengthArguments(arg, len, comp);
+
+        final int length = arg.length();
+        if (!comp.doComparison(length, len)) {
+            throw this.violation("requireLength", name, ViolationMessages.stringLength(name, length, comp, len));
+        }
+
+        this.passed("requireLength", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final Supplier<String> name) {
+        this.checkLengthArguments(arg, len, comp);
+
+        final int length = arg.length();
+        if (!comp.doComparison(length, len)) {
+            throw this.violation("requireLength", null, ViolationMessages.stringLength(ViolationMessages.resolve(name), length, comp, len));
+        }
+
+        this.passed("requireLength", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValidUtf8(final byte[] arg, final int offset, final int length, final String name) {
+        this.objArgVal.requireNonNull(arg, "requireValidUtf8(byte[]) parameter");
+        checkRange(arg, offset, length, "requireValidUtf8(byte[])");
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = Utf8.indexOfMalformed(arg, offset, length);
+        ValidationEvents.endScan(event, "requireValidUtf8", name, length);
+        if (index >= 0) {
+            throw this.violation("requireValidUtf8", name, ViolationMessages.malformedUtf8(name, index));
         }
 
-        if(len == 0 && comp == NumberCompareOperator.EQUAL) {
-            log.warn("Called requireLength() with length=0 and operator=EQUAL. You should use requireNonBlank() instead.");
+        this.passed("requireValidUtf8", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValidUtf8(final byte[] arg, final int offset, final int length, final Supplier<String> name) {
+        this.objArgVal.requireNonNull(arg, "requireValidUtf8(byte[]) parameter");
+        checkRange(arg, offset, length, "requireValidUtf8(byte[])");
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = Utf8.indexOfMalformed(arg, offset, length);
+        ValidationEvents.endScan(event, "requireValidUtf8", null, length);
+        if (index >= 0) {
+            throw this.violation("requireValidUtf8", null, ViolationMessages.malformedUtf8(ViolationMessages.resolve(name), index));
         }
+
+        this.passed("requireValidUtf8", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValidUtf8(final ByteBuffer arg, final String name) {
+        this.objArgVal.requireNonNull(arg, "requireValidUtf8(ByteBuffer) parameter");
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = Utf8.indexOfMalformed(arg);
+        ValidationEvents.endScan(event, "requireValidUtf8", name, arg.remaining());
+        if (index >= 0) {
+            throw this.violation("requireValidUtf8", name, ViolationMessages.malformedUtf8(name, index));
+        }
+
+        this.passed("requireValidUtf8", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireValidUtf8(final ByteBuffer arg, final Supplier<String> name) {
+        this.objArgVal.requireNonNull(arg, "requireValidUtf8(ByteBuffer) parameter");
+
+        final Object event = ValidationEvents.beginScan();
+        final int index = Utf8.indexOfMalformed(arg);
+        ValidationEvents.endScan(event, "requireValidUtf8", null, arg.remaining());
+        if (index >= 0) {
+            throw this.violation("requireValidUtf8", null, ViolationMessages.malformedUtf8(ViolationMessages.resolve(name), index));
+        }
+
+        this.passed("requireValidUtf8", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireEncodedLength(final byte[] arg, final int offset, final int length, final int len, final NumberCompareOperator comp, final LengthUnit unit, final String name) {
+        this.checkEncodedLengthArguments(arg, len, unit, "requireEncodedLength(byte[])");
+        checkRange(arg, offset, length, "requireEncodedLength(byte[])");
+
+        final int encodedLength = Utf8.boundedLength(arg, offset, length, unit, len);
+        if (!comp.doComparison(encodedLength, len)) {
+            throw this.violation("requireEncodedLength", name, ViolationMessages.encodedLength(name, unit, describeLength(unit != LengthUnit.UTF8_BYTES, encodedLength, len), comp, len));
+        }
+
+        this.passed("requireEncodedLength", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireEncodedLength(final byte[] arg, final int offset, final int length, final int len, final NumberCompareOperator comp, final LengthUnit unit, final Supplier<String> name) {
+        this.checkEncodedLengthArguments(arg, len, unit, "requireEncodedLength(byte[])");
+        checkRange(arg, offset, length, "requireEncodedLength(byte[])");
+
+        final int encodedLength = Utf8.boundedLength(arg, offset, length, unit, len);
+        if (!comp.doComparison(encodedLength, len)) {
+            throw this.violation("requireEncodedLength", null, ViolationMessages.encodedLength(ViolationMessages.resolve(name), unit, describeLength(unit != LengthUnit.UTF8_BYTES, encodedLength, len), comp, len));
+        }
+
+        this.passed("requireEncodedLength", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireEncodedLength(final ByteBuffer arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final String name) {
+        this.checkEncodedLengthArguments(arg, len, unit, "requireEncodedLength(ByteBuffer)");
+
+        final int encodedLength = Utf8.boundedLength(arg, unit, len);
+        if (!comp.doComparison(encodedLength, len)) {
+            throw this.violation("requireEncodedLength", name, ViolationMessages.encodedLength(name, unit, describeLength(unit != LengthUnit.UTF8_BYTES, encodedLength, len), comp, len));
+        }
+
+        this.passed("requireEncodedLength", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireEncodedLength(final ByteBuffer arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final Supplier<String> name) {
+        this.checkEncodedLengthArguments(arg, len, unit, "requireEncodedLength(ByteBuffer)");
+
+        final int encodedLength = Utf8.boundedLength(arg, unit, len);
+        if (!comp.doComparison(encodedLength, len)) {
+            throw this.violation("requireEncodedLength", null, ViolationMessages.encodedLength(ViolationMessages.resolve(name), unit, describeLength(unit != LengthUnit.UTF8_BYTES, encodedLength, len), comp, len));
+        }
+
+        this.passed("requireEncodedLength", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonBlankUtf8(final byte[] arg, final int offset, final int length, final String msg) {
+        if (arg == null) {
+            throw this.violation("requireNonBlankUtf8", msg, ViolationMessages.isBlank(msg, null));
+        }
+
+        checkRange(arg, offset, length, "requireNonBlankUtf8(byte[])");
+        if (Utf8.isBlank(arg, offset, length)) {
+            throw this.violation("requireNonBlankUtf8", msg, ViolationMessages.isBlank(msg, Utf8.decode(arg, offset, length)));
+        }
+
+        this.passed("requireNonBlankUtf8", msg);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonBlankUtf8(final byte[] arg, final int offset, final int length, final Supplier<String> msg) {
+        if (arg == null) {
+            throw this.violation("requireNonBlankUtf8", null, ViolationMessages.isBlank(ViolationMessages.resolve(msg), null));
+        }
+
+        checkRange(arg, offset, length, "requireNonBlankUtf8(byte[])");
+        if (Utf8.isBlank(arg, offset, length)) {
+            throw this.violation("requireNonBlankUtf8", null, ViolationMessages.isBlank(ViolationMessages.resolve(msg), Utf8.decode(arg, offset, length)));
+        }
+
+        this.passed("requireNonBlankUtf8", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonBlankUtf8(final ByteBuffer arg, final String msg) {
+        if (arg == null || Utf8.isBlank(arg)) {
+            throw this.violation("requireNonBlankUtf8", msg, ViolationMessages.isBlank(msg, (arg == null) ? null : Utf8.decode(arg)));
+        }
+
+        this.passed("requireNonBlankUtf8", msg);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireNonBlankUtf8(final ByteBuffer arg, final Supplier<String> msg) {
+        if (arg == null || Utf8.isBlank(arg)) {
+            throw this.violation("requireNonBlankUtf8", null, ViolationMessages.isBlank(ViolationMessages.resolve(msg), (arg == null) ? null : Utf8.decode(arg)));
+        }
+
+        this.passed("requireNonBlankUtf8", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireMatches(final CharSequence arg, final String regex, final String name) {
+        this.objArgVal.requireNonNull(regex, "requireMatches() regex parameter");
+        this.objArgVal.requireNonNull(arg, "requireMatches() parameter");
+
+        if (!this.patterns.get(regex).matcher(arg).matches()) {
+            throw this.violation("requireMatches", name, ViolationMessages.pattern(name, arg, regex));
+        }
+
+        this.passed("requireMatches", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireMatches(final CharSequence arg, final String regex, final Supplier<String> name) {
+        this.objArgVal.requireNonNull(regex, "requireMatches() regex parameter");
+        this.objArgVal.requireNonNull(arg, "requireMatches() parameter");
+
+        if (!this.patterns.get(regex).matcher(arg).matches()) {
+            throw this.violation("requireMatches", null, ViolationMessages.pattern(ViolationMessages.resolve(name), arg, regex));
+        }
+
+        this.passed("requireMatches", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireMatches(final CharSequence arg, final ValidationPattern pattern, final String name) {
+        this.objArgVal.requireNonNull(pattern, "requireMatches() pattern parameter");
+        this.objArgVal.requireNonNull(arg, "requireMatches() parameter");
+
+        if (!pattern.matches(arg)) {
+            throw this.violation("requireMatches", name, ViolationMessages.pattern(name, arg, pattern.toString()));
+        }
+
+        this.passed("requireMatches", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireMatches(final CharSequence arg, final ValidationPattern pattern, final Supplier<String> name) {
+        this.objArgVal.requireNonNull(pattern, "requireMatches() pattern parameter");
+        this.objArgVal.requireNonNull(arg, "requireMatches() parameter");
+
+        if (!pattern.matches(arg)) {
+            throw this.violation("requireMatches", null, ViolationMessages.pattern(ViolationMessages.resolve(name), arg, pattern.toString()));
+        }
+
+        this.passed("requireMatches", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAscii(final CharSequence arg, final String name) {
+        final int index = this.indexNotIn(arg, CharClass.ASCII, "requireAscii");
+        if (index >= 0) {
+            throw this.violation("requireAscii", name, ViolationMessages.charClass(name, arg, index, CharClass.ASCII));
+        }
+
+        this.passed("requireAscii", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAscii(final CharSequence arg, final Supplier<String> name) {
+        final int index = this.indexNotIn(arg, CharClass.ASCII, "requireAscii");
+        if (index >= 0) {
+            throw this.violation("requireAscii", null, ViolationMessages.charClass(ViolationMessages.resolve(name), arg, index, CharClass.ASCII));
+        }
+
+        this.passed("requireAscii", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAlphanumeric(final CharSequence arg, final String name) {
+        final int index = this.indexNotIn(arg, CharClass.ALPHANUMERIC, "requireAlphanumeric");
+        if (index >= 0) {
+            throw this.violation("requireAlphanumeric", name, ViolationMessages.charClass(name, arg, index, CharClass.ALPHANUMERIC));
+        }
+
+        this.passed("requireAlphanumeric", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireAlphanumeric(final CharSequence arg, final Supplier<String> name) {
+        final int index = this.indexNotIn(arg, CharClass.ALPHANUMERIC, "requireAlphanumeric");
+        if (index >= 0) {
+            throw this.violation("requireAlphanumeric", null, ViolationMessages.charClass(ViolationMessages.resolve(name), arg, index, CharClass.ALPHANUMERIC));
+        }
+
+        this.passed("requireAlphanumeric", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireHex(final CharSequence arg, final String name) {
+        final int index = this.indexNotIn(arg, CharClass.HEX, "requireHex");
+        if (index >= 0) {
+            throw this.violation("requireHex", name, ViolationMessages.charClass(name, arg, index, CharClass.HEX));
+        }
+
+        this.passed("requireHex", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireHex(final CharSequence arg, final Supplier<String> name) {
+        final int index = this.indexNotIn(arg, CharClass.HEX, "requireHex");
+        if (index >= 0) {
+            throw this.violation("requireHex", null, ViolationMessages.charClass(ViolationMessages.resolve(name), arg, index, CharClass.HEX));
+        }
+
+        this.passed("requireHex", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireBase64(final CharSequence arg, final String name) {
+        final int index = this.indexNotInBase64(arg, CharClass.BASE64, "requireBase64");
+        if (index >= 0) {
+            throw this.violation("requireBase64", name, ViolationMessages.base64(name, arg, index, CharClass.BASE64));
+        }
+
+        this.passed("requireBase64", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireBase64(final CharSequence arg, final Supplier<String> name) {
+        final int index = this.indexNotInBase64(arg, CharClass.BASE64, "requireBase64");
+        if (index >= 0) {
+            throw this.violation("requireBase64", null, ViolationMessages.base64(ViolationMessages.resolve(name), arg, index, CharClass.BASE64));
+        }
+
+        this.passed("requireBase64", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireBase64Url(final CharSequence arg, final String name) {
+        final int index = this.indexNotInBase64(arg, CharClass.BASE64_URL, "requireBase64Url");
+        if (index >= 0) {
+            throw this.violation("requireBase64Url", name, ViolationMessages.base64(name, arg, index, CharClass.BASE64_URL));
+        }
+
+        this.passed("requireBase64Url", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireBase64Url(final CharSequence arg, final Supplier<String> name) {
+        final int index = this.indexNotInBase64(arg, CharClass.BASE64_URL, "requireBase64Url");
+        if (index >= 0) {
+            throw this.violation("requireBase64Url", null, ViolationMessages.base64(ViolationMessages.resolve(name), arg, index, CharClass.BASE64_URL));
+        }
+
+        this.passed("requireBase64Url", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireCharsIn(final CharSequence arg, final CharClass charClass, final String name) {
+        this.objArgVal.requireNonNull(charClass, "requireCharsIn() charClass parameter");
+
+        final int index = this.indexNotIn(arg, charClass, "requireCharsIn");
+        if (index >= 0) {
+            throw this.violation("requireCharsIn", name, ViolationMessages.charClass(name, arg, index, charClass));
+        }
+
+        this.passed("requireCharsIn", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireCharsIn(final CharSequence arg, final CharClass charClass, final Supplier<String> name) {
+        this.objArgVal.requireNonNull(charClass, "requireCharsIn() charClass parameter");
+
+        final int index = this.indexNotIn(arg, charClass, "requireCharsIn");
+        if (index >= 0) {
+            throw this.violation("requireCharsIn", null, ViolationMessages.charClass(ViolationMessages.resolve(name), arg, index, charClass));
+        }
+
+        this.passed("requireCharsIn", null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final String name) {
+        this.checkLengthArguments(arg, len, comp);
+        this.objArgVal.requireNonNull(unit, "requireLength() unit parameter");
+
+        final long length = Utf8.boundedLength(arg, unit, len);
+        if (!comp.doComparison(length, len)) {
+            throw this.violation("requireLength", name, ViolationMessages.stringLength(name, unit, describeLength(unit != LengthUnit.UTF16_UNITS, length, len), comp, len));
+        }
+
+        this.passed("requireLength", name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void requireLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final LengthUnit unit, final Supplier<String> name) {
+        this.checkLengthArguments(arg, len, comp);
+        this.objArgVal.requireNonNull(unit, "requireLength() unit parameter");
+
+        final long length = Utf8.boundedLength(arg, unit, len);
+        if (!comp.doComparison(length, len)) {
+            throw this.violation("requireLength", null, ViolationMessages.stringLength(ViolationMessages.resolve(name), unit, describeLength(unit != LengthUnit.UTF16_UNITS, length, len), comp, len));
+        }
+
+        this.passed("requireLength", null);
+    }
+
+    /**
+     * Validate the arguments passed to the requireLength() methods.
+     *
+     * @param arg String to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     */
+    private void checkLengthArguments(final CharSequence arg, final int len, final NumberCompareOperator comp) {
+        Checks.checkStringLength(len, comp);
         this.objArgVal.requireNonNull(arg, "requireLength() parameter");
+    }
 
-        if (!comp.doComparison(arg.length(), len)) {
-            String msg = "String length violation (" + name + "): string(" + arg.length() + ") " + comp.getOperator() + " " + len;
-            throw new IllegalArgumentException(msg);
+    /**
+     * Validate the argument passed to the character class methods and find its first character
+     * which is not a member of {@code charClass}.
+     *
+     * @param arg Character sequence to test
+     * @param charClass Class of the allowed characters
+     * @param rule Name of the validation method
+     * @return Index of the first character which is not a member, or -1
+     */
+    private int indexNotIn(final CharSequence arg, final CharClass charClass, final String rule) {
+        this.objArgVal.requireNonNull(arg, rule + "() parameter");
+        return charClass.indexNotIn(arg);
+    }
+
+    /**
+     * Validate the argument passed to the Base64 methods and find its first character which is
+     * neither a member of {@code alphabet} nor valid padding. Up to two padding characters may
+     * follow the encoded characters, if the length of {@code arg} is a multiple of four. Unpadded
+     * input must not leave a single character in its last group of four, which encodes no byte.
+     *
+     * @param arg Character sequence to test
+     * @param alphabet Alphabet of the encoding, excluding the padding character
+     * @param rule Name of the validation method
+     * @return Index of the first invalid character, the length of {@code arg} if the length is
+     * invalid, or -1
+     */
+    private int indexNotInBase64(final CharSequence arg, final CharClass alphabet, final String rule) {
+        this.objArgVal.requireNonNull(arg, rule + "() parameter");
+
+        final int length = arg.length();
+        int end = length;
+        while (end > 0 && length - end < 2 && arg.charAt(end - 1) == '=') {
+            end--;
+        }
+
+        final int index = alphabet.indexNotIn(arg, 0, end);
+        if (index >= 0) {
+            return index;
+        }
+
+        if (end < length) {
+            return (length % 4 != 0) ? end : -1;
         }
+
+        return (length % 4 == 1) ? length : -1;
     }
 
+    /**
+     * Validate the arguments passed to the requireEncodedLength() methods.
+     *
+     * @param arg Bytes or buffer to test
+     * @param len Value to be used as reference in comparison
+     * @param unit Unit the length is measured in
+     * @param method Signature of the validation method
+     */
+    private void checkEncodedLengthArguments(final Object arg, final int len, final LengthUnit unit, final String method) {
+        if (len < 0) {
+            throw new IllegalArgumentException("Negative " + method + " length parameter");
+        }
+
+        this.objArgVal.requireNonNull(unit, method + " unit parameter");
+        this.objArgVal.requireNonNull(arg, method + " parameter");
+    }
+
+    /**
+     * Validate the range of bytes passed to the validation methods taking a byte array.
+     *
+     * @param arg Bytes to test
+     * @param offset Index of the first byte to test
+     * @param length Number of bytes to test
+     * @param method Signature of the validation method
+     */
+    private static void checkRange(final byte[] arg, final int offset, final int length, final String method) {
+        if (offset < 0 || length < 0 || offset > arg.length - length) {
+            throw new IllegalArgumentException("Invalid " + method + " range: offset=" + offset + ", length=" + length + ", array length=" + arg.length);
+        }
+    }
+
+    /**
+     * Get the representation of a length in exception messages. A length which has been bounded
+     * while counting is represented as <tt>"&gt;" + len</tt>.
+     *
+     * @param counted True, if the length has been counted rather than read
+     * @param length Length as returned by Utf8.boundedLength()
+     * @param len Value used as reference in comparison
+     * @return Representation of the length
+     */
+    private static Object describeLength(final boolean counted, final long length, final int len) {
+        return (counted && length > len) ? ">" + len : length;
+    }
 }
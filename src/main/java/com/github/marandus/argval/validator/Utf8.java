@@ -0,0 +1,423 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import com.github.marandus.argval.enums.LengthUnit;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Byte-level inspection of UTF-8 encoded text, and measurement of the encoded length of character
+ * sequences. None of the methods decode or encode their input, so they do not allocate. Byte buffers are read using absolute positions, which leaves
+ * their position untouched. Heap buffers are inspected through their backing array.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+final class Utf8 {
+
+    /*
+     * States of the validating automaton. Every state except ACCEPT and REJECT is waiting for
+     * continuation bytes. The E0, ED, F0, and F4 states restrict the range of the first
+     * continuation byte to reject overlong encodings, surrogates, and code points above U+10FFFF.
+     */
+    private static final int ACCEPT = 0;
+    private static final int REJECT = 1;
+    private static final int TAIL_1 = 2;
+    private static final int TAIL_2 = 3;
+    private static final int TAIL_3 = 4;
+    private static final int LEAD_E0 = 5;
+    private static final int LEAD_ED = 6;
+    private static final int LEAD_F0 = 7;
+    private static final int LEAD_F4 = 8;
+    private static final int STATES = 9;
+
+    /**
+     * Transition table of the automaton, indexed by <tt>state &lt;&lt; 8 | unsigned byte</tt>.
+     */
+    private static final byte[] TRANSITIONS = new byte[STATES << 8];
+
+    static {
+        for (int state = 0; state < STATES; state++) {
+            for (int b = 0; b < 256; b++) {
+                TRANSITIONS[(state << 8) | b] = (byte) transition(state, b);
+            }
+        }
+    }
+
+    /**
+     * Private constructor, static only class
+     */
+    private Utf8() {
+
+    }
+
+    /**
+     * Find the first malformed sequence of the UTF-8 encoded bytes {@code arg[offset]} to
+     * {@code arg[offset + length - 1]}. A sequence truncated by the end of the range is malformed.
+     *
+     * @param arg Bytes to inspect
+     * @param offset Index of the first byte
+     * @param length Number of bytes
+     * @return Index of the first byte of the malformed sequence relative to {@code offset}, or -1
+     */
+    static int indexOfMalformed(final byte[] arg, final int offset, final int length) {
+        final int end = offset + length;
+        int start = offset;
+        int state = ACCEPT;
+
+        for (int i = offset; i < end; i++) {
+            final byte b = arg[i];
+            if (state == ACCEPT) {
+                if (b >= 0) {
+                    continue;
+                }
+                start = i;
+            }
+
+            state = TRANSITIONS[(state << 8) | (b & 0xFF)];
+            if (state == REJECT) {
+                return start - offset;
+            }
+        }
+
+        return (state == ACCEPT) ? -1 : start - offset;
+    }
+
+    /**
+     * Find the first malformed sequence of the remaining bytes of {@code arg}, see
+     * {@link #indexOfMalformed(byte[], int, int)}.
+     *
+     * @param arg Buffer to inspect
+     * @return Index of the first byte of the malformed sequence relative to the position of
+     * {@code arg}, or -1
+     */
+    static int indexOfMalformed(final ByteBuffer arg) {
+        if (arg.hasArray()) {
+            return indexOfMalformed(arg.array(), arg.arrayOffset() + arg.position(), arg.remaining());
+        }
+
+        final int offset = arg.position();
+        final int end = arg.limit();
+        int start = offset;
+        int state = ACCEPT;
+
+        for (int i = offset; i < end; i++) {
+            final byte b = arg.get(i);
+            if (state == ACCEPT) {
+                if (b >= 0) {
+                    continue;
+                }
+                start = i;
+            }
+
+            state = TRANSITIONS[(state << 8) | (b & 0xFF)];
+            if (state == REJECT) {
+                return start - offset;
+            }
+        }
+
+        return (state == ACCEPT) ? -1 : start - offset;
+    }
+
+    /**
+     * Get the length of the UTF-8 encoded bytes {@code arg[offset]} to
+     * {@code arg[offset + length - 1]} in the specified unit. Code points are counted by their
+     * leading bytes, and four byte sequences count as two UTF-16 units. Counting stops once
+     * {@code limit} is exceeded. The bytes are not validated.
+     *
+     * @param arg Bytes to measure
+     * @param offset Index of the first byte
+     * @param length Number of bytes
+     * @param unit Unit of the length
+     * @param limit Value to be used as reference in comparison
+     * @return Length of the bytes, bounded to {@code limit + 1} if counted
+     */
+    static int boundedLength(final byte[] arg, final int offset, final int length, final LengthUnit unit, final int limit) {
+        if (unit == LengthUnit.UTF8_BYTES) {
+            return length;
+        }
+
+        final boolean pairs = (unit == LengthUnit.UTF16_UNITS);
+        final int end = offset + length;
+        int count = 0;
+        for (int i = offset; i < end && count <= limit; i++) {
+            final byte b = arg[i];
+            if (!isContinuation(b)) {
+                count += (pairs && b <= (byte) 0xF7 && b >= (byte) 0xF0) ? 2 : 1;
+            }
+        }
+
+        return (int) Math.min(count, limit + 1L);
+    }
+
+    /**
+     * Get the length of the remaining bytes of {@code arg} in the specified unit, see
+     * {@link #boundedLength(byte[], int, int, LengthUnit, int)}.
+     *
+     * @param arg Buffer to measure
+     * @param unit Unit of the length
+     * @param limit Value to be used as reference in comparison
+     * @return Length of the bytes, bounded to {@code limit + 1} if counted
+     */
+    static int boundedLength(final ByteBuffer arg, final LengthUnit unit, final int limit) {
+        if (unit == LengthUnit.UTF8_BYTES) {
+            return arg.remaining();
+        }
+        else if (arg.hasArray()) {
+            return boundedLength(arg.array(), arg.arrayOffset() + arg.position(), arg.remaining(), unit, limit);
+        }
+
+        final boolean pairs = (unit == LengthUnit.UTF16_UNITS);
+        final int end = arg.limit();
+        int count = 0;
+        for (int i = arg.position(); i < end && count <= limit; i++) {
+            final byte b = arg.get(i);
+            if (!isContinuation(b)) {
+                count += (pairs && b <= (byte) 0xF7 && b >= (byte) 0xF0) ? 2 : 1;
+            }
+        }
+
+        return (int) Math.min(count, limit + 1L);
+    }
+
+    /**
+     * Get the length of {@code arg} in the specified unit, in a single pass which stops once
+     * {@code limit} is exceeded. The UTF-8 length is at least the number of UTF-16 units, and the
+     * number of code points is at least half of it, so longer sequences are rejected without
+     * counting.
+     *
+     * @param arg Character sequence to measure
+     * @param unit Unit of the length
+     * @param limit Value to be used as reference in comparison
+     * @return Length of the sequence, bounded to {@code limit + 1} if counted
+     */
+    static long boundedLength(final CharSequence arg, final LengthUnit unit, final int limit) {
+        final int length = arg.length();
+        final long bound = limit + 1L;
+
+        switch (unit) {
+            case UTF16_UNITS:
+                return length;
+            case CODE_POINTS:
+                return ((length + 1L) / 2 >= bound) ? bound : countCodePoints(arg, length, limit);
+            default:
+                return (length >= bound) ? bound : countUtf8Bytes(arg, length, bound);
+        }
+    }
+
+    /**
+     * Test if the UTF-8 encoded bytes {@code arg[offset]} to {@code arg[offset + length - 1]} are
+     * blank as defined by the {@code StringUtils#isBlank(java.lang.CharSequence)} method, i.e.
+     * empty or whitespace only. The test stops at the first byte which does not belong to a
+     * whitespace character. All whitespace characters outside the ASCII range are encoded as three
+     * bytes, so no other multi-byte sequence needs to be decoded.
+     *
+     * @param arg Bytes to test
+     * @param offset Index of the first byte
+     * @param length Number of bytes
+     * @return True, if the bytes encode whitespace characters only
+     */
+    static boolean isBlank(final byte[] arg, final int offset, final int length) {
+        final int end = offset + length;
+        int i = offset;
+
+        while (i < end) {
+            final byte b = arg[i];
+            if (b >= 0) {
+                if (!Character.isWhitespace(b)) {
+                    return false;
+                }
+                i++;
+            }
+            else if (i + 2 < end && isWhitespace(b, arg[i + 1], arg[i + 2])) {
+                i += 3;
+            }
+            else {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Test if the remaining bytes of {@code arg} are blank, see
+     * {@link #isBlank(byte[], int, int)}.
+     *
+     * @param arg Buffer to test
+     * @return True, if the bytes encode whitespace characters only
+     */
+    static boolean isBlank(final ByteBuffer arg) {
+        if (arg.hasArray()) {
+            return isBlank(arg.array(), arg.arrayOffset() + arg.position(), arg.remaining());
+        }
+
+        final int end = arg.limit();
+        int i = arg.position();
+
+        while (i < end) {
+            final byte b = arg.get(i);
+            if (b >= 0) {
+                if (!Character.isWhitespace(b)) {
+                    return false;
+                }
+                i++;
+            }
+            else if (i + 2 < end && isWhitespace(b, arg.get(i + 1), arg.get(i + 2))) {
+                i += 3;
+            }
+            else {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Decode the bytes for use in exception messages. Malformed sequences are replaced.
+     *
+     * @param arg Bytes to decode
+     * @param offset Index of the first byte
+     * @param length Number of bytes
+     * @return Decoded text
+     */
+    static String decode(final byte[] arg, final int offset, final int length) {
+        return new String(arg, offset, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decode the remaining bytes of {@code arg} for use in exception messages, without changing
+     * its position. Malformed sequences are replaced.
+     *
+     * @param arg Buffer to decode
+     * @return Decoded text
+     */
+    static String decode(final ByteBuffer arg) {
+        return StandardCharsets.UTF_8.decode(arg.duplicate()).toString();
+    }
+
+    private static int countCodePoints(final CharSequence arg, final int length, final int limit) {
+        int count = 0;
+        for (int i = 0; i < length && count <= limit; i++) {
+            if (Character.isHighSurrogate(arg.charAt(i)) && i + 1 < length && Character.isLowSurrogate(arg.charAt(i + 1))) {
+                i++;
+            }
+            count++;
+        }
+
+        return count;
+    }
+
+    private static long countUtf8Bytes(final CharSequence arg, final int length, final long bound) {
+        long count = 0;
+        for (int i = 0; i < length && count < bound; i++) {
+            final char c = arg.charAt(i);
+            if (c < 0x80) {
+                count++;
+            }
+            else if (c < 0x800) {
+                count += 2;
+            }
+            else if (!Character.isSurrogate(c)) {
+                count += 3;
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(arg.charAt(i + 1))) {
+                count += 4;
+                i++;
+            }
+            else {
+                count++;
+            }
+        }
+
+        return Math.min(count, bound);
+    }
+
+    private static boolean isContinuation(final byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    /**
+     * Test if a three byte sequence encodes a whitespace character.
+     */
+    private static boolean isWhitespace(final byte b0, final byte b1, final byte b2) {
+        if (b0 < (byte) 0xE1 || b0 > (byte) 0xE3 || !isContinuation(b1) || !isContinuation(b2)) {
+            return false;
+        }
+
+        return Character.isWhitespace(((b0 & 0x0F) << 12) | ((b1 & 0x3F) << 6) | (b2 & 0x3F));
+    }
+
+    /**
+     * Compute a transition of the automaton.
+     *
+     * @param state Current state
+     * @param b Unsigned value of the next byte
+     * @return Next state
+     */
+    private static int transition(final int state, final int b) {
+        switch (state) {
+            case ACCEPT:
+                if (b < 0x80) {
+                    return ACCEPT;
+                }
+                else if (b < 0xC2) {
+                    return REJECT;
+                }
+                else if (b < 0xE0) {
+                    return TAIL_1;
+                }
+                else if (b == 0xE0) {
+                    return LEAD_E0;
+                }
+                else if (b == 0xED) {
+                    return LEAD_ED;
+                }
+                else if (b < 0xF0) {
+                    return TAIL_2;
+                }
+                else if (b == 0xF0) {
+                    return LEAD_F0;
+                }
+                else if (b < 0xF4) {
+                    return TAIL_3;
+                }
+                return (b == 0xF4) ? LEAD_F4 : REJECT;
+            case TAIL_1:
+                return inRange(b, 0x80, 0xBF) ? ACCEPT : REJECT;
+            case TAIL_2:
+                return inRange(b, 0x80, 0xBF) ? TAIL_1 : REJECT;
+            case TAIL_3:
+                return inRange(b, 0x80, 0xBF) ? TAIL_2 : REJECT;
+            case LEAD_E0:
+                return inRange(b, 0xA0, 0xBF) ? TAIL_1 : REJECT;
+            case LEAD_ED:
+                return inRange(b, 0x80, 0x9F) ? TAIL_1 : REJECT;
+            case LEAD_F0:
+                return inRange(b, 0x90, 0xBF) ? TAIL_2 : REJECT;
+            case LEAD_F4:
+                return inRange(b, 0x80, 0x8F) ? TAIL_2 : REJECT;
+            default:
+                return REJECT;
+        }
+    }
+
+    private static boolean inRange(final int b, final int lower, final int upper) {
+        return (b >= lower && b <= upper);
+    }
+}
@@ -0,0 +1,516 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import com.github.marandus.argval.enums.ExceptionMode;
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.enums.NumberRangeMode;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Non-throwing counterpart of the reference validator implementations. Each method performs the
+ * same check as the corresponding method of the reference implementations, but instead of raising
+ * an exception it records the violation and returns {@code false}. This allows to validate all
+ * arguments of a request and report every violation at once.
+ * <p>
+ * A context is meant to be reused: {@link #reset()} discards the recorded violations but keeps the
+ * internal buffer. No objects are allocated as long as all validations pass. Instances of this class
+ * are not thread-safe.
+ *
+ * <pre>
+ * ctx.reset();
+ * ctx.requireNonBlank(request.getName(), "name");
+ * ctx.requireValue(request.getQuantity(), 0, NumberCompareOperator.GREATER, "quantity");
+ * ctx.throwIfInvalid();
+ * </pre>
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+public final class ValidationContext {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final ExceptionMode exceptionMode;
+    private String[] violations;
+    private int count;
+
+    /**
+     * Create a new context. {@link #throwIfInvalid()} raises exceptions including the full stack
+     * trace.
+     */
+    public ValidationContext() {
+        this(ExceptionMode.STACK_TRACE);
+    }
+
+    /**
+     * Create a new context. {@link #throwIfInvalid()} raises exceptions as defined by the
+     * specified exception mode.
+     *
+     * @param exceptionMode Mode used to create the exception for recorded violations
+     */
+    public ValidationContext(final ExceptionMode exceptionMode) {
+        if (exceptionMode == null) {
+            throw new IllegalArgumentException("NULL: exceptionMode parameter");
+        }
+
+        this.exceptionMode = exceptionMode;
+        this.violations = new String[INITIAL_CAPACITY];
+        this.count = 0;
+    }
+
+    /**
+     * Discard all recorded violations. The context may be reused afterwards.
+     */
+    public void reset() {
+        Arrays.fill(this.violations, 0, this.count, null);
+        this.count = 0;
+    }
+
+    /**
+     * Test if no violation has been recorded since the last reset.
+     *
+     * @return True, if all validations have passed
+     */
+    public boolean isValid() {
+        return (this.count == 0);
+    }
+
+    /**
+     * Get the number of violations recorded since the last reset.
+     *
+     * @return Number of violations
+     */
+    public int getViolationCount() {
+        return this.count;
+    }
+
+    /**
+     * Get a snapshot of the violations recorded since the last reset. The result is not affected by
+     * later validations or resets of this context.
+     *
+     * @return Validation result
+     */
+    public ValidationResult getResult() {
+        if (this.count == 0) {
+            return ValidationResult.valid();
+        }
+
+        return ValidationResult.invalid(Arrays.asList(Arrays.copyOf(this.violations, this.count)));
+    }
+
+    /**
+     * Raise a single IllegalArgumentException if any violation has been recorded since the last
+     * reset. If exactly one violation has been recorded, the exception message is the message of
+     * that violation. Otherwise the messages of all violations are joined by <tt>"; "</tt>.
+     *
+     * @throws IllegalArgumentException if any violation has been recorded
+     */
+    public void throwIfInvalid() {
+        if (this.count == 1) {
+            throw this.exceptionMode.createException(this.violations[0]);
+        }
+        else if (this.count > 1) {
+            throw this.exceptionMode.createException(StringUtils.join(this.violations, "; ", 0, this.count));
+        }
+    }
+
+    /**
+     * Test {@code arg} to be non-null.
+     *
+     * @param arg Argument to test
+     * @param msg Message used to construct the violation message
+     * @return True, if the validation has passed
+     *
+     * @see ObjectArgumentValidator#requireNonNull(Object, String)
+     */
+    public boolean requireNonNull(final Object arg, final String msg) {
+        if (arg == null) {
+            return this.record(ViolationMessages.isNull(msg));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test {@code arg} to be non-blank.
+     *
+     * @param arg Argument to test
+     * @param msg Message used to construct the violation message
+     * @return True, if the validation has passed
+     *
+     * @see StringArgumentValidator#requireNonBlank(CharSequence, String)
+     */
+    public boolean requireNonBlank(final CharSequence arg, final String msg) {
+        if (Checks.isBlank(arg)) {
+            return this.record(ViolationMessages.isBlank(msg, arg));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test the length of {@code arg} against the provided length using the specified compare
+     * operator.
+     *
+     * @param arg Character sequence to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in violation message
+     * @return True, if the validation has passed
+     *
+     * @throws IllegalArgumentException if {@code len} is negative
+     *
+     * @see StringArgumentValidator#requireLength(CharSequence, int, NumberCompareOperator, String)
+     */
+    public boolean requireLength(final CharSequence arg, final int len, final NumberCompareOperator comp, final String name) {
+        Checks.checkStringLength(len, comp);
+
+        if (!this.requireNonNull(arg, "requireLength() parameter")) {
+            return false;
+        }
+
+        if (!comp.doComparison(arg.length(), len)) {
+            return this.record(ViolationMessages.stringLength(name, arg.length(), comp, len));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test {@code arg} to be non-null and not empty.
+     *
+     * @param arg Argument to test
+     * @param msg Message used to construct the violation message
+     * @return True, if the validation has passed
+     *
+     * @see CollectionArgumentValidator#requireNonEmpty(Collection, String)
+     */
+    public boolean requireNonEmpty(final Collection<?> arg, final String msg) {
+        if (!this.requireNonNull(arg, "requireNonEmpty(Collection<?>) parameter")) {
+            return false;
+        }
+
+        if (arg.isEmpty()) {
+            return this.record(ViolationMessages.collectionEmpty(msg));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test {@code arg} to be non-null and not empty.
+     *
+     * @param arg Argument to test
+     * @param msg Message used to construct the violation message
+     * @return True, if the validation has passed
+     *
+     * @see CollectionArgumentValidator#requireNonEmpty(Map, String)
+     */
+    public boolean requireNonEmpty(final Map<?, ?> arg, final String msg) {
+        if (!this.requireNonNull(arg, "requireNonEmpty(Map<?,?>) parameter")) {
+            return false;
+        }
+
+        if (arg.isEmpty()) {
+            return this.record(ViolationMessages.mapEmpty(msg));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test the size of {@code arg} against the provided length using the specified compare
+     * operator.
+     *
+     * @param arg Collection to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in violation message
+     * @return True, if the validation has passed
+     *
+     * @throws IllegalArgumentException if {@code len} is negative
+     *
+     * @see CollectionArgumentValidator#requireLength(Collection, int, NumberCompareOperator, String)
+     */
+    public boolean requireLength(final Collection<?> arg, final int len, final NumberCompareOperator comp, final String name) {
+        Checks.checkLength(len, "requireLength(Collection<?>)");
+
+        if (!this.requireNonNull(arg, "requireLength(Collection<?>) parameter")) {
+            return false;
+        }
+
+        final int size = CollectionArgumentValidatorImpl.boundedSize(arg, len);
+        if (!comp.doComparison(size, len)) {
+            return this.record(ViolationMessages.collectionSize(name, Checks.describeSize(arg, size, len), comp, len));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test the size of {@code arg} against the provided length using the specified compare
+     * operator.
+     *
+     * @param arg Map to test
+     * @param len Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in violation message
+     * @return True, if the validation has passed
+     *
+     * @throws IllegalArgumentException if {@code len} is negative
+     *
+     * @see CollectionArgumentValidator#requireLength(Map, int, NumberCompareOperator, String)
+     */
+    public boolean requireLength(final Map<?, ?> arg, final int len, final NumberCompareOperator comp, final String name) {
+        Checks.checkLength(len, "requireLength(Map<?,?>)");
+
+        if (!this.requireNonNull(arg, "requireLength(Map<?,?>) parameter")) {
+            return false;
+        }
+
+        final int size = CollectionArgumentValidatorImpl.boundedSize(arg, len);
+        if (!comp.doComparison(size, len)) {
+            return this.record(ViolationMessages.mapSize(name, Checks.describeSize(arg, size, len), comp, len));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test the comparison of {@code arg} and {@code value} using the operator defined in
+     * {@code comp} to be true.
+     *
+     * @param arg Argument to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in violation message
+     * @return True, if the validation has passed
+     *
+     * @see NumberArgumentValidator#requireValue(byte, byte, NumberCompareOperator, String)
+     */
+    public boolean requireValue(final byte arg, final byte value, final NumberCompareOperator comp, final String name) {
+        if (!comp.doComparison(arg, value)) {
+            return this.record(ViolationMessages.value("Byte", "byte", name, arg, comp, value));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test the comparison of {@code arg} and {@code value} using the operator defined in
+     * {@code comp} to be true.
+     *
+     * @param arg Argument to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in violation message
+     * @return True, if the validation has passed
+     *
+     * @see NumberArgumentValidator#requireValue(short, short, NumberCompareOperator, String)
+     */
+    public boolean requireValue(final short arg, final short value, final NumberCompareOperator comp, final String name) {
+        if (!comp.doComparison(arg, value)) {
+            return this.record(ViolationMessages.value("Short", "short", name, arg, comp, value));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test the comparison of {@code arg} and {@code value} using the operator defined in
+     * {@code comp} to be true.
+     *
+     * @param arg Argument to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in violation message
+     * @return True, if the validation has passed
+     *
+     * @see NumberArgumentValidator#requireValue(int, int, NumberCompareOperator, String)
+     */
+    public boolean requireValue(final int arg, final int value, final NumberCompareOperator comp, final String name) {
+        if (!comp.doComparison(arg, value)) {
+            return this.record(ViolationMessages.value("Integer", "int", name, arg, comp, value));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test the comparison of {@code arg} and {@code value} using the operator defined in
+     * {@code comp} to be true.
+     *
+     * @param arg Argument to test
+     * @param value Value to be used as reference in comparison
+     * @param comp Comparison operator to be used
+     * @param name Name to be referenced in violation message
+     * @return True, if the validation has passed
+     *
+     * @see NumberArgumentValidator#requireValue(long, long, NumberCompareOperator, String)
+     */
+    public boolean requireValue(final long arg, final long value, final NumberCompareOperator comp, final String name) {
+        if (!comp.doComparison(arg, value)) {
+            return this.record(ViolationMessages.value("Long", "long", name, arg, comp, value));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test the value of {@code arg} to be less than zero.
+     *
+     * @param arg Argument to test
+     * @param name Name to be referenced in violation message
+     * @return True, if the validation has passed
+     *
+     * @see NumberArgumentValidator#requireNegative(long, String)
+     */
+    public boolean requireNegative(final long arg, final String name) {
+        if (arg >= 0L) {
+            return this.record(ViolationMessages.notNegative(name, arg));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test the value of {@code arg} to be greater than zero.
+     *
+     * @param arg Argument to test
+     * @param name Name to be referenced in violation message
+     * @return True, if the validation has passed
+     *
+     * @see NumberArgumentValidator#requirePositive(long, String)
+     */
+    public boolean requirePositive(final long arg, final String name) {
+        if (arg <= 0L) {
+            return this.record(ViolationMessages.notPositive(name, arg));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test the value of {@code arg} to be zero.
+     *
+     * @param arg Argument to test
+     * @param name Name to be referenced in violation message
+     * @return True, if the validation has passed
+     *
+     * @see NumberArgumentValidator#requireZero(long, String)
+     */
+    public boolean requireZero(final long arg, final String name) {
+        if (arg != 0L) {
+            return this.record(ViolationMessages.notZero(name, arg));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}.
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in violation message
+     * @return True, if the validation has passed
+     *
+     * @throws IllegalArgumentException if the range is empty
+     *
+     * @see NumberArgumentValidator#requireInRange(int, int, int, NumberRangeMode, String)
+     */
+    public boolean requireInRange(final int arg, final int lower, final int upper, final NumberRangeMode mode, final String name) {
+        Checks.checkRange(lower, upper, mode, "requireInRange(int)");
+
+        if (!mode.isInRange(arg, lower, upper)) {
+            return this.record(ViolationMessages.range("Integer", "int", name, arg, mode, lower, upper));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}.
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in violation message
+     * @return True, if the validation has passed
+     *
+     * @throws IllegalArgumentException if the range is empty
+     *
+     * @see NumberArgumentValidator#requireInRange(long, long, long, NumberRangeMode, String)
+     */
+    public boolean requireInRange(final long arg, final long lower, final long upper, final NumberRangeMode mode, final String name) {
+        Checks.checkRange(lower, upper, mode, "requireInRange(long)");
+
+        if (!mode.isInRange(arg, lower, upper)) {
+            return this.record(ViolationMessages.range("Long", "long", name, arg, mode, lower, upper));
+        }
+
+        return true;
+    }
+
+    /**
+     * Test {@code arg} to be within the range defined by {@code lower}, {@code upper}, and
+     * {@code mode}.
+     *
+     * @param arg Argument to test
+     * @param lower Lower bound of the range
+     * @param upper Upper bound of the range
+     * @param mode Defines whether the bounds are part of the range
+     * @param name Name to be referenced in violation message
+     * @return True, if the validation has passed
+     *
+     * @throws IllegalArgumentException if the range is empty
+     *
+     * @see NumberArgumentValidator#requireInRange(double, double, double, NumberRangeMode, String)
+     */
+    public boolean requireInRange(final double arg, final double lower, final double upper, final NumberRangeMode mode, final String name) {
+        Checks.checkRange(lower, upper, mode, "requireInRange(double)");
+
+        if (!mode.isInRange(arg, lower, upper)) {
+            return this.record(ViolationMessages.range("Double", "double", name, arg, mode, lower, upper));
+        }
+
+        return true;
+    }
+
+    /**
+     * Record a violation. The buffer grows if necessary.
+     *
+     * @param msg Violation message
+     * @return Always false, for convenient use in return statements
+     */
+    private boolean record(final String msg) {
+        if (this.count == this.violations.length) {
+            this.violations = Arrays.copyOf(this.violations, this.count << 1);
+        }
+
+        this.violations[this.count++] = msg;
+        return false;
+    }
+}
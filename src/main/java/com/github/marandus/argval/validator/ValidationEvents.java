@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+/**
+ * Emits the Flight Recorder events of the reference validator implementations. The JFR API is
+ * only present in newer Java 8 updates, so the event classes are referenced exclusively by the
+ * nested class {@link Jfr}, which is loaded on first use if the API is available. All methods
+ * return immediately if JFR is unavailable or the event is disabled, i.e. if no recording is
+ * active.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+final class ValidationEvents {
+
+    private static final boolean AVAILABLE = isAvailable();
+
+    /**
+     * Private constructor, static only class
+     */
+    private ValidationEvents() {
+
+    }
+
+    /**
+     * Emit a {@link ValidationFailureEvent}, if enabled.
+     *
+     * @param rule Name of the validator method
+     * @param name Message or name passed to the validator method
+     * @param msg Exception message
+     */
+    static void failure(final String rule, final String name, final String msg) {
+        if (AVAILABLE) {
+            Jfr.failure(rule, name, msg);
+        }
+    }
+
+    /**
+     * Start timing a validation scanning elements.
+     *
+     * @return Started event, or null if the event is disabled
+     */
+    static Object beginScan() {
+        return AVAILABLE ? Jfr.beginScan() : null;
+    }
+
+    /**
+     * Finish timing a validation scanning elements and emit a {@link SlowValidationEvent}, if the
+     * duration exceeds the threshold.
+     *
+     * @param event Event returned by {@link #beginScan()}, may be null
+     * @param rule Name of the validator method
+     * @param name Message or name passed to the validator method
+     * @param elements Number of elements scanned
+     */
+    static void endScan(final Object event, final String rule, final String name, final long elements) {
+        if (event != null) {
+            Jfr.endScan(event, rule, name, elements);
+        }
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ValidationEvents.class.getClassLoader());
+            return true;
+        }
+        catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Holder of all references to the JFR API.
+     */
+    private static final class Jfr {
+
+        static void failure(final String rule, final String name, final String msg) {
+            final ValidationFailureEvent event = new ValidationFailureEvent();
+            if (event.isEnabled()) {
+                event.rule = rule;
+                event.name = name;
+                event.message = msg;
+                event.commit();
+            }
+        }
+
+        static Object beginScan() {
+            final SlowValidationEvent event = new SlowValidationEvent();
+            if (!event.isEnabled()) {
+                return null;
+            }
+
+            event.begin();
+            return event;
+        }
+
+        static void endScan(final Object obj, final String rule, final String name, final long elements) {
+            final SlowValidationEvent event = (SlowValidationEvent) obj;
+            event.end();
+            if (event.shouldCommit()) {
+                event.rule = rule;
+                event.name = name;
+                event.elements = elements;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a failed validation.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+@Name("com.github.marandus.argval.ValidationFailure")
+@Label("Validation Failure")
+@Category("Argument Validator")
+@Description("Argument rejected by a validator")
+@StackTrace(false)
+final class ValidationFailureEvent extends Event {
+
+    @Label("Rule")
+    @Description("Name of the validator method")
+    String rule;
+
+    @Label("Name")
+    @Description("Message or name passed to the validator method")
+    String name;
+
+    @Label("Message")
+    @Description("Message of the raised exception")
+    String message;
+}
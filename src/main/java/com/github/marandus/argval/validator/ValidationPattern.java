@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Getter;
+
+/**
+ * Compiled regular expression to be used with the requireMatches() methods of
+ * {@link StringArgumentValidator}. Callers which are able to hold an instance, e.g. in a static
+ * field, save the lookup in the pattern cache of the validator. Every thread reuses its own
+ * {@link Matcher}, so matching does not allocate. Instances are thread-safe.
+ * <p>
+ * The matcher of a thread is held until the thread terminates or the instance is garbage
+ * collected, so instances are meant to be long-lived. Do not create one per validation.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+public final class ValidationPattern {
+
+    /**
+     * Compiled pattern.
+     */
+    @Getter
+    private final Pattern pattern;
+
+    private final ThreadLocal<Matcher> matchers;
+
+    /**
+     * Compile a new pattern.
+     *
+     * @param regex Regular expression to compile
+     *
+     * @throws java.util.regex.PatternSyntaxException if the syntax of {@code regex} is invalid
+     */
+    public ValidationPattern(final String regex) {
+        this(Pattern.compile(regex));
+    }
+
+    /**
+     * Create a new instance using an already compiled pattern.
+     *
+     * @param pattern Compiled pattern
+     */
+    public ValidationPattern(final Pattern pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("NULL: ValidationPattern() parameter");
+        }
+
+        this.pattern = pattern;
+        this.matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+    }
+
+    /**
+     * Test if the entire {@code input} matches the pattern. The matcher of the calling thread is
+     * reset afterwards, so it does not keep a reference to {@code input}.
+     *
+     * @param input Character sequence to match
+     * @return True, if {@code input} matches the pattern
+     */
+    public boolean matches(final CharSequence input) {
+        final Matcher matcher = this.matchers.get();
+        try {
+            return matcher.reset(input).matches();
+        }
+        finally {
+            matcher.reset("");
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String toString() {
+        return this.pattern.pattern();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable outcome of the validations performed by a {@link ValidationContext}.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+public final class ValidationResult {
+
+    private static final ValidationResult VALID = new ValidationResult(Collections.<String>emptyList());
+
+    private final List<String> violations;
+
+    /**
+     * @param violations Messages of the recorded violations
+     */
+    private ValidationResult(final List<String> violations) {
+        this.violations = violations;
+    }
+
+    /**
+     * Get the result of a validation without violations.
+     *
+     * @return Valid result
+     */
+    static ValidationResult valid() {
+        return VALID;
+    }
+
+    /**
+     * Create the result of a validation with violations.
+     *
+     * @param violations Messages of the recorded violations, not copied
+     * @return Invalid result
+     */
+    static ValidationResult invalid(final List<String> violations) {
+        return new ValidationResult(Collections.unmodifiableList(violations));
+    }
+
+    /**
+     * Test if no violation has been recorded.
+     *
+     * @return True, if all validations have passed
+     */
+    public boolean isValid() {
+        return this.violations.isEmpty();
+    }
+
+    /**
+     * Get the messages of all recorded violations in the order they have been recorded. The
+     * messages are identical to the messages of the exceptions raised by the reference validator
+     * implementations.
+     *
+     * @return Unmodifiable list of violation messages
+     */
+    public List<String> getViolations() {
+        return this.violations;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String toString() {
+        return "ValidationResult" + this.violations;
+    }
+}
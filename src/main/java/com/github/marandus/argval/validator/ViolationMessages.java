@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import com.github.marandus.argval.enums.LengthUnit;
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.enums.NumberRangeMode;
+import java.util.function.Supplier;
+
+/**
+ * Construction of the exception messages of the reference validator implementations. Messages are
+ * only built once a validation has failed.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ * @since 0.3
+ */
+final class ViolationMessages {
+
+    /**
+     * Resolve a deferred message. A {@code null} supplier resolves to {@code null}, just like a
+     * {@code null} message would.
+     *
+     * @param msg Supplier of the message
+     * @return Supplied message
+     */
+    static String resolve(final Supplier<String> msg) {
+        return (msg == null) ? null : msg.get();
+    }
+
+    static String isNull(final String msg) {
+        return "NULL: " + msg;
+    }
+
+    static String isBlank(final String msg, final CharSequence arg) {
+        return msg + ": " + arg;
+    }
+
+    static String stringLength(final String name, final int length, final NumberCompareOperator comp, final int len) {
+        return "String length violation (" + name + "): string(" + length + ") " + comp.getOperator() + " " + len;
+    }
+
+    static String pattern(final String name, final CharSequence arg, final String regex) {
+        return "Pattern violation (" + name + "): " + arg + " does not match " + regex;
+    }
+
+    static String charClass(final String name, final CharSequence arg, final int index, final CharClass charClass) {
+        return "Character violation (" + name + "): " + arg + " contains " + String.format("U+%04X", Character.codePointAt(arg, index)) + " at index " + index + ", expected " + charClass;
+    }
+
+    static String base64(final String name, final CharSequence arg, final int index, final CharClass alphabet) {
+        if (index < arg.length()) {
+            return charClass(name, arg, index, alphabet);
+        }
+        return "Character violation (" + name + "): " + arg + " has invalid length " + index + ", expected " + alphabet;
+    }
+
+    static String malformedUtf8(final String name, final int index) {
+        return "UTF-8 violation (" + name + "): malformed sequence at byte " + index;
+    }
+
+    static String encodedLength(final String name, final LengthUnit unit, final Object length, final NumberCompareOperator comp, final int len) {
+        return "Encoded length violation (" + name + "): " + unit.getLabel() + "(" + length + ") " + comp.getOperator() + " " + len;
+    }
+
+    static String stringLength(final String name, final LengthUnit unit, final Object length, final NumberCompareOperator comp, final int len) {
+        return "String length violation (" + name + "): " + unit.getLabel() + "(" + length + ") " + comp.getOperator() + " " + len;
+    }
+
+    static String collectionEmpty(final String msg) {
+        return msg + ": Collection is empty";
+    }
+
+    static String mapEmpty(final String msg) {
+        return msg + ": Map is empty";
+    }
+
+    static String collectionSize(final String name, final Object size, final NumberCompareOperator comp, final int len) {
+        return "Collection size violation (" + name + "): Collection(" + size + ") " + comp.getOperator() + " " + len;
+    }
+
+    static String mapSize(final String name, final Object size, final NumberCompareOperator comp, final int len) {
+        return "Map size violation (" + name + "): Map(" + size + ") " + comp.getOperator() + " " + len;
+    }
+
+    static String iterableSize(final String name, final Object size, final NumberCompareOperator comp, final int len) {
+        return "Iterable size violation (" + name + "): Iterable(" + size + ") " + comp.getOperator() + " " + len;
+    }
+
+    static String element(final String name, final ElementScan.Failure failure) {
+        final Object detail = (failure.getCause() == null) ? failure.getElement() : failure.getCause().getMessage();
+        return element(name, failure.getIndex(), detail);
+    }
+
+    static String element(final String name, final long index, final Object detail) {
+        final String label = (index < 0) ? name : name + "[" + index + "]";
+        return "Element violation (" + label + "): " + detail;
+    }
+
+    static String duplicate(final String name, final int index, final Object element) {
+        return "Distinct violation (" + name + "[" + index + "]): " + element + " is not unique";
+    }
+
+    static String order(final String name, final int index, final Object previous, final NumberCompareOperator comp, final Object element) {
+        return "Order violation (" + name + "[" + index + "]): " + previous + " " + comp.getOperator() + " " + element;
+    }
+
+    static String entry(final String name, final EntryScan.Failure failure) {
+        final Object detail = (failure.getCause() == null) ? failure.getValue() : failure.getCause().getMessage();
+        return "Entry violation (" + name + "[" + failure.getKey() + "]): " + detail;
+    }
+
+    static String elementCount(final String name, final String type, final long maxElements) {
+        return type + " size violation (" + name + "): " + type + "(>" + maxElements + ") <= " + maxElements;
+    }
+
+    static String value(final String label, final String type, final String name, final Object arg, final NumberCompareOperator comp, final Object value) {
+        return label + " value violation (" + name + "): " + type + "(" + arg + ") " + comp.getOperator() + " " + value;
+    }
+
+    static String range(final String label, final String type, final String name, final Object arg, final NumberRangeMode mode, final Object lower, final Object upper) {
+        return label + " range violation (" + name + "): " + type + "(" + arg + ") not in " + mode.format(lower, upper);
+    }
+
+    static String notNegative(final String name, final long arg) {
+        return "Value is not negative (" + name + "): " + arg;
+    }
+
+    static String notPositive(final String name, final long arg) {
+        return "Value is not positive (" + name + "): " + arg;
+    }
+
+    static String notZero(final String name, final long arg) {
+        return "Value is not zero (" + name + "): " + arg;
+    }
+
+    /**
+     * Private constructor, static only class
+     */
+    private ViolationMessages() {
+
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval;
+
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.enums.ValidationLevel;
+import java.util.Arrays;
+import java.util.Locale;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the validation level of the static validator. The level is read once per JVM, so the
+ * build runs this class once per level in a separate surefire execution.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class ArgumentValidatorTest {
+
+    private final ValidationLevel level = this.currentLevel();
+
+    @Test
+    public void testValidationLevel_CHEAP() {
+        final boolean enabled = this.level.isEnabled(ValidationLevel.CHEAP);
+
+        assertEquals(enabled, this.fails(() -> ArgumentValidator.requireNonNull(null, "Test object")));
+        assertEquals(enabled, this.fails(() -> ArgumentValidator.requireNonBlank(" ", "Test string")));
+        assertEquals(enabled, this.fails(() -> ArgumentValidator.requireValue(0, 1, NumberCompareOperator.EQUAL, "Test int")));
+    }
+
+    @Test
+    public void testValidationLevel_FULL() {
+        final boolean enabled = this.level.isEnabled(ValidationLevel.FULL);
+
+        assertEquals(enabled, this.fails(() -> ArgumentValidator.requireAll(new int[]{1, 2, -3}, 0, NumberCompareOperator.GREATER, "Test array")));
+        assertEquals(enabled, this.fails(() -> ArgumentValidator.requireAll(Arrays.asList("foo", " "), s -> !s.trim().isEmpty(), "Test collection")));
+        assertEquals(enabled, this.fails(() -> ArgumentValidator.requireAllValid(Arrays.asList("foo", " "), ArgumentValidator::requireNonBlank, "Test collection")));
+        assertEquals(enabled, this.fails(() -> ArgumentValidator.requireDistinct(new long[]{1L, 2L, 1L}, "Test array")));
+    }
+
+    private boolean fails(final Runnable check) {
+        try {
+            check.run();
+            return false;
+        }
+        catch (IllegalArgumentException ex) {
+            return true;
+        }
+    }
+
+    private ValidationLevel currentLevel() {
+        final String value = System.getProperty(ArgumentValidator.VALIDATION_LEVEL_PROPERTY);
+        return (value == null) ? ValidationLevel.FULL : ValidationLevel.valueOf(value.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval;
+
+import com.github.marandus.argval.annotations.Length;
+import com.github.marandus.argval.annotations.Negative;
+import com.github.marandus.argval.annotations.NonBlank;
+import com.github.marandus.argval.annotations.NonEmpty;
+import com.github.marandus.argval.annotations.NonNull;
+import com.github.marandus.argval.annotations.Positive;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class ValidationPlanTest {
+
+    private static class Base {
+
+        @NonNull
+        Object id = "id";
+    }
+
+    private static class Order extends Base {
+
+        private static final String CONSTANT = null;
+
+        @NonBlank
+        private String customer = "foo";
+
+        @Length(min = 1, max = 2)
+        private List<String> items = Collections.singletonList("item");
+
+        @NonEmpty
+        private Map<String, String> tags = Collections.singletonMap("foo", "bar");
+
+        @Positive
+        private int quantity = 1;
+
+        @Negative
+        private Long delta = -1L;
+
+        private String unchecked;
+    }
+
+    private static class Invalid {
+
+        @NonBlank
+        private int value;
+    }
+
+    @Test
+    public void testValidate() {
+        final ArgumentValidatorBean instance = new ArgumentValidatorBean();
+        instance.validate(new Order());
+        instance.validate("no constraints");
+
+        assertEquals(8, ValidationPlan.of(Order.class).size());
+        assertSame(ValidationPlan.of(Order.class), ValidationPlan.of(Order.class));
+        assertEquals(0, ValidationPlan.of(String.class).size());
+    }
+
+    @Test
+    public void testValidate_Violations() {
+        final ArgumentValidatorBean instance = new ArgumentValidatorBean();
+
+        final Order nullId = new Order();
+        nullId.id = null;
+        assertViolation(instance, nullId, "NULL: Base.id");
+
+        final Order blank = new Order();
+        blank.customer = " ";
+        assertViolation(instance, blank, "Order.customer:  ");
+
+        final Order tooMany = new Order();
+        tooMany.items = Arrays.asList("a", "b", "c");
+        assertViolation(instance, tooMany, "Collection size violation (Order.items): Collection(3) <= 2");
+
+        final Order noTags = new Order();
+        noTags.tags = Collections.emptyMap();
+        assertViolation(instance, noTags, "Order.tags: Map is empty");
+
+        final Order zero = new Order();
+        zero.quantity = 0;
+        assertViolation(instance, zero, "Value is not positive (Order.quantity): 0");
+
+        final Order nullDelta = new Order();
+        nullDelta.delta = null;
+        assertViolation(instance, nullDelta, "NULL: Order.delta");
+
+        final Order positiveDelta = new Order();
+        positiveDelta.delta = 1L;
+        assertViolation(instance, positiveDelta, "Value is not negative (Order.delta): 1");
+    }
+
+    @Test
+    public void testValidate_NULL() {
+        assertViolation(new ArgumentValidatorBean(), null, "NULL: validate(Object) parameter");
+    }
+
+    @Test
+    public void testValidate_NotApplicable() {
+        try {
+            ValidationPlan.of(Invalid.class);
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().startsWith("@NonBlank is not applicable to field "));
+        }
+    }
+
+    private static void assertViolation(final ArgumentValidatorBean instance, final Object bean, final String msg) {
+        try {
+            instance.validate(bean);
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals(msg, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval;
+
+import com.github.marandus.argval.annotations.NonBlank;
+import com.github.marandus.argval.enums.ExceptionMode;
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import java.util.Collections;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class ValidationSamplerTest {
+
+    @Test
+    public void testSample() {
+        final ValidationSampler instance = new ValidationSampler(4);
+
+        int sampled = 0;
+        for (int i = 0; i < 100; i++) {
+            if (instance.sample("foo")) {
+                sampled++;
+            }
+        }
+
+        assertEquals(25, sampled);
+        assertTrue(instance.sample("bar"));
+        assertFalse(instance.sample("bar"));
+    }
+
+    @Test
+    public void testSample_Rates() {
+        final ValidationSampler instance = new ValidationSampler(1, Collections.singletonMap("hot", 1000));
+        assertEquals(1000, instance.getRate("hot"));
+        assertEquals(1, instance.getRate("cold"));
+
+        assertTrue(instance.sample("hot"));
+        for (int i = 0; i < 999; i++) {
+            assertFalse(instance.sample("hot"));
+            assertTrue(instance.sample("cold"));
+        }
+
+        assertTrue(instance.sample("hot"));
+    }
+
+    @Test
+    public void testSample_Bean() {
+        final ArgumentValidatorBean bean = new ArgumentValidatorBean(ExceptionMode.STACK_TRACE, new ValidationSampler(1, Collections.singletonMap("hot", 2)));
+
+        bean.requireValue(1, 0, NumberCompareOperator.GREATER, "hot");
+        bean.requireValue(0, 0, NumberCompareOperator.GREATER, "hot");
+
+        try {
+            bean.requireValue(0, 0, NumberCompareOperator.GREATER, "hot");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Integer value violation (hot): int(0) > 0", ex.getMessage());
+        }
+
+        try {
+            bean.requireNonNull(null, () -> "hot");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: hot", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testSample_Validate() {
+        final ArgumentValidatorBean bean = new ArgumentValidatorBean(ExceptionMode.STACK_TRACE, new ValidationSampler(1000));
+        final Customer customer = new Customer();
+
+        for (int i = 0; i < 100; i++) {
+            try {
+                bean.validate(customer);
+
+                fail();
+            }
+            catch (IllegalArgumentException ex) {
+                assertEquals("Customer.name:  ", ex.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testConstructor_InvalidRate() {
+        try {
+            new ValidationSampler(0);
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Non-positive ValidationSampler rate parameter: 0", ex.getMessage());
+        }
+
+        try {
+            new ValidationSampler(1, Collections.singletonMap("foo", -1));
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Non-positive ValidationSampler rate parameter: -1", ex.getMessage());
+        }
+    }
+
+    private static class Customer {
+
+        @NonBlank
+        private String name = " ";
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.enums;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class NumberCompareOperatorTest {
+
+    @Test
+    public void testDoComparison() {
+        for (NumberCompareOperator comp : NumberCompareOperator.values()) {
+            for (int n1 = -1; n1 <= 1; n1++) {
+                for (int n2 = -1; n2 <= 1; n2++) {
+                    final boolean expected = this.expected(comp, Integer.compare(n1, n2));
+
+                    assertEquals(expected, comp.doComparison(n1, n2));
+                    assertEquals(expected, comp.doComparison((long) n1, (long) n2));
+                    assertEquals(expected, comp.doComparison((double) n1, (double) n2));
+                    assertEquals(expected, comp.bind(n2).test(n1));
+                    assertEquals(expected, comp.bind((long) n2).test(n1));
+                    assertEquals(expected, comp.bind((double) n2).test(n1));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDoComparison_NaN() {
+        for (NumberCompareOperator comp : NumberCompareOperator.values()) {
+            assertFalse(comp.doComparison(Double.NaN, 0d));
+            assertFalse(comp.doComparison(0d, Double.NaN));
+            assertFalse(comp.doComparison(Double.NaN, Double.NaN));
+            assertFalse(comp.bind(0d).test(Double.NaN));
+            assertFalse(comp.bind(Double.NaN).test(0d));
+        }
+    }
+
+    @Test
+    public void testDoComparison_signedZero() {
+        assertTrue(NumberCompareOperator.EQUAL.doComparison(-0d, 0d));
+        assertFalse(NumberCompareOperator.LESS.doComparison(-0d, 0d));
+    }
+
+    private boolean expected(final NumberCompareOperator comp, final int cmp) {
+        switch (comp) {
+            case EQUAL:
+                return cmp == 0;
+            case GREATER:
+                return cmp > 0;
+            case GREATER_EQUAL:
+                return cmp >= 0;
+            case LESS:
+                return cmp < 0;
+            default:
+                return cmp <= 0;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.enums;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class ValidationLevelTest {
+
+    @Test
+    public void testIsEnabled() {
+        assertFalse(ValidationLevel.OFF.isEnabled(ValidationLevel.CHEAP));
+        assertFalse(ValidationLevel.OFF.isEnabled(ValidationLevel.FULL));
+        assertTrue(ValidationLevel.CHEAP.isEnabled(ValidationLevel.CHEAP));
+        assertFalse(ValidationLevel.CHEAP.isEnabled(ValidationLevel.FULL));
+        assertTrue(ValidationLevel.FULL.isEnabled(ValidationLevel.CHEAP));
+        assertTrue(ValidationLevel.FULL.isEnabled(ValidationLevel.FULL));
+    }
+
+    @Test
+    public void testIsEnabled_OFF() {
+        for (ValidationLevel level : ValidationLevel.values()) {
+            assertFalse(level.isEnabled(ValidationLevel.OFF));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.metrics;
+
+import com.github.marandus.argval.ArgumentValidatorBean;
+import com.github.marandus.argval.enums.ExceptionMode;
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class LongAdderValidationMetricsTest {
+
+    @Test
+    public void testRecord() {
+        final LongAdderValidationMetrics instance = new LongAdderValidationMetrics(16);
+        instance.record("requireNonNull", "foo", true);
+        instance.record("requireNonNull", "foo", false);
+        instance.record("requireNonNull", "bar", true);
+        instance.record("requireValue", null, false);
+
+        assertEquals("[requireNonNull(bar): checks=1, failures=0, requireNonNull(foo): checks=2, failures=1, requireValue(): checks=1, failures=1]", format(instance.snapshot()));
+
+        instance.reset();
+        assertEquals("[requireNonNull(bar): checks=0, failures=0, requireNonNull(foo): checks=0, failures=0, requireValue(): checks=0, failures=0]", format(instance.snapshot()));
+    }
+
+    @Test
+    public void testRecord_PerRule() {
+        final LongAdderValidationMetrics instance = new LongAdderValidationMetrics();
+        for (int i = 0; i < 100; i++) {
+            instance.record("requireNonNull", "id " + i, i % 10 != 0);
+        }
+        instance.record("requireValue", null, true);
+
+        assertEquals("[requireNonNull(): checks=100, failures=10, requireValue(): checks=1, failures=0]", format(instance.snapshot()));
+    }
+
+    @Test
+    public void testRecord_MaxNames() {
+        final LongAdderValidationMetrics instance = new LongAdderValidationMetrics(2);
+        instance.record("requireNonNull", "foo", true);
+        instance.record("requireNonNull", "bar", true);
+        instance.record("requireNonNull", "baz", false);
+        instance.record("requireValue", "foo", true);
+        instance.record("requireNonNull", "foo", true);
+
+        assertEquals("[requireNonNull(): checks=1, failures=1, requireNonNull(bar): checks=1, failures=0, requireNonNull(foo): checks=2, failures=0, requireValue(): checks=1, failures=0]", format(instance.snapshot()));
+    }
+
+    @Test
+    public void testConstructor_MaxNames() {
+        try {
+            new LongAdderValidationMetrics(-1);
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Negative LongAdderValidationMetrics() maxNames parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRecord_Validators() {
+        final LongAdderValidationMetrics instance = new LongAdderValidationMetrics(16);
+        final ArgumentValidatorBean argVal = new ArgumentValidatorBean(ExceptionMode.STACK_TRACE, null, instance);
+
+        argVal.requireNonBlank("foo", "name");
+        argVal.requireValue(1, 0, NumberCompareOperator.GREATER, "quantity");
+        argVal.requireValue(2, 0, NumberCompareOperator.GREATER, () -> "quantity");
+        argVal.requireLength(new ArrayList<>(), 0, NumberCompareOperator.EQUAL, "items");
+
+        try {
+            argVal.requireValue(0, 0, NumberCompareOperator.GREATER, "quantity");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Integer value violation (quantity): int(0) > 0", ex.getMessage());
+        }
+
+        try {
+            argVal.requireNonBlank(" ", () -> "name");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("name:  ", ex.getMessage());
+        }
+
+        assertEquals("[requireLength(items): checks=1, failures=0, requireNonBlank(): checks=1, failures=1, requireNonBlank(name): checks=1, failures=0, requireValue(): checks=1, failures=0, requireValue(quantity): checks=2, failures=1]", format(instance.snapshot()));
+    }
+
+    @Test
+    public void testRecordCacheLookup() {
+        final LongAdderValidationMetrics instance = new LongAdderValidationMetrics();
+        final ArgumentValidatorBean argVal = new ArgumentValidatorBean(ExceptionMode.STACK_TRACE, null, instance);
+
+        argVal.requireMatches("order-1", "order-\\d+", "reference");
+        argVal.requireMatches("order-2", "order-\\d+", "reference");
+        argVal.requireMatches("order-3", "order-\\d+", () -> "reference");
+        argVal.requireMatches("abc", "[a-z]+", "reference");
+
+        final List<CacheStatistics> caches = instance.cacheSnapshot();
+        assertEquals(1, caches.size());
+        assertEquals("CacheStatistics[pattern: hits=2, misses=2]", caches.get(0).toString());
+        assertEquals(0.5d, caches.get(0).getHitRate(), 0d);
+        assertEquals("[requireMatches(): checks=4, failures=0]", format(instance.snapshot()));
+
+        instance.reset();
+        assertEquals(0d, instance.cacheSnapshot().get(0).getHitRate(), 0d);
+    }
+
+    private static String format(final List<ValidationStatistics> snapshot) {
+        return snapshot.stream()
+            .map(stats -> stats.getRule() + "(" + stats.getName() + "): checks=" + stats.getChecks() + ", failures=" + stats.getFailures())
+            .sorted()
+            .collect(Collectors.toList())
+            .toString();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class CharClassTest {
+
+    @Test
+    public void testContains() {
+        final CharClass instance = new CharClass("test", "a?~\u0000");
+
+        assertTrue(instance.contains('a'));
+        assertTrue(instance.contains('?'));
+        assertTrue(instance.contains('~'));
+        assertTrue(instance.contains(0));
+        assertFalse(instance.contains('b'));
+        assertFalse(instance.contains('\u00e4'));
+        assertFalse(instance.contains(-1));
+    }
+
+    @Test
+    public void testContains_PREDEFINED() {
+        for (int c = 0; c < 256; c++) {
+            assertEquals(c < 128, CharClass.ASCII.contains(c));
+            assertEquals(c < 128 && Character.isLetterOrDigit(c), CharClass.ALPHANUMERIC.contains(c));
+            assertEquals(Character.digit(c, 16) >= 0 && c < 128, CharClass.HEX.contains(c));
+        }
+
+        assertTrue(CharClass.BASE64.contains('/'));
+        assertFalse(CharClass.BASE64.contains('_'));
+        assertTrue(CharClass.BASE64_URL.contains('_'));
+        assertFalse(CharClass.BASE64_URL.contains('='));
+    }
+
+    @Test
+    public void testIndexNotIn() {
+        final CharClass instance = new CharClass("letters", "ab_", Character::isLetter);
+
+        assertEquals(-1, instance.indexNotIn("\u00fc_\ud801\udc00"));
+        assertEquals(2, instance.indexNotIn("ab1"));
+        assertEquals(1, instance.indexNotIn("a\ud83d\ude00"));
+        assertEquals(1, instance.indexNotIn("a\ud801"));
+        assertEquals(-1, CharClass.HEX.indexNotIn("0123456789abcdefABCDEF"));
+        assertEquals(-1, CharClass.HEX.indexNotIn("xx0f", 2, 4));
+    }
+
+    @Test
+    public void testConstructor_NON_ASCII() {
+        try {
+            new CharClass("test", "a\u00e4");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Non-ASCII character in CharClass() chars parameter: \u00e4", ex.getMessage());
+        }
+    }
+}
@@ -15,13 +15,34 @@
  */
 package com.github.marandus.argval.validator;
 
+import com.github.marandus.argval.enums.ExceptionMode;
 import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.exceptions.StacklessIllegalArgumentException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -454,4 +475,641 @@ public class CollectionArgumentValidatorImplTest {
             assertEquals("Map size violation (Some message): Map(" + test.size() + ") " + comp.getOperator() + " 2", ex.getMessage());
         }
     }
+
+    @Test
+    public void testRequireNonEmpty_Collection_String_EMPTY_STACKLESS() {
+        try {
+            final Set<String> coll = new HashSet<>();
+
+            final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl(ExceptionMode.STACKLESS);
+            instance.requireNonEmpty(coll, "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertTrue(ex instanceof StacklessIllegalArgumentException);
+            assertEquals("Test collection: Collection is empty", ex.getMessage());
+            assertEquals(0, ex.getStackTrace().length);
+        }
+    }
+
+    @Test
+    public void testRequireNonEmpty_Collection_Supplier() {
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        instance.requireNonEmpty(Collections.singleton("foo"), () -> {
+            throw new AssertionError("Message must not be constructed");
+        });
+
+        try {
+            instance.requireNonEmpty(Collections.emptySet(), () -> "Test " + "collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Test collection: Collection is empty", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireLength_Map_Supplier() {
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        instance.requireLength(Collections.singletonMap("foo", "bar"), 1, NumberCompareOperator.EQUAL, () -> {
+            throw new AssertionError("Message must not be constructed");
+        });
+
+        try {
+            instance.requireLength(Collections.emptyMap(), 1, NumberCompareOperator.EQUAL, () -> "Test " + "map");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Map size violation (Test map): Map(0) == 1", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireLength_Collection_LinearSize() {
+        final Collection<Integer> coll = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < 10; i++) {
+            coll.add(i);
+        }
+
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        instance.requireLength(coll, 3, NumberCompareOperator.GREATER, "Test collection");
+        instance.requireLength(coll, 10, NumberCompareOperator.EQUAL, "Test collection");
+
+        try {
+            instance.requireLength(coll, 3, NumberCompareOperator.LESS_EQUAL, "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Collection size violation (Test collection): Collection(>3) <= 3", ex.getMessage());
+        }
+
+        try {
+            instance.requireLength(coll, 11, NumberCompareOperator.EQUAL, "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Collection size violation (Test collection): Collection(10) == 11", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireLength_Map_LinearSize() {
+        final Map<Integer, Integer> map = new ConcurrentSkipListMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        instance.requireLength(map, 9, NumberCompareOperator.GREATER, "Test map");
+
+        try {
+            instance.requireLength(map, 2, NumberCompareOperator.LESS, "Test map");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Map size violation (Test map): Map(>2) < 2", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireLength_Iterable() {
+        final int[] consumed = new int[1];
+        final Iterable<Integer> infinite = () -> new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return consumed[0]++;
+            }
+        };
+
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        instance.requireLength(infinite, 5, NumberCompareOperator.GREATER, "Test iterable");
+        assertEquals(6, consumed[0]);
+
+        try {
+            instance.requireLength(infinite, 5, NumberCompareOperator.GREATER_EQUAL, () -> "Test " + "iterable");
+            instance.requireLength(infinite, 5, NumberCompareOperator.LESS, "Test iterable");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Iterable size violation (Test iterable): Iterable(>5) < 5", ex.getMessage());
+        }
+
+        try {
+            instance.requireLength((Iterable<?>) Collections.emptyList(), 1, NumberCompareOperator.EQUAL, "Test iterable");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Iterable size violation (Test iterable): Iterable(0) == 1", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireLength_Iterable_NULL() {
+        try {
+            final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+            instance.requireLength((Iterable<?>) null, 1, NumberCompareOperator.EQUAL, "Test iterable");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireLength(Iterable<?>) parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireAll_Predicate() {
+        final List<String> list = Arrays.asList("foo", "bar", "", "baz");
+
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        instance.requireAll(list, Objects::nonNull, "Test collection");
+
+        try {
+            instance.requireAll(list, s -> !s.isEmpty(), "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Element violation (Test collection[2]): ", ex.getMessage());
+        }
+
+        try {
+            instance.requireAll((List<String>) null, Objects::nonNull, () -> "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireAll(Collection<?>) parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireAllValid() {
+        final List<String> list = Arrays.asList("foo", "bar", " ");
+        final StringArgumentValidator stringArgVal = new StringArgumentValidatorImpl();
+
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        instance.requireAllValid(list.subList(0, 2), stringArgVal::requireNonBlank, "Test collection");
+
+        try {
+            instance.requireAllValid(list, stringArgVal::requireNonBlank, "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Element violation (Test collection[2]): Test collection:  ", ex.getMessage());
+        }
+
+        try {
+            instance.requireAllValid((List<String>) null, stringArgVal::requireNonBlank, "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireAllValid(Collection<?>) parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireAll_PARALLEL() {
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            list.add(i);
+        }
+
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl(new ObjectArgumentValidatorImpl(), ExceptionMode.STACK_TRACE, null, 16);
+        instance.requireAll(list, n -> n >= 0, "Test collection");
+        instance.requireAll(new HashSet<>(list), n -> n >= 0, "Test collection");
+
+        list.set(77777, -1);
+        try {
+            instance.requireAll(list, n -> n >= 0, "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Element violation (Test collection[77777]): -1", ex.getMessage());
+        }
+
+        try {
+            instance.requireAll(new HashSet<>(list), n -> n >= 0, "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            // the index is unknown if the set has been scanned in parallel
+            assertTrue(ex.getMessage().matches("Element violation \\(Test collection(\\[\\d+\\])?\\): -1"));
+        }
+    }
+
+    @Test
+    public void testValidating_Iterator() {
+        final List<String> list = Arrays.asList("foo", "bar", "", "baz");
+
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        final List<String> copy = new ArrayList<>();
+        instance.validating(list.iterator(), Objects::nonNull, 4, "Test iterator").forEachRemaining(copy::add);
+        assertEquals(list, copy);
+
+        final Iterator<String> it = instance.validating(list.iterator(), s -> !s.isEmpty(), "Test iterator");
+        assertEquals("foo", it.next());
+        assertEquals("bar", it.next());
+        try {
+            it.next();
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Element violation (Test iterator[2]): ", ex.getMessage());
+        }
+
+        final Iterator<String> bounded = instance.validating(list.iterator(), Objects::nonNull, 3, () -> "Test iterator");
+        bounded.next();
+        bounded.next();
+        bounded.next();
+        assertTrue(bounded.hasNext());
+        try {
+            bounded.next();
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Iterator size violation (Test iterator): Iterator(>3) <= 3", ex.getMessage());
+        }
+
+        try {
+            instance.validating((Iterator<String>) null, Objects::nonNull, "Test iterator");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: validating(Iterator<?>) parameter", ex.getMessage());
+        }
+
+        try {
+            instance.validating(list.iterator(), Objects::nonNull, -1, "Test iterator");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Negative validating(Iterator<?>) maxElements parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testValidating_Stream() {
+        final List<String> list = Arrays.asList("foo", "bar", "", "baz");
+        final StringArgumentValidatorImpl stringArgVal = new StringArgumentValidatorImpl();
+
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        assertEquals(list, instance.validating(list.stream(), Objects::nonNull, 4, "Test stream").collect(Collectors.toList()));
+        assertEquals(2, instance.validating(list.stream(), Objects::nonNull, "Test stream").limit(2).count());
+
+        try {
+            // count() must not skip the elements of a sized stream
+            instance.validating(list.stream(), s -> !s.isEmpty(), "Test stream").count();
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Element violation (Test stream[2]): ", ex.getMessage());
+        }
+
+        try {
+            instance.validating(list.parallelStream(), s -> {
+                stringArgVal.requireNonBlank(s, "Test element");
+                return true;
+            }, () -> "Test stream").forEach(s -> { });
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Element violation (Test stream[2]): Test element: ", ex.getMessage());
+        }
+
+        try {
+            instance.validating(Stream.iterate(0, n -> n + 1), n -> n >= 0, 1000, "Test stream").forEach(n -> { });
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Stream size violation (Test stream): Stream(>1000) <= 1000", ex.getMessage());
+        }
+
+        final AtomicBoolean closed = new AtomicBoolean();
+        instance.validating(list.stream().onClose(() -> closed.set(true)), Objects::nonNull, "Test stream").close();
+        assertTrue(closed.get());
+
+        try {
+            instance.validating(list.stream(), null, () -> "Test stream");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: validating(Stream<?>) rule parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireDistinct_Collection() {
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        instance.requireDistinct(Arrays.asList("foo", "bar", null), "Test collection");
+        instance.requireDistinct(new HashSet<>(Arrays.asList("foo", "bar")), "Test collection");
+
+        try {
+            instance.requireDistinct(new LinkedList<>(Arrays.asList("foo", "bar", "baz", "bar")), "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Distinct violation (Test collection[3]): bar is not unique", ex.getMessage());
+        }
+
+        try {
+            instance.requireDistinct((Collection<?>) null, () -> "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireDistinct(Collection<?>) parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireDistinct_Array() {
+        final long[] ids = new long[1000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = 1000L * i;
+        }
+
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        instance.requireDistinct(ids, "Test ids");
+        instance.requireDistinct(new int[] {1, 2, 3}, "Test ids");
+        instance.requireDistinct(new String[] {"foo", "bar"}, "Test names");
+
+        ids[999] = 5000L;
+        try {
+            instance.requireDistinct(ids, "Test ids");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Distinct violation (Test ids[999]): 5000 is not unique", ex.getMessage());
+        }
+
+        try {
+            instance.requireDistinct(new int[] {1, 2, 1}, () -> "Test ids");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Distinct violation (Test ids[2]): 1 is not unique", ex.getMessage());
+        }
+
+        try {
+            instance.requireDistinct(new String[] {"foo", "bar", "foo"}, "Test names");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Distinct violation (Test names[2]): foo is not unique", ex.getMessage());
+        }
+
+        try {
+            instance.requireDistinct((int[]) null, "Test ids");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireDistinct(int[]) parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireSorted() {
+        final long[] timestamps = new long[1000];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = 1500000000000L + 1000L * i;
+        }
+
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        instance.requireStrictlyIncreasing(timestamps, "Test timestamps");
+        instance.requireSorted(new double[] {3.0, 2.5, 2.5}, NumberCompareOperator.GREATER_EQUAL, "Test values");
+        instance.requireSorted(Arrays.asList("bar", "baz", "foo"), NumberCompareOperator.LESS, "Test names");
+
+        timestamps[500] = timestamps[499];
+        try {
+            instance.requireStrictlyIncreasing(timestamps, "Test timestamps");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Order violation (Test timestamps[500]): 1500000499000 < 1500000499000", ex.getMessage());
+        }
+
+        try {
+            instance.requireSorted(new int[] {1, 2, 1}, NumberCompareOperator.LESS_EQUAL, () -> "Test values");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Order violation (Test values[2]): 2 <= 1", ex.getMessage());
+        }
+
+        try {
+            instance.requireStrictlyIncreasing(Arrays.asList("foo", "bar"), "Test names");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Order violation (Test names[1]): foo < bar", ex.getMessage());
+        }
+
+        try {
+            instance.requireSorted(new int[0], null, "Test values");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireSorted(int[]) comp parameter", ex.getMessage());
+        }
+
+        try {
+            instance.requireStrictlyIncreasing((List<String>) null, () -> "Test names");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireSorted(List<?>) parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireNoNullElements() {
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        instance.requireNoNullElements(Arrays.asList("foo", "bar"), "Test collection");
+        instance.requireNoNullElements(new TreeSet<>(Arrays.asList("foo", "bar")), "Test collection");
+        instance.requireNoNullElements(new ConcurrentLinkedQueue<>(Arrays.asList("foo", "bar")), "Test collection");
+
+        try {
+            instance.requireNoNullElements(Arrays.asList("foo", "bar", null), "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: Test collection[2]", ex.getMessage());
+        }
+
+        try {
+            instance.requireNoNullElements(new LinkedHashSet<>(Arrays.asList("foo", null, "bar")), () -> "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: Test collection[1]", ex.getMessage());
+        }
+
+        try {
+            instance.requireNoNullElements((Collection<?>) null, "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireNoNullElements(Collection<?>) parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireNoNullKeysValues() {
+        final Map<String, String> map = new LinkedHashMap<>();
+        map.put("foo", "bar");
+        map.put("baz", "qux");
+
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        instance.requireNoNullKeys(map, "Test map");
+        instance.requireNoNullValues(map, "Test map");
+        instance.requireNoNullKeys(new TreeMap<>(map), "Test map");
+        instance.requireNoNullValues(new ConcurrentHashMap<>(map), "Test map");
+
+        map.put(null, "quux");
+        map.put("quuz", null);
+        try {
+            instance.requireNoNullKeys(map, "Test map");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: Test map key", ex.getMessage());
+        }
+
+        try {
+            instance.requireNoNullValues(map, () -> "Test map");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: Test map[quuz]", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testIsNullHostile() {
+        assertTrue(CollectionArgumentValidatorImpl.isNullHostile(new ArrayDeque<>()));
+        assertTrue(CollectionArgumentValidatorImpl.isNullHostile(new LinkedBlockingQueue<>()));
+        assertTrue(CollectionArgumentValidatorImpl.isNullHostile(new ConcurrentHashMap<>().keySet()));
+        assertTrue(CollectionArgumentValidatorImpl.isNullHostile(new ConcurrentHashMap<>().values()));
+        assertTrue(CollectionArgumentValidatorImpl.isNullHostile(new ConcurrentSkipListMap<>().values()));
+        assertFalse(CollectionArgumentValidatorImpl.isNullHostile(new ArrayList<>()));
+        assertFalse(CollectionArgumentValidatorImpl.isNullHostile(new HashMap<>().values()));
+
+        assertTrue(CollectionArgumentValidatorImpl.isNullHostile(new ConcurrentHashMap<>()));
+        assertTrue(CollectionArgumentValidatorImpl.isNullHostile(new Hashtable<>()));
+        assertFalse(CollectionArgumentValidatorImpl.isNullHostile(new HashMap<>()));
+    }
+
+    @Test
+    public void testRequireAllEntries() {
+        final Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("foo", 1);
+        map.put("bar", -2);
+        map.put("baz", 3);
+
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl();
+        instance.requireAllEntries(map, (key, value) -> !key.isEmpty(), "Test map");
+
+        try {
+            instance.requireAllEntries(map, (key, value) -> value > 0, "Test map");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Entry violation (Test map[bar]): -2", ex.getMessage());
+        }
+
+        try {
+            instance.requireAllEntries(map, (key, value) -> {
+                instance.requireLength(Collections.nCopies(Math.abs(value), key), 2, NumberCompareOperator.LESS_EQUAL, key);
+                return true;
+            }, () -> "Test map");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Entry violation (Test map[baz]): Collection size violation (baz): Collection(3) <= 2", ex.getMessage());
+        }
+
+        try {
+            instance.requireAllEntries((Map<String, Integer>) null, (key, value) -> true, "Test map");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireAllEntries(Map<?,?>) parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireAllEntries_ConcurrentHashMap() {
+        final ConcurrentHashMap<Integer, String> map = new ConcurrentHashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            map.put(i, "route" + i);
+        }
+
+        final CollectionArgumentValidatorImpl instance = new CollectionArgumentValidatorImpl(new ObjectArgumentValidatorImpl(), ExceptionMode.STACK_TRACE, null, 16);
+        instance.requireAllEntries(map, (key, value) -> value.equals("route" + key), "Test map");
+
+        map.put(77777, "");
+        try {
+            instance.requireAllEntries(map, (key, value) -> !value.isEmpty(), "Test map");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Entry violation (Test map[77777]): ", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testConstructor_PARALLEL_THRESHOLD() {
+        try {
+            new CollectionArgumentValidatorImpl(new ObjectArgumentValidatorImpl(), ExceptionMode.STACK_TRACE, null, -1);
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Negative CollectionArgumentValidatorImpl() parallelThreshold parameter", ex.getMessage());
+        }
+    }
 }
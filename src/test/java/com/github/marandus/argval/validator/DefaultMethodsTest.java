@@ -0,0 +1,195 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import com.github.marandus.argval.ArgumentValidatorBean;
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.enums.NumberRangeMode;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the default methods of the validator interfaces using implementations of the methods
+ * defined up to version 0.2 only.
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class DefaultMethodsTest {
+
+    private final ArgumentValidatorBean instance = new ArgumentValidatorBean(new LegacyCollectionArgumentValidator(), new LegacyNumberArgumentValidator(), new LegacyObjectArgumentValidator(), new LegacyStringArgumentValidator());
+
+    @Test
+    public void testSupplier() {
+        this.instance.requireNonNull("foo", () -> "Test object");
+        this.instance.requireValue(1, 0, NumberCompareOperator.GREATER, () -> "Test int");
+
+        try {
+            this.instance.requireNonBlank(" ", () -> "Test string");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Test string:  ", ex.getMessage());
+        }
+
+        try {
+            this.instance.requireLength(Arrays.asList(1, 2), 1, NumberCompareOperator.EQUAL, () -> "Test collection");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Collection size violation (Test collection): Collection(2) == 1", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testCharSequence() {
+        this.instance.requireNonBlank(new StringBuilder("foo"), "Test string");
+        this.instance.requireLength(new StringBuilder("foo"), 3, NumberCompareOperator.EQUAL, "Test string");
+
+        try {
+            this.instance.requireNonBlank(new StringBuilder(" "), "Test string");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Test string:  ", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testUnsupported() {
+        try {
+            this.instance.requireInRange(1, 0, 2, NumberRangeMode.INCLUSIVE, "Test int");
+
+            fail();
+        }
+        catch (UnsupportedOperationException ex) {
+            assertEquals("requireInRange() is not implemented by " + LegacyNumberArgumentValidator.class.getName(), ex.getMessage());
+        }
+
+        try {
+            this.instance.requireHex("00ff", () -> "Test string");
+
+            fail();
+        }
+        catch (UnsupportedOperationException ex) {
+            assertEquals("requireHex() is not implemented by " + LegacyStringArgumentValidator.class.getName(), ex.getMessage());
+        }
+
+        try {
+            this.instance.requireDistinct(new int[]{1, 2}, "Test array");
+
+            fail();
+        }
+        catch (UnsupportedOperationException ex) {
+            assertEquals("requireDistinct() is not implemented by " + LegacyCollectionArgumentValidator.class.getName(), ex.getMessage());
+        }
+    }
+
+    private static final class LegacyCollectionArgumentValidator implements CollectionArgumentValidator {
+
+        private final CollectionArgumentValidatorImpl impl = new CollectionArgumentValidatorImpl();
+
+        @Override
+        public void requireNonEmpty(final Collection<?> arg, final String msg) {
+            this.impl.requireNonEmpty(arg, msg);
+        }
+
+        @Override
+        public void requireNonEmpty(final Map<?, ?> arg, final String msg) {
+            this.impl.requireNonEmpty(arg, msg);
+        }
+
+        @Override
+        public void requireLength(final Collection<?> arg, final int len, final NumberCompareOperator comp, final String name) {
+            this.impl.requireLength(arg, len, comp, name);
+        }
+
+        @Override
+        public void requireLength(final Map<?, ?> arg, final int len, final NumberCompareOperator comp, final String name) {
+            this.impl.requireLength(arg, len, comp, name);
+        }
+    }
+
+    private static final class LegacyNumberArgumentValidator implements NumberArgumentValidator {
+
+        private final NumberArgumentValidatorImpl impl = new NumberArgumentValidatorImpl();
+
+        @Override
+        public void requireValue(final byte arg, final byte value, final NumberCompareOperator comp, final String name) {
+            this.impl.requireValue(arg, value, comp, name);
+        }
+
+        @Override
+        public void requireValue(final short arg, final short value, final NumberCompareOperator comp, final String name) {
+            this.impl.requireValue(arg, value, comp, name);
+        }
+
+        @Override
+        public void requireValue(final int arg, final int value, final NumberCompareOperator comp, final String name) {
+            this.impl.requireValue(arg, value, comp, name);
+        }
+
+        @Override
+        public void requireValue(final long arg, final long value, final NumberCompareOperator comp, final String name) {
+            this.impl.requireValue(arg, value, comp, name);
+        }
+
+        @Override
+        public void requireNegative(final long arg, final String name) {
+            this.impl.requireNegative(arg, name);
+        }
+
+        @Override
+        public void requirePositive(final long arg, final String name) {
+            this.impl.requirePositive(arg, name);
+        }
+
+        @Override
+        public void requireZero(final long arg, final String name) {
+            this.impl.requireZero(arg, name);
+        }
+    }
+
+    private static final class LegacyObjectArgumentValidator implements ObjectArgumentValidator {
+
+        private final ObjectArgumentValidatorImpl impl = new ObjectArgumentValidatorImpl();
+
+        @Override
+        public void requireNonNull(final Object arg, final String msg) {
+            this.impl.requireNonNull(arg, msg);
+        }
+    }
+
+    private static final class LegacyStringArgumentValidator implements StringArgumentValidator {
+
+        private final StringArgumentValidatorImpl impl = new StringArgumentValidatorImpl();
+
+        @Override
+        public void requireNonBlank(final String arg, final String msg) {
+            this.impl.requireNonBlank(arg, msg);
+        }
+
+        @Override
+        public void requireLength(final String arg, final int len, final NumberCompareOperator comp, final String name) {
+            this.impl.requireLength(arg, len, comp, name);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class DistinctTest {
+
+    @Test
+    public void testIndexOfDuplicate_int() {
+        assertEquals(-1, Distinct.indexOfDuplicate(new int[0]));
+        assertEquals(-1, Distinct.indexOfDuplicate(new int[] {3, 1, 2}));
+        assertEquals(3, Distinct.indexOfDuplicate(new int[] {3, 1, 2, 1}));
+
+        final int[] large = new int[10000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (i - 5000) << 16;
+        }
+        assertEquals(-1, Distinct.indexOfDuplicate(large));
+
+        large[9999] = 0;
+        assertEquals(9999, Distinct.indexOfDuplicate(large));
+
+        large[9999] = Integer.MIN_VALUE;
+        large[7777] = large[1234];
+        assertEquals(7777, Distinct.indexOfDuplicate(large));
+    }
+
+    @Test
+    public void testIndexOfDuplicate_long() {
+        assertEquals(-1, Distinct.indexOfDuplicate(new long[] {0L, 1L << 32}));
+        assertEquals(2, Distinct.indexOfDuplicate(new long[] {0L, 1L << 32, 0L}));
+
+        final long[] large = new long[10000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (long) i << 40;
+        }
+        assertEquals(-1, Distinct.indexOfDuplicate(large));
+
+        large[8000] = 0L;
+        assertEquals(8000, Distinct.indexOfDuplicate(large));
+    }
+
+    @Test
+    public void testIndexOfDuplicate_Object() {
+        assertEquals(-1, Distinct.indexOfDuplicate(new Object[] {"a", null, "b"}));
+        assertEquals(3, Distinct.indexOfDuplicate(new Object[] {"a", null, "b", null}));
+
+        final Object[] large = new Object[100];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = "e" + i;
+        }
+        assertEquals(-1, Distinct.indexOfDuplicate(large));
+
+        large[50] = "e20";
+        assertEquals(50, Distinct.indexOfDuplicate(large));
+    }
+
+    @Test
+    public void testIndexOfDuplicate_Collection() {
+        final List<String> list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add("e" + i);
+        }
+
+        assertEquals(-1, Distinct.indexOfDuplicate(list, list.size()));
+        assertEquals(-1, Distinct.indexOfDuplicate(new LinkedList<>(list), 0));
+        assertEquals(-1, Distinct.indexOfDuplicate(new ConcurrentLinkedQueue<>(list), 0));
+        assertEquals(-1, Distinct.indexOfDuplicate(new HashSet<>(list), list.size()));
+
+        list.set(999, "e998");
+        assertEquals(999, Distinct.indexOfDuplicate(list, list.size()));
+        assertEquals(999, Distinct.indexOfDuplicate(new ConcurrentLinkedQueue<>(list), 0));
+
+        final List<String> small = Arrays.asList("a", "b", "a");
+        assertEquals(2, Distinct.indexOfDuplicate(small, small.size()));
+    }
+
+    @Test
+    public void testIndexOfDuplicate_Collection_OVERFLOW() {
+        final List<String> list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add("e" + i);
+        }
+
+        assertEquals(-1, Distinct.indexOfDuplicate(list, list.size(), 64));
+        assertEquals(-1, Distinct.indexOfDuplicate(new LinkedList<>(list), 0, 64));
+
+        list.set(999, "e0");
+        assertEquals(999, Distinct.indexOfDuplicate(list, list.size(), 64));
+
+        list.set(999, "e999");
+        list.set(32, "e0");
+        assertEquals(32, Distinct.indexOfDuplicate(new LinkedList<>(list), 0, 64));
+    }
+}
@@ -15,7 +15,12 @@
  */
 package com.github.marandus.argval.validator;
 
+import com.github.marandus.argval.enums.ExceptionMode;
 import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.enums.NumberRangeMode;
+import com.github.marandus.argval.exceptions.StacklessIllegalArgumentException;
+import java.util.Arrays;
+import java.util.function.Supplier;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -544,6 +549,293 @@ public class NumberArgumentValidatorImplTest {
         }
     }
 
+    @Test
+    public void testRequireInRange_int_INCLUSIVE() {
+        this.testRange(1, NumberRangeMode.INCLUSIVE, false);
+        this.testRange(4, NumberRangeMode.INCLUSIVE, false);
+        this.testRange(0, NumberRangeMode.INCLUSIVE, true);
+        this.testRange(5, NumberRangeMode.INCLUSIVE, true);
+    }
+
+    @Test
+    public void testRequireInRange_int_EXCLUSIVE() {
+        this.testRange(2, NumberRangeMode.EXCLUSIVE, false);
+        this.testRange(1, NumberRangeMode.EXCLUSIVE, true);
+        this.testRange(4, NumberRangeMode.EXCLUSIVE, true);
+    }
+
+    @Test
+    public void testRequireInRange_int_INCLUSIVE_EXCLUSIVE() {
+        this.testRange(1, NumberRangeMode.INCLUSIVE_EXCLUSIVE, false);
+        this.testRange(4, NumberRangeMode.INCLUSIVE_EXCLUSIVE, true);
+    }
+
+    @Test
+    public void testRequireInRange_int_EXCLUSIVE_INCLUSIVE() {
+        this.testRange(4, NumberRangeMode.EXCLUSIVE_INCLUSIVE, false);
+        this.testRange(1, NumberRangeMode.EXCLUSIVE_INCLUSIVE, true);
+    }
+
+    @Test
+    public void testRequireInRange_int_INVALID() {
+        try {
+            final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+            instance.requireInRange(1, 4, 1, NumberRangeMode.INCLUSIVE, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Invalid requireInRange(int) range: [4, 1]", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireInRange_int_EMPTY() {
+        final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+        instance.requireInRange(5, 5, 5, NumberRangeMode.INCLUSIVE, "Some message");
+        instance.requireInRange(6, 5, 7, NumberRangeMode.EXCLUSIVE, "Some message");
+
+        this.testEmptyRange(5, 5, NumberRangeMode.EXCLUSIVE);
+        this.testEmptyRange(5, 6, NumberRangeMode.EXCLUSIVE);
+        this.testEmptyRange(5, 5, NumberRangeMode.INCLUSIVE_EXCLUSIVE);
+        this.testEmptyRange(5, 5, NumberRangeMode.EXCLUSIVE_INCLUSIVE);
+    }
+
+    @Test
+    public void testRequireInRange_long_EMPTY() {
+        final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+        instance.requireInRange(0L, Long.MIN_VALUE, Long.MAX_VALUE, NumberRangeMode.EXCLUSIVE, "Some message");
+
+        try {
+            instance.requireInRange(Long.MAX_VALUE, Long.MAX_VALUE - 1L, Long.MAX_VALUE, NumberRangeMode.EXCLUSIVE, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Invalid requireInRange(long) range: (" + (Long.MAX_VALUE - 1L) + ", " + Long.MAX_VALUE + ")", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireInRange_double_EMPTY() {
+        final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+        instance.requireInRange(1d, 1d, 1d, NumberRangeMode.INCLUSIVE, "Some message");
+
+        try {
+            instance.requireInRange(1d, 1d, 1d, NumberRangeMode.INCLUSIVE_EXCLUSIVE, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Invalid requireInRange(double) range: [1.0, 1.0)", ex.getMessage());
+        }
+
+        try {
+            instance.requireInRange(1d, 1d, Math.nextUp(1d), NumberRangeMode.EXCLUSIVE, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Invalid requireInRange(double) range: (1.0, " + Math.nextUp(1d) + ")", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireInRange_long() {
+        final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+        instance.requireInRange(Long.MAX_VALUE, 0L, Long.MAX_VALUE, NumberRangeMode.INCLUSIVE, "Some message");
+
+        try {
+            instance.requireInRange(Long.MAX_VALUE, 0L, Long.MAX_VALUE, NumberRangeMode.INCLUSIVE_EXCLUSIVE, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Long range violation (Some message): long(" + Long.MAX_VALUE + ") not in [0, " + Long.MAX_VALUE + ")", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireInRange_double() {
+        final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+        instance.requireInRange(0.5d, 0d, 1d, NumberRangeMode.EXCLUSIVE, "Some message");
+
+        try {
+            instance.requireInRange(1d, 0d, 1d, NumberRangeMode.EXCLUSIVE, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Double range violation (Some message): double(1.0) not in (0.0, 1.0)", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireInRange_double_NaN() {
+        try {
+            final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+            instance.requireInRange(Double.NaN, 0d, 1d, NumberRangeMode.INCLUSIVE, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Double range violation (Some message): double(NaN) not in [0.0, 1.0]", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireInRange_double_INVALID() {
+        try {
+            final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+            instance.requireInRange(0.5d, 0d, Double.NaN, NumberRangeMode.INCLUSIVE, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Invalid requireInRange(double) range: [0.0, NaN]", ex.getMessage());
+        }
+    }
+
+    private void testEmptyRange(final int lower, final int upper, final NumberRangeMode mode) {
+        try {
+            final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+            instance.requireInRange(lower, lower, upper, mode, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Invalid requireInRange(int) range: " + mode.format(lower, upper), ex.getMessage());
+        }
+    }
+
+    private void testRange(final int test, final NumberRangeMode mode, final boolean doFail) {
+        try {
+            final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+            instance.requireInRange(test, 1, 4, mode, "Some message");
+
+            if (doFail) {
+                fail();
+            }
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Integer range violation (Some message): int(" + test + ") not in " + mode.format(1, 4), ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireAll_int() {
+        final int[] test = new int[1000];
+        Arrays.fill(test, 42);
+
+        final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+        instance.requireAll(test, 42, NumberCompareOperator.EQUAL, "Some message");
+        instance.requireAll(test, 41, NumberCompareOperator.GREATER, "Some message");
+        instance.requireAll(new int[0], 41, NumberCompareOperator.LESS, "Some message");
+
+        test[300] = 43;
+        test[700] = 44;
+
+        try {
+            instance.requireAll(test, 43, NumberCompareOperator.LESS, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Integer value violation (Some message[300]): int(43) < 43", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireAll_long() {
+        final long[] test = {1L, 2L, 3L, Long.MIN_VALUE};
+
+        final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+        instance.requireAll(test, 3L, NumberCompareOperator.LESS_EQUAL, "Some message");
+
+        try {
+            instance.requireAll(test, 1L, NumberCompareOperator.GREATER_EQUAL, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Long value violation (Some message[3]): long(" + Long.MIN_VALUE + ") >= 1", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireAll_double_NaN() {
+        final double[] test = {1d, 2d, Double.NaN, 3d};
+
+        try {
+            final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+            instance.requireAll(test, 0d, NumberCompareOperator.GREATER, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Double value violation (Some message[2]): double(NaN) > 0.0", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireAll_NULL() {
+        try {
+            final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+            instance.requireAll((long[]) null, 0L, NumberCompareOperator.GREATER, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireAll(long[]) parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireAllInRange_int() {
+        final int[] test = new int[1000];
+        for (int i = 0; i < test.length; i++) {
+            test[i] = i;
+        }
+
+        final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+        instance.requireAllInRange(test, 0, 1000, NumberRangeMode.INCLUSIVE_EXCLUSIVE, "Some message");
+
+        try {
+            instance.requireAllInRange(test, 0, 999, NumberRangeMode.EXCLUSIVE, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Integer range violation (Some message[0]): int(0) not in (0, 999)", ex.getMessage());
+        }
+
+        try {
+            instance.requireAllInRange(test, 0, 998, NumberRangeMode.INCLUSIVE, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Integer range violation (Some message[999]): int(999) not in [0, 998]", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireAllInRange_double() {
+        final double[] test = {0d, 0.5d, 1d};
+
+        final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+        instance.requireAllInRange(test, 0d, 1d, NumberRangeMode.INCLUSIVE, "Some message");
+
+        try {
+            instance.requireAllInRange(test, 0d, 1d, NumberRangeMode.EXCLUSIVE_INCLUSIVE, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Double range violation (Some message[0]): double(0.0) not in (0.0, 1.0]", ex.getMessage());
+        }
+    }
+
     private void testCompare42(final byte test, final NumberCompareOperator comp, final boolean doFail) {
         try {
             final byte exp = 42;
@@ -607,4 +899,66 @@ public class NumberArgumentValidatorImplTest {
             assertEquals("Long value violation (Some message): long(" + test + ") " + comp.getOperator() + " 42", ex.getMessage());
         }
     }
+
+    @Test
+    public void testRequireValue_long_STACKLESS() {
+        try {
+            final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl(ExceptionMode.STACKLESS);
+            instance.requireValue(41L, 42L, NumberCompareOperator.EQUAL, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertTrue(ex instanceof StacklessIllegalArgumentException);
+            assertEquals("Long value violation (Some message): long(41) == 42", ex.getMessage());
+            assertEquals(0, ex.getStackTrace().length);
+        }
+    }
+
+    @Test
+    public void testRequireValue_int_Supplier() {
+        final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+        instance.requireValue(42, 42, NumberCompareOperator.EQUAL, () -> {
+            throw new AssertionError("Name must not be constructed");
+        });
+
+        try {
+            instance.requireValue(41, 42, NumberCompareOperator.EQUAL, () -> "Some " + "message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Integer value violation (Some message): int(41) == 42", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequirePositive_Supplier() {
+        final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+        instance.requirePositive(1L, () -> {
+            throw new AssertionError("Name must not be constructed");
+        });
+
+        try {
+            instance.requirePositive(0L, () -> "Some " + "message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Value is not positive (Some message): 0", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireInRange_long_Supplier_NULL() {
+        try {
+            final NumberArgumentValidatorImpl instance = new NumberArgumentValidatorImpl();
+            instance.requireInRange(5L, 1L, 4L, NumberRangeMode.INCLUSIVE, (Supplier<String>) null);
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Long range violation (null): long(5) not in [1, 4]", ex.getMessage());
+        }
+    }
 }
@@ -15,6 +15,8 @@
  */
 package com.github.marandus.argval.validator;
 
+import com.github.marandus.argval.enums.ExceptionMode;
+import com.github.marandus.argval.exceptions.StacklessIllegalArgumentException;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -45,4 +47,39 @@ public class ObjectArgumentValidatorImplTest {
         }
     }
 
+    @Test
+    public void testRequireNonNull_NULL_STACKLESS() {
+        try {
+            final ObjectArgumentValidatorImpl instance = new ObjectArgumentValidatorImpl(ExceptionMode.STACKLESS);
+            instance.requireNonNull(null, "Test object");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertTrue(ex instanceof StacklessIllegalArgumentException);
+            assertEquals("NULL: Test object", ex.getMessage());
+            assertEquals(0, ex.getStackTrace().length);
+        }
+    }
+
+    @Test
+    public void testRequireNonNull_Supplier() {
+        final ObjectArgumentValidatorImpl instance = new ObjectArgumentValidatorImpl();
+        instance.requireNonNull(new Object(), () -> {
+            throw new AssertionError("Message must not be constructed");
+        });
+    }
+
+    @Test
+    public void testRequireNonNull_Supplier_NULL() {
+        try {
+            final ObjectArgumentValidatorImpl instance = new ObjectArgumentValidatorImpl();
+            instance.requireNonNull(null, () -> "Test " + "object");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: Test object", ex.getMessage());
+        }
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import com.github.marandus.argval.enums.ExceptionMode;
+import com.github.marandus.argval.metrics.CacheStatistics;
+import com.github.marandus.argval.metrics.LongAdderValidationMetrics;
+import com.github.marandus.argval.metrics.ValidationStatistics;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class PatternCacheTest {
+
+    @Test
+    public void testGet() {
+        final PatternCache instance = new PatternCache(4);
+
+        final Pattern pattern = instance.get("[a-z]+");
+        assertSame(pattern, instance.get("[a-z]+"));
+        assertTrue(pattern.matcher("order").matches());
+        assertEquals(1, instance.size());
+    }
+
+    @Test
+    public void testGet_EVICTION() {
+        final PatternCache instance = new PatternCache(2);
+
+        final Pattern first = instance.get("a");
+        instance.get("b");
+        instance.get("c");
+
+        assertEquals(2, instance.size());
+        assertNotSame(first, instance.get("a"));
+        assertEquals(2, instance.size());
+    }
+
+    @Test
+    public void testGet_STATISTICS() {
+        final LongAdderValidationMetrics metrics = new LongAdderValidationMetrics();
+        final StringArgumentValidatorImpl argVal = new StringArgumentValidatorImpl(ExceptionMode.STACK_TRACE, metrics);
+
+        argVal.requireMatches("a", "a", "Test string");
+        argVal.requireMatches("a", "a", "Test string");
+        argVal.requireMatches("a", "a", "Test string");
+        argVal.requireMatches("b", "b", "Test string");
+
+        assertEquals(2, argVal.getPatternCacheHits());
+        assertEquals(2, argVal.getPatternCacheMisses());
+
+        final List<CacheStatistics> caches = metrics.cacheSnapshot();
+        assertEquals(1, caches.size());
+        assertEquals(StringArgumentValidatorImpl.PATTERN_CACHE, caches.get(0).getCache());
+        assertEquals(2, caches.get(0).getHits());
+        assertEquals(2, caches.get(0).getMisses());
+        assertEquals(0.5d, caches.get(0).getHitRate(), 0d);
+
+        final List<ValidationStatistics> snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.size());
+        assertEquals("requireMatches", snapshot.get(0).getRule());
+        assertEquals(4, snapshot.get(0).getChecks());
+        assertEquals(0, snapshot.get(0).getFailures());
+    }
+
+    @Test
+    public void testConstructor_CAPACITY() {
+        try {
+            new PatternCache(0);
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Invalid PatternCache capacity: 0", ex.getMessage());
+        }
+    }
+}
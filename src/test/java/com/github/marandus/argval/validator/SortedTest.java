@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class SortedTest {
+
+    @Test
+    public void testIndexOfUnordered_int() {
+        final int[] arg = new int[1000];
+        for (int i = 0; i < arg.length; i++) {
+            arg[i] = Integer.MIN_VALUE + 2 * i;
+        }
+
+        assertEquals(-1, Sorted.indexOfUnordered(arg, NumberCompareOperator.LESS));
+        assertEquals(-1, Sorted.indexOfUnordered(arg, NumberCompareOperator.LESS_EQUAL));
+        assertEquals(1, Sorted.indexOfUnordered(arg, NumberCompareOperator.GREATER));
+        assertEquals(1, Sorted.indexOfUnordered(arg, NumberCompareOperator.EQUAL));
+
+        arg[700] = arg[699];
+        assertEquals(700, Sorted.indexOfUnordered(arg, NumberCompareOperator.LESS));
+        assertEquals(-1, Sorted.indexOfUnordered(arg, NumberCompareOperator.LESS_EQUAL));
+
+        arg[999] = Integer.MIN_VALUE;
+        assertEquals(999, Sorted.indexOfUnordered(arg, NumberCompareOperator.LESS_EQUAL));
+
+        assertEquals(-1, Sorted.indexOfUnordered(new int[] {Integer.MAX_VALUE, 0, -1, Integer.MIN_VALUE}, NumberCompareOperator.GREATER));
+        assertEquals(2, Sorted.indexOfUnordered(new int[] {3, 3, 4}, NumberCompareOperator.GREATER_EQUAL));
+        assertEquals(-1, Sorted.indexOfUnordered(new int[] {5, 5, 5}, NumberCompareOperator.EQUAL));
+        assertEquals(-1, Sorted.indexOfUnordered(new int[0], NumberCompareOperator.LESS));
+    }
+
+    @Test
+    public void testIndexOfUnordered_long() {
+        final long[] arg = new long[1000];
+        for (int i = 0; i < arg.length; i++) {
+            arg[i] = Long.MAX_VALUE - 3L * i;
+        }
+
+        assertEquals(-1, Sorted.indexOfUnordered(arg, NumberCompareOperator.GREATER));
+        assertEquals(1, Sorted.indexOfUnordered(arg, NumberCompareOperator.LESS_EQUAL));
+
+        arg[300] = Long.MAX_VALUE;
+        assertEquals(300, Sorted.indexOfUnordered(arg, NumberCompareOperator.GREATER_EQUAL));
+    }
+
+    @Test
+    public void testIndexOfUnordered_double() {
+        final double[] arg = new double[1000];
+        for (int i = 0; i < arg.length; i++) {
+            arg[i] = 0.5 * i - 100.0;
+        }
+
+        assertEquals(-1, Sorted.indexOfUnordered(arg, NumberCompareOperator.LESS));
+
+        arg[0] = Double.NaN;
+        assertEquals(1, Sorted.indexOfUnordered(arg, NumberCompareOperator.LESS));
+
+        arg[0] = Double.NEGATIVE_INFINITY;
+        arg[999] = Double.NaN;
+        assertEquals(999, Sorted.indexOfUnordered(arg, NumberCompareOperator.LESS_EQUAL));
+
+        assertEquals(1, Sorted.indexOfUnordered(new double[] {0.0, -0.0}, NumberCompareOperator.GREATER));
+        assertEquals(-1, Sorted.indexOfUnordered(new double[] {0.0, -0.0}, NumberCompareOperator.GREATER_EQUAL));
+        assertEquals(1, Sorted.indexOfUnordered(new double[] {Double.NaN, Double.NaN}, NumberCompareOperator.EQUAL));
+    }
+
+    @Test
+    public void testIndexOfUnordered_List() {
+        assertEquals(-1, Sorted.indexOfUnordered(Arrays.asList("a", "b", "c"), NumberCompareOperator.LESS));
+        assertEquals(2, Sorted.indexOfUnordered(new LinkedList<>(Arrays.asList("a", "b", "b")), NumberCompareOperator.LESS));
+        assertEquals(-1, Sorted.indexOfUnordered(Arrays.asList("c", "b", "b"), NumberCompareOperator.GREATER_EQUAL));
+        assertEquals(1, Sorted.indexOfUnordered(Arrays.asList(null, "b"), NumberCompareOperator.LESS));
+        assertEquals(-1, Sorted.indexOfUnordered(Collections.singletonList((String) null), NumberCompareOperator.LESS));
+        assertEquals(-1, Sorted.indexOfUnordered(Collections.<String>emptyList(), NumberCompareOperator.LESS));
+    }
+}
@@ -15,7 +15,14 @@
  */
 package com.github.marandus.argval.validator;
 
+import com.github.marandus.argval.enums.ExceptionMode;
+import com.github.marandus.argval.enums.LengthUnit;
 import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.exceptions.StacklessIllegalArgumentException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.PatternSyntaxException;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -216,4 +223,522 @@ public class StringArgumentValidatorImplTest {
             assertEquals("String length violation (Some message): string(" + test.length() + ") " + comp.getOperator() + " 4", ex.getMessage());
         }
     }
+
+    @Test
+    public void testRequireLength_STACKLESS() {
+        try {
+            final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl(ExceptionMode.STACKLESS);
+            instance.requireLength("012", 4, NumberCompareOperator.EQUAL, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertTrue(ex instanceof StacklessIllegalArgumentException);
+            assertEquals("String length violation (Some message): string(3) == 4", ex.getMessage());
+            assertEquals(0, ex.getStackTrace().length);
+        }
+    }
+
+    @Test
+    public void testRequireLength_NULL_STACKLESS() {
+        try {
+            final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl(ExceptionMode.STACKLESS);
+            instance.requireLength(null, 4, NumberCompareOperator.EQUAL, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertTrue(ex instanceof StacklessIllegalArgumentException);
+            assertEquals("NULL: requireLength() parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireNonBlank_Supplier() {
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        instance.requireNonBlank("Test string", () -> {
+            throw new AssertionError("Message must not be constructed");
+        });
+    }
+
+    @Test
+    public void testRequireNonBlank_Supplier_WHITESPACE() {
+        try {
+            final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+            instance.requireNonBlank("\t", () -> "Some " + "message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Some message: \t", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireLength_Supplier() {
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        instance.requireLength("0123", 4, NumberCompareOperator.EQUAL, () -> {
+            throw new AssertionError("Message must not be constructed");
+        });
+
+        try {
+            instance.requireLength("012", 4, NumberCompareOperator.EQUAL, () -> "Some " + "message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("String length violation (Some message): string(3) == 4", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireNonBlank_CharSequence() {
+        final CharBuffer buffer = CharBuffer.wrap("  foo  ");
+
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        instance.requireNonBlank(buffer, "Some message");
+        instance.requireNonBlank(new StringBuilder("foo"), () -> "Some message");
+
+        try {
+            buffer.limit(2);
+            instance.requireNonBlank(buffer, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Some message:   ", ex.getMessage());
+        }
+
+        try {
+            instance.requireNonBlank((CharSequence) null, () -> "Some " + "message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Some message: null", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireLength_CharSequence() {
+        final CharBuffer buffer = CharBuffer.wrap("0123456789", 2, 6);
+
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        instance.requireLength(buffer, 4, NumberCompareOperator.EQUAL, "Some message");
+        instance.requireLength(new StringBuilder("0123"), 4, NumberCompareOperator.LESS_EQUAL, () -> "Some message");
+
+        try {
+            instance.requireLength(buffer, 4, NumberCompareOperator.GREATER, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("String length violation (Some message): string(4) > 4", ex.getMessage());
+        }
+
+        try {
+            instance.requireLength((CharSequence) null, 4, NumberCompareOperator.EQUAL, () -> "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireLength() parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireValidUtf8() {
+        final byte[] bytes = "x\u00e4\u20ac\ud83d\ude00x".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        instance.requireValidUtf8(bytes, 0, bytes.length, "Some message");
+        instance.requireValidUtf8(bytes, 1, 2, () -> "Some message");
+        instance.requireValidUtf8(ByteBuffer.wrap(bytes), "Some message");
+        instance.requireValidUtf8(direct, "Some message");
+        assertEquals(0, direct.position());
+
+        try {
+            instance.requireValidUtf8(bytes, 1, 1, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("UTF-8 violation (Some message): malformed sequence at byte 0", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireValidUtf8_MALFORMED() {
+        final byte[][] malformed = {
+            {'a', (byte) 0xC0, (byte) 0x80},
+            {'a', (byte) 0xE0, (byte) 0x80, (byte) 0x80},
+            {'a', (byte) 0xED, (byte) 0xA0, (byte) 0x80},
+            {'a', (byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80},
+            {'a', (byte) 0xF5, (byte) 0x80, (byte) 0x80, (byte) 0x80},
+            {'a', (byte) 0x80},
+            {'a', (byte) 0xE2, (byte) 0x82}
+        };
+
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        for (byte[] bytes : malformed) {
+            final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes).flip();
+
+            try {
+                instance.requireValidUtf8(direct, () -> "Some message");
+
+                fail();
+            }
+            catch (IllegalArgumentException ex) {
+                assertEquals("UTF-8 violation (Some message): malformed sequence at byte 1", ex.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testRequireValidUtf8_RANGE() {
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+
+        try {
+            instance.requireValidUtf8(new byte[4], 2, 3, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Invalid requireValidUtf8(byte[]) range: offset=2, length=3, array length=4", ex.getMessage());
+        }
+
+        try {
+            instance.requireValidUtf8((ByteBuffer) null, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireValidUtf8(ByteBuffer) parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireEncodedLength() {
+        final byte[] bytes = "\u00e4\u00f6\u00fc\ud83d\ude00".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        instance.requireEncodedLength(bytes, 0, bytes.length, 10, NumberCompareOperator.EQUAL, LengthUnit.UTF8_BYTES, "Some message");
+        instance.requireEncodedLength(bytes, 0, bytes.length, 4, NumberCompareOperator.EQUAL, LengthUnit.CODE_POINTS, "Some message");
+        instance.requireEncodedLength(direct, 4, NumberCompareOperator.LESS_EQUAL, LengthUnit.CODE_POINTS, () -> "Some message");
+
+        try {
+            instance.requireEncodedLength(bytes, 0, bytes.length, 8, NumberCompareOperator.LESS_EQUAL, LengthUnit.UTF8_BYTES, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Encoded length violation (Some message): bytes(10) <= 8", ex.getMessage());
+        }
+
+        try {
+            instance.requireEncodedLength(direct, 2, NumberCompareOperator.LESS_EQUAL, LengthUnit.CODE_POINTS, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Encoded length violation (Some message): code points(>2) <= 2", ex.getMessage());
+        }
+
+        try {
+            instance.requireEncodedLength(ByteBuffer.wrap(bytes, 2, 8), 4, NumberCompareOperator.GREATER_EQUAL, LengthUnit.CODE_POINTS, () -> "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Encoded length violation (Some message): code points(3) >= 4", ex.getMessage());
+        }
+
+        try {
+            instance.requireEncodedLength(bytes, 0, bytes.length, -1, NumberCompareOperator.LESS_EQUAL, LengthUnit.CODE_POINTS, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Negative requireEncodedLength(byte[]) length parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireNonBlankUtf8() {
+        final byte[] blank = " \t\u3000\u2003\n".getBytes(StandardCharsets.UTF_8);
+        final byte[] nonBlank = " \u00a0 ".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(blank.length);
+        direct.put(blank).flip();
+
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        instance.requireNonBlankUtf8(nonBlank, 0, nonBlank.length, "Some message");
+        instance.requireNonBlankUtf8(ByteBuffer.wrap("x".getBytes(StandardCharsets.UTF_8)), () -> "Some message");
+
+        try {
+            instance.requireNonBlankUtf8(blank, 0, 2, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Some message:  \t", ex.getMessage());
+        }
+
+        try {
+            instance.requireNonBlankUtf8(direct, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Some message: " + new String(blank, StandardCharsets.UTF_8), ex.getMessage());
+        }
+        assertEquals(0, direct.position());
+
+        try {
+            instance.requireNonBlankUtf8((byte[]) null, 0, 0, () -> "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Some message: null", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireMatches() {
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        instance.requireMatches("order-4711", "order-\\d+", "Some message");
+        instance.requireMatches(new StringBuilder("order-4711"), "order-\\d+", () -> "Some message");
+
+        try {
+            instance.requireMatches("order-4711x", "order-\\d+", "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Pattern violation (Some message): order-4711x does not match order-\\d+", ex.getMessage());
+        }
+
+        try {
+            instance.requireMatches("order-4711", (String) null, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireMatches() regex parameter", ex.getMessage());
+        }
+
+        try {
+            instance.requireMatches("order-4711", "order-(", "Some message");
+
+            fail();
+        }
+        catch (PatternSyntaxException ex) {
+            assertEquals("order-(", ex.getPattern());
+        }
+    }
+
+    @Test
+    public void testRequireMatches_ValidationPattern() {
+        final ValidationPattern pattern = new ValidationPattern("[a-z]+");
+
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        instance.requireMatches("order", pattern, "Some message");
+
+        try {
+            instance.requireMatches("Order", pattern, () -> "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Pattern violation (Some message): Order does not match [a-z]+", ex.getMessage());
+        }
+
+        try {
+            instance.requireMatches(null, pattern, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireMatches() parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireCharClass() {
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        instance.requireAscii("order 4711!", "Some message");
+        instance.requireAlphanumeric("order4711", () -> "Some message");
+        instance.requireHex("00ff4711AB", "Some message");
+        instance.requireCharsIn(new StringBuilder("a-b"), new CharClass("slug", "ab-"), "Some message");
+
+        try {
+            instance.requireAlphanumeric("order 4711", "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Character violation (Some message): order 4711 contains U+0020 at index 5, expected alphanumeric", ex.getMessage());
+        }
+
+        try {
+            instance.requireAscii("a\ud83d\ude00", () -> "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Character violation (Some message): a\ud83d\ude00 contains U+1F600 at index 1, expected ascii", ex.getMessage());
+        }
+
+        try {
+            instance.requireHex(null, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("NULL: requireHex() parameter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireBase64() {
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        instance.requireBase64("b3JkZXI=", "Some message");
+        instance.requireBase64("b3JkZQ==", "Some message");
+        instance.requireBase64("b3JkZQ", "Some message");
+        instance.requireBase64("+/+/", "Some message");
+        instance.requireBase64Url("-_-_", () -> "Some message");
+
+        try {
+            instance.requireBase64("b3Jk=ZQ=", "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Character violation (Some message): b3Jk=ZQ= contains U+003D at index 4, expected base64", ex.getMessage());
+        }
+
+        try {
+            instance.requireBase64("b3JkZQ=", "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Character violation (Some message): b3JkZQ= contains U+003D at index 6, expected base64", ex.getMessage());
+        }
+
+        try {
+            instance.requireBase64Url("+/", () -> "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Character violation (Some message): +/ contains U+002B at index 0, expected base64url", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireBase64_Length() {
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        instance.requireBase64("", "Some message");
+        instance.requireBase64("AA", "Some message");
+        instance.requireBase64("AAA", "Some message");
+        instance.requireBase64Url("AAAAAA", () -> "Some message");
+
+        try {
+            instance.requireBase64("A", "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Character violation (Some message): A has invalid length 1, expected base64", ex.getMessage());
+        }
+
+        try {
+            instance.requireBase64("AAAAA", () -> "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Character violation (Some message): AAAAA has invalid length 5, expected base64", ex.getMessage());
+        }
+
+        try {
+            instance.requireBase64Url("AAAAA", "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Character violation (Some message): AAAAA has invalid length 5, expected base64url", ex.getMessage());
+        }
+
+        try {
+            instance.requireBase64Url("A", () -> "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Character violation (Some message): A has invalid length 1, expected base64url", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireLength_LengthUnit() {
+        final String test = "a\u00e4\u20ac\ud83d\ude00";
+
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        instance.requireLength(test, 5, NumberCompareOperator.EQUAL, LengthUnit.UTF16_UNITS, "Some message");
+        instance.requireLength(test, 4, NumberCompareOperator.EQUAL, LengthUnit.CODE_POINTS, "Some message");
+        instance.requireLength(test, 10, NumberCompareOperator.EQUAL, LengthUnit.UTF8_BYTES, "Some message");
+        instance.requireLength("a\ud83d", 2, NumberCompareOperator.EQUAL, LengthUnit.UTF8_BYTES, () -> "Some message");
+        assertEquals(test.getBytes(StandardCharsets.UTF_8).length, Utf8.boundedLength(test, LengthUnit.UTF8_BYTES, Integer.MAX_VALUE));
+
+        try {
+            instance.requireLength(test, 9, NumberCompareOperator.LESS_EQUAL, LengthUnit.UTF8_BYTES, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("String length violation (Some message): bytes(>9) <= 9", ex.getMessage());
+        }
+
+        try {
+            instance.requireLength(test, 4, NumberCompareOperator.LESS, LengthUnit.CODE_POINTS, () -> "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("String length violation (Some message): code points(4) < 4", ex.getMessage());
+        }
+
+        try {
+            instance.requireLength(test, 1, NumberCompareOperator.EQUAL, LengthUnit.UTF16_UNITS, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("String length violation (Some message): chars(5) == 1", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequireEncodedLength_UTF16_UNITS() {
+        final byte[] bytes = "a\u00e4\u20ac\ud83d\ude00".getBytes(StandardCharsets.UTF_8);
+
+        final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+        instance.requireEncodedLength(bytes, 0, bytes.length, 5, NumberCompareOperator.EQUAL, LengthUnit.UTF16_UNITS, "Some message");
+
+        try {
+            instance.requireEncodedLength(ByteBuffer.wrap(bytes), 4, NumberCompareOperator.LESS_EQUAL, LengthUnit.UTF16_UNITS, "Some message");
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Encoded length violation (Some message): chars(>4) <= 4", ex.getMessage());
+        }
+    }
 }
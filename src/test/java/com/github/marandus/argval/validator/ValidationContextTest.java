@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import com.github.marandus.argval.enums.ExceptionMode;
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import com.github.marandus.argval.enums.NumberRangeMode;
+import com.github.marandus.argval.exceptions.StacklessIllegalArgumentException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class ValidationContextTest {
+
+    @Test
+    public void testValid() {
+        final ValidationContext instance = new ValidationContext();
+
+        assertTrue(instance.requireNonNull(new Object(), "object"));
+        assertTrue(instance.requireNonBlank("foo", "string"));
+        assertTrue(instance.requireLength("foo", 3, NumberCompareOperator.EQUAL, "string"));
+        assertTrue(instance.requireNonEmpty(Collections.singleton("foo"), "collection"));
+        assertTrue(instance.requireNonEmpty(Collections.singletonMap("foo", "bar"), "map"));
+        assertTrue(instance.requireLength(Collections.singleton("foo"), 1, NumberCompareOperator.EQUAL, "collection"));
+        assertTrue(instance.requireLength(Collections.singletonMap("foo", "bar"), 1, NumberCompareOperator.EQUAL, "map"));
+        assertTrue(instance.requireValue(42, 0, NumberCompareOperator.GREATER, "int"));
+        assertTrue(instance.requirePositive(1L, "long"));
+        assertTrue(instance.requireInRange(0.5d, 0d, 1d, NumberRangeMode.INCLUSIVE, "double"));
+
+        assertTrue(instance.isValid());
+        assertEquals(0, instance.getViolationCount());
+        assertTrue(instance.getResult().isValid());
+
+        instance.throwIfInvalid();
+    }
+
+    @Test
+    public void testViolations() {
+        final ValidationContext instance = new ValidationContext();
+
+        assertFalse(instance.requireNonNull(null, "object"));
+        assertFalse(instance.requireNonBlank(" ", "string"));
+        assertFalse(instance.requireLength((String) null, 3, NumberCompareOperator.EQUAL, "string"));
+        assertFalse(instance.requireNonEmpty(Collections.emptyList(), "collection"));
+        assertFalse(instance.requireLength(Collections.emptyMap(), 1, NumberCompareOperator.EQUAL, "map"));
+        assertFalse(instance.requireValue((byte) 1, (byte) 2, NumberCompareOperator.EQUAL, "byte"));
+        assertFalse(instance.requireZero(1L, "long"));
+        assertFalse(instance.requireInRange(5, 1, 4, NumberRangeMode.INCLUSIVE, "int"));
+        assertTrue(instance.requireNegative(-1L, "long"));
+
+        assertFalse(instance.isValid());
+        assertEquals(8, instance.getViolationCount());
+        assertEquals(Arrays.asList(
+                "NULL: object",
+                "string:  ",
+                "NULL: requireLength() parameter",
+                "collection: Collection is empty",
+                "Map size violation (map): Map(0) == 1",
+                "Byte value violation (byte): byte(1) == 2",
+                "Value is not zero (long): 1",
+                "Integer range violation (int): int(5) not in [1, 4]"), instance.getResult().getViolations());
+    }
+
+    @Test
+    public void testSameChecksAsValidators() {
+        final ValidationContext instance = new ValidationContext();
+        final StringArgumentValidatorImpl stringArgVal = new StringArgumentValidatorImpl();
+        final CollectionArgumentValidatorImpl collArgVal = new CollectionArgumentValidatorImpl();
+        final NumberArgumentValidatorImpl numArgVal = new NumberArgumentValidatorImpl();
+
+        assertEquals(this.exceptionMessage(() -> stringArgVal.requireLength("foo", -1, NumberCompareOperator.EQUAL, "string")),
+                this.exceptionMessage(() -> instance.requireLength("foo", -1, NumberCompareOperator.EQUAL, "string")));
+        assertEquals(this.exceptionMessage(() -> collArgVal.requireLength(Collections.emptyList(), -1, NumberCompareOperator.EQUAL, "collection")),
+                this.exceptionMessage(() -> instance.requireLength(Collections.emptyList(), -1, NumberCompareOperator.EQUAL, "collection")));
+        assertEquals(this.exceptionMessage(() -> numArgVal.requireInRange(5, 5, 5, NumberRangeMode.EXCLUSIVE, "int")),
+                this.exceptionMessage(() -> instance.requireInRange(5, 5, 5, NumberRangeMode.EXCLUSIVE, "int")));
+
+        final Collection<String> queue = new ConcurrentLinkedQueue<>(Arrays.asList("foo", "bar", "baz"));
+        assertFalse(instance.requireLength(queue, 1, NumberCompareOperator.EQUAL, "queue"));
+        assertEquals(Collections.singletonList(this.exceptionMessage(() -> collArgVal.requireLength(queue, 1, NumberCompareOperator.EQUAL, "queue"))),
+                instance.getResult().getViolations());
+    }
+
+    private String exceptionMessage(final Runnable check) {
+        try {
+            check.run();
+
+            fail();
+            return null;
+        }
+        catch (IllegalArgumentException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    @Test
+    public void testThrowIfInvalid_single() {
+        final ValidationContext instance = new ValidationContext();
+        instance.requirePositive(0L, "long");
+
+        try {
+            instance.throwIfInvalid();
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Value is not positive (long): 0", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testThrowIfInvalid_multiple_STACKLESS() {
+        final ValidationContext instance = new ValidationContext(ExceptionMode.STACKLESS);
+        instance.requirePositive(0L, "long");
+        instance.requireNonNull(null, "object");
+
+        try {
+            instance.throwIfInvalid();
+
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+            assertTrue(ex instanceof StacklessIllegalArgumentException);
+            assertEquals("Value is not positive (long): 0; NULL: object", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testReset() {
+        final ValidationContext instance = new ValidationContext();
+        for (int i = 0; i < 20; i++) {
+            instance.requireNonNull(null, "object " + i);
+        }
+
+        final ValidationResult result = instance.getResult();
+        assertEquals(20, result.getViolations().size());
+        assertEquals("NULL: object 19", result.getViolations().get(19));
+
+        instance.reset();
+
+        assertTrue(instance.isValid());
+        assertEquals(0, instance.getViolationCount());
+        assertEquals(20, result.getViolations().size());
+
+        instance.requireNonNull(null, "object");
+        assertEquals(Collections.singletonList("NULL: object"), instance.getResult().getViolations());
+    }
+}
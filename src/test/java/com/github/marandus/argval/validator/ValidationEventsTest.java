@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 Thomas Rix (thomasrix@exodus-project.net).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.marandus.argval.validator;
+
+import com.github.marandus.argval.enums.NumberCompareOperator;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Thomas Rix (thomasrix@exodus-project.net)
+ */
+public class ValidationEventsTest {
+
+    @Test
+    public void testFailureEvent() throws Exception {
+        final List<RecordedEvent> events = record("com.github.marandus.argval.ValidationFailure", () -> {
+            final StringArgumentValidatorImpl instance = new StringArgumentValidatorImpl();
+            instance.requireNonBlank("foo", "Test string");
+
+            try {
+                instance.requireNonBlank(" ", "Test string");
+
+                fail();
+            }
+            catch (IllegalArgumentException ex) {
+                assertEquals("Test string:  ", ex.getMessage());
+            }
+        });
+
+        assertEquals(1, events.size());
+        assertEquals("requireNonBlank", events.get(0).getString("rule"));
+        assertEquals("Test string", events.get(0).getString("name"));
+        assertEquals("Test string:  ", events.get(0).getString("message"));
+    }
+
+    @Test
+    public void testSlowValidationEvent() throws Exception {
+        final List<RecordedEvent> events = record("com.github.marandus.argval.SlowValidation", () -> {
+            new NumberArgumentValidatorImpl().requireAll(new int[1000], 0, NumberCompareOperator.EQUAL, "Test array");
+
+            final ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<>();
+            queue.add(1);
+            queue.add(2);
+            new CollectionArgumentValidatorImpl().requireLength(queue, 1, NumberCompareOperator.GREATER, "Test queue");
+        });
+
+        assertEquals(2, events.size());
+        assertEquals("requireAll", events.get(0).getString("rule"));
+        assertEquals("Test array", events.get(0).getString("name"));
+        assertEquals(1000, events.get(0).getLong("elements"));
+        assertEquals("requireLength", events.get(1).getString("rule"));
+        assertEquals("Test queue", events.get(1).getString("name"));
+        assertEquals(2, events.get(1).getLong("elements"));
+    }
+
+    /**
+     * Run {@code action} while recording the event named {@code name} without threshold.
+     *
+     * @param name Name of the event
+     * @param action Validations to run
+     * @return Recorded events
+     */
+    private static List<RecordedEvent> record(final String name, final Runnable action) throws Exception {
+        final Path file = Files.createTempFile("argval", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(name).withThreshold(Duration.ZERO);
+                recording.start();
+                action.run();
+                recording.stop();
+                recording.dump(file);
+            }
+
+            return RecordingFile.readAllEvents(file);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+}